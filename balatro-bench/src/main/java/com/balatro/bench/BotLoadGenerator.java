@@ -0,0 +1,267 @@
+package com.balatro.bench;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.balatro.bot.Decision;
+import com.balatro.bot.League;
+import com.balatro.bot.Policy;
+import com.balatro.bot.TurnView;
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Joker;
+import com.balatro.model.JokerType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives a running server's tournament API with bot players, so that load tests see the action mix of real games:
+ * joins, plays and discards chosen by a policy, and standings reads.
+ *
+ * Each bot joins a shared tournament and plays until its entry is over, then joins again. Bots act on a fixed
+ * schedule that adds up to the requested rate; a bot that falls behind acts again straight away rather than
+ * skipping actions, so a slow server shows up as a lower achieved rate and higher latencies.
+ * <pre>
+ * java -cp benchmarks.jar com.balatro.bench.BotLoadGenerator --url http://localhost:8080 --bots 16 --rate 200
+ * </pre>
+ */
+public final class BotLoadGenerator {
+    private static final String SUITS = "HDCS";
+    private static final String[] RANKS = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Policy policy;
+    private final double standingsRatio;
+    private final Map<String, Counter> counters = Map.of("join", new Counter(), "play", new Counter(),
+            "discard", new Counter(), "standings", new Counter());
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Latency totals of one kind of action.
+     */
+    private static final class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+            maxNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param baseUrl the server, such as http://localhost:8080
+     * @param policy the policy every bot plays with
+     * @param standingsRatio the share of actions that read the standings instead of moving
+     */
+    public BotLoadGenerator(String baseUrl, Policy policy, double standingsRatio) {
+        this.baseUrl = baseUrl;
+        this.policy = policy;
+        this.standingsRatio = standingsRatio;
+    }
+
+    /**
+     * Runs bots against a tournament until the time is up.
+     *
+     * @param tournamentId the tournament
+     * @param bots the number of bots
+     * @param rate the total actions per second of all bots
+     * @param seconds how long to run
+     * @throws InterruptedException if interrupted while waiting for the bots
+     */
+    public void run(String tournamentId, int bots, double rate, long seconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long interval = (long) (1e9 * bots / rate);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < bots; i++) {
+            int bot = i;
+            Thread thread = new Thread(() -> runBot(tournamentId, bot, start + interval * bot / bots, interval, end),
+                    "bot-" + bot);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Plays one bot: joins, moves on its schedule, and joins again when its entry is over.
+     */
+    private void runBot(String tournamentId, int bot, long firstAction, long interval, long end) {
+        SplittableRandom random = new SplittableRandom(bot);
+        String entries = baseUrl + "/api/tournaments/" + tournamentId + "/entries";
+        JsonNode state = null;
+        long seen = 0;
+        int stage = -1;
+        for (long next = firstAction; next < end; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            try {
+                if (state == null || state.path("standing").path("over").asBoolean()) {
+                    state = send("join", HttpRequest.newBuilder(URI.create(entries + "?name=bot-" + bot))
+                            .POST(HttpRequest.BodyPublishers.noBody()));
+                    stage = -1;
+                    continue;
+                }
+                if (random.nextDouble() < standingsRatio) {
+                    send("standings", HttpRequest.newBuilder(URI.create(baseUrl + "/api/tournaments/" + tournamentId
+                            + "/standings?limit=20")).GET());
+                    continue;
+                }
+
+                long hand = maskOf(state.path("hand"));
+                if (state.path("stage").asInt() != stage) {
+                    // Every stage is dealt from a fresh deck
+                    stage = state.path("stage").asInt();
+                    seen = 0;
+                }
+                seen |= hand;
+                Decision decision = policy.decide(viewOf(state, hand, CardMask.FULL_DECK & ~seen));
+                String action = decision.getType() == Decision.Type.PLAY ? "play" : "discard";
+                List<String> codes = new ArrayList<>();
+                for (Card card : decision.getCardList()) {
+                    codes.add(card.getRank() + card.getSuit().charAt(0));
+                }
+                state = send(action, HttpRequest.newBuilder(URI.create(entries + "/" + state.path("entryId").asInt()
+                        + "/" + action)).header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(codes))));
+            } catch (IOException e) {
+                errors.increment();
+                state = null;
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends a request and reads its JSON response, recording its latency under a kind of action unless it is null.
+     */
+    private JsonNode send(String kind, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (kind != null) {
+            counters.get(kind).record(System.nanoTime() - start);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException(kind + " returned " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private static TurnView viewOf(JsonNode state, long hand, long deck) {
+        JokerType type = JokerType.valueOf(state.path("joker").asText());
+        Joker joker = new Joker(type, type.getMultiplier(), type.getActivationType(), type.getRarity());
+        return new TurnView(hand, deck, joker, state.path("score").asInt(), state.path("targetScore").asInt(),
+                state.path("handsLeft").asInt(), state.path("discardsLeft").asInt());
+    }
+
+    /**
+     * Converts card codes such as "10H" to a CardMask.
+     */
+    static long maskOf(JsonNode codes) {
+        long mask = 0;
+        for (JsonNode code : codes) {
+            String text = code.asText();
+            int suit = SUITS.indexOf(text.charAt(text.length() - 1));
+            int rank = List.of(RANKS).indexOf(text.substring(0, text.length() - 1));
+            if (suit < 0 || rank < 0) {
+                throw new IllegalArgumentException("Unknown card code " + text);
+            }
+            mask |= 1L << (suit * CardMask.RANKS + rank);
+        }
+        return mask;
+    }
+
+    /**
+     * Prints the achieved rate and latencies of each kind of action.
+     *
+     * @param seconds the length of the run
+     */
+    public void report(double seconds) {
+        long total = 0;
+        for (String kind : List.of("join", "play", "discard", "standings")) {
+            Counter counter = counters.get(kind);
+            long count = counter.count.sum();
+            total += count;
+            System.out.printf("%-10s %8d requests  %8.1f/s  mean %7.2f ms  max %7.2f ms%n", kind, count,
+                    count / seconds, count == 0 ? 0 : counter.nanos.sum() / 1e6 / count, counter.maxNanos.get() / 1e6);
+        }
+        System.out.printf("total      %8d requests  %8.1f/s  errors %d%n", total, total / seconds, errors.sum());
+    }
+
+    /**
+     * Runs bots from the command line against a server that is already running.
+     *
+     * Options: --url URL (default http://localhost:8080), --bots N (default 16), --rate R actions/s (default 200),
+     * --duration S seconds (default 30), --policy greedy|expected-value|lookahead (default greedy),
+     * --standings F share of standings reads (default 0.1), --tournament ID to join an existing tournament,
+     * otherwise --seed S and --stages N (default 3) for a new one.
+     *
+     * @param args the options
+     * @throws Exception if the tournament cannot be created
+     */
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080";
+        int bots = 16;
+        double rate = 200;
+        long duration = 30;
+        String policy = "greedy";
+        double standings = 0.1;
+        String tournament = null;
+        Long seed = null;
+        int stages = 3;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = args[++i];
+                case "--bots" -> bots = Integer.parseInt(args[++i]);
+                case "--rate" -> rate = Double.parseDouble(args[++i]);
+                case "--duration" -> duration = Long.parseLong(args[++i]);
+                case "--policy" -> policy = args[++i];
+                case "--standings" -> standings = Double.parseDouble(args[++i]);
+                case "--tournament" -> tournament = args[++i];
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--stages" -> stages = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        BotLoadGenerator generator = new BotLoadGenerator(url, League.policyFor(policy), standings);
+        if (tournament == null) {
+            JsonNode created = generator.send(null, HttpRequest.newBuilder(URI.create(url + "/api/tournaments?stages="
+                    + stages + (seed != null ? "&seed=" + seed : ""))).POST(HttpRequest.BodyPublishers.noBody()));
+            tournament = created.path("id").asText();
+        }
+        System.out.printf("%d %s bots at %.0f actions/s for %d s on tournament %s%n", bots, policy, rate, duration,
+                tournament);
+        long start = System.nanoTime();
+        generator.run(tournament, bots, rate, duration);
+        generator.report((System.nanoTime() - start) / 1e9);
+    }
+}
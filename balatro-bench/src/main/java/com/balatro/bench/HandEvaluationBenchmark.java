@@ -0,0 +1,98 @@
+package com.balatro.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.balatro.batch.BatchEvaluator;
+import com.balatro.batch.HandBatch;
+import com.balatro.batch.ScalarBatchEvaluator;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+
+/**
+ * Compares hands evaluated per second by Hand.evaluateHand, the scalar batch evaluator and the vector
+ * batch evaluator, on the same random five-card hands.
+ * Every benchmark evaluates HANDS hands per call, so the reported throughput is in hands per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@OperationsPerInvocation(HandEvaluationBenchmark.HANDS)
+public class HandEvaluationBenchmark {
+    static final int HANDS = 4096;
+
+    private Hand[] hands;
+    private HandBatch batch;
+    private BatchEvaluator scalar;
+    private BatchEvaluator vector;
+
+    /**
+     * Deals the same hands into Hand objects and into a batch.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        hands = new Hand[HANDS];
+        batch = new HandBatch(HANDS);
+        for (int i = 0; i < HANDS; i++) {
+            long mask = 0;
+            while (Long.bitCount(mask) < Hand.getMaxCardsToPlay()) {
+                mask |= 1L << random.nextInt(CardMask.DECK_SIZE);
+            }
+            hands[i] = new Hand();
+            hands[i].initializeHand(CardMask.cardsOf(mask));
+            batch.add(mask);
+        }
+        scalar = new ScalarBatchEvaluator();
+        vector = BatchEvaluator.create();
+        if (vector instanceof ScalarBatchEvaluator) {
+            throw new IllegalStateException("Vector API not available; run with --add-modules jdk.incubator.vector");
+        }
+    }
+
+    /**
+     * Evaluates each hand with Hand.evaluateHand, as the game does.
+     */
+    @Benchmark
+    public void hand(Blackhole blackhole) {
+        for (Hand hand : hands) {
+            hand.evaluateHand();
+            blackhole.consume(hand.getHandType());
+        }
+    }
+
+    /**
+     * Evaluates the batch one hand at a time.
+     */
+    @Benchmark
+    public int scalarBatch() {
+        scalar.evaluate(batch);
+        return batch.getScore(HANDS - 1);
+    }
+
+    /**
+     * Evaluates the batch one vector of hands at a time.
+     */
+    @Benchmark
+    public int vectorBatch() {
+        vector.evaluate(batch);
+        return batch.getScore(HANDS - 1);
+    }
+}
@@ -0,0 +1,283 @@
+package com.balatro.bench;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.balatro.model.Card;
+import com.balatro.save.OffHeapSessionStore;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Compares the heap and garbage collection cost of many concurrent games kept as GameStateManager objects on the
+ * heap with the same games kept in an OffHeapSessionStore.
+ *
+ * The benchmark creates the games, forces a full collection and reports the live heap and direct memory they
+ * take and how long that full collection paused. It then applies random actions to random games, as a server
+ * with that many players would, and reports the actions per second and the count, total and longest of the
+ * collection pauses during that phase. In the off-heap run each action loads the game into one reused
+ * GameStateManager, applies the action and saves it back; a game that ends is replaced by a new one.
+ *
+ * Run each store in its own JVM with the same heap settings, so one run's garbage does not show up in the other:
+ * <pre>
+ * java -Xmx2g -cp benchmarks.jar com.balatro.bench.SessionStoreBenchmark --store heap --sessions 100000
+ * java -Xmx2g -cp benchmarks.jar com.balatro.bench.SessionStoreBenchmark --store off-heap --sessions 100000
+ * </pre>
+ */
+public final class SessionStoreBenchmark {
+    private static final int BET = 10;
+
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder pauseMillis = new LongAdder();
+    private final AtomicLong maxPauseMillis = new AtomicLong();
+
+    /**
+     * The games under test, behind the two ways of keeping them.
+     */
+    private interface Sessions {
+        /**
+         * Creates a game in a place.
+         */
+        void create(int index, long seed);
+
+        /**
+         * Applies one action to a game, replacing it with a new game if it ends.
+         */
+        void act(int index, boolean discard, long seed);
+    }
+
+    /**
+     * Games kept as objects on the heap.
+     */
+    private static final class HeapSessions implements Sessions {
+        private final GameStateManager[] games;
+
+        HeapSessions(int count) {
+            games = new GameStateManager[count];
+        }
+
+        @Override
+        public void create(int index, long seed) {
+            games[index] = newGame(seed);
+        }
+
+        @Override
+        public void act(int index, boolean discard, long seed) {
+            if (!step(games[index], discard)) {
+                games[index] = newGame(seed);
+            }
+        }
+    }
+
+    /**
+     * Games kept in an off-heap store and materialized into one game object per action.
+     */
+    private static final class OffHeapSessions implements Sessions {
+        private final OffHeapSessionStore store;
+        private final int[] slots;
+        private final GameStateManager worker = newGame(0);
+
+        OffHeapSessions(int count) {
+            store = new OffHeapSessionStore(count);
+            slots = new int[count];
+        }
+
+        @Override
+        public void create(int index, long seed) {
+            slots[index] = store.allocate();
+            store.save(slots[index], newGame(seed));
+        }
+
+        @Override
+        public void act(int index, boolean discard, long seed) {
+            store.load(slots[index], worker);
+            if (step(worker, discard)) {
+                store.save(slots[index], worker);
+            } else {
+                store.save(slots[index], newGame(seed));
+            }
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args --store heap|off-heap, --sessions N, --actions N, --seed S
+     */
+    public static void main(String[] args) {
+        String store = "heap";
+        int sessions = 100_000;
+        long actions = 2_000_000;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--store" -> store = args[++i];
+                case "--sessions" -> sessions = Integer.parseInt(args[++i]);
+                case "--actions" -> actions = Long.parseLong(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (!store.equals("heap") && !store.equals("off-heap")) {
+            throw new IllegalArgumentException("Store must be heap or off-heap: " + store);
+        }
+        new SessionStoreBenchmark().run(store, sessions, actions, seed);
+    }
+
+    private void run(String store, int count, long actions, long seed) {
+        listenForPauses();
+        fullCollection();
+        long baseHeap = usedHeap();
+        long baseDirect = usedDirect();
+
+        long start = System.nanoTime();
+        Sessions sessions = store.equals("heap") ? new HeapSessions(count) : new OffHeapSessions(count);
+        for (int i = 0; i < count; i++) {
+            sessions.create(i, seed + i);
+        }
+        double createSeconds = (System.nanoTime() - start) / 1e9;
+
+        resetPauses();
+        fullCollection();
+        long fullPauseMillis = maxPauseMillis.get();
+        long heap = usedHeap() - baseHeap;
+        long direct = usedDirect() - baseDirect;
+
+        System.out.printf(Locale.ROOT, "Store:            %s%n", store);
+        System.out.printf(Locale.ROOT, "Sessions:         %,d (created in %.1f s)%n", count, createSeconds);
+        System.out.printf(Locale.ROOT, "Live heap:        %,.1f MB (%,d bytes per session)%n", heap / 1e6, heap / count);
+        System.out.printf(Locale.ROOT, "Direct memory:    %,.1f MB%n", direct / 1e6);
+        System.out.printf(Locale.ROOT, "Full GC pause:    %,d ms%n", fullPauseMillis);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long nextSeed = seed + count;
+        resetPauses();
+        start = System.nanoTime();
+        for (long a = 0; a < actions; a++) {
+            sessions.act(random.nextInt(count), random.nextBoolean(), nextSeed++);
+        }
+        double actSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "Actions:          %,d in %.1f s (%,.0f actions/s)%n",
+                actions, actSeconds, actions / actSeconds);
+        System.out.printf(Locale.ROOT, "GC pauses:        %,d, %,d ms in total, longest %,d ms%n",
+                pauses.sum(), pauseMillis.sum(), maxPauseMillis.get());
+        Reference.reachabilityFence(sessions);
+    }
+
+    /**
+     * Records the duration of every stop-the-world collection. Collectors that run alongside the application
+     * are left out, as their time is not a pause.
+     */
+    private void listenForPauses() {
+        NotificationListener listener = (Notification notification, Object handback) -> {
+            if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            String name = info.getGcName();
+            if (name.contains("Concurrent") || name.contains("Cycles")) {
+                return;
+            }
+            long millis = info.getGcInfo().getDuration();
+            pauses.increment();
+            pauseMillis.add(millis);
+            maxPauseMillis.accumulateAndGet(millis, Math::max);
+        };
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+        }
+    }
+
+    private void resetPauses() {
+        pauses.reset();
+        pauseMillis.reset();
+        maxPauseMillis.set(0);
+    }
+
+    /**
+     * Collects the whole heap, waiting briefly for the pause notifications, which arrive on another thread.
+     */
+    private static void fullCollection() {
+        System.gc();
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirect() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    private static GameStateManager newGame(long seed) {
+        GameStateManager game = new GameStateManager(seed, false);
+        game.setBetAmount(BET);
+        game.startNewRound();
+        return game;
+    }
+
+    /**
+     * Discards or plays the first two cards of the hand and draws their replacements, following the rules of
+     * GameSession: a hand that reaches the target completes the stage and starts the next one.
+     *
+     * @return false if the game has ended
+     */
+    private static boolean step(GameStateManager game, boolean discard) {
+        GameService service = game.getGameService();
+        List<Card> hand = service.getPlayerHand().getCards();
+        if (hand.size() < 2) {
+            return false;
+        }
+        service.getSelectedCards().clear();
+        service.selectCard(hand.get(0));
+        service.selectCard(hand.get(1));
+        if (discard && game.getDiscardsUsedInStage() < game.getMaxDiscardsPerStage()) {
+            game.recordDiscard();
+            service.discardSelectedCards();
+            service.drawCards();
+            return true;
+        }
+        game.handsPlayedInStageProperty().set(game.getHandsPlayedInStage() + 1);
+        service.evaluateHand();
+        if (service.getScore() >= service.getTargetScore()) {
+            service.roundCompletedProperty().set(true);
+            game.completeRound();
+            if (game.getPlayerChips() < game.getStageValue()) {
+                return false;
+            }
+            game.startNewRound();
+            return true;
+        }
+        if (service.getGameState() != GameService.GameState.WAITING_FOR_DRAW
+                || game.getHandsPlayedInStage() >= game.getMaxHandsPerStage()) {
+            return false;
+        }
+        service.drawCards();
+        return true;
+    }
+}
@@ -0,0 +1,134 @@
+package com.balatro.bench;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.wire.HandEvaluation;
+import com.balatro.wire.WireCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the server-side work of one hand evaluation request in JSON and in application/x-balatro:
+ * decoding the request body, evaluating the hand the way HandEvaluationController does, and encoding
+ * the response body. The time per operation is the CPU cost per request outside the HTTP stack.
+ * Request and response sizes of both formats are printed during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WireProtocolBenchmark {
+    private static final int REQUESTS = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[][] jsonRequests;
+    private byte[][] binaryRequests;
+    private int next;
+
+    /**
+     * Encodes the same random five-card hands as JSON and binary request bodies.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        jsonRequests = new byte[REQUESTS][];
+        binaryRequests = new byte[REQUESTS][];
+        long jsonBytes = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            long mask = 0;
+            while (Long.bitCount(mask) < Hand.getMaxCardsToPlay()) {
+                mask |= 1L << random.nextInt(CardMask.DECK_SIZE);
+            }
+            List<Card> cards = CardMask.cardsOf(mask);
+            JsonRequest request = new JsonRequest();
+            request.cards = new ArrayList<>();
+            for (Card card : cards) {
+                JsonCard jsonCard = new JsonCard();
+                jsonCard.rank = card.getRank();
+                jsonCard.suit = card.getSuit();
+                request.cards.add(jsonCard);
+            }
+            jsonRequests[i] = objectMapper.writeValueAsBytes(request);
+            binaryRequests[i] = WireCodec.encodeEvaluateRequest(cards);
+            jsonBytes += jsonRequests[i].length;
+        }
+        System.out.printf("%nRequest bytes: JSON %.1f, binary %d%n", (double) jsonBytes / REQUESTS,
+                binaryRequests[0].length);
+        System.out.printf("Response bytes: JSON %d, binary %d%n", json().length, binary().length);
+    }
+
+    /**
+     * Handles one request as HandEvaluationController.evaluateHand does with Jackson.
+     */
+    @Benchmark
+    public byte[] json() throws IOException {
+        JsonRequest request = objectMapper.readValue(jsonRequests[next++ & (REQUESTS - 1)], JsonRequest.class);
+        Hand hand = new Hand();
+        for (JsonCard jsonCard : request.cards) {
+            hand.addCard(new Card(jsonCard.suit, jsonCard.rank, valueOf(jsonCard.rank)));
+        }
+        HandEvaluation evaluation = HandEvaluation.of(hand);
+        return objectMapper.writeValueAsBytes(Map.of(
+                "handType", evaluation.getHandType().getDisplayName(),
+                "baseScore", evaluation.getBaseScore(),
+                "multiplier", evaluation.getMultiplier(),
+                "totalScore", evaluation.getTotalScore(),
+                "cardsValue", evaluation.getCardsValue()));
+    }
+
+    /**
+     * Handles one request as HandEvaluationController.evaluateHandBinary does with WireCodec.
+     */
+    @Benchmark
+    public byte[] binary() throws IOException {
+        List<Card> cards = WireCodec.readEvaluateRequest(ByteBuffer.wrap(binaryRequests[next++ & (REQUESTS - 1)]));
+        Hand hand = new Hand();
+        hand.initializeHand(cards);
+        return WireCodec.encodeEvaluation(HandEvaluation.of(hand));
+    }
+
+    private static int valueOf(String rank) {
+        return switch (rank) {
+            case "A" -> 11;
+            case "K", "Q", "J" -> 10;
+            default -> Integer.parseInt(rank);
+        };
+    }
+
+    /**
+     * The JSON request body, shaped like HandEvaluationController.EvaluateHandRequest.
+     */
+    public static class JsonRequest {
+        public List<JsonCard> cards;
+    }
+
+    /**
+     * A card in the JSON request body, shaped like HandEvaluationController.CardDto.
+     */
+    public static class JsonCard {
+        public String rank;
+        public String suit;
+    }
+}
@@ -27,7 +27,10 @@ public class BalatroGame extends Application {
      */
     @Override
     public void start(Stage stage) {
-        // Create the main game view
+        StartupTimer startupTimer = new StartupTimer();
+        startupTimer.markStart();
+        
+        // Create the main game view; it shows the start screen and builds the game interface later
         GameView gameView = new GameView();
         
         // Create a scene with the game view using preferred size
@@ -49,6 +52,8 @@ public class BalatroGame extends Application {
         // Enable resizing
         stage.setResizable(true);
         
+        // Measure the first frame, then prepare the game interface behind the start screen
+        startupTimer.watchFirstFrame(scene, gameView::preloadGameInterface);
         stage.show();
     }
 
@@ -0,0 +1,83 @@
+package com.balatro;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+/**
+ * Measures the time from JVM launch to the first frame of the client.
+ * The result is printed when the {@code balatro.startupTiming} system property is set.
+ * With {@code balatro.exitAfterFirstFrame} the application exits right after the first frame,
+ * which is used by the startup benchmark and by the class-data sharing training run.
+ */
+final class StartupTimer {
+
+    private static final String TIMING_PROPERTY = "balatro.startupTiming";
+    private static final String EXIT_PROPERTY = "balatro.exitAfterFirstFrame";
+
+    private final long launchMillis;
+    private long startMillis = -1;
+    private long firstFrameMillis = -1;
+
+    /**
+     * Creates a timer measuring from the start of the JVM.
+     */
+    StartupTimer() {
+        this.launchMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    /**
+     * Records that the application's start method has been entered.
+     */
+    void markStart() {
+        startMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Records the first frame of the given scene.
+     * The first pulse whose layout has finished is taken as the first frame.
+     *
+     * @param scene the scene being shown
+     * @param afterFirstFrame work to run once the first frame is out, such as building hidden screens
+     */
+    void watchFirstFrame(Scene scene, Runnable afterFirstFrame) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            firstFrameMillis = System.currentTimeMillis();
+            onFirstFrame(afterFirstFrame);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Gets the time from JVM launch to the first frame.
+     *
+     * @return the time in milliseconds, or -1 if no frame has been shown yet
+     */
+    long getLaunchToFirstFrameMillis() {
+        return firstFrameMillis < 0 ? -1 : firstFrameMillis - launchMillis;
+    }
+
+    /**
+     * Reports the measurement, then runs the deferred work and exits if requested.
+     *
+     * @param afterFirstFrame work to run after the first frame
+     */
+    private void onFirstFrame(Runnable afterFirstFrame) {
+        boolean exit = Boolean.getBoolean(EXIT_PROPERTY);
+        if (exit || Boolean.getBoolean(TIMING_PROPERTY)) {
+            System.out.println("Startup: launch to start() " + (startMillis - launchMillis) + " ms, "
+                    + "start() to first frame " + (firstFrameMillis - startMillis) + " ms, "
+                    + "launch to first frame " + getLaunchToFirstFrameMillis() + " ms");
+        }
+        Platform.runLater(() -> {
+            afterFirstFrame.run();
+            if (exit) {
+                // Exit only after the deferred work, so a training run also loads its classes
+                Platform.exit();
+            }
+        });
+    }
+}
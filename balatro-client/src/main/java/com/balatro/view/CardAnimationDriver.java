@@ -0,0 +1,205 @@
+package com.balatro.view;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.paint.Color;
+
+/**
+ * Drives the hover and selection animations of all card views from a single AnimationTimer.
+ * Only cards that are currently animating are registered; the timer itself is stopped
+ * whenever no card is animating, so idle cards cost nothing per pulse.
+ */
+public final class CardAnimationDriver {
+
+    private static final CardAnimationDriver INSTANCE = new CardAnimationDriver();
+
+    private final Map<Animated, Tween> activeTweens = new IdentityHashMap<>();
+    private final Runnable startTimer;
+    private final Runnable stopTimer;
+    private boolean running;
+
+    /**
+     * Something the driver animates, a CardView in the game.
+     */
+    public interface Animated {
+        /**
+         * Gets the current animatable pose.
+         *
+         * @return the current pose
+         */
+        Pose getPose();
+
+        /**
+         * Applies an animation pose. Called by the driver on every frame of an animation.
+         *
+         * @param pose the pose to apply
+         */
+        void applyPose(Pose pose);
+    }
+
+    /**
+     * The animatable visual state of a card.
+     */
+    public static final class Pose {
+        private final double scale;
+        private final double translateY;
+        private final double shadowRadius;
+        private final Color shadowColor;
+
+        /**
+         * Creates a new pose.
+         *
+         * @param scale the scale in both directions
+         * @param translateY the vertical offset
+         * @param shadowRadius the drop shadow radius
+         * @param shadowColor the drop shadow color
+         */
+        public Pose(double scale, double translateY, double shadowRadius, Color shadowColor) {
+            this.scale = scale;
+            this.translateY = translateY;
+            this.shadowRadius = shadowRadius;
+            this.shadowColor = shadowColor;
+        }
+
+        public double getScale() { return scale; }
+        public double getTranslateY() { return translateY; }
+        public double getShadowRadius() { return shadowRadius; }
+        public Color getShadowColor() { return shadowColor; }
+
+        /**
+         * Interpolates linearly between this pose and another.
+         *
+         * @param to the end pose
+         * @param t the fraction, from 0 to 1
+         * @return the interpolated pose
+         */
+        Pose interpolate(Pose to, double t) {
+            return new Pose(
+                scale + (to.scale - scale) * t,
+                translateY + (to.translateY - translateY) * t,
+                shadowRadius + (to.shadowRadius - shadowRadius) * t,
+                shadowColor.interpolate(to.shadowColor, t)
+            );
+        }
+    }
+
+    /**
+     * One card's animation from a start pose to a target pose.
+     */
+    private static final class Tween {
+        private final Pose from;
+        private final Pose to;
+        private final long durationNanos;
+        private long startNanos = -1;
+
+        Tween(Pose from, Pose to, long durationNanos) {
+            this.from = from;
+            this.to = to;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    private CardAnimationDriver() {
+        AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                tick(now);
+            }
+        };
+        this.startTimer = timer::start;
+        this.stopTimer = timer::stop;
+    }
+
+    /**
+     * Creates a driver with a custom timer.
+     * The timer is started whenever a card starts animating and must then call {@link #tick(long)} every frame
+     * until it is stopped.
+     *
+     * @param startTimer starts the frame timer
+     * @param stopTimer stops the frame timer
+     */
+    CardAnimationDriver(Runnable startTimer, Runnable stopTimer) {
+        this.startTimer = startTimer;
+        this.stopTimer = stopTimer;
+    }
+
+    /**
+     * Gets the shared driver. Must only be used on the JavaFX application thread.
+     *
+     * @return the driver
+     */
+    public static CardAnimationDriver getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Animates a card from its current pose to the target pose.
+     * Replaces any animation already running for the card, continuing from where it is.
+     *
+     * @param card the card to animate
+     * @param target the pose to end in
+     * @param durationMillis the animation length in milliseconds
+     */
+    public void animate(Animated card, Pose target, double durationMillis) {
+        activeTweens.put(card, new Tween(card.getPose(), target, (long) (durationMillis * 1_000_000L)));
+        if (!running) {
+            running = true;
+            startTimer.run();
+        }
+    }
+
+    /**
+     * Stops any animation running for a card, leaving it in its current pose.
+     *
+     * @param card the card
+     */
+    public void cancel(Animated card) {
+        activeTweens.remove(card);
+        stopIfIdle();
+    }
+
+    /**
+     * Gets the number of cards that are currently animating.
+     *
+     * @return the number of active card animations
+     */
+    public int getActiveCount() {
+        return activeTweens.size();
+    }
+
+    /**
+     * Advances every active animation to the given frame time.
+     *
+     * @param now the frame timestamp in nanoseconds
+     */
+    void tick(long now) {
+        Iterator<Map.Entry<Animated, Tween>> it = activeTweens.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Animated, Tween> entry = it.next();
+            Tween tween = entry.getValue();
+            if (tween.startNanos < 0) {
+                tween.startNanos = now;
+            }
+            double t = tween.durationNanos <= 0 ? 1.0
+                    : Math.min(1.0, (now - tween.startNanos) / (double) tween.durationNanos);
+            entry.getKey().applyPose(t >= 1.0 ? tween.to : tween.from.interpolate(tween.to, t));
+            if (t >= 1.0) {
+                it.remove();
+            }
+        }
+        stopIfIdle();
+    }
+
+    /**
+     * Stops the timer when no card is animating.
+     */
+    private void stopIfIdle() {
+        if (running && activeTweens.isEmpty()) {
+            running = false;
+            stopTimer.run();
+        }
+    }
+}
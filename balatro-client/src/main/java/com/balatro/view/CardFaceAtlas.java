@@ -0,0 +1,267 @@
+package com.balatro.view;
+
+import com.balatro.model.Card;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Label;
+import javafx.scene.effect.Light;
+import javafx.scene.effect.Lighting;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.transform.Transform;
+import javafx.stage.Screen;
+
+/**
+ * Pre-rendered card faces shared by all card views.
+ * Cards have a fixed size, so the 52 standard faces and the joker face are rendered
+ * once, at that size, into a single WritableImage; card views show a viewport of that
+ * image instead of composing their own labels, so no per-card text layout or CSS is needed.
+ */
+public final class CardFaceAtlas {
+
+    // Ratio of card height to card width
+    private static final double CARD_ASPECT = CardView.DEFAULT_CARD_HEIGHT / CardView.DEFAULT_CARD_WIDTH;
+    // Padding between the card edge and the face
+    private static final double FACE_INSET = 10;
+
+    private static final String[] SUITS = {"Hearts", "Diamonds", "Clubs", "Spades"};
+    private static final String[] RANKS = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+
+    // Atlas layout: one row per suit and a final row holding the joker
+    private static final int COLUMNS = RANKS.length;
+    private static final int ROWS = SUITS.length + 1;
+    static final int JOKER_CELL = SUITS.length * RANKS.length;
+
+    private static final CardFaceAtlas INSTANCE = new CardFaceAtlas();
+
+    private Page page;
+
+    /**
+     * The rendered atlas image and the size of its cells.
+     */
+    private static final class Page {
+        private final WritableImage image;
+        private final double faceWidth;
+        private final double faceHeight;
+        private final double scale;
+
+        Page(WritableImage image, double faceWidth, double faceHeight, double scale) {
+            this.image = image;
+            this.faceWidth = faceWidth;
+            this.faceHeight = faceHeight;
+            this.scale = scale;
+        }
+    }
+
+    private CardFaceAtlas() {
+    }
+
+    /**
+     * Gets the shared atlas. Must only be used on the JavaFX application thread.
+     *
+     * @return the atlas
+     */
+    public static CardFaceAtlas getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the atlas image, rendering it on first use.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return getPage().image;
+    }
+
+    /**
+     * Gets the region of the atlas image that holds the face of a card.
+     *
+     * @param card the card
+     * @return the viewport, in image pixels
+     */
+    public Rectangle2D getViewport(Card card) {
+        Page rendered = getPage();
+        int cell = cellIndex(card);
+        double width = rendered.faceWidth * rendered.scale;
+        double height = rendered.faceHeight * rendered.scale;
+        return new Rectangle2D((cell % COLUMNS) * width, (cell / COLUMNS) * height, width, height);
+    }
+
+    /**
+     * Gets the atlas cell holding the face of a card.
+     *
+     * @param card the card
+     * @return the cell index, suit-major for standard cards or {@link #JOKER_CELL} for the joker
+     */
+    static int cellIndex(Card card) {
+        int suit = indexOf(SUITS, card.getSuit());
+        int rank = indexOf(RANKS, card.getRank());
+        if (suit < 0 || rank < 0) {
+            return JOKER_CELL;
+        }
+        return suit * RANKS.length + rank;
+    }
+
+    /**
+     * Gets the atlas, rendering it if needed.
+     *
+     * @return the page
+     */
+    private Page getPage() {
+        if (page == null) {
+            page = render(CardView.DEFAULT_CARD_WIDTH);
+        }
+        return page;
+    }
+
+    /**
+     * Renders all faces into a new atlas image.
+     *
+     * @param cardWidth the card width
+     * @return the rendered page
+     */
+    private Page render(double cardWidth) {
+        double faceWidth = cardWidth - FACE_INSET;
+        double faceHeight = cardWidth * CARD_ASPECT - FACE_INSET;
+        double scale = Screen.getPrimary().getOutputScaleX();
+
+        Group faces = new Group();
+        for (int suit = 0; suit < SUITS.length; suit++) {
+            for (int rank = 0; rank < RANKS.length; rank++) {
+                addFace(faces, suit * RANKS.length + rank, SUITS[suit], RANKS[rank], cardWidth, faceWidth, faceHeight);
+            }
+        }
+        addFace(faces, JOKER_CELL, "Joker", "J", cardWidth, faceWidth, faceHeight);
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        WritableImage image = new WritableImage(
+                (int) Math.ceil(COLUMNS * faceWidth * scale), (int) Math.ceil(ROWS * faceHeight * scale));
+        faces.snapshot(params, image);
+
+        return new Page(image, faceWidth, faceHeight, scale);
+    }
+
+    /**
+     * Adds the face of one card to the atlas scene at its cell position.
+     *
+     * @param faces the group holding all faces
+     * @param cell the atlas cell
+     * @param suit the card suit
+     * @param rank the card rank
+     * @param cardWidth the card width the face is rendered for
+     * @param faceWidth the face width
+     * @param faceHeight the face height
+     */
+    private void addFace(Group faces, int cell, String suit, String rank,
+                         double cardWidth, double faceWidth, double faceHeight) {
+        Color suitColor = getSuitColor(suit);
+        String suitSymbol = getSuitSymbol(suit);
+        String cornerText = rank + " " + suitSymbol;
+        double cornerFontSize = cardWidth * 0.18;
+        double centerFontSize = cardWidth * 0.36;
+
+        // Top-left rank and suit
+        Label topLabel = new Label(cornerText);
+        topLabel.setFont(Font.font("Arial", FontWeight.BOLD, cornerFontSize));
+        topLabel.setTextFill(suitColor);
+        BorderPane.setAlignment(topLabel, Pos.TOP_LEFT);
+        BorderPane.setMargin(topLabel, new Insets(5, 0, 0, 5));
+
+        // Center suit (larger)
+        Label centerLabel = new Label(suitSymbol);
+        centerLabel.setFont(Font.font("Arial", FontWeight.BOLD, centerFontSize));
+        centerLabel.setTextFill(suitColor);
+
+        // Bottom-right rank and suit (inverted)
+        Label bottomLabel = new Label(cornerText);
+        bottomLabel.setFont(Font.font("Arial", FontWeight.BOLD, cornerFontSize));
+        bottomLabel.setTextFill(suitColor);
+        bottomLabel.setRotate(180);
+        BorderPane.setAlignment(bottomLabel, Pos.BOTTOM_RIGHT);
+        BorderPane.setMargin(bottomLabel, new Insets(0, 5, 5, 0));
+
+        BorderPane face = new BorderPane(centerLabel, topLabel, null, bottomLabel, null);
+        face.setMinSize(faceWidth, faceHeight);
+        face.setPrefSize(faceWidth, faceHeight);
+        face.setMaxSize(faceWidth, faceHeight);
+        face.resizeRelocate((cell % COLUMNS) * faceWidth, (cell / COLUMNS) * faceHeight, faceWidth, faceHeight);
+
+        // Subtle lighting for a glossy look, slightly stronger for red cards
+        Light.Distant light = new Light.Distant();
+        light.setAzimuth(-135.0);
+        light.setElevation(30.0);
+        Lighting lighting = new Lighting(light);
+        lighting.setSurfaceScale(0.5);
+        boolean isRed = suit.equalsIgnoreCase("diamonds") || suit.equalsIgnoreCase("hearts");
+        lighting.setSpecularConstant(isRed ? 0.8 : 0.7);
+        lighting.setSpecularExponent(20.0);
+        lighting.setDiffuseConstant(1.0);
+        face.setEffect(lighting);
+
+        faces.getChildren().add(face);
+    }
+
+    /**
+     * Finds the position of a value in an array, ignoring case.
+     *
+     * @param values the values to search
+     * @param value the value to find
+     * @return the index, or -1 if the value is not present
+     */
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equalsIgnoreCase(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a visual symbol for the given suit.
+     *
+     * @param suit the card suit
+     * @return the suit symbol
+     */
+    private static String getSuitSymbol(String suit) {
+        switch (suit.toLowerCase()) {
+            case "hearts": return "♥";
+            case "diamonds": return "♦";
+            case "clubs": return "♣";
+            case "spades": return "♠";
+            default: return suit;
+        }
+    }
+
+    /**
+     * Gets the color for the given suit.
+     *
+     * @param suit the card suit
+     * @return the suit color
+     */
+    private static Color getSuitColor(String suit) {
+        switch (suit.toLowerCase()) {
+            case "hearts":
+                return Color.rgb(220, 20, 60); // Crimson red for hearts
+            case "diamonds":
+                return Color.rgb(255, 0, 0);   // Bright red for diamonds
+            case "clubs":
+                return Color.rgb(20, 20, 20);  // Near black for clubs
+            case "spades":
+                return Color.rgb(0, 0, 0);     // Pure black for spades
+            default:
+                return Color.BLACK;
+        }
+    }
+}
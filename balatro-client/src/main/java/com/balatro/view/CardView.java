@@ -0,0 +1,267 @@
+package com.balatro.view;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.balatro.model.Card;
+import com.balatro.view.CardAnimationDriver.Pose;
+
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Visual representation of a playing card in the game UI.
+ * Supports responsive resizing based on parent container.
+ */
+public class CardView extends StackPane implements CardAnimationDriver.Animated {
+    
+    // Default card dimensions
+    static final double DEFAULT_CARD_WIDTH = 90;
+    static final double DEFAULT_CARD_HEIGHT = 126;
+    
+    // Minimum and maximum card dimensions for responsive scaling
+    private static final double MIN_CARD_WIDTH = 70;
+    private static final double MAX_CARD_WIDTH = 110;
+    
+    // Instance and animation counters reported by the diagnostics overlay
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final AtomicInteger LIVE_INSTANCES = new AtomicInteger();
+    
+    // Poses for the shared animation driver
+    private static final Pose REST_POSE = new Pose(1.0, 0, 8.0, Color.color(0, 0, 0, 0.4));
+    private static final Pose HOVER_POSE = new Pose(1.05, -5, 12.0, Color.color(0.8, 0.7, 0, 0.5));
+    private static final Pose SELECTED_POSE = new Pose(1.05, -12, 12.0, Color.color(0, 0.8, 0, 0.6));
+    private static final double HOVER_MILLIS = 150;
+    private static final double SELECT_MILLIS = 200;
+    
+    private Card card;
+    private boolean isSelected = false;
+    
+    // UI components that need to be accessed for resizing
+    private Rectangle background;
+    private ImageView face;
+    private DropShadow dropShadow;
+    
+    // Resizes the card when its current parent is resized; moved along when the card is re-parented
+    private final ChangeListener<Bounds> parentBoundsListener =
+            (obs, oldBounds, newBounds) -> resizeCard(newBounds.getWidth());
+    
+    /**
+     * Creates a new card view for the given card.
+     * 
+     * @param card the card to display
+     */
+    public CardView(Card card) {
+        this.card = card;
+        
+        // Count this view until it is garbage collected
+        LIVE_INSTANCES.incrementAndGet();
+        CLEANER.register(this, LIVE_INSTANCES::decrementAndGet);
+        
+        // Set up the card appearance
+        setPadding(new Insets(5));
+        
+        // Force consistent card size
+        setPrefSize(DEFAULT_CARD_WIDTH, DEFAULT_CARD_HEIGHT);
+        setMinSize(DEFAULT_CARD_WIDTH, DEFAULT_CARD_HEIGHT); 
+        setMaxSize(DEFAULT_CARD_WIDTH, DEFAULT_CARD_HEIGHT);
+        
+        // Create drop shadow effect
+        dropShadow = new DropShadow();
+        dropShadow.setRadius(8.0);
+        dropShadow.setOffsetX(0.0);
+        dropShadow.setOffsetY(2.0);
+        dropShadow.setColor(Color.color(0, 0, 0, 0.4));
+        
+        // Create card background
+        background = new Rectangle(DEFAULT_CARD_WIDTH - 10, DEFAULT_CARD_HEIGHT - 10);
+        background.setArcWidth(15);
+        background.setArcHeight(15);
+        background.setFill(Color.WHITE);
+        background.setEffect(dropShadow);
+        
+        // Show the pre-rendered face from the shared atlas
+        face = new ImageView();
+        face.setSmooth(true);
+        applyCard(card);
+        
+        // Add all elements to the card
+        getChildren().addAll(background, face);
+        
+        // Apply CSS styling
+        getStyleClass().add("card");
+        
+        // Add hover effect, driven by the shared animation driver
+        setOnMouseEntered(e -> {
+            if (!isSelected) {
+                CardAnimationDriver.getInstance().animate(this, HOVER_POSE, HOVER_MILLIS);
+            }
+        });
+        
+        setOnMouseExited(e -> {
+            if (!isSelected) {
+                CardAnimationDriver.getInstance().animate(this, REST_POSE, HOVER_MILLIS);
+            }
+        });
+        
+        // Listen for parent container size changes and resize accordingly
+        parentProperty().addListener((obs, oldParent, newParent) -> {
+            if (oldParent != null) {
+                oldParent.layoutBoundsProperty().removeListener(parentBoundsListener);
+            }
+            if (newParent != null) {
+                // Get parent width when it's available
+                newParent.layoutBoundsProperty().addListener(parentBoundsListener);
+            }
+        });
+    }
+    
+    /**
+     * Rebinds this view to another card so that it can be reused from a pool.
+     * The view is reset to the unselected state.
+     * 
+     * @param card the card to display
+     */
+    public void setCard(Card card) {
+        resetToRest();
+        if (this.card != card) {
+            this.card = card;
+            applyCard(card);
+        }
+    }
+    
+    /**
+     * Deselects this card and snaps it to the resting pose, stopping any animation instead of finishing it.
+     */
+    void resetToRest() {
+        setSelected(false);
+        CardAnimationDriver.getInstance().cancel(this);
+        applyPose(REST_POSE);
+    }
+    
+    /**
+     * Points the face at the atlas cell of the given card.
+     * 
+     * @param card the card to display
+     */
+    private void applyCard(Card card) {
+        CardFaceAtlas atlas = CardFaceAtlas.getInstance();
+        face.setImage(atlas.getImage());
+        face.setViewport(atlas.getViewport(card));
+        face.setFitWidth(DEFAULT_CARD_WIDTH - 10);
+        face.setFitHeight(DEFAULT_CARD_HEIGHT - 10);
+    }
+    
+    @Override
+    public Pose getPose() {
+        return new Pose(getScaleX(), getTranslateY(), dropShadow.getRadius(), dropShadow.getColor());
+    }
+    
+    @Override
+    public void applyPose(Pose pose) {
+        setScaleX(pose.getScale());
+        setScaleY(pose.getScale());
+        setTranslateY(pose.getTranslateY());
+        dropShadow.setRadius(pose.getShadowRadius());
+        dropShadow.setColor(pose.getShadowColor());
+    }
+    
+    /**
+     * Gets the number of card views that have been created and not yet garbage collected.
+     * 
+     * @return the number of live card views
+     */
+    public static int getLiveInstanceCount() {
+        return LIVE_INSTANCES.get();
+    }
+    
+    /**
+     * Gets the number of card animations that are currently running.
+     * 
+     * @return the number of running card animations
+     */
+    public static int getRunningAnimationCount() {
+        return CardAnimationDriver.getInstance().getActiveCount();
+    }
+    
+    /**
+     * Resizes the card based on the parent container width.
+     * Note: This method now maintains consistent card sizing.
+     * 
+     * @param containerWidth the width of the parent container
+     */
+    private void resizeCard(double containerWidth) {
+        // No longer resize cards based on container width
+        // Instead use fixed dimensions for consistency
+        
+        // Update card components with fixed dimensions
+        background.setWidth(DEFAULT_CARD_WIDTH - 10);
+        background.setHeight(DEFAULT_CARD_HEIGHT - 10);
+        
+        // Set consistent shadow
+        dropShadow.setRadius(DEFAULT_CARD_WIDTH * 0.08);
+        dropShadow.setOffsetY(DEFAULT_CARD_WIDTH * 0.02);
+    }
+    
+    /**
+     * Sets whether this card is selected.
+     * 
+     * @param selected whether the card is selected
+     */
+    public void setSelected(boolean selected) {
+        if (this.isSelected == selected) {
+            return; // No change
+        }
+        
+        this.isSelected = selected;
+        
+        if (selected) {
+            // Apply selection effect
+            // Create a more pronounced selection effect - GREEN glow
+            DropShadow selectionGlow = new DropShadow();
+            selectionGlow.setColor(Color.rgb(50, 255, 50, 0.9)); // Brighter green with increased opacity
+            selectionGlow.setRadius(25);
+            selectionGlow.setSpread(0.6);
+            background.setEffect(selectionGlow); // Apply to background instead of the whole card
+            
+            // Add a visual indicator at the top of the card to make selection obvious - GREEN indicator
+            Rectangle selectionIndicator = new Rectangle(getWidth(), 8);
+            selectionIndicator.setFill(Color.rgb(50, 255, 50, 0.9)); // Brighter green
+            selectionIndicator.setTranslateY(-getHeight()/2 + 4);
+            selectionIndicator.setArcWidth(8);
+            selectionIndicator.setArcHeight(8);
+            getChildren().add(selectionIndicator);
+            
+            // Scale up the card slightly and move it up by 12px for better visibility
+            CardAnimationDriver.getInstance().animate(this, SELECTED_POSE, SELECT_MILLIS);
+            
+            // Add a style class for CSS styling
+            getStyleClass().add("selected-card");
+        } else {
+            // Remove selection effect
+            background.setEffect(dropShadow); // Restore original shadow effect
+            CardAnimationDriver.getInstance().animate(this, REST_POSE, SELECT_MILLIS);
+            
+            // Remove the selection indicator (if present)
+            getChildren().removeIf(node -> node instanceof Rectangle && node != background);
+            
+            // Remove the style class
+            getStyleClass().remove("selected-card");
+        }
+    }
+    
+    /**
+     * Gets the card represented by this view.
+     * 
+     * @return the card
+     */
+    public Card getCard() {
+        return card;
+    }
+}
@@ -0,0 +1,79 @@
+package com.balatro.view;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.balatro.model.Card;
+
+/**
+ * A pool of recycled card views.
+ * Building a CardView creates several nodes, effects and animations, so views that
+ * leave the screen are kept here and rebound to the next card that needs one.
+ */
+public class CardViewPool implements CardViewReconciler.ViewPool<CardView> {
+
+    private final Deque<CardView> freeViews = new ArrayDeque<>();
+    private final int maxSize;
+    private int created;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxSize the maximum number of idle views kept for reuse
+     */
+    public CardViewPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets a view for the given card, reusing an idle view when one is available.
+     *
+     * @param card the card to display
+     * @return an unselected view showing the card
+     */
+    @Override
+    public CardView acquire(Card card) {
+        CardView view = freeViews.poll();
+        if (view == null) {
+            created++;
+            return new CardView(card);
+        }
+        view.setCard(card);
+        return view;
+    }
+
+    /**
+     * Returns a view to the pool. The caller must already have removed it from the scene graph.
+     * The view is put straight into its resting pose, since an animation on a detached view would
+     * keep running unseen.
+     *
+     * @param view the view that is no longer displayed
+     */
+    @Override
+    public void release(CardView view) {
+        view.resetToRest();
+        view.setStyle("");
+        view.setOnMouseClicked(null);
+        if (freeViews.size() < maxSize) {
+            freeViews.push(view);
+        }
+    }
+
+    /**
+     * Gets the number of idle views currently held by the pool.
+     *
+     * @return the number of idle views
+     */
+    public int getIdleCount() {
+        return freeViews.size();
+    }
+
+    /**
+     * Gets the number of views this pool has had to create.
+     *
+     * @return the number of created views
+     */
+    public int getCreatedCount() {
+        return created;
+    }
+}
@@ -0,0 +1,156 @@
+package com.balatro.view;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import com.balatro.model.Card;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+/**
+ * Keeps the card views in a container in sync with a list of cards.
+ * Views are keyed by card identity, so a card that stays on screen keeps its view
+ * and only has its selection state toggled. Views for cards that left are returned
+ * to a shared pool, and views for new cards are taken from it.
+ *
+ * @param <V> the type of view, CardView in the game
+ */
+public class CardViewReconciler<V extends Node> {
+
+    /**
+     * Where the reconciler takes views from and returns them to.
+     *
+     * @param <V> the type of view
+     */
+    public interface ViewPool<V> {
+        /**
+         * Gets an unselected view showing a card.
+         *
+         * @param card the card to display
+         * @return the view
+         */
+        V acquire(Card card);
+
+        /**
+         * Takes back a view that has been removed from its container.
+         *
+         * @param view the view that is no longer displayed
+         */
+        void release(V view);
+    }
+
+    private final Pane container;
+    private final ViewPool<V> pool;
+    private final BiConsumer<V, Boolean> selector;
+    private final BiConsumer<V, Card> viewInitializer;
+    private final Map<Card, V> activeViews = new IdentityHashMap<>();
+
+    /**
+     * Creates a reconciler for the given container.
+     *
+     * @param container the pane that displays the card views
+     * @param pool the pool to take views from and return them to
+     * @param selector shows a view as selected or not, e.g. CardView::setSelected
+     * @param viewInitializer called once each time a view is attached to a card, e.g. to install handlers
+     */
+    public CardViewReconciler(Pane container, ViewPool<V> pool, BiConsumer<V, Boolean> selector,
+            BiConsumer<V, Card> viewInitializer) {
+        this.container = container;
+        this.pool = pool;
+        this.selector = selector;
+        this.viewInitializer = viewInitializer;
+    }
+
+    /**
+     * Updates the container to show the given cards in order.
+     * Only cards that were added or removed, or whose selection changed, cost node work.
+     *
+     * @param cards the cards to display
+     * @param isSelected tells whether a card should be shown as selected
+     */
+    public void reconcile(List<Card> cards, Predicate<Card> isSelected) {
+        // Release views whose card is no longer displayed
+        if (!activeViews.isEmpty()) {
+            Map<Card, Boolean> keep = new IdentityHashMap<>();
+            for (Card card : cards) {
+                keep.put(card, Boolean.TRUE);
+            }
+            Iterator<Map.Entry<Card, V>> it = activeViews.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Card, V> entry = it.next();
+                if (!keep.containsKey(entry.getKey())) {
+                    container.getChildren().remove(entry.getValue());
+                    pool.release(entry.getValue());
+                    it.remove();
+                }
+            }
+        }
+
+        // Reuse or acquire a view for each card and update its selection
+        List<Node> desired = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            V view = activeViews.get(card);
+            if (view == null) {
+                view = pool.acquire(card);
+                viewInitializer.accept(view, card);
+                activeViews.put(card, view);
+            }
+            selector.accept(view, isSelected.test(card));
+            desired.add(view);
+        }
+
+        // Only touch the child list when membership or order changed
+        ObservableList<Node> children = container.getChildren();
+        if (!sameNodes(children, desired)) {
+            children.setAll(desired);
+        }
+    }
+
+    /**
+     * Removes all card views from the container and returns them to the pool.
+     */
+    public void clear() {
+        // Views must leave the scene graph before the pool takes them back
+        container.getChildren().clear();
+        for (V view : activeViews.values()) {
+            pool.release(view);
+        }
+        activeViews.clear();
+    }
+
+    /**
+     * Gets the view currently displaying the given card.
+     *
+     * @param card the card
+     * @return the view, or null if the card is not displayed
+     */
+    public V getView(Card card) {
+        return activeViews.get(card);
+    }
+
+    /**
+     * Checks whether two node lists contain the same nodes in the same order.
+     *
+     * @param current the current children
+     * @param desired the desired children
+     * @return true if no change is needed
+     */
+    private static boolean sameNodes(List<Node> current, List<Node> desired) {
+        if (current.size() != desired.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) != desired.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,201 @@
+package com.balatro.view;
+
+import java.util.Arrays;
+
+import com.balatro.model.Card;
+import com.balatro.model.Deck;
+import com.balatro.model.DeckListener;
+
+/**
+ * Counts the cards left in a deck by suit and rank for the deck viewer overlay.
+ * The counts follow the deck's change events and only report the cell a card falls in;
+ * while the distribution is not shown, events only mark it stale and it is recounted when shown again.
+ */
+public class DeckDistribution {
+
+    /**
+     * Where the distribution reports its counts, the overlay's labels in the game.
+     */
+    public interface CountSink {
+        /**
+         * Called when the count of one cell changes.
+         *
+         * @param row the suit row, as in {@link #SUITS}
+         * @param column the rank column, as in {@link #RANKS}
+         * @param count the new count
+         */
+        void cellChanged(int row, int column, int count);
+
+        /**
+         * Called when the number of cards in the deck changes.
+         *
+         * @param total the new number of cards
+         */
+        void totalChanged(int total);
+    }
+
+    /** The suits of the rows, top first. */
+    public static final String[] SUITS = {"Spades", "Hearts", "Clubs", "Diamonds"};
+    /** The ranks of the columns, left first. */
+    public static final String[] RANKS = {"A", "K", "Q", "J", "10", "9", "8", "7", "6", "5", "4", "3", "2"};
+
+    private final Deck deck;
+    private final CountSink sink;
+    // Card counts, indexed by [suit row][rank column]
+    private final int[][] counts = new int[SUITS.length][RANKS.length];
+    private int total;
+    private boolean shown;
+    // Set when the deck changed while the distribution was not shown
+    private boolean stale = true;
+
+    /**
+     * Creates a distribution that follows a deck; it is stale until first shown.
+     *
+     * @param deck the deck to count
+     * @param sink where the counts are reported
+     */
+    public DeckDistribution(Deck deck, CountSink sink) {
+        this.deck = deck;
+        this.sink = sink;
+        deck.addListener(new DeckListener() {
+            @Override
+            public void cardAdded(Card card) {
+                update(card, 1);
+            }
+
+            @Override
+            public void cardRemoved(Card card) {
+                update(card, -1);
+            }
+
+            @Override
+            public void deckReset() {
+                if (shown) {
+                    recount();
+                } else {
+                    stale = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets whether the distribution is shown, recounting it if the deck changed while it was not.
+     *
+     * @param shown true if the counts are on screen
+     */
+    public void setShown(boolean shown) {
+        this.shown = shown;
+        if (shown && stale) {
+            recount();
+        }
+    }
+
+    /**
+     * Recounts the whole deck and reports every cell.
+     */
+    public void recount() {
+        for (int[] row : counts) {
+            Arrays.fill(row, 0);
+        }
+        total = 0;
+        for (Card card : deck.getCardsView()) {
+            int row = suitIndex(card.getSuit());
+            int column = rankIndex(card.getRank());
+            if (row >= 0 && column >= 0) {
+                counts[row][column]++;
+            }
+            total++;
+        }
+
+        for (int row = 0; row < SUITS.length; row++) {
+            for (int column = 0; column < RANKS.length; column++) {
+                sink.cellChanged(row, column, counts[row][column]);
+            }
+        }
+        sink.totalChanged(total);
+        stale = false;
+    }
+
+    /**
+     * Gets the count of one cell.
+     *
+     * @param row the suit row
+     * @param column the rank column
+     * @return the number of such cards in the deck when last counted
+     */
+    public int getCount(int row, int column) {
+        return counts[row][column];
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return the number of cards when last counted
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Checks whether the deck changed while the distribution was not shown.
+     *
+     * @return true if the counts must be recounted before they are shown
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Gets the row of a suit.
+     *
+     * @param suit the card suit
+     * @return the row, or -1 if the suit is not counted
+     */
+    public static int suitIndex(String suit) {
+        for (int i = 0; i < SUITS.length; i++) {
+            if (SUITS[i].equals(suit)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the column of a rank.
+     *
+     * @param rank the card rank
+     * @return the column, or -1 if the rank is not counted
+     */
+    public static int rankIndex(String rank) {
+        for (int i = 0; i < RANKS.length; i++) {
+            if (RANKS[i].equals(rank)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies a single card change to the counts.
+     * Only the affected cell is reported, and nothing is done while the distribution is not shown.
+     *
+     * @param card the card that was added or removed
+     * @param delta +1 for an added card, -1 for a removed card
+     */
+    private void update(Card card, int delta) {
+        if (!shown || stale) {
+            stale = true;
+            return;
+        }
+
+        int row = suitIndex(card.getSuit());
+        int column = rankIndex(card.getRank());
+        if (row >= 0 && column >= 0) {
+            counts[row][column] += delta;
+            sink.cellChanged(row, column, counts[row][column]);
+        }
+        total += delta;
+        sink.totalChanged(total);
+    }
+}
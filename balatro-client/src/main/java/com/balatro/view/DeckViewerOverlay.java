@@ -1,10 +1,5 @@
 package com.balatro.view;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import com.balatro.model.Card;
 import com.balatro.model.Deck;
 
 import javafx.animation.FadeTransition;
@@ -31,14 +26,18 @@ import javafx.util.Duration;
 /**
  * An overlay that shows the distribution of cards in the deck.
  * This appears when hovering over the deck size label.
+ * The counts are kept by a {@link DeckDistribution}, which follows the deck's change events and updates only
+ * the affected cell; while the overlay is hidden, events only mark it stale and it is recounted on show.
  */
 public class DeckViewerOverlay extends StackPane {
     
-    private final Deck deck;
     private final GridPane cardGrid;
-    private final Map<String, Map<String, Label>> cardCells = new HashMap<>();
-    private final String[] suits = {"Spades", "Hearts", "Clubs", "Diamonds"};
-    private final String[] ranks = {"A", "K", "Q", "J", "10", "9", "8", "7", "6", "5", "4", "3", "2"};
+    private final String[] suits = DeckDistribution.SUITS;
+    private final String[] ranks = DeckDistribution.RANKS;
+    
+    // Cell labels, indexed by [suit row][rank column]
+    private final Label[][] cardCells = new Label[suits.length][ranks.length];
+    private final DeckDistribution distribution;
     
     private final FadeTransition fadeIn;
     private final FadeTransition fadeOut;
@@ -50,8 +49,6 @@ public class DeckViewerOverlay extends StackPane {
      * @param deck the deck to display
      */
     public DeckViewerOverlay(Deck deck) {
-        this.deck = deck;
-        
         // Set up the overlay
         setVisible(false);
         setOpacity(0);
@@ -104,6 +101,21 @@ public class DeckViewerOverlay extends StackPane {
         StackPane.setAlignment(container, Pos.BOTTOM_RIGHT);
         getChildren().add(container);
         
+        // Follow changes to the deck
+        distribution = new DeckDistribution(deck, new DeckDistribution.CountSink() {
+            @Override
+            public void cellChanged(int row, int column, int count) {
+                Label cell = cardCells[row][column];
+                cell.setText(String.valueOf(count));
+                cell.setOpacity(count > 0 ? 1.0 : 0.5);
+            }
+            
+            @Override
+            public void totalChanged(int total) {
+                totalCardsLabel.setText("Total: " + total + " cards");
+            }
+        });
+        
         // Set up animations
         fadeIn = new FadeTransition(Duration.millis(200), this);
         fadeIn.setFromValue(0);
@@ -112,7 +124,10 @@ public class DeckViewerOverlay extends StackPane {
         fadeOut = new FadeTransition(Duration.millis(200), this);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
-        fadeOut.setOnFinished(e -> setVisible(false));
+        fadeOut.setOnFinished(e -> {
+            setVisible(false);
+            distribution.setShown(false);
+        });
     }
     
     /**
@@ -149,9 +164,6 @@ public class DeckViewerOverlay extends StackPane {
         for (int i = 0; i < suits.length; i++) {
             String suit = suits[i];
             
-            // Create suit map if not exists
-            cardCells.putIfAbsent(suit, new HashMap<>());
-            
             // Add suit label
             Label suitLabel = new Label(getSuitSymbol(suit));
             suitLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16));
@@ -162,8 +174,6 @@ public class DeckViewerOverlay extends StackPane {
             
             // Add card cells for each rank
             for (int j = 0; j < ranks.length; j++) {
-                String rank = ranks[j];
-                
                 Label cell = new Label("0");
                 cell.setFont(Font.font("Arial", FontWeight.NORMAL, 15));
                 cell.setTextFill(getSuitColor(suit));
@@ -180,8 +190,8 @@ public class DeckViewerOverlay extends StackPane {
                 cell.setOnMouseEntered(e -> handleCellHover(e, cell, true));
                 cell.setOnMouseExited(e -> handleCellHover(e, cell, false));
                 
-                // Store the cell in the map
-                cardCells.get(suit).put(rank, cell);
+                // Store the cell for direct updates
+                cardCells[i][j] = cell;
                 
                 // Add to grid
                 grid.add(cell, j + 1, i + 1);
@@ -223,72 +233,17 @@ public class DeckViewerOverlay extends StackPane {
     }
     
     /**
-     * Updates the card distribution display based on the current deck.
+     * Recounts the whole deck and updates every cell.
      */
     public void updateCardDistribution() {
-        // Reset all counts to 0
-        for (Map<String, Label> rankMap : cardCells.values()) {
-            for (Label cell : rankMap.values()) {
-                cell.setText("0");
-                cell.setStyle("-fx-opacity: 0.5;");
-            }
-        }
-        
-        // Count cards in the deck
-        List<Card> cards = deck.getCards();
-        Map<String, Map<String, Integer>> cardCounts = new HashMap<>();
-        
-        // Initialize counts map
-        for (String suit : suits) {
-            cardCounts.put(suit, new HashMap<>());
-            for (String rank : ranks) {
-                cardCounts.get(suit).put(rank, 0);
-            }
-        }
-        
-        // Count cards
-        for (Card card : cards) {
-            String suit = card.getSuit();
-            String rank = card.getRank();
-            
-            // Increment the count
-            Map<String, Integer> rankMap = cardCounts.get(suit);
-            if (rankMap != null) {
-                Integer count = rankMap.get(rank);
-                if (count != null) {
-                    rankMap.put(rank, count + 1);
-                }
-            }
-        }
-        
-        // Update the UI
-        for (String suit : suits) {
-            Map<String, Integer> rankMap = cardCounts.get(suit);
-            if (rankMap != null) {
-                for (String rank : ranks) {
-                    Integer count = rankMap.get(rank);
-                    if (count != null) {
-                        Label cell = cardCells.get(suit).get(rank);
-                        if (cell != null) {
-                            cell.setText(String.valueOf(count));
-                            if (count > 0) {
-                                cell.setStyle("-fx-opacity: 1.0;");
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        
-        // Update total cards label
-        totalCardsLabel.setText("Total: " + cards.size() + " cards");
+        distribution.recount();
     }
     
     /**
      * Shows the overlay with an animation.
      */
     public void show() {
-        updateCardDistribution();
+        distribution.setShown(true);
         setVisible(true);
         fadeIn.play();
     }
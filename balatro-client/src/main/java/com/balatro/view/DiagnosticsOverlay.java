@@ -0,0 +1,304 @@
+package com.balatro.view;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+/**
+ * A toggleable overlay that shows frame time, pulse time and scene graph size.
+ * Sampling runs through an AnimationTimer and only while the overlay is visible,
+ * so the overlay costs nothing when it is hidden.
+ */
+public class DiagnosticsOverlay extends VBox {
+
+    // How often the scene graph is walked to count nodes
+    private static final long NODE_COUNT_INTERVAL_NANOS = 500_000_000L;
+    // How often the labels are refreshed, to avoid adding a layout pass every frame
+    private static final long LABEL_REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+    private final FrameStats frameStats = new FrameStats();
+    private final AnimationTimer sampler;
+    private final Runnable pulseStartListener = this::onPulseStart;
+    private final Runnable pulseEndListener = this::onPulseEnd;
+
+    private final Label fpsLabel;
+    private final Label pulseLabel;
+    private final Label histogramLabel;
+    private final Label nodeCountLabel;
+    private final Label cardViewLabel;
+    private final Label animationLabel;
+    private final Label refreshLabel;
+
+    private RenderScheduler renderScheduler;
+    private Scene attachedScene;
+    private long pulseStartNanos = -1;
+    private long lastNodeCountNanos;
+    private long lastLabelRefreshNanos;
+    private int nodeCount;
+    private int cardViewsInScene;
+
+    /**
+     * Creates a new, initially hidden, diagnostics overlay.
+     */
+    public DiagnosticsOverlay() {
+        super(4);
+        setVisible(false);
+        setPadding(new Insets(10));
+        setMaxSize(260, USE_PREF_SIZE);
+        setPickOnBounds(false);
+        setStyle("-fx-background-color: rgba(0, 0, 0, 0.75); -fx-background-radius: 8;");
+        StackPane.setAlignment(this, Pos.TOP_LEFT);
+        StackPane.setMargin(this, new Insets(10));
+
+        Label title = new Label("Diagnostics (F3)");
+        title.setStyle("-fx-font-size: 13px; -fx-font-weight: bold; -fx-text-fill: #ffd700;");
+
+        fpsLabel = createValueLabel();
+        pulseLabel = createValueLabel();
+        histogramLabel = createValueLabel();
+        nodeCountLabel = createValueLabel();
+        cardViewLabel = createValueLabel();
+        animationLabel = createValueLabel();
+        refreshLabel = createValueLabel();
+
+        Button dumpButton = new Button("Dump JSON");
+        dumpButton.setStyle("-fx-font-size: 11px;");
+        dumpButton.setOnAction(e -> {
+            try {
+                Path file = dumpJson();
+                System.out.println("Diagnostics written to " + file.toAbsolutePath());
+            } catch (IOException ex) {
+                System.err.println("Could not write diagnostics: " + ex.getMessage());
+            }
+        });
+
+        getChildren().addAll(title, fpsLabel, pulseLabel, histogramLabel,
+                nodeCountLabel, cardViewLabel, animationLabel, refreshLabel, dumpButton);
+
+        sampler = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                sample(now);
+            }
+        };
+    }
+
+    /**
+     * Shows the overlay if it is hidden, hides it otherwise.
+     */
+    public void toggle() {
+        if (isVisible()) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    /**
+     * Shows the overlay and starts sampling.
+     */
+    public void show() {
+        frameStats.reset();
+        lastNodeCountNanos = 0;
+        lastLabelRefreshNanos = 0;
+        attachToScene(getScene());
+        setVisible(true);
+        sampler.start();
+    }
+
+    /**
+     * Hides the overlay and stops sampling.
+     */
+    public void hide() {
+        sampler.stop();
+        attachToScene(null);
+        setVisible(false);
+    }
+
+    /**
+     * Sets the render scheduler whose refresh counters are reported.
+     *
+     * @param renderScheduler the scheduler, or null to report none
+     */
+    public void setRenderScheduler(RenderScheduler renderScheduler) {
+        this.renderScheduler = renderScheduler;
+    }
+
+    /**
+     * Gets the statistics collected by this overlay.
+     *
+     * @return the frame statistics
+     */
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    /**
+     * Builds a JSON document with the current measurements.
+     *
+     * @return the measurements as JSON
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"timestamp\":\"").append(Instant.now()).append("\",");
+        frameStats.appendJson(json);
+        json.append(",\"nodeCount\":").append(nodeCount)
+            .append(",\"cardViewsInScene\":").append(cardViewsInScene)
+            .append(",\"cardViewsAlive\":").append(CardView.getLiveInstanceCount())
+            .append(",\"animationsRunning\":").append(CardView.getRunningAnimationCount());
+        if (renderScheduler != null) {
+            json.append(",\"renderFlushes\":").append(renderScheduler.getFlushCount())
+                .append(",\"regionRenders\":").append(renderScheduler.getRenderCount())
+                .append(",\"refreshesAvoided\":").append(renderScheduler.getRefreshesAvoided());
+        }
+        json.append('}');
+        return json.toString();
+    }
+
+    /**
+     * Writes the current measurements to a JSON file in the working directory.
+     *
+     * @return the path of the written file
+     * @throws IOException if the file cannot be written
+     */
+    public Path dumpJson() throws IOException {
+        Path file = Paths.get("balatro-diagnostics-" + System.currentTimeMillis() + ".json");
+        Files.write(file, toJson().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Takes one sample. Called once per frame while the overlay is visible.
+     *
+     * @param now the frame timestamp in nanoseconds
+     */
+    private void sample(long now) {
+        frameStats.recordFrame(now);
+
+        // The overlay may have been shown before it was part of a scene
+        if (attachedScene != getScene()) {
+            attachToScene(getScene());
+        }
+
+        if (now - lastNodeCountNanos >= NODE_COUNT_INTERVAL_NANOS) {
+            lastNodeCountNanos = now;
+            nodeCount = 0;
+            cardViewsInScene = 0;
+            if (getScene() != null && getScene().getRoot() != null) {
+                countNodes(getScene().getRoot());
+            }
+        }
+
+        if (now - lastLabelRefreshNanos >= LABEL_REFRESH_INTERVAL_NANOS) {
+            lastLabelRefreshNanos = now;
+            refreshLabels();
+        }
+    }
+
+    /**
+     * Updates the label texts from the collected measurements.
+     */
+    private void refreshLabels() {
+        fpsLabel.setText(String.format("FPS: %.1f  (avg %.1f ms, worst %.1f ms)",
+                frameStats.getFps(), frameStats.getAverageFrameMillis(), frameStats.getWorstFrameMillis()));
+        pulseLabel.setText(String.format("Pulse: avg %.2f ms, max %.2f ms",
+                frameStats.getAveragePulseMillis(), frameStats.getMaxPulseMillis()));
+
+        long[] histogram = frameStats.getPulseHistogram();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < histogram.length; i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(String.format("%7s %d", FrameStats.getBucketLabel(i), histogram[i]));
+        }
+        histogramLabel.setText(text.toString());
+
+        nodeCountLabel.setText("Nodes: " + nodeCount);
+        cardViewLabel.setText("CardViews: " + cardViewsInScene + " in scene, "
+                + CardView.getLiveInstanceCount() + " alive");
+        animationLabel.setText("Animations running: " + CardView.getRunningAnimationCount());
+        if (renderScheduler != null) {
+            refreshLabel.setText("Refreshes: " + renderScheduler.getRenderCount() + " in "
+                    + renderScheduler.getFlushCount() + " flushes, "
+                    + renderScheduler.getRefreshesAvoided() + " avoided");
+        }
+    }
+
+    /**
+     * Recursively counts the nodes below the given node, including the node itself.
+     *
+     * @param node the node to start from
+     */
+    private void countNodes(Node node) {
+        nodeCount++;
+        if (node instanceof CardView) {
+            cardViewsInScene++;
+        }
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                countNodes(child);
+            }
+        }
+    }
+
+    /**
+     * Moves the pulse listeners to the given scene.
+     *
+     * @param scene the scene to measure, or null to detach
+     */
+    private void attachToScene(Scene scene) {
+        if (attachedScene != null) {
+            attachedScene.removePreLayoutPulseListener(pulseStartListener);
+            attachedScene.removePostLayoutPulseListener(pulseEndListener);
+        }
+        attachedScene = scene;
+        pulseStartNanos = -1;
+        if (scene != null) {
+            scene.addPreLayoutPulseListener(pulseStartListener);
+            scene.addPostLayoutPulseListener(pulseEndListener);
+        }
+    }
+
+    /**
+     * Called by the scene before CSS and layout are processed for a pulse.
+     */
+    private void onPulseStart() {
+        pulseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Called by the scene after CSS and layout are processed for a pulse.
+     */
+    private void onPulseEnd() {
+        if (pulseStartNanos >= 0) {
+            frameStats.recordPulse(System.nanoTime() - pulseStartNanos);
+            pulseStartNanos = -1;
+        }
+    }
+
+    /**
+     * Creates a label for one line of measurements.
+     *
+     * @return the label
+     */
+    private Label createValueLabel() {
+        Label label = new Label();
+        label.setStyle("-fx-font-size: 11px; -fx-text-fill: white; -fx-font-family: 'Monospaced';");
+        return label;
+    }
+}
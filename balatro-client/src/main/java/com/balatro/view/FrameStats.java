@@ -0,0 +1,213 @@
+package com.balatro.view;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Rolling frame-time and pulse-time statistics used by the diagnostics overlay.
+ * This class has no JavaFX dependencies so it can be tested without a toolkit.
+ */
+public class FrameStats {
+
+    // Upper bounds (exclusive, in milliseconds) of the pulse histogram buckets.
+    // The last bucket collects everything at or above the final bound.
+    private static final long[] PULSE_BUCKET_LIMITS_MS = {1, 2, 4, 8, 16, 33, 66};
+
+    // Number of frame intervals kept for the FPS average
+    private static final int FRAME_WINDOW = 120;
+
+    private final long[] frameIntervals = new long[FRAME_WINDOW];
+    private int frameIndex;
+    private int frameSamples;
+    private long lastFrameNanos = -1;
+    private long worstFrameNanos;
+
+    private final long[] pulseBuckets = new long[PULSE_BUCKET_LIMITS_MS.length + 1];
+    private long pulseCount;
+    private long pulseTotalNanos;
+    private long pulseMaxNanos;
+
+    /**
+     * Records a frame timestamp, as passed to an AnimationTimer.
+     *
+     * @param nowNanos the frame timestamp in nanoseconds
+     */
+    public void recordFrame(long nowNanos) {
+        if (lastFrameNanos >= 0) {
+            long interval = nowNanos - lastFrameNanos;
+            frameIntervals[frameIndex] = interval;
+            frameIndex = (frameIndex + 1) % FRAME_WINDOW;
+            if (frameSamples < FRAME_WINDOW) {
+                frameSamples++;
+            }
+            worstFrameNanos = Math.max(worstFrameNanos, interval);
+        }
+        lastFrameNanos = nowNanos;
+    }
+
+    /**
+     * Records the duration of one scene pulse.
+     *
+     * @param durationNanos the pulse duration in nanoseconds
+     */
+    public void recordPulse(long durationNanos) {
+        pulseBuckets[bucketFor(durationNanos)]++;
+        pulseCount++;
+        pulseTotalNanos += durationNanos;
+        pulseMaxNanos = Math.max(pulseMaxNanos, durationNanos);
+    }
+
+    /**
+     * Gets the frames per second averaged over the recent frame window.
+     *
+     * @return the frames per second, or 0 if fewer than two frames were recorded
+     */
+    public double getFps() {
+        double average = getAverageFrameMillis();
+        return average > 0 ? 1000.0 / average : 0;
+    }
+
+    /**
+     * Gets the average frame interval over the recent frame window.
+     *
+     * @return the average frame interval in milliseconds
+     */
+    public double getAverageFrameMillis() {
+        if (frameSamples == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < frameSamples; i++) {
+            total += frameIntervals[i];
+        }
+        return total / (double) frameSamples / 1_000_000.0;
+    }
+
+    /**
+     * Gets the longest frame interval seen since the last reset.
+     *
+     * @return the worst frame interval in milliseconds
+     */
+    public double getWorstFrameMillis() {
+        return worstFrameNanos / 1_000_000.0;
+    }
+
+    /**
+     * Gets the number of pulses recorded since the last reset.
+     *
+     * @return the pulse count
+     */
+    public long getPulseCount() {
+        return pulseCount;
+    }
+
+    /**
+     * Gets the average pulse duration.
+     *
+     * @return the average pulse duration in milliseconds
+     */
+    public double getAveragePulseMillis() {
+        return pulseCount == 0 ? 0 : pulseTotalNanos / (double) pulseCount / 1_000_000.0;
+    }
+
+    /**
+     * Gets the longest pulse duration seen since the last reset.
+     *
+     * @return the maximum pulse duration in milliseconds
+     */
+    public double getMaxPulseMillis() {
+        return pulseMaxNanos / 1_000_000.0;
+    }
+
+    /**
+     * Gets a copy of the pulse duration histogram.
+     *
+     * @return the count per bucket, see {@link #getBucketLabel(int)}
+     */
+    public long[] getPulseHistogram() {
+        return pulseBuckets.clone();
+    }
+
+    /**
+     * Gets the number of buckets in the pulse histogram.
+     *
+     * @return the bucket count
+     */
+    public static int getBucketCount() {
+        return PULSE_BUCKET_LIMITS_MS.length + 1;
+    }
+
+    /**
+     * Gets a display label for a pulse histogram bucket, e.g. "<16ms" or ">=66ms".
+     *
+     * @param bucket the bucket index
+     * @return the bucket label
+     */
+    public static String getBucketLabel(int bucket) {
+        if (bucket < PULSE_BUCKET_LIMITS_MS.length) {
+            return "<" + PULSE_BUCKET_LIMITS_MS[bucket] + "ms";
+        }
+        return ">=" + PULSE_BUCKET_LIMITS_MS[PULSE_BUCKET_LIMITS_MS.length - 1] + "ms";
+    }
+
+    /**
+     * Clears all recorded samples.
+     */
+    public void reset() {
+        frameIndex = 0;
+        frameSamples = 0;
+        lastFrameNanos = -1;
+        worstFrameNanos = 0;
+        Arrays.fill(pulseBuckets, 0);
+        pulseCount = 0;
+        pulseTotalNanos = 0;
+        pulseMaxNanos = 0;
+    }
+
+    /**
+     * Appends the statistics as JSON object members (without surrounding braces).
+     *
+     * @param json the builder to append to
+     */
+    public void appendJson(StringBuilder json) {
+        json.append("\"fps\":").append(format(getFps()))
+            .append(",\"avgFrameMs\":").append(format(getAverageFrameMillis()))
+            .append(",\"worstFrameMs\":").append(format(getWorstFrameMillis()))
+            .append(",\"pulseCount\":").append(pulseCount)
+            .append(",\"avgPulseMs\":").append(format(getAveragePulseMillis()))
+            .append(",\"maxPulseMs\":").append(format(getMaxPulseMillis()))
+            .append(",\"pulseHistogram\":{");
+        for (int i = 0; i < pulseBuckets.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(getBucketLabel(i)).append("\":").append(pulseBuckets[i]);
+        }
+        json.append('}');
+    }
+
+    /**
+     * Finds the histogram bucket for a pulse duration.
+     *
+     * @param durationNanos the pulse duration in nanoseconds
+     * @return the bucket index
+     */
+    private static int bucketFor(long durationNanos) {
+        for (int i = 0; i < PULSE_BUCKET_LIMITS_MS.length; i++) {
+            if (durationNanos < PULSE_BUCKET_LIMITS_MS[i] * 1_000_000L) {
+                return i;
+            }
+        }
+        return PULSE_BUCKET_LIMITS_MS.length;
+    }
+
+    /**
+     * Formats a value with two decimals, independent of the default locale.
+     *
+     * @param value the value to format
+     * @return the formatted value
+     */
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
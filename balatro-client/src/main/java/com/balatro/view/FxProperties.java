@@ -0,0 +1,74 @@
+package com.balatro.view;
+
+import com.balatro.observable.BooleanProperty;
+import com.balatro.observable.IntegerProperty;
+import com.balatro.observable.ObjectProperty;
+import com.balatro.observable.ObservableList;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+/**
+ * Adapts the observable properties of the game model to read-only JavaFX properties, so labels and buttons
+ * can be bound to them. The core module has no JavaFX dependency, so the adapters live in the client.
+ * Each adapter follows its model property for as long as the model lives; create them once per view,
+ * not on every rebuild of a panel.
+ */
+final class FxProperties {
+
+    private FxProperties() {
+    }
+
+    /**
+     * Creates a JavaFX property that follows a model int property.
+     *
+     * @param property the model property
+     * @return the JavaFX property
+     */
+    static ReadOnlyIntegerProperty of(IntegerProperty property) {
+        ReadOnlyIntegerWrapper wrapper = new ReadOnlyIntegerWrapper(property.get());
+        property.addListener((oldValue, newValue) -> wrapper.set(newValue));
+        return wrapper.getReadOnlyProperty();
+    }
+
+    /**
+     * Creates a JavaFX property that follows a model boolean property.
+     *
+     * @param property the model property
+     * @return the JavaFX property
+     */
+    static ReadOnlyBooleanProperty of(BooleanProperty property) {
+        ReadOnlyBooleanWrapper wrapper = new ReadOnlyBooleanWrapper(property.get());
+        property.addListener((oldValue, newValue) -> wrapper.set(newValue));
+        return wrapper.getReadOnlyProperty();
+    }
+
+    /**
+     * Creates a JavaFX property that follows a model object property.
+     *
+     * @param property the model property
+     * @param <T> the value type
+     * @return the JavaFX property
+     */
+    static <T> ReadOnlyObjectProperty<T> of(ObjectProperty<T> property) {
+        ReadOnlyObjectWrapper<T> wrapper = new ReadOnlyObjectWrapper<>(property.get());
+        property.addListener((oldValue, newValue) -> wrapper.set(newValue));
+        return wrapper.getReadOnlyProperty();
+    }
+
+    /**
+     * Creates a JavaFX property that follows the size of a model list.
+     *
+     * @param list the model list
+     * @return the JavaFX property holding the list's size
+     */
+    static ReadOnlyIntegerProperty sizeOf(ObservableList<?> list) {
+        ReadOnlyIntegerWrapper wrapper = new ReadOnlyIntegerWrapper(list.size());
+        list.addListener(observable -> wrapper.set(list.size()));
+        return wrapper.getReadOnlyProperty();
+    }
+}
@@ -3,6 +3,7 @@ package com.balatro.view;
 import java.util.List;
 
 import com.balatro.model.Card;
+import com.balatro.model.DeckListener;
 import com.balatro.model.Joker;
 import com.balatro.service.GameService;
 import com.balatro.service.GameService.GameState;
@@ -12,6 +13,9 @@ import com.balatro.service.GameStateManager.LevelStage;
 import javafx.animation.FadeTransition;
 import javafx.animation.PauseTransition;
 import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.geometry.Insets;
@@ -20,6 +24,8 @@ import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -38,6 +44,13 @@ public class GameView extends BorderPane {
     private final GameStateManager gameManager;
     private final GameService gameService;
     
+    // JavaFX views of the model state the action buttons are bound to, created once for all button panels
+    private final ReadOnlyObjectProperty<GameState> gameStateValue;
+    private final ReadOnlyIntegerProperty selectedCardCount;
+    private final ReadOnlyBooleanProperty canDrawCards;
+    private final ReadOnlyBooleanProperty handLimitReached;
+    private final ReadOnlyBooleanProperty discardLimitReached;
+    
     // UI components
     private Label gamePhaseLabel;
     private Label roundLabel;
@@ -74,6 +87,21 @@ public class GameView extends BorderPane {
     // Add new field for deck viewer overlay
     private DeckViewerOverlay deckViewerOverlay;
     
+    // Frame time and scene graph diagnostics, toggled with F3
+    private DiagnosticsOverlay diagnosticsOverlay;
+    
+    // Card views are reused by card identity and recycled through a shared pool
+    private final CardViewPool cardViewPool = new CardViewPool(24);
+    private CardViewReconciler<CardView> handRenderer;
+    private CardViewReconciler<CardView> selectedCardsRenderer;
+    
+    // The joker currently shown in the joker area, to skip rebuilding it when unchanged
+    private Joker renderedJoker;
+    private CardView jokerCardView;
+    
+    // Coalesces refreshes of the card areas into one render per pulse
+    private final RenderScheduler renderScheduler = new RenderScheduler();
+    
     // Add new fields for joker
     private Label jokerEffectLabel;
     private Joker currentJoker;
@@ -84,6 +112,11 @@ public class GameView extends BorderPane {
     public GameView() {
         this.gameManager = new GameStateManager();
         this.gameService = gameManager.getGameService();
+        this.gameStateValue = FxProperties.of(gameService.gameStateProperty());
+        this.selectedCardCount = FxProperties.sizeOf(gameService.getSelectedCards());
+        this.canDrawCards = FxProperties.of(gameService.canDrawCardsProperty());
+        this.handLimitReached = FxProperties.of(gameManager.handLimitReachedProperty());
+        this.discardLimitReached = FxProperties.of(gameManager.discardLimitReachedProperty());
         
         // Set up the UI layout
         setPadding(new Insets(15));
@@ -116,53 +149,79 @@ public class GameView extends BorderPane {
         jokerArea.setAlignment(Pos.CENTER);
         jokerArea.prefWidthProperty().bind(widthProperty().subtract(30));
         
+        // Set up the reconcilers that keep the card areas in sync with the model
+        handRenderer = new CardViewReconciler<>(playerHandArea, cardViewPool, CardView::setSelected,
+                this::initializeHandCardView);
+        selectedCardsRenderer = new CardViewReconciler<>(selectedCardsArea, cardViewPool, CardView::setSelected,
+                (view, card) -> { });
+        
+        // Register the renderers of each region with the scheduler
+        renderScheduler.setRenderer(RenderScheduler.Region.HAND, this::updateHandDisplay);
+        renderScheduler.setRenderer(RenderScheduler.Region.SELECTED, this::updateSelectedCardsDisplay);
+        renderScheduler.setRenderer(RenderScheduler.Region.JOKER, this::updateJokerDisplay);
+        renderScheduler.setRenderer(RenderScheduler.Region.DECK, this::updateDeckSizeDisplay);
+        
         // Create joker effect label
         jokerEffectLabel = new Label();
         jokerEffectLabel.getStyleClass().add("joker-effect-label");
         jokerEffectLabel.setWrapText(true);
         jokerEffectLabel.setMaxWidth(300);
         
-        // Add listener for game state changes to update joker display
-        gameService.gameStateProperty().addListener((obs, oldState, newState) -> {
-            updateJokerDisplay();
+        // Add listener for game state changes to update the hand and joker display
+        gameService.gameStateProperty().addListener((oldState, newState) -> {
+            renderScheduler.markDirty(RenderScheduler.Region.HAND, RenderScheduler.Region.JOKER);
         });
         
         // Add listener for round completion to update joker display
-        gameService.roundCompletedProperty().addListener((obs, oldValue, newValue) -> {
+        gameService.roundCompletedProperty().addListener((oldValue, newValue) -> {
             if (newValue) {
-                updateJokerDisplay();
+                renderScheduler.markDirty(RenderScheduler.Region.JOKER);
             }
         });
         
-        // Create notification overlay
-        createNotificationOverlay();
+        // Selection changes affect both the hand and the selected cards
+        gameService.getSelectedCards().addListener(observable -> {
+            renderScheduler.markDirty(RenderScheduler.Region.HAND, RenderScheduler.Region.SELECTED);
+        });
+        
+        // Cards leaving the deck end up in the hand
+        gameService.remainingCardsProperty().addListener((oldCount, newCount) -> {
+            renderScheduler.markDirty(RenderScheduler.Region.HAND, RenderScheduler.Region.DECK);
+        });
         
-        // Create deck viewer overlay
-        deckViewerOverlay = new DeckViewerOverlay(gameService.getDeck());
+        // A new round resets the deck and deals a new hand, even when the state and deck size stay the same
+        gameService.getDeck().addListener(new DeckListener() {
+            @Override
+            public void cardAdded(Card card) {
+                // Counted by the remaining cards listener
+            }
+            
+            @Override
+            public void cardRemoved(Card card) {
+                // Counted by the remaining cards listener
+            }
+            
+            @Override
+            public void deckReset() {
+                renderScheduler.markDirty(RenderScheduler.Region.HAND, RenderScheduler.Region.DECK);
+            }
+        });
         
-        // Create buttons panel
-        HBox buttonsPanel = createButtonsPanel();
+        // Create notification overlay
+        createNotificationOverlay();
         
-        // Create card areas container
-        VBox cardAreasContainer = new VBox(15);
-        cardAreasContainer.getChildren().addAll(
-                createAreaWithLabel("Your Hand", playerHandArea),
-                createAreaWithLabel("Joker", jokerArea),
-                buttonsPanel
-        );
+        // The deck viewer and diagnostics overlays are created with the game interface,
+        // so that the start screen can be shown without building them
+        installDiagnosticsShortcut();
         
         // Add joker effect label to joker area
         jokerArea.getChildren().add(jokerEffectLabel);
         
-        // Create a stack pane to handle overlay components
-        StackPane gameContentWithOverlay = new StackPane();
-        gameContentWithOverlay.getChildren().addAll(cardAreasContainer, notificationOverlay, deckViewerOverlay);
-        
         // Set up the game data bindings
         setupBindings();
         
-        // Initialize the game
-        gameManager.startNewGame();
+        // The game manager has already initialized a new game; the game
+        // interface is built when a bet is chosen on the start screen
         
         // Create the start screen
         VBox startScreen = createStartScreen();
@@ -176,6 +235,67 @@ public class GameView extends BorderPane {
         });
     }
     
+    /**
+     * Registers the F3 shortcut that toggles the diagnostics overlay
+     * once this view is attached to a scene.
+     */
+    private void installDiagnosticsShortcut() {
+        sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                newScene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+                    if (e.getCode() == KeyCode.F3) {
+                        ensureOverlays();
+                        diagnosticsOverlay.toggle();
+                        e.consume();
+                    }
+                });
+            }
+        });
+    }
+    
+    /**
+     * Creates the deck viewer and diagnostics overlays if they have not been created yet.
+     */
+    private void ensureOverlays() {
+        if (deckViewerOverlay == null) {
+            deckViewerOverlay = new DeckViewerOverlay(gameService.getDeck());
+        }
+        if (diagnosticsOverlay == null) {
+            diagnosticsOverlay = new DiagnosticsOverlay();
+            diagnosticsOverlay.setRenderScheduler(renderScheduler);
+        }
+    }
+    
+    /**
+     * Builds the parts of the game interface that are not needed for the start screen.
+     * Called once the start screen has been shown, so that the first game screen opens
+     * without delay; everything prepared here is otherwise created on first use.
+     */
+    public void preloadGameInterface() {
+        ensureOverlays();
+        
+        // Render the card faces
+        CardFaceAtlas.getInstance().getImage();
+    }
+    
+    /**
+     * Stacks the game content with the notification, deck viewer and diagnostics overlays.
+     * 
+     * @param cardAreasContainer the game content
+     * @return the game content with its overlays
+     */
+    private StackPane createContentWithOverlays(VBox cardAreasContainer) {
+        ensureOverlays();
+        
+        // Make sure the overlay is positioned in the bottom right corner
+        StackPane.setAlignment(deckViewerOverlay, Pos.BOTTOM_RIGHT);
+        
+        // Create a stack pane to hold both the game content and notification overlay
+        StackPane gameContentWithOverlay = new StackPane();
+        gameContentWithOverlay.getChildren().addAll(cardAreasContainer, notificationOverlay, deckViewerOverlay, diagnosticsOverlay);
+        return gameContentWithOverlay;
+    }
+    
     /**
      * Creates the game information panel at the top of the screen.
      * 
@@ -344,7 +464,7 @@ public class GameView extends BorderPane {
         deckCount.setStyle("-fx-text-fill: white; -fx-font-size: 24px; -fx-font-weight: bold;");
         
         // Ensure binding to real-time deck count
-        deckCount.textProperty().bind(Bindings.convert(gameService.remainingCardsProperty()));
+        deckCount.textProperty().bind(Bindings.convert(FxProperties.of(gameService.remainingCardsProperty())));
         
         VBox deckInfo = new VBox(5);
         deckInfo.setAlignment(Pos.CENTER);
@@ -354,12 +474,16 @@ public class GameView extends BorderPane {
         
         // Add hover effect to show the deck viewer
         deckDisplay.setOnMouseEntered(e -> {
-            deckViewerOverlay.updateCardDistribution();
-            deckViewerOverlay.show();
+            // The overlay is created with the game interface, so it may not exist yet
+            if (deckViewerOverlay != null) {
+                deckViewerOverlay.show();
+            }
         });
         
         deckDisplay.setOnMouseExited(e -> {
-            deckViewerOverlay.hide();
+            if (deckViewerOverlay != null) {
+                deckViewerOverlay.hide();
+            }
         });
         
         // Next Round button is no longer needed since we auto-advance to next round
@@ -380,6 +504,9 @@ public class GameView extends BorderPane {
         HBox.setHgrow(spacer, Priority.ALWAYS);
         
         panel.getChildren().addAll(drawButton, playButton, discardButton, spacer, deckDisplay);
+        
+        // Bind the new buttons to the game state
+        bindButtons();
         return panel;
     }
     
@@ -490,39 +617,39 @@ public class GameView extends BorderPane {
      */
     private void setupBindings() {
         // Bind game state labels
-        gamePhaseLabel.textProperty().bind(gameManager.gamePhaseProperty());
+        gamePhaseLabel.textProperty().bind(FxProperties.of(gameManager.gamePhaseProperty()));
         // Bind roundLabel but don't display in UI, maintain code compatibility
-        roundLabel.textProperty().bind(Bindings.convert(gameManager.currentRoundProperty()));
-        chipsLabel.textProperty().bind(Bindings.convert(gameManager.playerChipsProperty()));
+        roundLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameManager.currentRoundProperty())));
+        chipsLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameManager.playerChipsProperty())));
         // We'll set stageValueLabel text manually in startGame() and then bind it
-        //stageValueLabel.textProperty().bind(Bindings.convert(gameManager.stageValueProperty()));
-        scoreLabel.textProperty().bind(Bindings.convert(gameService.scoreProperty()));
-        handTypeLabel.textProperty().bind(gameService.currentHandTypeDisplayProperty());
-        levelLabel.textProperty().bind(Bindings.convert(gameManager.currentLevelProperty()));
+        //stageValueLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameManager.stageValueProperty())));
+        scoreLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameService.scoreProperty())));
+        handTypeLabel.textProperty().bind(FxProperties.of(gameService.currentHandTypeDisplayProperty()));
+        levelLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameManager.currentLevelProperty())));
         stageLabel.textProperty().bind(Bindings.createStringBinding(
-            () -> gameManager.currentStageProperty().get().getDisplayName(),
-            gameManager.currentStageProperty()
+            () -> gameManager.getCurrentStage().getDisplayName(),
+            FxProperties.of(gameManager.currentStageProperty())
         ));
-        targetScoreLabel.textProperty().bind(Bindings.convert(gameService.targetScoreProperty()));
+        targetScoreLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameService.targetScoreProperty())));
         
         // Bind limit labels
         handLimitLabel.textProperty().bind(Bindings.createStringBinding(
             () -> gameManager.getHandsPlayedInStage() + "/" + gameManager.getMaxHandsPerStage(),
-            gameManager.handsPlayedInStageProperty(),
-            gameManager.maxHandsPerStageProperty()
+            FxProperties.of(gameManager.handsPlayedInStageProperty()),
+            FxProperties.of(gameManager.maxHandsPerStageProperty())
         ));
         
         discardLimitLabel.textProperty().bind(Bindings.createStringBinding(
             () -> gameManager.getDiscardsUsedInStage() + "/" + gameManager.getMaxDiscardsPerStage(),
-            gameManager.discardsUsedInStageProperty(),
-            gameManager.maxDiscardsPerStageProperty()
+            FxProperties.of(gameManager.discardsUsedInStageProperty()),
+            FxProperties.of(gameManager.maxDiscardsPerStageProperty())
         ));
         
         // Set initial deck size
         deckSizeLabel.setText(String.valueOf(gameService.getRemainingCards()));
         
         // Add listener for stage changes to show notifications
-        gameManager.currentStageProperty().addListener((obs, oldStage, newStage) -> {
+        gameManager.currentStageProperty().addListener((oldStage, newStage) -> {
             if (oldStage != null && newStage != null && oldStage != newStage) {
                 // Only show notification for stage advancement
                 if (oldStage == LevelStage.SMALL_BLIND && newStage == LevelStage.BIG_BLIND) {
@@ -538,9 +665,15 @@ public class GameView extends BorderPane {
                 lastStage = newStage;
             }
         });
-        
+    }
+    
+    /**
+     * Binds the disabled state of the action buttons to the game state.
+     * Called each time the buttons panel is created.
+     */
+    private void bindButtons() {
         // Button disable properties
-        drawButton.disableProperty().bind(gameService.canDrawCardsProperty().not());
+        drawButton.disableProperty().bind(canDrawCards.not());
         
         // Disable Play button if:
         // 1. Game state is not WAITING_FOR_SELECTION, or
@@ -549,10 +682,10 @@ public class GameView extends BorderPane {
         playButton.disableProperty().bind(
             Bindings.or(
                 Bindings.or(
-                    gameService.gameStateProperty().isNotEqualTo(GameState.WAITING_FOR_SELECTION),
-                    Bindings.size(gameService.getSelectedCards()).lessThan(1)
+                    gameStateValue.isNotEqualTo(GameState.WAITING_FOR_SELECTION),
+                    selectedCardCount.lessThan(1)
                 ),
-                gameManager.handLimitReachedProperty()
+                handLimitReached
             )
         );
         
@@ -563,15 +696,14 @@ public class GameView extends BorderPane {
         discardButton.disableProperty().bind(
             Bindings.or(
                 Bindings.or(
-                    gameService.gameStateProperty().isNotEqualTo(GameState.WAITING_FOR_SELECTION),
-                    Bindings.isEmpty(gameService.getSelectedCards())
+                    gameStateValue.isNotEqualTo(GameState.WAITING_FOR_SELECTION),
+                    selectedCardCount.isEqualTo(0)
                 ),
-                gameManager.discardLimitReachedProperty()
+                discardLimitReached
             )
         );
         
-        // Next Round button is no longer needed/visible, but we'll keep the binding for compatibility
-        // We've hidden the button in the UI
+        // Next Round button is no longer needed/visible, so it is left unbound
     }
     
     /**
@@ -581,15 +713,8 @@ public class GameView extends BorderPane {
         // Get the number of cards that will be drawn
         int cardsToDraw = gameService.cardsToDrawCountProperty().get();
         
-        // Draw cards
+        // Draw cards; the model listeners mark the hand and deck size for refresh
         gameService.drawCards();
-        
-        // Update display
-        updateHandDisplay();
-        updateSelectedCardsDisplay();
-        
-        // Update deck size - subtract the number of cards drawn
-        deckSizeLabel.setText(String.valueOf(gameService.getRemainingCards()));
     }
     
     /**
@@ -636,8 +761,8 @@ public class GameView extends BorderPane {
                         });
                         waitBeforeRestart.play();
                     } else {
+                        // The game state and deck listeners mark the new round for refresh
                         gameManager.startNewRound();
-                        updateAllCardDisplays();
                     }
                 });
                 waitForNotification.play();
@@ -665,8 +790,7 @@ public class GameView extends BorderPane {
                 // Automatically draw cards to replace the ones that were played
                 gameService.drawCards();
             }
-            
-            updateAllCardDisplays();
+            // The game state, selected cards and remaining cards listeners mark the changed regions
         }
     }
     
@@ -685,9 +809,10 @@ public class GameView extends BorderPane {
         setCenter(startScreen);
         
         // Clear any existing displays
-        playerHandArea.getChildren().clear();
-        selectedCardsArea.getChildren().clear();
+        handRenderer.clear();
+        selectedCardsRenderer.clear();
         jokerArea.getChildren().clear();
+        renderedJoker = null;
     }
     
     /**
@@ -707,84 +832,73 @@ public class GameView extends BorderPane {
             return;
         }
         
+        // The selected cards listener marks the hand and selection for refresh
         gameService.discardSelectedCards();
-        updateAllCardDisplays();
     }
     
     /**
      * Handles proceeding to the next round.
      */
     private void handleNextRound() {
+        // The game state and deck listeners mark the new round for refresh
         gameManager.startNewRound();
-        updateAllCardDisplays();
     }
     
     /**
      * Updates the player's hand display.
      */
     private void updateHandDisplay() {
-        playerHandArea.getChildren().clear();
-        
-        // Get cards from the hand
+        // Get cards from the hand; existing views are kept and only their selection is updated
         List<Card> playerCards = gameService.getPlayerHand().getCards();
-        
-        // If hand is empty, just return
-        if (playerCards.isEmpty()) {
-            return;
-        }
-        
-        for (Card card : playerCards) {
-            CardView cardView = new CardView(card);
-            // Set the card as selected if it's in the selectedCards list
-            if (gameService.getSelectedCards().contains(card)) {
-                cardView.setSelected(true);
+        List<Card> selectedCards = gameService.getSelectedCards();
+        handRenderer.reconcile(playerCards, selectedCards::contains);
+    }
+    
+    /**
+     * Installs the hover and click handlers on a card view in the player's hand.
+     * Called each time a view is attached to a card.
+     * 
+     * @param cardView the card view
+     * @param card the card it displays
+     */
+    private void initializeHandCardView(CardView cardView, Card card) {
+        // Add hover effect to better indicate selectability - GREEN glow
+        cardView.setOnMouseEntered(e -> {
+            if (!gameService.getSelectedCards().contains(card)) {
+                cardView.setStyle("-fx-effect: dropshadow(gaussian, rgba(50,200,50,0.7), 10, 0, 0, 0);");
             }
-            // Add hover effect to better indicate selectability - GREEN glow
-            cardView.setOnMouseEntered(e -> {
-                if (!gameService.getSelectedCards().contains(card)) {
-                    cardView.setStyle("-fx-effect: dropshadow(gaussian, rgba(50,200,50,0.7), 10, 0, 0, 0);");
-                }
-            });
-            cardView.setOnMouseExited(e -> {
-                if (!gameService.getSelectedCards().contains(card)) {
-                    cardView.setStyle("");
-                }
-            });
-            cardView.setOnMouseClicked(e -> handleCardSelection(cardView, card));
-            playerHandArea.getChildren().add(cardView);
-        }
+        });
+        cardView.setOnMouseExited(e -> {
+            if (!gameService.getSelectedCards().contains(card)) {
+                cardView.setStyle("");
+            }
+        });
+        cardView.setOnMouseClicked(e -> handleCardSelection(cardView, card));
     }
     
     /**
      * Updates the selected cards display.
      */
     private void updateSelectedCardsDisplay() {
-        selectedCardsArea.getChildren().clear();
-        
-        // Display a message about how many cards are selected
-        List<Card> selectedCards = gameService.getSelectedCards();
-        if (selectedCards.isEmpty()) {
-            // Return early if no cards selected
-            return;
-        }
-        
-        // Display selected cards in the selected cards area
-        for (Card card : selectedCards) {
-            CardView cardView = new CardView(card);
-            cardView.setSelected(true); // Always show as selected
-            selectedCardsArea.getChildren().add(cardView);
-        }
+        // Display selected cards in the selected cards area, always shown as selected
+        selectedCardsRenderer.reconcile(gameService.getSelectedCards(), card -> true);
     }
     
     /**
      * Updates the joker display.
      */
     private void updateJokerDisplay() {
-        jokerArea.getChildren().clear();
-        
         // Get the current joker from game service
         Joker currentJoker = gameService.getCurrentJoker();
         
+        // Nothing to do if this joker is already displayed
+        if (currentJoker != null && currentJoker == renderedJoker && !jokerArea.getChildren().isEmpty()) {
+            return;
+        }
+        renderedJoker = currentJoker;
+        
+        jokerArea.getChildren().clear();
+        
         if (currentJoker != null) {
             // Create a VBox to hold joker info
             VBox jokerInfo = new VBox(5);
@@ -810,9 +924,11 @@ public class GameView extends BorderPane {
                 jokerInfo.getChildren().addAll(nameLabel, effectLabel);
             }
             
-            // Add a card visual representation
-            CardView jokerCardView = new CardView(new Card("Joker", "J", 0));
-            jokerCardView.setSelected(true);
+            // Add a card visual representation, reused across jokers
+            if (jokerCardView == null) {
+                jokerCardView = new CardView(new Card("Joker", "J", 0));
+                jokerCardView.setSelected(true);
+            }
             
             // Create an HBox to hold the card and info side by side
             HBox jokerDisplay = new HBox(10);
@@ -828,14 +944,11 @@ public class GameView extends BorderPane {
     }
     
     /**
-     * Updates all card displays.
+     * Marks all card displays for refresh on the next pulse.
+     * The selected cards are still updated internally, but not displayed.
      */
     private void updateAllCardDisplays() {
-        updateHandDisplay();
-        // Still update selected cards internally, but don't display them
-        updateSelectedCardsDisplay();
-        updateJokerDisplay();
-        updateDeckSizeDisplay();
+        renderScheduler.markAllDirty();
     }
     
     /**
@@ -858,11 +971,12 @@ public class GameView extends BorderPane {
                 // Otherwise, try to select it
                 boolean selected = gameService.selectCard(card);
                 if (selected) {
+                    // Drop the hover glow, the selection glow replaces it
+                    cardView.setStyle("");
                     cardView.setSelected(true);
                 }
             }
-            // Update displays to reflect changes
-            updateHandDisplay();
+            // The selected cards listener marks the hand and selection for refresh
         }
     }
     
@@ -878,9 +992,8 @@ public class GameView extends BorderPane {
         if (state == GameState.WAITING_FOR_SELECTION) {
             boolean deselected = gameService.deselectCard(card);
             if (deselected) {
+                // The selected cards listener marks the hand and selection for refresh
                 cardView.setSelected(false);
-                updateSelectedCardsDisplay();
-                updateHandDisplay();
             }
         }
     }
@@ -996,7 +1109,7 @@ public class GameView extends BorderPane {
         infoGrid.add(stageValueLabel, 5, 2);
         
         // Now set up binding for the stageValueLabel
-        stageValueLabel.textProperty().bind(Bindings.convert(gameManager.stageValueProperty()));
+        stageValueLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameManager.stageValueProperty())));
         
         // Update the chips display to reflect the deducted bet amount
         chipsLabel.setText(String.valueOf(gameManager.getPlayerChips()));
@@ -1017,15 +1130,8 @@ public class GameView extends BorderPane {
                 createButtonsPanel()
         );
         
-        // Create a stack pane to hold both the game content and notification overlay
-        StackPane gameContentWithOverlay = new StackPane();
-        gameContentWithOverlay.getChildren().addAll(cardAreasContainer, notificationOverlay, deckViewerOverlay);
-        
-        // Update the display
-        updateHandDisplay();
-        
-        // Update deck size label right after starting game - should be 44 (52-8)
-        deckSizeLabel.setText(String.valueOf(gameService.getRemainingCards()));
+        // Add the notification, deck viewer and diagnostics overlays
+        StackPane gameContentWithOverlay = createContentWithOverlays(cardAreasContainer);
         
         // Switch to the game view with overlay
         setCenter(gameContentWithOverlay);
@@ -1053,12 +1159,8 @@ public class GameView extends BorderPane {
                 createButtonsPanel()
         );
         
-        // Make sure the overlay is positioned in the bottom right corner
-        StackPane.setAlignment(deckViewerOverlay, Pos.BOTTOM_RIGHT);
-        
-        // Create a stack pane to hold both the game content and notification overlay
-        StackPane gameContentWithOverlay = new StackPane();
-        gameContentWithOverlay.getChildren().addAll(cardAreasContainer, notificationOverlay, deckViewerOverlay);
+        // Add the notification, deck viewer and diagnostics overlays
+        StackPane gameContentWithOverlay = createContentWithOverlays(cardAreasContainer);
         
         // Update the display
         updateAllCardDisplays();
@@ -1072,11 +1174,6 @@ public class GameView extends BorderPane {
     private void updateDeckSizeDisplay() {
         int remainingCards = gameService.getRemainingCards();
         deckSizeLabel.setText(String.valueOf(remainingCards));
-        
-        // Update the deck viewer overlay when the deck changes
-        if (deckViewerOverlay != null) {
-            deckViewerOverlay.updateCardDistribution();
-        }
     }
     
     /**
@@ -1090,16 +1187,19 @@ public class GameView extends BorderPane {
         Label label = new Label(value);
         label.getStyleClass().addAll("info-label", "deck-size");
         
-        // Add hover listeners to show/hide the deck viewer
+        // Add hover listeners to show/hide the deck viewer, once the game interface has created it
         label.setOnMouseEntered(e -> {
-            // Update the card distribution and show the overlay
-            deckViewerOverlay.updateCardDistribution();
-            deckViewerOverlay.show();
+            // Show the overlay; it keeps its card distribution up to date itself
+            if (deckViewerOverlay != null) {
+                deckViewerOverlay.show();
+            }
         });
         
         label.setOnMouseExited(e -> {
             // Hide the overlay when mouse leaves
-            deckViewerOverlay.hide();
+            if (deckViewerOverlay != null) {
+                deckViewerOverlay.hide();
+            }
         });
         
         return label;
@@ -1124,7 +1224,7 @@ public class GameView extends BorderPane {
         
         // Add deck size text
         Label deckCountLabel = new Label();
-        deckCountLabel.textProperty().bind(Bindings.convert(gameService.remainingCardsProperty()));
+        deckCountLabel.textProperty().bind(Bindings.convert(FxProperties.of(gameService.remainingCardsProperty())));
         deckCountLabel.getStyleClass().add("deck-count-label");
         deckCountLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: white;");
         
@@ -1142,12 +1242,16 @@ public class GameView extends BorderPane {
         
         // Add hover effect to show deck viewer
         deckArea.setOnMouseEntered(e -> {
-            deckViewerOverlay.updateCardDistribution();
-            deckViewerOverlay.show();
+            // The overlay is created with the game interface, so it may not exist yet
+            if (deckViewerOverlay != null) {
+                deckViewerOverlay.show();
+            }
         });
         
         deckArea.setOnMouseExited(e -> {
-            deckViewerOverlay.hide();
+            if (deckViewerOverlay != null) {
+                deckViewerOverlay.hide();
+            }
         });
         
         return deckArea;
@@ -0,0 +1,152 @@
+package com.balatro.view;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Coalesces UI refreshes of the game view.
+ * Handlers and model listeners mark regions dirty instead of rebuilding them directly;
+ * all dirty regions are then rendered once, at the start of the next JavaFX pulse,
+ * however many times they were marked in between.
+ */
+public class RenderScheduler {
+
+    /**
+     * The independently refreshed regions of the game view, in render order.
+     */
+    public enum Region {
+        HAND,
+        SELECTED,
+        JOKER,
+        DECK
+    }
+
+    private final Map<Region, Runnable> renderers = new EnumMap<>(Region.class);
+    private final EnumSet<Region> dirty = EnumSet.noneOf(Region.class);
+    private final Runnable requestFlush;
+    private boolean flushRequested;
+
+    private long flushCount;
+    private long renderCount;
+    private long refreshesAvoided;
+
+    /**
+     * Creates a scheduler that flushes on the next JavaFX pulse.
+     */
+    public RenderScheduler() {
+        AnimationTimer pulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                flush();
+            }
+        };
+        this.requestFlush = pulse::start;
+    }
+
+    /**
+     * Creates a scheduler with a custom flush trigger.
+     * The trigger is called once whenever a flush becomes necessary and must
+     * eventually cause {@link #flush()} to be called.
+     *
+     * @param requestFlush the flush trigger
+     */
+    RenderScheduler(Runnable requestFlush) {
+        this.requestFlush = requestFlush;
+    }
+
+    /**
+     * Sets the renderer of a region.
+     *
+     * @param region the region
+     * @param renderer rebuilds the region from the model
+     */
+    public void setRenderer(Region region, Runnable renderer) {
+        renderers.put(region, renderer);
+    }
+
+    /**
+     * Marks regions as needing a refresh on the next flush.
+     *
+     * @param regions the regions to refresh
+     */
+    public void markDirty(Region... regions) {
+        for (Region region : regions) {
+            if (!dirty.add(region)) {
+                refreshesAvoided++;
+            }
+        }
+        if (!dirty.isEmpty() && !flushRequested) {
+            flushRequested = true;
+            requestFlush.run();
+        }
+    }
+
+    /**
+     * Marks every region as needing a refresh on the next flush.
+     */
+    public void markAllDirty() {
+        markDirty(Region.values());
+    }
+
+    /**
+     * Renders all dirty regions once.
+     * Regions marked dirty by a renderer during the flush are rendered on the following flush.
+     */
+    public void flush() {
+        flushRequested = false;
+        if (dirty.isEmpty()) {
+            return;
+        }
+        EnumSet<Region> toRender = EnumSet.copyOf(dirty);
+        dirty.clear();
+        flushCount++;
+        for (Region region : toRender) {
+            Runnable renderer = renderers.get(region);
+            if (renderer != null) {
+                renderer.run();
+                renderCount++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a region is waiting to be refreshed.
+     *
+     * @param region the region
+     * @return true if the region is dirty
+     */
+    public boolean isDirty(Region region) {
+        return dirty.contains(region);
+    }
+
+    /**
+     * Gets the number of flushes that rendered at least one region.
+     *
+     * @return the flush count
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Gets the number of region renders performed.
+     *
+     * @return the render count
+     */
+    public long getRenderCount() {
+        return renderCount;
+    }
+
+    /**
+     * Gets the number of refresh requests that were merged into an already pending refresh.
+     *
+     * @return the number of redundant refreshes avoided
+     */
+    public long getRefreshesAvoided() {
+        return refreshesAvoided;
+    }
+}
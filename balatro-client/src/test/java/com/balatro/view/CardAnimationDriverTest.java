@@ -0,0 +1,165 @@
+package com.balatro.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.view.CardAnimationDriver.Animated;
+import com.balatro.view.CardAnimationDriver.Pose;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Test class for CardAnimationDriver.
+ * The driver is created with a counting timer and ticked by hand on plain animated poses,
+ * so no JavaFX toolkit is needed.
+ */
+class CardAnimationDriverTest {
+
+    private static final long MILLI = 1_000_000L;
+    private static final Pose REST = new Pose(1.0, 0, 10, Color.BLACK);
+    private static final Pose HOVER = new Pose(1.2, -20, 20, Color.WHITE);
+
+    private CardAnimationDriver driver;
+    private int timerStarts;
+    private int timerStops;
+
+    /**
+     * Sets up a driver whose timer only counts how often it is started and stopped.
+     */
+    @BeforeEach
+    void setUp() {
+        timerStarts = 0;
+        timerStops = 0;
+        driver = new CardAnimationDriver(() -> timerStarts++, () -> timerStops++);
+    }
+
+    /**
+     * Tests that a tween starts on the first frame after it is requested and then interpolates.
+     */
+    @Test
+    void testTweenStartsOnFirstFrame() {
+        PoseRecorder card = new PoseRecorder(REST);
+        driver.animate(card, HOVER, 100);
+
+        assertEquals(1, timerStarts, "Animating should start the timer");
+        assertEquals(1, driver.getActiveCount(), "The card should be animating");
+        assertEquals(0, card.applied.size(), "No pose should be applied before the first frame");
+
+        driver.tick(5000 * MILLI);
+        assertEquals(1.0, card.pose.getScale(), 1e-9, "The first frame should start from the current pose");
+        driver.tick(5050 * MILLI);
+        assertEquals(1.1, card.pose.getScale(), 1e-9, "Half way, the scale should be half way");
+        assertEquals(-10, card.pose.getTranslateY(), 1e-9, "Half way, the offset should be half way");
+        assertEquals(15, card.pose.getShadowRadius(), 1e-9, "Half way, the shadow should be half way");
+    }
+
+    /**
+     * Tests that a new target mid-animation continues from the current pose without restarting the timer.
+     */
+    @Test
+    void testRetargetMidAnimation() {
+        PoseRecorder card = new PoseRecorder(REST);
+        driver.animate(card, HOVER, 100);
+        driver.tick(0);
+        driver.tick(50 * MILLI);
+
+        driver.animate(card, REST, 100);
+
+        assertEquals(1, timerStarts, "A running timer should not be started again");
+        assertEquals(1, driver.getActiveCount(), "The new tween should replace the old one");
+        driver.tick(60 * MILLI);
+        assertEquals(1.1, card.pose.getScale(), 1e-9, "The new tween should start where the old one was");
+        driver.tick(110 * MILLI);
+        assertEquals(1.05, card.pose.getScale(), 1e-9, "The new tween should head for its own target");
+        driver.tick(160 * MILLI);
+        assertSame(REST, card.pose, "The new target should be reached exactly");
+    }
+
+    /**
+     * Tests that a finished tween applies its target, is removed and stops the timer.
+     */
+    @Test
+    void testRemovedWhenDone() {
+        PoseRecorder card = new PoseRecorder(REST);
+        driver.animate(card, HOVER, 100);
+        driver.tick(0);
+        driver.tick(250 * MILLI);
+
+        assertSame(HOVER, card.pose, "A late frame should land exactly on the target");
+        assertEquals(0, driver.getActiveCount(), "A finished card should be removed");
+        assertEquals(1, timerStops, "The timer should stop once nothing animates");
+
+        int applied = card.applied.size();
+        driver.tick(300 * MILLI);
+        assertEquals(applied, card.applied.size(), "A finished card should not be posed again");
+    }
+
+    /**
+     * Tests that the timer keeps running until the last of several cards finishes.
+     */
+    @Test
+    void testTimerRunsUntilLastCardFinishes() {
+        PoseRecorder quick = new PoseRecorder(REST);
+        PoseRecorder slow = new PoseRecorder(REST);
+        driver.animate(quick, HOVER, 50);
+        driver.animate(slow, HOVER, 200);
+        driver.tick(0);
+
+        driver.tick(100 * MILLI);
+        assertEquals(1, driver.getActiveCount(), "Only the slow card should still animate");
+        assertEquals(0, timerStops, "The timer should keep running for the slow card");
+        driver.tick(200 * MILLI);
+        assertEquals(0, driver.getActiveCount(), "Both cards should be done");
+        assertEquals(1, timerStops, "The timer should stop once");
+        assertEquals(1, timerStarts, "The timer should have been started once");
+    }
+
+    /**
+     * Tests that cancelling leaves the card where it is and that a zero duration jumps to the target.
+     */
+    @Test
+    void testCancelAndZeroDuration() {
+        PoseRecorder card = new PoseRecorder(REST);
+        driver.animate(card, HOVER, 100);
+        driver.tick(0);
+        driver.tick(50 * MILLI);
+
+        driver.cancel(card);
+        assertEquals(1.1, card.pose.getScale(), 1e-9, "Cancelling should leave the current pose");
+        assertEquals(0, driver.getActiveCount(), "A cancelled card should not animate");
+        assertEquals(1, timerStops, "Cancelling the last card should stop the timer");
+
+        driver.animate(card, REST, 0);
+        assertEquals(2, timerStarts, "A new animation should start the timer again");
+        driver.tick(60 * MILLI);
+        assertSame(REST, card.pose, "A zero duration should apply the target on the first frame");
+        assertEquals(2, timerStops, "The timer should stop again");
+    }
+
+    /**
+     * An animated object that remembers the poses applied to it.
+     */
+    private static final class PoseRecorder implements Animated {
+        private final List<Pose> applied = new ArrayList<>();
+        private Pose pose;
+
+        PoseRecorder(Pose pose) {
+            this.pose = pose;
+        }
+
+        @Override
+        public Pose getPose() {
+            return pose;
+        }
+
+        @Override
+        public void applyPose(Pose pose) {
+            this.pose = pose;
+            applied.add(pose);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.balatro.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.Deck;
+
+/**
+ * Test class for CardFaceAtlas.
+ * Only the atlas layout is tested here; rendering the atlas requires the JavaFX toolkit.
+ */
+class CardFaceAtlasTest {
+
+    /**
+     * Tests that every card of a standard deck gets its own atlas cell.
+     */
+    @Test
+    void testCellIndexIsUniquePerCard() {
+        Set<Integer> cells = new HashSet<>();
+        for (Card card : new Deck().getCards()) {
+            int cell = CardFaceAtlas.cellIndex(card);
+            assertTrue(cell >= 0 && cell < CardFaceAtlas.JOKER_CELL, "Standard cards should use the first 52 cells");
+            cells.add(cell);
+        }
+        assertEquals(52, cells.size(), "Each of the 52 cards should have a distinct cell");
+    }
+
+    /**
+     * Tests that the joker card uses the joker cell.
+     */
+    @Test
+    void testJokerCell() {
+        assertEquals(CardFaceAtlas.JOKER_CELL, CardFaceAtlas.cellIndex(new Card("Joker", "J", 0)),
+                "The joker should use the joker cell");
+    }
+}
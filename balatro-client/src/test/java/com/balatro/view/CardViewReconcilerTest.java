@@ -0,0 +1,148 @@
+package com.balatro.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+/**
+ * Test class for CardViewReconciler.
+ * The reconciler is given plain panes as views and a recording pool, so no JavaFX toolkit is needed.
+ */
+class CardViewReconcilerTest {
+
+    private Pane container;
+    private List<Pane> acquired;
+    private List<Pane> released;
+    private Map<Pane, Boolean> selected;
+    private int childChanges;
+    private CardViewReconciler<Pane> reconciler;
+    private Card ace;
+    private Card king;
+    private Card queen;
+
+    /**
+     * Sets up a reconciler whose pool creates a new pane for every card and records what it hands out
+     * and takes back.
+     */
+    @BeforeEach
+    void setUp() {
+        container = new Pane();
+        acquired = new ArrayList<>();
+        released = new ArrayList<>();
+        selected = new IdentityHashMap<>();
+        childChanges = 0;
+        container.getChildren().addListener((ListChangeListener<Node>) change -> childChanges++);
+        CardViewReconciler.ViewPool<Pane> pool = new CardViewReconciler.ViewPool<>() {
+            @Override
+            public Pane acquire(Card card) {
+                Pane view = new Pane();
+                acquired.add(view);
+                return view;
+            }
+
+            @Override
+            public void release(Pane view) {
+                assertFalse(container.getChildren().contains(view), "A released view should be detached");
+                released.add(view);
+            }
+        };
+        reconciler = new CardViewReconciler<>(container, pool, selected::put, (view, card) -> { });
+        ace = new Card("Spades", "A", 11);
+        king = new Card("Hearts", "K", 10);
+        queen = new Card("Clubs", "Q", 10);
+    }
+
+    /**
+     * Tests that cards staying on screen keep their views while only new cards take views from the pool.
+     */
+    @Test
+    void testKeepsViewsForCardsThatStay() {
+        reconciler.reconcile(List.of(ace, king), card -> false);
+        Pane aceView = reconciler.getView(ace);
+        Pane kingView = reconciler.getView(king);
+
+        reconciler.reconcile(List.of(ace, king, queen), card -> false);
+
+        assertSame(aceView, reconciler.getView(ace), "The ace should keep its view");
+        assertSame(kingView, reconciler.getView(king), "The king should keep its view");
+        assertEquals(3, acquired.size(), "Only the queen should take a new view");
+        assertEquals(List.of(aceView, kingView, reconciler.getView(queen)), container.getChildren(),
+                "Views should be shown in card order");
+    }
+
+    /**
+     * Tests that views of cards that leave are removed and given back to the pool.
+     */
+    @Test
+    void testReleasesViewsForCardsThatLeave() {
+        reconciler.reconcile(List.of(ace, king, queen), card -> false);
+        Pane kingView = reconciler.getView(king);
+
+        reconciler.reconcile(List.of(ace, queen), card -> false);
+
+        assertEquals(List.of(kingView), released, "Only the king's view should be released");
+        assertEquals(2, container.getChildren().size(), "Two views should remain");
+        assertNull(reconciler.getView(king), "The king should no longer have a view");
+    }
+
+    /**
+     * Tests that a card that comes back after leaving gets a view from the pool again.
+     */
+    @Test
+    void testAcquiresViewsForNewCards() {
+        reconciler.reconcile(List.of(ace), card -> false);
+        Pane first = reconciler.getView(ace);
+        reconciler.reconcile(List.of(), card -> false);
+        reconciler.reconcile(List.of(ace), card -> true);
+
+        assertEquals(2, acquired.size(), "The returning ace should acquire a view");
+        assertNotSame(first, reconciler.getView(ace), "The test pool hands out a new view");
+        assertEquals(Boolean.TRUE, selected.get(reconciler.getView(ace)), "The new view should be selected");
+    }
+
+    /**
+     * Tests that the child list is left alone when neither the cards nor their order changed,
+     * while a change of selection still reaches the views.
+     */
+    @Test
+    void testSkipsSetAllWhenUnchanged() {
+        reconciler.reconcile(List.of(ace, king), card -> false);
+        int changes = childChanges;
+
+        reconciler.reconcile(List.of(ace, king), card -> card == king);
+
+        assertEquals(changes, childChanges, "Unchanged cards should not touch the child list");
+        assertEquals(Boolean.TRUE, selected.get(reconciler.getView(king)), "The king should be selected");
+        assertEquals(Boolean.FALSE, selected.get(reconciler.getView(ace)), "The ace should stay unselected");
+
+        reconciler.reconcile(List.of(king, ace), card -> false);
+        assertEquals(changes + 1, childChanges, "A new order should replace the children once");
+    }
+
+    /**
+     * Tests that clearing detaches every view before returning it to the pool.
+     */
+    @Test
+    void testClearReleasesDetachedViews() {
+        reconciler.reconcile(List.of(ace, king), card -> false);
+        reconciler.clear();
+
+        assertEquals(2, released.size(), "Both views should be released");
+        assertTrue(container.getChildren().isEmpty(), "The container should be empty");
+    }
+}
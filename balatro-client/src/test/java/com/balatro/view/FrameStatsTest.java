@@ -0,0 +1,96 @@
+package com.balatro.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for FrameStats.
+ * FrameStats has no JavaFX dependencies, so these tests run without a toolkit.
+ */
+class FrameStatsTest {
+
+    private FrameStats stats;
+
+    /**
+     * Sets up the test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        stats = new FrameStats();
+    }
+
+    /**
+     * Tests that a steady 60 Hz frame stream is reported as 60 FPS.
+     */
+    @Test
+    void testFpsFromSteadyFrames() {
+        long frame = 16_666_667L;
+        for (int i = 0; i <= 60; i++) {
+            stats.recordFrame(i * frame);
+        }
+
+        assertEquals(60.0, stats.getFps(), 0.1, "Steady 16.7ms frames should be 60 FPS");
+        assertEquals(16.67, stats.getAverageFrameMillis(), 0.01, "Average frame time should be 16.67ms");
+    }
+
+    /**
+     * Tests that a single frame does not produce an FPS value.
+     */
+    @Test
+    void testSingleFrameHasNoFps() {
+        stats.recordFrame(1_000_000L);
+        assertEquals(0.0, stats.getFps(), "One frame is not enough to compute FPS");
+    }
+
+    /**
+     * Tests that pulses are placed in the expected histogram buckets.
+     */
+    @Test
+    void testPulseHistogramBuckets() {
+        stats.recordPulse(500_000L);      // 0.5ms -> <1ms
+        stats.recordPulse(3_000_000L);    // 3ms -> <4ms
+        stats.recordPulse(100_000_000L);  // 100ms -> >=66ms
+
+        long[] histogram = stats.getPulseHistogram();
+        assertEquals(FrameStats.getBucketCount(), histogram.length, "Histogram should have one entry per bucket");
+        assertEquals(1, histogram[0], "0.5ms pulse should be in the first bucket");
+        assertEquals(1, histogram[2], "3ms pulse should be in the <4ms bucket");
+        assertEquals(1, histogram[histogram.length - 1], "100ms pulse should be in the last bucket");
+        assertEquals(3, stats.getPulseCount(), "Three pulses should be counted");
+        assertEquals(100.0, stats.getMaxPulseMillis(), 0.001, "Max pulse should be 100ms");
+    }
+
+    /**
+     * Tests that reset clears all samples.
+     */
+    @Test
+    void testReset() {
+        stats.recordFrame(0);
+        stats.recordFrame(20_000_000L);
+        stats.recordPulse(5_000_000L);
+
+        stats.reset();
+
+        assertEquals(0.0, stats.getFps(), "FPS should be cleared");
+        assertEquals(0, stats.getPulseCount(), "Pulse count should be cleared");
+        assertEquals(0.0, stats.getWorstFrameMillis(), "Worst frame should be cleared");
+    }
+
+    /**
+     * Tests that the JSON output contains the expected members.
+     */
+    @Test
+    void testAppendJson() {
+        stats.recordPulse(2_500_000L);
+        StringBuilder json = new StringBuilder("{");
+        stats.appendJson(json);
+        json.append('}');
+
+        String text = json.toString();
+        assertTrue(text.contains("\"pulseCount\":1"), "JSON should contain the pulse count");
+        assertTrue(text.contains("\"<4ms\":1"), "JSON should contain the histogram bucket");
+        assertTrue(text.contains("\"fps\":0.00"), "JSON should format numbers with a dot");
+    }
+}
@@ -8,12 +8,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.balatro.model.Card;
+import com.balatro.model.CardList;
+import com.balatro.observable.ObservableList;
 import com.balatro.service.GameService;
 import com.balatro.service.GameStateManager;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-
 /**
  * Test class for the GameView.
  * Tests the game UI components and their interactions.
@@ -66,7 +65,7 @@ class GameViewTest {
         // Set up mockGameService behavior
         when(mockGameService.getScore()).thenReturn(0);
         when(mockGameService.getPlayerHand()).thenReturn(new com.balatro.model.Hand());
-        ObservableList<Card> emptyCards = FXCollections.observableArrayList();
+        ObservableList<Card> emptyCards = new ObservableList<>(new CardList());
         when(mockGameService.getSelectedCards()).thenReturn(emptyCards);
         when(mockGameService.getRemainingCards()).thenReturn(44);
         
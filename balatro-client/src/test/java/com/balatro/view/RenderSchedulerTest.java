@@ -0,0 +1,84 @@
+package com.balatro.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.view.RenderScheduler.Region;
+
+/**
+ * Test class for RenderScheduler.
+ * The scheduler is created with a counting flush trigger, so no JavaFX pulse is needed.
+ */
+class RenderSchedulerTest {
+
+    private RenderScheduler scheduler;
+    private List<Region> rendered;
+    private int flushRequests;
+
+    /**
+     * Sets up a scheduler that records every region it renders.
+     */
+    @BeforeEach
+    void setUp() {
+        rendered = new ArrayList<>();
+        flushRequests = 0;
+        scheduler = new RenderScheduler(() -> flushRequests++);
+        for (Region region : Region.values()) {
+            scheduler.setRenderer(region, () -> rendered.add(region));
+        }
+    }
+
+    /**
+     * Tests that a region marked several times before a flush is rendered once.
+     */
+    @Test
+    void testRepeatedMarksAreCoalesced() {
+        scheduler.markDirty(Region.HAND, Region.SELECTED);
+        scheduler.markDirty(Region.HAND);
+        scheduler.markAllDirty();
+
+        assertEquals(1, flushRequests, "Only one flush should be requested per pulse");
+        scheduler.flush();
+
+        assertEquals(List.of(Region.HAND, Region.SELECTED, Region.JOKER, Region.DECK), rendered,
+                "Each region should be rendered once, in order");
+        assertEquals(3, scheduler.getRefreshesAvoided(), "Three marks were merged into pending refreshes");
+        assertEquals(1, scheduler.getFlushCount(), "One flush should have rendered");
+    }
+
+    /**
+     * Tests that a new flush is requested after the previous one has run.
+     */
+    @Test
+    void testFlushRequestedAgainAfterFlush() {
+        scheduler.markDirty(Region.DECK);
+        scheduler.flush();
+        assertFalse(scheduler.isDirty(Region.DECK), "Flushed regions should be clean");
+
+        scheduler.markDirty(Region.DECK);
+        assertTrue(scheduler.isDirty(Region.DECK), "Region should be dirty again");
+        assertEquals(2, flushRequests, "A second flush should be requested");
+    }
+
+    /**
+     * Tests that a region marked during a flush is rendered on the next flush.
+     */
+    @Test
+    void testMarkDuringFlushDefersToNextFlush() {
+        scheduler.setRenderer(Region.HAND, () -> {
+            rendered.add(Region.HAND);
+            scheduler.markDirty(Region.JOKER);
+        });
+        scheduler.markDirty(Region.HAND);
+        scheduler.flush();
+        assertEquals(List.of(Region.HAND), rendered, "Only the hand should render in the first flush");
+
+        scheduler.flush();
+        assertEquals(List.of(Region.HAND, Region.JOKER), rendered, "The joker should render in the next flush");
+    }
+}
@@ -0,0 +1,44 @@
+package com.balatro.batch;
+
+/**
+ * Evaluates the hand type and score of every hand in a HandBatch.
+ * Use {@link #create()} to get the vector implementation when the balatro-vector module is on the
+ * classpath and the JVM provides the incubating Vector API ({@code --add-modules jdk.incubator.vector}),
+ * and the scalar one otherwise.
+ */
+public interface BatchEvaluator {
+
+    /**
+     * Evaluates every hand in the batch, storing the results in the batch.
+     *
+     * @param batch the hands to evaluate
+     */
+    void evaluate(HandBatch batch);
+
+    /**
+     * Gets a short name for reports and benchmarks.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Creates the fastest evaluator this JVM supports.
+     *
+     * @return the vector evaluator if balatro-vector and jdk.incubator.vector are available, otherwise the scalar
+     *         evaluator
+     */
+    static BatchEvaluator create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded by name: the class is in balatro-vector and only links when the Vector API is present
+                return (BatchEvaluator) Class.forName("com.balatro.batch.VectorBatchEvaluator")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return new ScalarBatchEvaluator();
+            }
+        }
+        return new ScalarBatchEvaluator();
+    }
+}
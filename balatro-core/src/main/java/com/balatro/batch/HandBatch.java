@@ -0,0 +1,158 @@
+package com.balatro.batch;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.model.HandType;
+
+/**
+ * Holds many hands as a struct of arrays, for evaluation by a BatchEvaluator.
+ * Cards are stored as CardMask indexes, slot-major: the card in slot s of hand h is at {@code s * capacity + h},
+ * so one slot of consecutive hands is a contiguous run that can be loaded as a vector.
+ * Each hand has up to 8 slots; unused slots hold NO_CARD. Cards in a hand should be distinct.
+ */
+public final class HandBatch {
+    /** Number of card slots per hand. */
+    public static final int SLOTS = Hand.getMaxCards();
+    /** Marks an unused slot. */
+    public static final int NO_CARD = -1;
+
+    private final int capacity;
+    private final int[] cards;
+    private final int[] handTypes;
+    private final int[] scores;
+    private int size;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity the maximum number of hands
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public HandBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.cards = new int[SLOTS * capacity];
+        this.handTypes = new int[capacity];
+        this.scores = new int[capacity];
+        Arrays.fill(cards, NO_CARD);
+    }
+
+    /**
+     * Adds a hand given as cards.
+     *
+     * @param hand the cards, at most 8 standard cards
+     * @return the position of the hand in the batch
+     * @throws IllegalArgumentException if the hand has more than 8 cards or contains a joker
+     * @throws IllegalStateException if the batch is full
+     */
+    public int add(List<Card> hand) {
+        if (hand.size() > SLOTS) {
+            throw new IllegalArgumentException("A hand has at most " + SLOTS + " cards");
+        }
+        int position = nextPosition();
+        for (int slot = 0; slot < hand.size(); slot++) {
+            cards[slot * capacity + position] = CardMask.indexOf(hand.get(slot));
+        }
+        return position;
+    }
+
+    /**
+     * Adds a hand given as a CardMask mask.
+     *
+     * @param mask the cards, at most 8
+     * @return the position of the hand in the batch
+     * @throws IllegalArgumentException if the mask has more than 8 cards
+     * @throws IllegalStateException if the batch is full
+     */
+    public int add(long mask) {
+        if (Long.bitCount(mask) > SLOTS) {
+            throw new IllegalArgumentException("A hand has at most " + SLOTS + " cards");
+        }
+        int position = nextPosition();
+        int slot = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            cards[slot++ * capacity + position] = Long.numberOfTrailingZeros(rest);
+        }
+        return position;
+    }
+
+    /**
+     * Removes every hand, keeping the arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(cards, NO_CARD);
+        Arrays.fill(handTypes, 0, size, 0);
+        Arrays.fill(scores, 0, size, 0);
+        size = 0;
+    }
+
+    /**
+     * Gets the number of hands in the batch.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of hands.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the hand type of an evaluated hand.
+     *
+     * @param hand the position of the hand
+     * @return the hand type
+     */
+    public HandType getHandType(int hand) {
+        return HandType.values()[handTypes[checkHand(hand)]];
+    }
+
+    /**
+     * Gets the score of an evaluated hand, before joker effects.
+     *
+     * @param hand the position of the hand
+     * @return the score, as CardMask.score would give
+     */
+    public int getScore(int hand) {
+        return scores[checkHand(hand)];
+    }
+
+    int[] cards() {
+        return cards;
+    }
+
+    int[] handTypes() {
+        return handTypes;
+    }
+
+    int[] scores() {
+        return scores;
+    }
+
+    private int nextPosition() {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full");
+        }
+        return size++;
+    }
+
+    private int checkHand(int hand) {
+        if (hand < 0 || hand >= size) {
+            throw new IndexOutOfBoundsException("Hand: " + hand + ", Size: " + size);
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,110 @@
+package com.balatro.batch;
+
+import com.balatro.model.HandType;
+
+/**
+ * Evaluates a batch one hand at a time, without the Vector API.
+ * Uses the same formulation as VectorBatchEvaluator, which also calls it for the hands
+ * that do not fill a whole vector.
+ *
+ * Each card sets its rank bit in "at least n of this rank" planes, so pairs, trips and quads fall out
+ * of bitwise operations instead of a histogram. Ranks are placed in straight order (2 is bit 1, K is
+ * bit 12 and the ace is bit 13, high only as in Hand), so a straight is a contiguous run of bits.
+ */
+public final class ScalarBatchEvaluator implements BatchEvaluator {
+    static final int RANKS = 13;
+    static final int ACE_BIT = 13;
+    static final int ACE_VALUE = 11;
+    static final int FACE_VALUE = 10;
+    static final int[] BASE_SCORES = new int[HandType.values().length];
+    static final int[] MULTIPLIERS = new int[HandType.values().length];
+
+    static {
+        for (HandType handType : HandType.values()) {
+            BASE_SCORES[handType.ordinal()] = handType.getBaseScore();
+            MULTIPLIERS[handType.ordinal()] = handType.getMultiplier();
+        }
+    }
+
+    @Override
+    public void evaluate(HandBatch batch) {
+        evaluateRange(batch, 0, batch.size());
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    /**
+     * Evaluates the hands from one position up to, but not including, another.
+     *
+     * @param batch the hands
+     * @param from the first hand
+     * @param to the end of the range
+     */
+    static void evaluateRange(HandBatch batch, int from, int to) {
+        int[] cards = batch.cards();
+        int[] handTypes = batch.handTypes();
+        int[] scores = batch.scores();
+        int capacity = batch.capacity();
+        for (int hand = from; hand < to; hand++) {
+            int atLeast1 = 0;
+            int atLeast2 = 0;
+            int atLeast3 = 0;
+            int atLeast4 = 0;
+            int suits = 0;
+            int count = 0;
+            int values = 0;
+            for (int slot = 0; slot < HandBatch.SLOTS; slot++) {
+                int card = cards[slot * capacity + hand];
+                if (card < 0) {
+                    continue;
+                }
+                int suit = card / RANKS;
+                int rank = card - suit * RANKS;
+                int bit = 1 << (rank == 0 ? ACE_BIT : rank);
+                atLeast4 |= atLeast3 & bit;
+                atLeast3 |= atLeast2 & bit;
+                atLeast2 |= atLeast1 & bit;
+                atLeast1 |= bit;
+                suits |= 1 << suit;
+                count++;
+                values += rank == 0 ? ACE_VALUE : Math.min(rank + 1, FACE_VALUE);
+            }
+            int handType = classify(atLeast1, atLeast2, atLeast3, atLeast4, suits, count);
+            handTypes[hand] = handType;
+            scores[hand] = count == 0 ? 0 : (BASE_SCORES[handType] + values) * MULTIPLIERS[handType];
+        }
+    }
+
+    /**
+     * Picks the hand type from the rank planes, with the same precedence as Hand.
+     *
+     * @return the HandType ordinal
+     */
+    private static int classify(int atLeast1, int atLeast2, int atLeast3, int atLeast4, int suits, int count) {
+        int pairs = atLeast2 & ~atLeast3;
+        int trips = atLeast3 & ~atLeast4;
+        boolean flush = count >= 5 && (suits & (suits - 1)) == 0;
+        boolean straight = count >= 5 && atLeast2 == 0 && ((atLeast1 + (atLeast1 & -atLeast1)) & atLeast1) == 0;
+        if (flush && straight) {
+            return HandType.STRAIGHT_FLUSH.ordinal();
+        } else if (atLeast4 != 0) {
+            return HandType.FOUR_OF_A_KIND.ordinal();
+        } else if (count >= 5 && trips != 0 && pairs != 0) {
+            return HandType.FULL_HOUSE.ordinal();
+        } else if (flush) {
+            return HandType.FLUSH.ordinal();
+        } else if (straight) {
+            return HandType.STRAIGHT.ordinal();
+        } else if (trips != 0) {
+            return HandType.THREE_OF_A_KIND.ordinal();
+        } else if ((pairs & (pairs - 1)) != 0) {
+            return HandType.TWO_PAIR.ordinal();
+        } else if (pairs != 0) {
+            return HandType.PAIR.ordinal();
+        }
+        return HandType.HIGH_CARD.ordinal();
+    }
+}
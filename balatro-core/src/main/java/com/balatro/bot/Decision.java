@@ -0,0 +1,100 @@
+package com.balatro.bot;
+
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+
+/**
+ * A move chosen by a policy: the cards to play or to discard, as a CardMask.
+ */
+public final class Decision {
+
+    /**
+     * Whether the cards are played or discarded.
+     */
+    public enum Type {
+        PLAY,
+        DISCARD
+    }
+
+    private final Type type;
+    private final long cards;
+
+    private Decision(Type type, long cards) {
+        if (cards == 0) {
+            throw new IllegalArgumentException("A decision needs at least one card");
+        }
+        this.type = type;
+        this.cards = cards;
+    }
+
+    /**
+     * Creates a decision to play cards.
+     *
+     * @param cards the cards, as a CardMask
+     * @return the decision
+     */
+    public static Decision play(long cards) {
+        return new Decision(Type.PLAY, cards);
+    }
+
+    /**
+     * Creates a decision to discard cards.
+     *
+     * @param cards the cards, as a CardMask
+     * @return the decision
+     */
+    public static Decision discard(long cards) {
+        return new Decision(Type.DISCARD, cards);
+    }
+
+    /**
+     * Gets whether the cards are played or discarded.
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the cards.
+     *
+     * @return the cards, as a CardMask
+     */
+    public long getCards() {
+        return cards;
+    }
+
+    /**
+     * Lists the cards, ordered by suit and rank.
+     *
+     * @return the cards
+     */
+    public List<Card> getCardList() {
+        return CardMask.cardsOf(cards);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Decision)) {
+            return false;
+        }
+        Decision other = (Decision) o;
+        return type == other.type && cards == other.cards;
+    }
+
+    @Override
+    public int hashCode() {
+        return type.hashCode() * 31 + Long.hashCode(cards);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + getCardList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.balatro.bot;
+
+import java.util.SplittableRandom;
+
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+
+/**
+ * Discards when the greedy policy would, but picks the discard with the highest expected value, and plays
+ * the best set of cards instead if no discard is expected to beat it.
+ *
+ * The candidates are the lowest value cards outside the best set, one to five of them. Each is scored by
+ * drawing its replacements from the deck a number of times and averaging the best play of the new hand.
+ * Discarding only when behind matters: every discard burns cards, and a stage that runs out of cards is lost.
+ */
+public final class ExpectedValuePolicy implements Policy {
+    /** The number of sampled draws per candidate discard, unless set otherwise. */
+    public static final int DEFAULT_SAMPLES = 32;
+
+    private final int samples;
+
+    /**
+     * Creates a policy with the default number of samples.
+     */
+    public ExpectedValuePolicy() {
+        this(DEFAULT_SAMPLES);
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param samples the number of sampled draws per candidate discard
+     */
+    public ExpectedValuePolicy(int samples) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Samples must be positive");
+        }
+        this.samples = samples;
+    }
+
+    @Override
+    public Decision decide(TurnView view) {
+        long hand = view.getHand();
+        Joker joker = view.getJoker();
+        long best = Plays.bestPlay(hand, joker);
+        int now = Plays.score(best, joker);
+        if ((long) now * view.getHandsLeft() >= view.getNeeded() || !view.canDiscard()) {
+            return Decision.play(best);
+        }
+
+        SplittableRandom random = new SplittableRandom(Plays.seedOf(view));
+        long rest = hand & ~best;
+        int maxCount = Math.min(Math.min(Hand.getMaxCardsToDiscard(), Long.bitCount(rest)), view.getDeckSize());
+        double bestValue = now;
+        long bestDiscard = 0;
+        for (int count = Hand.getMinCardsToDiscard(); count <= maxCount; count++) {
+            long discard = Plays.lowest(rest, count);
+            long kept = hand & ~discard;
+            long total = 0;
+            for (int sample = 0; sample < samples; sample++) {
+                long next = kept | Plays.draw(view.getDeck(), count, random);
+                total += Plays.score(Plays.bestPlay(next, joker), joker);
+            }
+            double value = (double) total / samples;
+            if (value > bestValue) {
+                bestValue = value;
+                bestDiscard = discard;
+            }
+        }
+        return bestDiscard != 0 ? Decision.discard(bestDiscard) : Decision.play(best);
+    }
+
+    @Override
+    public String getName() {
+        return "expected-value";
+    }
+}
@@ -0,0 +1,37 @@
+package com.balatro.bot;
+
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+
+/**
+ * Plays the highest scoring set of cards in the hand, counting the joker.
+ * When that score would not reach the target in the hands left, it discards the lowest value cards
+ * outside the best set instead, as long as discards and cards in the deck remain.
+ */
+public final class GreedyPolicy implements Policy {
+
+    @Override
+    public Decision decide(TurnView view) {
+        return choose(view.getHand(), view.getJoker(), view.getNeeded(), view.getHandsLeft(), view.canDiscard(),
+                view.getDeckSize());
+    }
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    /**
+     * Makes the greedy choice for a turn; also used by LookaheadPolicy to play out sampled turns.
+     */
+    static Decision choose(long hand, Joker joker, int needed, int handsLeft, boolean canDiscard, int deckSize) {
+        long best = Plays.bestPlay(hand, joker);
+        if (canDiscard && (long) Plays.score(best, joker) * handsLeft < needed) {
+            long discard = Plays.lowest(hand & ~best, Math.min(Hand.getMaxCardsToDiscard(), deckSize));
+            if (Long.bitCount(discard) >= Hand.getMinCardsToDiscard()) {
+                return Decision.discard(discard);
+            }
+        }
+        return Decision.play(best);
+    }
+}
@@ -0,0 +1,304 @@
+package com.balatro.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.balatro.simulation.GameSession;
+import com.balatro.simulation.SimulationRunner;
+
+/**
+ * Pits policies against each other on identical seeds.
+ *
+ * Every policy plays game g with the seed firstSeed + g, so they all face the same decks and jokers.
+ * A policy wins a game when it clears more stages than every other policy, or as many with a higher total
+ * score; games where the best policies are level are counted as ties. Games are split into seed ranges run
+ * on a thread pool, and since every decision depends only on the game, the results are the same for any
+ * number of threads.
+ */
+public final class League {
+    // Columns of the per-policy totals of a shard
+    private static final int WINS = 0;
+    private static final int TIES = 1;
+    private static final int STAGES = 2;
+    private static final int SCORE = 3;
+    private static final int TOTALS = 4;
+
+    private League() {
+    }
+
+    /**
+     * The results of one policy over the league.
+     */
+    public static final class Record {
+        private final String name;
+        private final long games;
+        private final long wins;
+        private final long ties;
+        private final long stagesCleared;
+        private final long totalScore;
+        private final long decisions;
+        private final long decisionNanos;
+
+        Record(String name, long games, long wins, long ties, long stagesCleared, long totalScore, long decisions,
+                long decisionNanos) {
+            this.name = name;
+            this.games = games;
+            this.wins = wins;
+            this.ties = ties;
+            this.stagesCleared = stagesCleared;
+            this.totalScore = totalScore;
+            this.decisions = decisions;
+            this.decisionNanos = decisionNanos;
+        }
+
+        /**
+         * Gets the name of the policy.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of games played.
+         *
+         * @return the games
+         */
+        public long getGames() {
+            return games;
+        }
+
+        /**
+         * Gets the number of games won outright.
+         *
+         * @return the wins
+         */
+        public long getWins() {
+            return wins;
+        }
+
+        /**
+         * Gets the number of games in which the policy was level with the best.
+         *
+         * @return the ties
+         */
+        public long getTies() {
+            return ties;
+        }
+
+        /**
+         * Gets the share of games won outright.
+         *
+         * @return the win rate, from 0 to 1
+         */
+        public double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        /**
+         * Gets the average number of stages cleared per game.
+         *
+         * @return the mean stages
+         */
+        public double getMeanStages() {
+            return games == 0 ? 0 : (double) stagesCleared / games;
+        }
+
+        /**
+         * Gets the average total score per game.
+         *
+         * @return the mean score
+         */
+        public double getMeanScore() {
+            return games == 0 ? 0 : (double) totalScore / games;
+        }
+
+        /**
+         * Gets the number of decisions made.
+         *
+         * @return the decisions
+         */
+        public long getDecisions() {
+            return decisions;
+        }
+
+        /**
+         * Gets how fast the policy decides on one thread.
+         *
+         * @return decisions per second of time spent in the policy
+         */
+        public double getDecisionsPerSecond() {
+            return decisions * 1e9 / Math.max(1, decisionNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s win %5.1f%%  tie %5.1f%%  stages %6.2f  score %9.1f  %,12.0f decisions/s",
+                    name, 100 * getWinRate(), games == 0 ? 0 : 100.0 * ties / games, getMeanStages(),
+                    getMeanScore(), getDecisionsPerSecond());
+        }
+    }
+
+    /**
+     * Plays a league on a thread pool.
+     *
+     * @param policies the policies, at least one
+     * @param firstSeed the seed of game 0
+     * @param games the number of games each policy plays
+     * @param maxStages the stage cap of each game
+     * @param threads the number of threads
+     * @return one record per policy, in the order given
+     * @throws InterruptedException if interrupted while waiting for the games
+     * @throws ExecutionException if a game fails
+     */
+    public static List<Record> run(List<Policy> policies, long firstSeed, long games, int maxStages, int threads)
+            throws InterruptedException, ExecutionException {
+        if (policies.isEmpty()) {
+            throw new IllegalArgumentException("A league needs at least one policy");
+        }
+        List<PolicyStrategy> strategies = new ArrayList<>();
+        for (Policy policy : policies) {
+            strategies.add(new PolicyStrategy(policy));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "league");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int shards = 4 * threads;
+            List<Future<long[][]>> futures = new ArrayList<>(shards);
+            for (int shard = 0; shard < shards; shard++) {
+                long from = games * shard / shards;
+                long to = games * (shard + 1) / shards;
+                futures.add(executor.submit(() -> runShard(strategies, firstSeed, from, to, maxStages)));
+            }
+            long[][] totals = new long[policies.size()][TOTALS];
+            for (Future<long[][]> future : futures) {
+                long[][] shard = future.get();
+                for (int p = 0; p < totals.length; p++) {
+                    for (int i = 0; i < TOTALS; i++) {
+                        totals[p][i] += shard[p][i];
+                    }
+                }
+            }
+
+            List<Record> records = new ArrayList<>();
+            for (int p = 0; p < totals.length; p++) {
+                PolicyStrategy strategy = strategies.get(p);
+                records.add(new Record(strategy.getName(), games, totals[p][WINS], totals[p][TIES],
+                        totals[p][STAGES], totals[p][SCORE], strategy.getDecisions(), strategy.getDecisionNanos()));
+            }
+            return records;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a range of seeds with every policy and totals wins, ties, stages and scores per policy.
+     */
+    private static long[][] runShard(List<PolicyStrategy> strategies, long firstSeed, long from, long to,
+            int maxStages) {
+        int count = strategies.size();
+        long[][] totals = new long[count][TOTALS];
+        int[] stages = new int[count];
+        long[] scores = new long[count];
+        for (long game = from; game < to; game++) {
+            for (int p = 0; p < count; p++) {
+                GameSession session = new GameSession(firstSeed + game, maxStages);
+                while (!session.isOver()) {
+                    strategies.get(p).playTurn(session);
+                }
+                stages[p] = session.getStagesCleared();
+                scores[p] = session.getTotalScore();
+                totals[p][STAGES] += stages[p];
+                totals[p][SCORE] += scores[p];
+            }
+
+            int leaders = 0;
+            int leader = -1;
+            for (int p = 0; p < count; p++) {
+                int order = leader < 0 ? 1 : compare(stages[p], scores[p], stages[leader], scores[leader]);
+                if (order > 0) {
+                    leader = p;
+                    leaders = 1;
+                } else if (order == 0) {
+                    leaders++;
+                }
+            }
+            for (int p = 0; p < count; p++) {
+                if (compare(stages[p], scores[p], stages[leader], scores[leader]) == 0) {
+                    totals[p][leaders == 1 ? WINS : TIES]++;
+                }
+            }
+        }
+        return totals;
+    }
+
+    private static int compare(int stages, long score, int otherStages, long otherScore) {
+        return stages != otherStages ? Integer.compare(stages, otherStages) : Long.compare(score, otherScore);
+    }
+
+    /**
+     * Creates a built-in policy by name.
+     *
+     * @param name greedy, expected-value or lookahead
+     * @return the policy
+     * @throws IllegalArgumentException if there is no policy with that name
+     */
+    public static Policy policyFor(String name) {
+        return switch (name) {
+            case "greedy" -> new GreedyPolicy();
+            case "expected-value" -> new ExpectedValuePolicy();
+            case "lookahead" -> new LookaheadPolicy();
+            default -> throw new IllegalArgumentException("Unknown policy: " + name);
+        };
+    }
+
+    /**
+     * Runs a league from the command line and prints one line per policy.
+     *
+     * Options: --games N (default 1000), --seed S (default 1), --stages M (default 30),
+     * --threads T (default all processors), --policies a,b,c (default greedy,expected-value,lookahead).
+     *
+     * @param args the options
+     * @throws Exception if the league fails
+     */
+    public static void main(String[] args) throws Exception {
+        long games = 1000;
+        long seed = 1;
+        int maxStages = SimulationRunner.DEFAULT_MAX_STAGES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String names = "greedy,expected-value,lookahead";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--stages" -> maxStages = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--policies" -> names = args[++i];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        List<Policy> policies = new ArrayList<>();
+        for (String name : names.split(",")) {
+            policies.add(policyFor(name.trim()));
+        }
+        long start = System.nanoTime();
+        List<Record> records = run(policies, seed, games, maxStages, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games per policy on %d threads in %.2f s: %.0f games/s%n",
+                games, threads, seconds, games * policies.size() / seconds);
+        for (Record record : records) {
+            System.out.println(record);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.balatro.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+
+/**
+ * Looks ahead to the end of the stage by playing out each candidate move on sampled decks.
+ *
+ * The candidates are playing the best set of cards and discarding one to five of the lowest value cards
+ * outside it. For each rollout the deck is shuffled once, the candidate is applied and the greedy policy
+ * plays the rest of the stage. Every candidate is played out on the same shuffles, and the one that clears
+ * the stage most often wins, with the points scored breaking ties.
+ */
+public final class LookaheadPolicy implements Policy {
+    /** The number of sampled decks each candidate is played out on, unless set otherwise. */
+    public static final int DEFAULT_ROLLOUTS = 16;
+
+    private final int rollouts;
+
+    /**
+     * Creates a policy with the default number of rollouts.
+     */
+    public LookaheadPolicy() {
+        this(DEFAULT_ROLLOUTS);
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param rollouts the number of sampled decks each candidate is played out on
+     */
+    public LookaheadPolicy(int rollouts) {
+        if (rollouts <= 0) {
+            throw new IllegalArgumentException("Rollouts must be positive");
+        }
+        this.rollouts = rollouts;
+    }
+
+    @Override
+    public Decision decide(TurnView view) {
+        long hand = view.getHand();
+        Joker joker = view.getJoker();
+        long best = Plays.bestPlay(hand, joker);
+        if (Plays.score(best, joker) >= view.getNeeded() || !view.canDiscard()) {
+            // Nothing to gain from looking ahead: the play clears the stage, or it is the only kind of move
+            return Decision.play(best);
+        }
+
+        List<Decision> candidates = new ArrayList<>();
+        candidates.add(Decision.play(best));
+        long rest = hand & ~best;
+        int maxCount = Math.min(Math.min(Hand.getMaxCardsToDiscard(), Long.bitCount(rest)), view.getDeckSize());
+        for (int count = Hand.getMinCardsToDiscard(); count <= maxCount; count++) {
+            candidates.add(Decision.discard(Plays.lowest(rest, count)));
+        }
+
+        SplittableRandom random = new SplittableRandom(Plays.seedOf(view));
+        int[][] orders = new int[rollouts][];
+        for (int i = 0; i < rollouts; i++) {
+            orders[i] = shuffle(view.getDeck(), random);
+        }
+
+        Decision chosen = null;
+        long chosenValue = Long.MIN_VALUE;
+        for (Decision candidate : candidates) {
+            long value = 0;
+            for (int[] order : orders) {
+                value += rollout(view, candidate, order);
+            }
+            if (value > chosenValue) {
+                chosenValue = value;
+                chosen = candidate;
+            }
+        }
+        return chosen;
+    }
+
+    @Override
+    public String getName() {
+        return "lookahead";
+    }
+
+    /**
+     * Plays a move and then the rest of the stage greedily, drawing from a fixed order.
+     *
+     * @return a value that ranks clearing the stage above any number of points, and more points above fewer
+     */
+    private static long rollout(TurnView view, Decision first, int[] order) {
+        long hand = view.getHand();
+        int needed = view.getNeeded();
+        int handsLeft = view.getHandsLeft();
+        int discardsLeft = view.getDiscardsLeft();
+        int next = 0;
+        long points = 0;
+        Decision decision = first;
+        while (true) {
+            hand &= ~decision.getCards();
+            if (decision.getType() == Decision.Type.PLAY) {
+                int scored = Plays.score(decision.getCards(), view.getJoker());
+                points += scored;
+                needed -= scored;
+                handsLeft--;
+            } else {
+                discardsLeft--;
+            }
+            if (needed <= 0) {
+                return (1L << 32) + points;
+            }
+            if (handsLeft == 0) {
+                return points;
+            }
+            while (Long.bitCount(hand) < Hand.getMaxCards() && next < order.length) {
+                hand |= 1L << order[next++];
+            }
+            if (hand == 0) {
+                return points;
+            }
+            int deckSize = order.length - next;
+            boolean canDiscard = discardsLeft > 0 && deckSize >= Hand.getMinCardsToDiscard();
+            decision = GreedyPolicy.choose(hand, view.getJoker(), needed, handsLeft, canDiscard, deckSize);
+        }
+    }
+
+    private static int[] shuffle(long deck, SplittableRandom random) {
+        int[] order = new int[Long.bitCount(deck)];
+        for (int i = 0; deck != 0; i++, deck &= deck - 1) {
+            order[i] = Long.numberOfTrailingZeros(deck);
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,131 @@
+package com.balatro.bot;
+
+import java.util.SplittableRandom;
+
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+import com.balatro.service.GameService;
+
+/**
+ * Scoring and card selection shared by the built-in policies. Hands and decks are CardMasks.
+ */
+final class Plays {
+
+    private Plays() {
+    }
+
+    /**
+     * Scores a play the way the game does, with the joker's effect.
+     *
+     * @param cards the cards played
+     * @param joker the joker, or null
+     * @return the points
+     */
+    static int score(long cards, Joker joker) {
+        int base = CardMask.score(cards);
+        return joker == null ? base : GameService.applyJokerEffects(joker, base, CardMask.cardsOf(cards));
+    }
+
+    /**
+     * Finds the highest scoring set of cards that can be played from a hand.
+     *
+     * @param hand the hand
+     * @param joker the joker, or null
+     * @return the cards, or 0 if the hand is empty
+     */
+    static long bestPlay(long hand, Joker joker) {
+        int[] indexes = indexesOf(hand);
+        long best = 0;
+        int bestScore = -1;
+        for (int positions = 1; positions < 1 << indexes.length; positions++) {
+            if (Integer.bitCount(positions) > Hand.getMaxCardsToPlay()) {
+                continue;
+            }
+            long cards = maskOf(indexes, positions);
+            int score = score(cards, joker);
+            if (score > bestScore) {
+                bestScore = score;
+                best = cards;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Picks the lowest value cards, lower indexes first among equal values.
+     *
+     * @param cards the cards to pick from
+     * @param count the number of cards to pick
+     * @return the picked cards, fewer than count if there are not enough
+     */
+    static long lowest(long cards, int count) {
+        long picked = 0;
+        for (int i = 0; i < count && cards != 0; i++) {
+            int lowest = -1;
+            for (long rest = cards; rest != 0; rest &= rest - 1) {
+                int index = Long.numberOfTrailingZeros(rest);
+                if (lowest < 0 || CardMask.valueAt(index) < CardMask.valueAt(lowest)) {
+                    lowest = index;
+                }
+            }
+            picked |= 1L << lowest;
+            cards &= ~(1L << lowest);
+        }
+        return picked;
+    }
+
+    /**
+     * Draws cards from a deck at random.
+     *
+     * @param deck the deck
+     * @param count the number of cards to draw
+     * @param random the source of randomness
+     * @return the drawn cards, the whole deck if it holds count cards or fewer
+     */
+    static long draw(long deck, int count, SplittableRandom random) {
+        int size = Long.bitCount(deck);
+        if (count >= size) {
+            return deck;
+        }
+        long drawn = 0;
+        for (int i = 0; i < count; i++) {
+            long rest = deck & ~drawn;
+            int skip = random.nextInt(size - i);
+            for (int j = 0; j < skip; j++) {
+                rest &= rest - 1;
+            }
+            drawn |= Long.lowestOneBit(rest);
+        }
+        return drawn;
+    }
+
+    /**
+     * Seeds a policy's random numbers from a turn, so that the same turn always gets the same decision.
+     *
+     * @param view the turn
+     * @return the seed
+     */
+    static long seedOf(TurnView view) {
+        long seed = view.getHand() * 0x9E3779B97F4A7C15L ^ view.getDeck();
+        seed = seed * 31 + view.getScore();
+        seed = seed * 31 + view.getHandsLeft();
+        return seed * 31 + view.getDiscardsLeft();
+    }
+
+    private static int[] indexesOf(long cards) {
+        int[] indexes = new int[Long.bitCount(cards)];
+        for (int i = 0; cards != 0; i++, cards &= cards - 1) {
+            indexes[i] = Long.numberOfTrailingZeros(cards);
+        }
+        return indexes;
+    }
+
+    private static long maskOf(int[] indexes, int positions) {
+        long mask = 0;
+        for (int rest = positions; rest != 0; rest &= rest - 1) {
+            mask |= 1L << indexes[Integer.numberOfTrailingZeros(rest)];
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,25 @@
+package com.balatro.bot;
+
+/**
+ * Chooses the moves of a bot player from what it can see of the game.
+ * A policy may be shared by several threads and games at once, so it should not keep state between calls.
+ * Policies that sample the deck should seed their random numbers from the view, so that the same turn always
+ * gets the same decision and runs over the same seeds can be compared.
+ */
+public interface Policy {
+
+    /**
+     * Chooses a move for a turn. A discard is only chosen when the view allows one.
+     *
+     * @param view the turn
+     * @return cards from the hand to play or discard
+     */
+    Decision decide(TurnView view);
+
+    /**
+     * Gets the name of this policy.
+     *
+     * @return the name
+     */
+    String getName();
+}
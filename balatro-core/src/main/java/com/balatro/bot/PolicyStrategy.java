@@ -0,0 +1,96 @@
+package com.balatro.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.simulation.GameSession;
+import com.balatro.simulation.Strategy;
+
+/**
+ * Lets a policy play simulated games, so that policies run wherever a Strategy does, such as SimulationRunner.
+ * It counts the decisions made and the time spent making them, which may be read while games are running.
+ */
+public final class PolicyStrategy implements Strategy {
+    private final Policy policy;
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder decisionNanos = new LongAdder();
+
+    /**
+     * Creates a strategy for a policy.
+     *
+     * @param policy the policy
+     */
+    public PolicyStrategy(Policy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Applies a decision to a game.
+     *
+     * @param session the game
+     * @param decision the decision
+     * @throws IllegalArgumentException if the decision uses cards that are not in the hand
+     * @throws IllegalStateException if a discard is chosen when none is left
+     */
+    public static void apply(GameSession session, Decision decision) {
+        List<Card> cards = new ArrayList<>();
+        for (Card card : session.getHand()) {
+            if ((decision.getCards() & 1L << CardMask.indexOf(card)) != 0) {
+                cards.add(card);
+            }
+        }
+        if (cards.size() != Long.bitCount(decision.getCards())) {
+            throw new IllegalArgumentException("Decision uses cards that are not in the hand: " + decision);
+        }
+        if (decision.getType() == Decision.Type.PLAY) {
+            session.playHand(cards);
+        } else if (!session.discard(cards)) {
+            throw new IllegalStateException("No discards left for " + decision);
+        }
+    }
+
+    @Override
+    public void playTurn(GameSession session) {
+        TurnView view = TurnView.of(session);
+        long start = System.nanoTime();
+        Decision decision = policy.decide(view);
+        decisionNanos.add(System.nanoTime() - start);
+        decisions.increment();
+        apply(session, decision);
+    }
+
+    @Override
+    public String getName() {
+        return policy.getName();
+    }
+
+    /**
+     * Gets the policy.
+     *
+     * @return the policy
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets the number of decisions made so far.
+     *
+     * @return the decisions
+     */
+    public long getDecisions() {
+        return decisions.sum();
+    }
+
+    /**
+     * Gets the time spent in the policy so far, excluding the time the game takes to apply its decisions.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getDecisionNanos() {
+        return decisionNanos.sum();
+    }
+}
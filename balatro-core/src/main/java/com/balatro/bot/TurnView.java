@@ -0,0 +1,152 @@
+package com.balatro.bot;
+
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+import com.balatro.simulation.GameSession;
+
+/**
+ * What a policy sees when it moves: the hand, the cards still in the deck, the joker and the stage's limits.
+ * The deck is given as a set, not in draw order, so a policy knows which cards it may draw but not when.
+ */
+public final class TurnView {
+    private final long hand;
+    private final long deck;
+    private final Joker joker;
+    private final int score;
+    private final int targetScore;
+    private final int handsLeft;
+    private final int discardsLeft;
+
+    /**
+     * Creates a view.
+     *
+     * @param hand the cards in the hand, as a CardMask
+     * @param deck the cards left in the deck, as a CardMask
+     * @param joker the joker of the stage, or null if there is none
+     * @param score the score of the stage so far
+     * @param targetScore the score that clears the stage
+     * @param handsLeft the hands left in the stage
+     * @param discardsLeft the discards left in the stage
+     */
+    public TurnView(long hand, long deck, Joker joker, int score, int targetScore, int handsLeft, int discardsLeft) {
+        this.hand = hand;
+        this.deck = deck;
+        this.joker = joker;
+        this.score = score;
+        this.targetScore = targetScore;
+        this.handsLeft = handsLeft;
+        this.discardsLeft = discardsLeft;
+    }
+
+    /**
+     * Creates the view of a simulated game's current turn.
+     *
+     * @param session the game, which must not be over
+     * @return the view
+     */
+    public static TurnView of(GameSession session) {
+        List<Card> deck = session.getGameService().getDeck().getCardsView();
+        return new TurnView(CardMask.maskOf(session.getHand()), CardMask.maskOf(deck), session.getCurrentJoker(),
+                session.getScore(), session.getTargetScore(), session.getHandsLeft(), session.getDiscardsLeft());
+    }
+
+    /**
+     * Gets the cards in the hand.
+     *
+     * @return the hand, as a CardMask
+     */
+    public long getHand() {
+        return hand;
+    }
+
+    /**
+     * Gets the cards left in the deck.
+     *
+     * @return the deck, as a CardMask
+     */
+    public long getDeck() {
+        return deck;
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the deck size
+     */
+    public int getDeckSize() {
+        return Long.bitCount(deck);
+    }
+
+    /**
+     * Gets the joker of the stage.
+     *
+     * @return the joker, or null if there is none
+     */
+    public Joker getJoker() {
+        return joker;
+    }
+
+    /**
+     * Gets the score of the stage so far.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the score that clears the stage.
+     *
+     * @return the target score
+     */
+    public int getTargetScore() {
+        return targetScore;
+    }
+
+    /**
+     * Gets the points still needed to clear the stage.
+     *
+     * @return the points needed, 0 if the target is reached
+     */
+    public int getNeeded() {
+        return Math.max(0, targetScore - score);
+    }
+
+    /**
+     * Gets the hands left in the stage.
+     *
+     * @return the hands left
+     */
+    public int getHandsLeft() {
+        return handsLeft;
+    }
+
+    /**
+     * Gets the discards left in the stage.
+     *
+     * @return the discards left
+     */
+    public int getDiscardsLeft() {
+        return discardsLeft;
+    }
+
+    /**
+     * Checks whether a discard is allowed: a discard must be left and the deck must hold enough cards to redraw.
+     *
+     * @return true if discarding is possible
+     */
+    public boolean canDiscard() {
+        return discardsLeft > 0 && getDeckSize() >= Hand.getMinCardsToDiscard();
+    }
+
+    @Override
+    public String toString() {
+        return "TurnView{hand=" + CardMask.cardsOf(hand) + ", deck=" + getDeckSize() + " cards, score=" + score
+                + "/" + targetScore + ", hands=" + handsLeft + ", discards=" + discardsLeft + "}";
+    }
+}
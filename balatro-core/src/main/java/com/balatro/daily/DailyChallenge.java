@@ -0,0 +1,257 @@
+package com.balatro.daily;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.balatro.service.GameStateManager;
+import com.balatro.tournament.TournamentDeal;
+
+/**
+ * The challenge of one day: a seed derived from the date, the deal it gives, and the pars of each stage.
+ *
+ * Each stage has two pars, both found by the stage solver for the stage's card order:
+ * the par hands, the fewest hands that reach the stage's target (0 if no line does), and the best score,
+ * the highest total the stage's cards allow over all its hands. A search can take longer than its time limit,
+ * in which case the pars are the best found so far and the stage is not marked exact.
+ * Pars are computed ahead of time by DailyParCalculator and only read when the challenge is served.
+ * Like the solver, they count scores before joker effects.
+ */
+public final class DailyChallenge {
+    private static final int MAGIC = 0x42444348; // "BDCH"
+    private static final int FORMAT_VERSION = 1;
+    // Mixed into the date so that daily seeds do not collide with small seeds used elsewhere
+    private static final long SEED_SALT = 0x5DEECE66DL;
+
+    private final LocalDate date;
+    private final long seed;
+    private final int maxHands;
+    private final int maxDiscards;
+    private final int[] parHands;
+    private final int[] bestScores;
+    private final boolean[] exact;
+    // Dealt once, as serving the challenge would otherwise shuffle every stage's deck again
+    private final TournamentDeal deal;
+
+    /**
+     * Creates a challenge.
+     *
+     * @param date the day of the challenge
+     * @param maxHands the hand limit of each stage
+     * @param maxDiscards the discard limit of each stage
+     * @param parHands the fewest hands that clear each stage, or 0 for a stage that cannot be cleared
+     * @param bestScores the best score of each stage
+     * @param exact whether each stage's pars are proven rather than the best found before the time limit
+     */
+    public DailyChallenge(LocalDate date, int maxHands, int maxDiscards, int[] parHands, int[] bestScores,
+            boolean[] exact) {
+        if (parHands.length != bestScores.length || parHands.length != exact.length) {
+            throw new IllegalArgumentException("Every stage needs par hands, a best score and an exact flag");
+        }
+        this.date = date;
+        this.seed = seedFor(date);
+        this.maxHands = maxHands;
+        this.maxDiscards = maxDiscards;
+        this.parHands = parHands.clone();
+        this.bestScores = bestScores.clone();
+        this.exact = exact.clone();
+        this.deal = dealFor(date, maxHands, maxDiscards);
+    }
+
+    /**
+     * Gets the seed of a day's challenge.
+     *
+     * @param date the day
+     * @return the seed; every server gives the same seed for the same day
+     */
+    public static long seedFor(LocalDate date) {
+        return new Random(date.toEpochDay() ^ SEED_SALT).nextLong();
+    }
+
+    /**
+     * Deals a day's challenge, with one stage per level stage.
+     *
+     * @param date the day
+     * @param maxHands the hand limit of each stage
+     * @param maxDiscards the discard limit of each stage
+     * @return the deal
+     */
+    public static TournamentDeal dealFor(LocalDate date, int maxHands, int maxDiscards) {
+        return new TournamentDeal(seedFor(date), GameStateManager.LevelStage.values().length, maxHands, maxDiscards);
+    }
+
+    /**
+     * Gets the deal of this challenge, which is dealt once when the challenge is created.
+     *
+     * @return the deal
+     */
+    public TournamentDeal deal() {
+        return deal;
+    }
+
+    /**
+     * Gets the day of the challenge.
+     *
+     * @return the date
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Gets the seed of the challenge.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of stages.
+     *
+     * @return the stages
+     */
+    public int getStages() {
+        return parHands.length;
+    }
+
+    /**
+     * Gets the hand limit of each stage.
+     *
+     * @return the hand limit
+     */
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    /**
+     * Gets the discard limit of each stage.
+     *
+     * @return the discard limit
+     */
+    public int getMaxDiscards() {
+        return maxDiscards;
+    }
+
+    /**
+     * Gets the fewest hands that reach a stage's target.
+     *
+     * @param stage the stage, from 0
+     * @return the par hands, or 0 if the stage cannot be cleared
+     */
+    public int getParHands(int stage) {
+        return parHands[stage];
+    }
+
+    /**
+     * Gets the best total score a stage's cards allow over all its hands.
+     *
+     * @param stage the stage, from 0
+     * @return the best score
+     */
+    public int getBestScore(int stage) {
+        return bestScores[stage];
+    }
+
+    /**
+     * Checks whether a stage's pars are proven.
+     *
+     * @param stage the stage, from 0
+     * @return true if every search finished, false if a par is the best found before the time limit
+     */
+    public boolean isExact(int stage) {
+        return exact[stage];
+    }
+
+    /**
+     * Writes the challenge in a compact binary format.
+     *
+     * @param out the destination
+     * @throws IOException if the write fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(date.toEpochDay());
+        data.writeLong(seed);
+        data.writeInt(maxHands);
+        data.writeInt(maxDiscards);
+        data.writeInt(parHands.length);
+        for (int stage = 0; stage < parHands.length; stage++) {
+            data.writeInt(parHands[stage]);
+            data.writeInt(bestScores[stage]);
+            data.writeBoolean(exact[stage]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a challenge written by write.
+     *
+     * @param in the source
+     * @return the challenge
+     * @throws IOException if the data is not a challenge in this format
+     */
+    public static DailyChallenge read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a daily challenge file");
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported daily challenge format version " + version);
+        }
+        LocalDate date = LocalDate.ofEpochDay(data.readLong());
+        long seed = data.readLong();
+        if (seed != seedFor(date)) {
+            throw new IOException("Seed does not match the date " + date);
+        }
+        int maxHands = data.readInt();
+        int maxDiscards = data.readInt();
+        int stages = data.readInt();
+        if (stages <= 0 || stages > GameStateManager.LevelStage.values().length) {
+            throw new IOException("Invalid stage count " + stages);
+        }
+        int[] parHands = new int[stages];
+        int[] bestScores = new int[stages];
+        boolean[] exact = new boolean[stages];
+        for (int stage = 0; stage < stages; stage++) {
+            parHands[stage] = data.readInt();
+            bestScores[stage] = data.readInt();
+            exact[stage] = data.readBoolean();
+        }
+        return new DailyChallenge(date, maxHands, maxDiscards, parHands, bestScores, exact);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DailyChallenge)) {
+            return false;
+        }
+        DailyChallenge other = (DailyChallenge) o;
+        return date.equals(other.date) && maxHands == other.maxHands && maxDiscards == other.maxDiscards
+                && Arrays.equals(parHands, other.parHands) && Arrays.equals(bestScores, other.bestScores)
+                && Arrays.equals(exact, other.exact);
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode() * 31 + Arrays.hashCode(bestScores);
+    }
+
+    @Override
+    public String toString() {
+        return "Daily challenge " + date + " (seed " + seed + "), par hands " + Arrays.toString(parHands)
+                + ", best scores " + Arrays.toString(bestScores);
+    }
+}
@@ -0,0 +1,111 @@
+package com.balatro.daily;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+
+/**
+ * Caches computed daily challenges on disk, one file per day named daily-YYYY-MM-DD.bin.
+ * Files are written to a temporary name and moved into place, so a reader never sees a partial file.
+ */
+public final class DailyChallengeStore {
+    private static final String PREFIX = "daily-";
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+
+    /**
+     * Creates a store.
+     *
+     * @param directory the directory holding the files; it is created on the first save
+     */
+    public DailyChallengeStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the directory the server and the par calculator use unless told otherwise: .balatro/daily in the
+     * user's home. It is absolute, so the server and the script find the same files from any working directory,
+     * and it is outside the source tree and the build output, so pars survive a clean build.
+     *
+     * @return the default directory
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".balatro", "daily");
+    }
+
+    /**
+     * Gets the directory holding the files.
+     *
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the file of a day's challenge.
+     *
+     * @param date the day
+     * @return the path of the file, which may not exist
+     */
+    public Path pathOf(LocalDate date) {
+        return directory.resolve(PREFIX + date + SUFFIX);
+    }
+
+    /**
+     * Checks whether a day's challenge has been saved.
+     *
+     * @param date the day
+     * @return true if its file exists
+     */
+    public boolean contains(LocalDate date) {
+        return Files.isRegularFile(pathOf(date));
+    }
+
+    /**
+     * Loads a day's challenge.
+     *
+     * @param date the day
+     * @return the challenge, or null if it has not been saved
+     * @throws IOException if the file cannot be read or is not a challenge for that day
+     */
+    public DailyChallenge load(LocalDate date) throws IOException {
+        DailyChallenge challenge;
+        try (InputStream in = Files.newInputStream(pathOf(date))) {
+            challenge = DailyChallenge.read(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (!challenge.getDate().equals(date)) {
+            throw new IOException(pathOf(date) + " holds the challenge of " + challenge.getDate());
+        }
+        return challenge;
+    }
+
+    /**
+     * Saves a challenge, replacing any saved challenge of the same day.
+     *
+     * @param challenge the challenge
+     * @throws IOException if the file cannot be written
+     */
+    public void save(DailyChallenge challenge) throws IOException {
+        Files.createDirectories(directory);
+        Path target = pathOf(challenge.getDate());
+        Path temp = Files.createTempFile(directory, PREFIX, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                challenge.write(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
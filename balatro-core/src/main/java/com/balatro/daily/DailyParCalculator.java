@@ -0,0 +1,182 @@
+package com.balatro.daily;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.balatro.model.Card;
+import com.balatro.solver.SolverResult;
+import com.balatro.solver.StageSolver;
+import com.balatro.tournament.TournamentDeal;
+
+/**
+ * Computes the pars of daily challenges with the stage solver, searching each stage in parallel on a ForkJoin pool.
+ *
+ * The par hands of a stage come from clearing searches with a growing hand limit, and the best score from a
+ * maximum-score search. Every search is stopped after a time limit, so a stage is exact only if none was stopped.
+ * Run from the command line, it fills a DailyChallengeStore ahead of time:
+ * <pre>
+ * java com.balatro.daily.DailyParCalculator --from 2026-01-01 --days 7 --time-limit 10000
+ * </pre>
+ */
+public final class DailyParCalculator {
+    /** The time each search may take, in milliseconds, unless set otherwise. */
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 10_000;
+
+    private final ForkJoinPool pool;
+    private final long timeLimitMillis;
+    private final int maxHands;
+    private final int maxDiscards;
+
+    /**
+     * Creates a calculator for challenges with the default hand and discard limits.
+     *
+     * @param pool the pool the searches run on
+     * @param timeLimitMillis the time each search may take, or 0 for no limit
+     */
+    public DailyParCalculator(ForkJoinPool pool, long timeLimitMillis) {
+        this(pool, timeLimitMillis, TournamentDeal.DEFAULT_MAX_HANDS, TournamentDeal.DEFAULT_MAX_DISCARDS);
+    }
+
+    /**
+     * Creates a calculator.
+     *
+     * @param pool the pool the searches run on
+     * @param timeLimitMillis the time each search may take, or 0 for no limit
+     * @param maxHands the hand limit of each stage
+     * @param maxDiscards the discard limit of each stage
+     */
+    public DailyParCalculator(ForkJoinPool pool, long timeLimitMillis, int maxHands, int maxDiscards) {
+        this.pool = pool;
+        this.timeLimitMillis = timeLimitMillis;
+        this.maxHands = maxHands;
+        this.maxDiscards = maxDiscards;
+    }
+
+    /**
+     * Computes a day's challenge.
+     *
+     * @param date the day
+     * @return the challenge with its pars
+     */
+    public DailyChallenge compute(LocalDate date) {
+        TournamentDeal deal = DailyChallenge.dealFor(date, maxHands, maxDiscards);
+        int stages = deal.getStages();
+        int[] parHands = new int[stages];
+        int[] bestScores = new int[stages];
+        boolean[] exact = new boolean[stages];
+
+        for (int stage = 0; stage < stages; stage++) {
+            List<Card> order = drawOrder(deal, stage);
+            int target = deal.getTargetScore(stage);
+            int clearScore = 0;
+            boolean proven = true;
+            for (int hands = 1; hands <= maxHands; hands++) {
+                SolverResult clear = solver(order, target, hands).solveClear();
+                if (clear.isCleared()) {
+                    parHands[stage] = hands;
+                    clearScore = clear.getScore();
+                    break;
+                }
+                // Proving a stage unclearable can take minutes; an unproven hand limit makes the par an upper bound
+                proven &= clear.isComplete();
+            }
+
+            SolverResult best = solver(order, target, maxHands).solveMaxScore();
+            // A search stopped before its first iteration finished has no line yet; the clearing line still counts
+            bestScores[stage] = Math.max(best.getScore(), clearScore);
+            exact[stage] = proven && best.isComplete();
+        }
+        return new DailyChallenge(date, maxHands, maxDiscards, parHands, bestScores, exact);
+    }
+
+    /**
+     * Creates a time-limited solver for a stage.
+     */
+    private StageSolver solver(List<Card> order, int target, int hands) {
+        StageSolver solver = new StageSolver(order, target, hands, maxDiscards);
+        solver.setPool(pool);
+        solver.setTimeLimit(timeLimitMillis);
+        return solver;
+    }
+
+    /**
+     * Loads a day's challenge from a store, computing and saving it first if it is not there.
+     *
+     * @param store the store
+     * @param date the day
+     * @return the challenge
+     * @throws IOException if the store cannot be read or written
+     */
+    public DailyChallenge loadOrCompute(DailyChallengeStore store, LocalDate date) throws IOException {
+        DailyChallenge challenge = store.load(date);
+        if (challenge == null) {
+            challenge = compute(date);
+            store.save(challenge);
+        }
+        return challenge;
+    }
+
+    /**
+     * Lists a stage's cards from the top of its deck.
+     *
+     * @param deal the deal
+     * @param stage the stage, from 0
+     * @return the draw order
+     */
+    static List<Card> drawOrder(TournamentDeal deal, int stage) {
+        List<Card> order = new ArrayList<>(deal.getDeckSize(stage));
+        for (int i = 0; i < deal.getDeckSize(stage); i++) {
+            order.add(deal.cardAt(stage, i));
+        }
+        return order;
+    }
+
+    /**
+     * Computes and saves the challenges of a range of days that are not saved yet.
+     *
+     * @param args --from YYYY-MM-DD (default today), --days N (default 7),
+     *             --out DIR (default ~/.balatro/daily), --time-limit MILLIS, --threads N
+     * @throws IOException if the store cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        LocalDate from = LocalDate.now();
+        int days = 7;
+        Path out = DailyChallengeStore.defaultDirectory();
+        long timeLimit = DEFAULT_TIME_LIMIT_MILLIS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--from" -> from = LocalDate.parse(args[++i]);
+                case "--days" -> days = Integer.parseInt(args[++i]);
+                case "--out" -> out = Paths.get(args[++i]);
+                case "--time-limit" -> timeLimit = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        DailyChallengeStore store = new DailyChallengeStore(out);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            DailyParCalculator calculator = new DailyParCalculator(pool, timeLimit);
+            for (int day = 0; day < days; day++) {
+                LocalDate date = from.plusDays(day);
+                if (store.contains(date)) {
+                    System.out.println(date + ": already saved");
+                    continue;
+                }
+                long start = System.nanoTime();
+                DailyChallenge challenge = calculator.compute(date);
+                store.save(challenge);
+                System.out.printf("%s: %s (%.1f s)%n", date, challenge, (System.nanoTime() - start) / 1e9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
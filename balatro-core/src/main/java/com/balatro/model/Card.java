@@ -12,6 +12,8 @@ public class Card {
     private final String suit;
     private final String rank;
     private final int value;
+    // Position in a standard deck (suit * 13 + rank), or -1 for a Joker or a non-standard value
+    private final int deckIndex;
 
     /**
      * Creates a new card with the specified suit, rank, and value.
@@ -29,6 +31,7 @@ public class Card {
         this.suit = suit;
         this.rank = rank;
         this.value = value;
+        this.deckIndex = standardIndex(suit, rank, value);
     }
 
     /**
@@ -82,6 +85,47 @@ public class Card {
         };
     }
 
+    /**
+     * Gets the position of this card in a standard deck, as used by CardMask and CardList.
+     * Two cards with the same index are equal, so collections can count cards by index instead of calling equals.
+     *
+     * @return the index from 0 to 51, or -1 for a Joker or a card with a non-standard value
+     */
+    int getDeckIndex() {
+        return deckIndex;
+    }
+
+    /**
+     * Computes the standard deck position of a card.
+     * A=11, J/Q/K=10 and number cards are worth their number; any other value has no position.
+     * @param suit the suit of the card
+     * @param rank the rank of the card
+     * @param value the value of the card
+     * @return the index, or -1 if the card is not a standard card
+     */
+    private static int standardIndex(String suit, String rank, int value) {
+        int suitIndex = switch (suit) {
+            case "Hearts" -> 0;
+            case "Diamonds" -> 1;
+            case "Clubs" -> 2;
+            case "Spades" -> 3;
+            default -> -1;
+        };
+        if (suitIndex < 0) {
+            return -1;
+        }
+        int rankIndex;
+        int standardValue;
+        switch (rank) {
+            case "A" -> { rankIndex = 0; standardValue = 11; }
+            case "J" -> { rankIndex = 10; standardValue = 10; }
+            case "Q" -> { rankIndex = 11; standardValue = 10; }
+            case "K" -> { rankIndex = 12; standardValue = 10; }
+            default -> { rankIndex = Integer.parseInt(rank) - 1; standardValue = rankIndex + 1; }
+        }
+        return value == standardValue ? suitIndex * 13 + rankIndex : -1;
+    }
+
     /**
      * Validates the suit of the card.
      * suit.trim() is used to remove any whitespace from the suit, isEmpty() is used to check if the suit is empty
@@ -0,0 +1,185 @@
+package com.balatro.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An ordered list of cards that knows which standard cards it holds.
+ * Cards are kept in an array, and a count per deck index (see {@link Card#getDeckIndex()}) answers
+ * contains and misses of indexOf and remove without scanning or calling equals.
+ * Jokers and cards with non-standard values have no deck index and fall back to a scan.
+ * Used for the cards of a hand, a deck and a player, and for GameService's selection and discard pile.
+ */
+public final class CardList extends AbstractList<Card> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Card[] elements;
+    private int size;
+    // Number of copies of each standard card in the list
+    private final int[] counts = new int[CardMask.DECK_SIZE];
+    // Number of cards in the list without a deck index
+    private int irregular;
+    private List<Card> readOnlyView;
+
+    /**
+     * Creates an empty list.
+     */
+    public CardList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for a number of cards.
+     *
+     * @param capacity the initial capacity
+     */
+    public CardList(int capacity) {
+        this.elements = new Card[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Creates a list holding the given cards in order.
+     *
+     * @param cards the initial cards
+     */
+    public CardList(Collection<? extends Card> cards) {
+        this(cards.size());
+        addAll(cards);
+    }
+
+    @Override
+    public Card get(int index) {
+        checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        checkIndex(index, size);
+        Card previous = elements[index];
+        uncount(previous);
+        count(card);
+        elements[index] = card;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        checkIndex(index, size + 1);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = card;
+        size++;
+        count(card);
+        modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        checkIndex(index, size);
+        Card removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        uncount(removed);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Card card && card.getDeckIndex() >= 0) {
+            return counts[card.getDeckIndex()] > 0;
+        }
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Card card)) {
+            return super.indexOf(o);
+        }
+        int deckIndex = card.getDeckIndex();
+        if (deckIndex < 0) {
+            // A card without a deck index can only equal another card without one
+            return irregular == 0 ? -1 : super.indexOf(o);
+        }
+        if (counts[deckIndex] == 0) {
+            return -1;
+        }
+        // Cards with the same deck index are equal, so the index comparison replaces equals
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != null && elements[i].getDeckIndex() == deckIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(elements, 0, size, null);
+        Arrays.fill(counts, 0);
+        size = 0;
+        irregular = 0;
+        modCount++;
+    }
+
+    /**
+     * Gets an unmodifiable view of this list.
+     * The view is created once and reflects later changes, so callers can read the cards without copying them.
+     *
+     * @return the read-only view
+     */
+    public List<Card> readOnlyView() {
+        if (readOnlyView == null) {
+            readOnlyView = Collections.unmodifiableList(this);
+        }
+        return readOnlyView;
+    }
+
+    private void count(Card card) {
+        if (card != null && card.getDeckIndex() >= 0) {
+            counts[card.getDeckIndex()]++;
+        } else {
+            irregular++;
+        }
+    }
+
+    private void uncount(Card card) {
+        if (card != null && card.getDeckIndex() >= 0) {
+            counts[card.getDeckIndex()]--;
+        } else {
+            irregular--;
+        }
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.balatro.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Represents sets of standard cards as 52-bit masks.
+ * Card index is suit * 13 + rank, in the same order as the standard deck
+ * (Hearts, Diamonds, Clubs, Spades and A, 2, ..., K), so a whole hand or deck fits in one long.
+ * Scoring a mask gives the same hand type and score as Hand before joker effects.
+ */
+public final class CardMask {
+    /** Number of cards in a standard deck. */
+    public static final int DECK_SIZE = 52;
+    /** Number of ranks per suit. */
+    public static final int RANKS = 13;
+    /** Mask containing every standard card. */
+    public static final long FULL_DECK = (1L << DECK_SIZE) - 1;
+
+    private static final String[] SUITS = {"Hearts", "Diamonds", "Clubs", "Spades"};
+    private static final String[] RANK_NAMES = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+    // Point values by rank index (A=11, J/Q/K=10, others=face value)
+    private static final int[] VALUES = {11, 2, 3, 4, 5, 6, 7, 8, 9, 10, 10, 10, 10};
+    // Straight order by rank index (A is high only, as in Hand)
+    private static final int[] STRAIGHT_ORDER = {14, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        for (int i = 0; i < DECK_SIZE; i++) {
+            CARDS[i] = new Card(SUITS[i / RANKS], RANK_NAMES[i % RANKS], VALUES[i % RANKS]);
+        }
+    }
+
+    private CardMask() {
+    }
+
+    /**
+     * Gets the index of a standard card.
+     *
+     * @param card the card
+     * @return the index, from 0 to 51
+     * @throws IllegalArgumentException if the card is a joker
+     */
+    public static int indexOf(Card card) {
+        int index = card.getDeckIndex();
+        if (index >= 0) {
+            return index;
+        }
+        int suit = indexIn(SUITS, card.getSuit());
+        if (suit < 0) {
+            throw new IllegalArgumentException("Only standard cards have a mask index: " + card);
+        }
+        return suit * RANKS + indexIn(RANK_NAMES, card.getRank());
+    }
+
+    /**
+     * Gets the card at an index.
+     *
+     * @param index the index, from 0 to 51
+     * @return the card
+     */
+    public static Card cardAt(int index) {
+        return CARDS[index];
+    }
+
+    /**
+     * Builds the mask of a collection of cards.
+     *
+     * @param cards the cards
+     * @return the mask with one bit set per card
+     */
+    public static long maskOf(Collection<Card> cards) {
+        long mask = 0;
+        for (Card card : cards) {
+            mask |= 1L << indexOf(card);
+        }
+        return mask;
+    }
+
+    /**
+     * Lists the cards in a mask, in index order.
+     *
+     * @param mask the mask
+     * @return the cards
+     */
+    public static List<Card> cardsOf(long mask) {
+        List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            cards.add(CARDS[Long.numberOfTrailingZeros(rest)]);
+        }
+        return cards;
+    }
+
+    /**
+     * Gets the point value of the card at an index.
+     *
+     * @param index the index
+     * @return the value (A=11, K/Q/J=10, others=face value)
+     */
+    public static int valueAt(int index) {
+        return VALUES[index % RANKS];
+    }
+
+    /**
+     * Evaluates the hand type of a set of cards with the same rules as Hand.
+     *
+     * @param mask the cards
+     * @return the hand type
+     */
+    public static HandType handType(long mask) {
+        int count = Long.bitCount(mask);
+        if (count == 0) {
+            return HandType.HIGH_CARD;
+        }
+        int[] rankCounts = new int[RANKS];
+        int suits = 0;
+        int lowest = Integer.MAX_VALUE;
+        int highest = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int index = Long.numberOfTrailingZeros(rest);
+            int rank = index % RANKS;
+            rankCounts[rank]++;
+            suits |= 1 << (index / RANKS);
+            lowest = Math.min(lowest, STRAIGHT_ORDER[rank]);
+            highest = Math.max(highest, STRAIGHT_ORDER[rank]);
+        }
+        int pairs = 0;
+        boolean three = false;
+        boolean four = false;
+        boolean repeated = false;
+        for (int rankCount : rankCounts) {
+            if (rankCount == 2) {
+                pairs++;
+            } else if (rankCount == 3) {
+                three = true;
+            } else if (rankCount == 4) {
+                four = true;
+            }
+            repeated |= rankCount > 1;
+        }
+        boolean flush = count >= 5 && Integer.bitCount(suits) == 1;
+        boolean straight = count >= 5 && !repeated && highest - lowest == count - 1;
+
+        if (flush && straight) {
+            return HandType.STRAIGHT_FLUSH;
+        } else if (four) {
+            return HandType.FOUR_OF_A_KIND;
+        } else if (count >= 5 && three && pairs > 0) {
+            return HandType.FULL_HOUSE;
+        } else if (flush) {
+            return HandType.FLUSH;
+        } else if (straight) {
+            return HandType.STRAIGHT;
+        } else if (three) {
+            return HandType.THREE_OF_A_KIND;
+        } else if (pairs >= 2) {
+            return HandType.TWO_PAIR;
+        } else if (pairs == 1) {
+            return HandType.PAIR;
+        }
+        return HandType.HIGH_CARD;
+    }
+
+    /**
+     * Scores a played set of cards: (hand type base score + card values) × hand type multiplier.
+     * This matches GameService scoring before joker effects.
+     *
+     * @param mask the played cards
+     * @return the score, or 0 for an empty mask
+     */
+    public static int score(long mask) {
+        if (mask == 0) {
+            return 0;
+        }
+        HandType handType = handType(mask);
+        int cardValues = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            cardValues += valueAt(Long.numberOfTrailingZeros(rest));
+        }
+        return (handType.getBaseScore() + cardValues) * handType.getMultiplier();
+    }
+
+    /**
+     * Finds the index of a name in an array.
+     *
+     * @param names the names
+     * @param name the name to look up
+     * @return the index, or -1 if it is not present
+     */
+    private static int indexIn(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
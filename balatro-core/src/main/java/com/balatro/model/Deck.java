@@ -10,17 +10,18 @@ import java.util.Random;
  * It also contains methods to reset the deck, shuffle the deck, draw a card, peek at the top card, add a card, get the number of cards remaining in the deck, and get all cards in the deck.
  */
 public class Deck {
-    private List<Card> cards;
+    private final CardList cards;
     private final Random random;
     private boolean isNewRound;  // Track if this is a new round
     private int currentScore;    // Track current score
+    private final List<DeckListener> listeners = new ArrayList<>();
 
     /**
      * This constructor creates a new standard deck of 52 cards.
      * In Balatro, deck is only shuffled at the start of each round.
      */
     public Deck() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardList(52);
         this.random = new Random();
         this.isNewRound = true;  // First round starts with shuffle
         this.currentScore = 0;
@@ -28,9 +29,24 @@ public class Deck {
         shuffle();  // Initial shuffle for first round
     }
 
+    /**
+     * This constructor creates a standard deck of 52 cards shuffled with a fixed seed.
+     * Two decks created with the same seed have the same card order, which lets a stage be replayed or solved.
+     *
+     * @param seed the seed for the shuffle
+     */
+    public Deck(long seed) {
+        this.cards = new CardList(52);
+        this.random = new Random(seed);
+        this.isNewRound = true;
+        this.currentScore = 0;
+        resetDeck();
+        shuffle();
+    }
+
     /**
      * This constructor creates a deck with the specified cards.
-     * @new ArrayList<>(cards) is used to create a new ArrayList of the cards passed in
+     * @new CardList(cards) is used to create a new CardList of the cards passed in
      * @new Random() is used to create a new Random object
      * @param cards the initial cards for the deck
      * @param random the random number generator to use
@@ -38,7 +54,7 @@ public class Deck {
      * The purpose of this constructor is to create a deck with the specified cards.
      */
     public Deck(List<Card> cards) {
-        this.cards = new ArrayList<>(cards);
+        this.cards = new CardList(cards);
         this.random = new Random();
     }
 
@@ -84,6 +100,7 @@ public class Deck {
         for (Card card : standardDeck) {
             cards.add(card);
         }
+        fireDeckReset();
     }
 
     /**
@@ -195,7 +212,9 @@ public class Deck {
         
         // Draw the requested number of cards
         for (int i = 0; i < numCardsDiscarded; i++) {
-            newCards.add(cards.remove(cards.size() - 1));
+            Card drawn = cards.remove(cards.size() - 1);
+            newCards.add(drawn);
+            fireCardRemoved(drawn);
         }
         
         // Combine kept cards and new cards
@@ -209,6 +228,62 @@ public class Deck {
         return new Deck(combinedCards);
     }
 
+    /**
+     * Draws the top card of the deck.
+     *
+     * @return the drawn card, or null if the deck is empty
+     */
+    public Card drawTopCard() {
+        if (cards.isEmpty()) {
+            return null;
+        }
+        Card card = cards.remove(0);
+        fireCardRemoved(card);
+        return card;
+    }
+
+    /**
+     * Adds a card to the bottom of the deck.
+     *
+     * @param card the card to add
+     */
+    public void addCard(Card card) {
+        cards.add(card);
+        fireCardAdded(card);
+    }
+
+    /**
+     * Removes a specific card from the deck.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the deck
+     */
+    public boolean removeCard(Card card) {
+        if (!cards.remove(card)) {
+            return false;
+        }
+        fireCardRemoved(card);
+        return true;
+    }
+
+    /**
+     * Registers a listener that is notified when cards are added to or removed from the deck.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(DeckListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a deck listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(DeckListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Gets the number of cards remaining in the deck.
      *
@@ -236,9 +311,20 @@ public class Deck {
         return new ArrayList<>(cards);
     }
 
+    /**
+     * Gets a read-only view of the cards in the deck.
+     * Unlike getCards, this does not copy the deck; the view reflects later draws and shuffles.
+     *
+     * @return an unmodifiable view of the cards
+     */
+    public List<Card> getCardsView() {
+        return cards.readOnlyView();
+    }
+
     /**
      * Gets the mutable list of cards in the deck.
      * This is for internal use only to directly modify the deck.
+     * Changes made through this list are not reported to deck listeners.
      *
      * @return the mutable list of cards
      */
@@ -246,6 +332,19 @@ public class Deck {
         return cards;
     }
 
+    /**
+     * Replaces the cards of the deck, as when a saved game is loaded, and notifies listeners of a reset.
+     *
+     * @param order the cards, top first
+     * @param newRound whether the deck is in a new round state
+     */
+    public void restore(List<Card> order, boolean newRound) {
+        cards.clear();
+        cards.addAll(order);
+        isNewRound = newRound;
+        fireDeckReset();
+    }
+
     /**
      * Checks if the deck is in a new round state.
      * 
@@ -254,4 +353,35 @@ public class Deck {
     public boolean isNewRound() {
         return isNewRound;
     }
+
+    /**
+     * Notifies the listeners that a card was added.
+     *
+     * @param card the added card
+     */
+    private void fireCardAdded(Card card) {
+        for (DeckListener listener : listeners) {
+            listener.cardAdded(card);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a card was removed.
+     *
+     * @param card the removed card
+     */
+    private void fireCardRemoved(Card card) {
+        for (DeckListener listener : listeners) {
+            listener.cardRemoved(card);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the deck contents were replaced.
+     */
+    private void fireDeckReset() {
+        for (DeckListener listener : listeners) {
+            listener.deckReset();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.balatro.model;
+
+/**
+ * Listener for changes to the contents of a deck.
+ * Only changes made through the deck's own methods are reported;
+ * changes made directly to {@link Deck#getMutableCards()} are not.
+ */
+public interface DeckListener {
+
+    /**
+     * Called after a card has been added to the deck.
+     *
+     * @param card the added card
+     */
+    void cardAdded(Card card);
+
+    /**
+     * Called after a card has been removed from the deck.
+     *
+     * @param card the removed card
+     */
+    void cardRemoved(Card card);
+
+    /**
+     * Called after the whole contents of the deck have been replaced.
+     */
+    void deckReset();
+}
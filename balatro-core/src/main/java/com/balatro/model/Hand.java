@@ -1,7 +1,6 @@
 package com.balatro.model;
-// Importing java.util for the ArrayList, HashMap, and Collections classes.
+// Importing java.util for the ArrayList and HashMap classes.
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -22,7 +21,7 @@ public class Hand {
     private static final int MAX_CARDS_TO_DISCARD = 5;
 
     // Creating a list of cards to store the cards in the hand.
-    private final List<Card> cards;
+    private final CardList cards;
     // Creating a hand type to store the type of hand.
     private HandType handType;
     // Creating a base score to store the base score of the hand.
@@ -38,7 +37,7 @@ public class Hand {
      * @param multiplier: the multiplier of the hand. default is 1
      */
     public Hand() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardList(MAX_CARDS);
         this.handType = HandType.HIGH_CARD;
         this.baseScore = 0;
         this.multiplier = 1;
@@ -219,12 +218,12 @@ public class Hand {
 
     /**
      * Gets all cards in this hand
-     * unmodifiableList is used to return an unmodifiable view of the cards to prevent modification of the cards list.
+     * The same unmodifiable view is returned on every call, so reading the hand does not allocate.
      * @return an unmodifiable view of the cards
      */
     public List<Card> getCards() {
         // Allow access to the cards even if empty
-        return Collections.unmodifiableList(cards);
+        return cards.readOnlyView();
     }
     
     /**
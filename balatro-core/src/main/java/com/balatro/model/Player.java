@@ -10,7 +10,7 @@ import java.util.UUID;
 public class Player {
     private final String playerId;
     private String username;
-    private List<Card> hand;
+    private final CardList hand;
     private int score;
     private boolean isActive;
     private int chips;
@@ -23,7 +23,7 @@ public class Player {
     public Player(String username) {
         this.playerId = UUID.randomUUID().toString();
         this.username = username;
-        this.hand = new ArrayList<>();
+        this.hand = new CardList();
         this.score = 0;
         this.isActive = true;
         this.chips = 0;
@@ -65,6 +65,15 @@ public class Player {
         return new ArrayList<>(hand);
     }
 
+    /**
+     * Gets a read-only view of the player's hand, without copying it.
+     *
+     * @return an unmodifiable view of the cards in hand
+     */
+    public List<Card> getHandView() {
+        return hand.readOnlyView();
+    }
+
     /**
      * Adds a card to the player's hand.
      *
@@ -0,0 +1,47 @@
+package com.balatro.observable;
+
+/**
+ * An observable boolean.
+ */
+public final class BooleanProperty extends Property<Boolean> {
+    private boolean value;
+
+    /**
+     * Creates a property with an initial value.
+     *
+     * @param value the initial value
+     */
+    public BooleanProperty(boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     *
+     * @return the value
+     */
+    public boolean get() {
+        return value;
+    }
+
+    /**
+     * Sets the value, notifying the listeners if it changed.
+     *
+     * @param value the new value
+     */
+    public void set(boolean value) {
+        boolean oldValue = this.value;
+        if (oldValue == value) {
+            return;
+        }
+        this.value = value;
+        if (hasListeners()) {
+            fireChanged(oldValue, value);
+        }
+    }
+
+    @Override
+    public Boolean getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,47 @@
+package com.balatro.observable;
+
+/**
+ * An observable int.
+ */
+public final class IntegerProperty extends Property<Integer> {
+    private int value;
+
+    /**
+     * Creates a property with an initial value.
+     *
+     * @param value the initial value
+     */
+    public IntegerProperty(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     *
+     * @return the value
+     */
+    public int get() {
+        return value;
+    }
+
+    /**
+     * Sets the value, notifying the listeners if it changed.
+     *
+     * @param value the new value
+     */
+    public void set(int value) {
+        int oldValue = this.value;
+        if (oldValue == value) {
+            return;
+        }
+        this.value = value;
+        if (hasListeners()) {
+            fireChanged(oldValue, value);
+        }
+    }
+
+    @Override
+    public Integer getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,51 @@
+package com.balatro.observable;
+
+import java.util.Objects;
+
+/**
+ * An observable reference, such as an enum constant or a string.
+ *
+ * @param <T> the value type
+ */
+public final class ObjectProperty<T> extends Property<T> {
+    private T value;
+
+    /**
+     * Creates a property with an initial value.
+     *
+     * @param value the initial value, may be null
+     */
+    public ObjectProperty(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     *
+     * @return the value, may be null
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Sets the value, notifying the listeners if it is not equal to the current one.
+     *
+     * @param value the new value, may be null
+     */
+    public void set(T value) {
+        T oldValue = this.value;
+        if (Objects.equals(oldValue, value)) {
+            return;
+        }
+        this.value = value;
+        if (hasListeners()) {
+            fireChanged(oldValue, value);
+        }
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,22 @@
+package com.balatro.observable;
+
+/**
+ * A value or collection of the game model whose changes can be listened to.
+ * The model has no UI dependency; the client adapts these to JavaFX properties for its bindings.
+ */
+public interface Observable {
+
+    /**
+     * Registers a listener that is notified after every change.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(ObservableListener listener);
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(ObservableListener listener);
+}
@@ -0,0 +1,129 @@
+package com.balatro.observable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list that notifies its listeners after every change to its contents.
+ * Reads and lookups go straight to the backing list, so a {@link com.balatro.model.CardList} keeps its
+ * fast contains, indexOf and remove. Bulk changes made through {@link #clear()}, {@link #setAll(Collection)}
+ * and {@link #addAll(Collection)} are reported once.
+ *
+ * @param <E> the element type
+ */
+public final class ObservableList<E> extends AbstractList<E> implements RandomAccess, Observable {
+    private final List<E> elements;
+    private final List<ObservableListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates an observable list backed by the given list, which should not be changed directly afterwards.
+     *
+     * @param elements the backing list
+     */
+    public ObservableList(List<E> elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return elements.indexOf(o);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = elements.set(index, element);
+        fireChanged();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements.add(index, element);
+        modCount++;
+        fireChanged();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (!elements.addAll(c)) {
+            return false;
+        }
+        modCount++;
+        fireChanged();
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        fireChanged();
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!elements.remove(o)) {
+            return false;
+        }
+        modCount++;
+        fireChanged();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        elements.clear();
+        modCount++;
+        fireChanged();
+    }
+
+    /**
+     * Replaces the contents of the list, notifying the listeners once.
+     *
+     * @param c the new contents
+     */
+    public void setAll(Collection<? extends E> c) {
+        elements.clear();
+        elements.addAll(c);
+        modCount++;
+        fireChanged();
+    }
+
+    @Override
+    public void addListener(ObservableListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ObservableListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireChanged() {
+        for (ObservableListener listener : listeners) {
+            listener.changed(this);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.balatro.observable;
+
+/**
+ * Listener for changes to an observable, without the old and new values.
+ */
+@FunctionalInterface
+public interface ObservableListener {
+
+    /**
+     * Called after the observable changed.
+     *
+     * @param observable the observable that changed
+     */
+    void changed(Observable observable);
+}
@@ -0,0 +1,75 @@
+package com.balatro.observable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single observable value of the game model.
+ * Listeners are called on the thread that sets the value, after it has been set.
+ * Like the rest of the model, properties are not thread-safe.
+ *
+ * @param <T> the value type, boxed for primitive properties
+ */
+public abstract class Property<T> implements Observable {
+    private final List<ObservableListener> listeners = new ArrayList<>();
+    private final List<ValueListener<? super T>> valueListeners = new ArrayList<>();
+
+    /**
+     * Gets the value, boxed for primitive properties.
+     *
+     * @return the value
+     */
+    public abstract T getValue();
+
+    @Override
+    public void addListener(ObservableListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ObservableListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Registers a listener that is given the old and new value after every change.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(ValueListener<? super T> listener) {
+        valueListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a value listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(ValueListener<? super T> listener) {
+        valueListeners.remove(listener);
+    }
+
+    /**
+     * Checks whether any listener is registered, so primitive properties only box their values when needed.
+     *
+     * @return true if there is at least one listener
+     */
+    protected boolean hasListeners() {
+        return !listeners.isEmpty() || !valueListeners.isEmpty();
+    }
+
+    /**
+     * Notifies the listeners of a change.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    protected void fireChanged(T oldValue, T newValue) {
+        for (ObservableListener listener : listeners) {
+            listener.changed(this);
+        }
+        for (ValueListener<? super T> listener : valueListeners) {
+            listener.changed(oldValue, newValue);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.balatro.observable;
+
+/**
+ * Listener for changes to the value of a property.
+ *
+ * @param <T> the value type
+ */
+@FunctionalInterface
+public interface ValueListener<T> {
+
+    /**
+     * Called after the value of a property changed. Setting a property to its current value is not a change.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    void changed(T oldValue, T newValue);
+}
@@ -0,0 +1,72 @@
+package com.balatro.save;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps saved games in a local directory, one file per key named KEY.sav.
+ * Files are written to a temporary name and moved into place, so a reader never sees a partial file.
+ * Writes are not forced to disk, so saving on every action stays cheap; a crash of the machine, not just the
+ * process, can lose the last saves.
+ */
+public final class FileSaveStore implements SaveStore {
+    private static final String SUFFIX = ".sav";
+    private static final Pattern KEY = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9_.-]{0,127}");
+
+    private final Path directory;
+
+    /**
+     * Creates a store.
+     *
+     * @param directory the directory holding the files; it is created on the first write
+     */
+    public FileSaveStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the file of a key.
+     *
+     * @param key the key
+     * @return the path of the file, which may not exist
+     * @throws IllegalArgumentException if the key has characters other than letters, digits, '-', '_' and '.'
+     *         or starts with '.'
+     */
+    public Path pathOf(String key) {
+        if (!KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid save key " + key);
+        }
+        return directory.resolve(key + SUFFIX);
+    }
+
+    @Override
+    public void write(String key, byte[] data) throws IOException {
+        Path target = pathOf(key);
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "save-", ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        try {
+            return Files.readAllBytes(pathOf(key));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(pathOf(key));
+    }
+}
@@ -0,0 +1,150 @@
+package com.balatro.save;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.balatro.service.GameStateManager;
+
+/**
+ * Saves games to a SaveStore cheaply enough to save after every action.
+ *
+ * Each game has a keyframe, a full frame stored under its id, and at most one delta, the latest state compressed
+ * against the keyframe and stored under id.delta. A save writes only a new delta, which replaces the last one,
+ * until keyframeInterval deltas have been written or a delta would be as large as a full frame; then it writes a
+ * new keyframe and deletes the delta. The saver keeps each game's keyframe body in memory to compress against.
+ *
+ * Loading reads the keyframe and applies the delta. A delta written against an older keyframe, left behind if
+ * the process stopped between writing a keyframe and deleting the delta, is ignored, since the keyframe is newer.
+ * Each game must be saved and loaded by one thread at a time; different games may be saved concurrently.
+ */
+public final class GameSaver {
+    /** The number of deltas written against one keyframe when none is given. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+    private static final String DELTA_SUFFIX = ".delta";
+    private static final Pattern ID = Pattern.compile("[A-Za-z0-9_-]{1,100}");
+
+    private final SaveStore store;
+    private final int keyframeInterval;
+    private final Map<String, Keyframe> keyframes = new ConcurrentHashMap<>();
+
+    /**
+     * The body of a game's keyframe and the deltas written against it.
+     */
+    private static final class Keyframe {
+        private final byte[] body;
+        private final int frameSize;
+        private int deltas;
+
+        private Keyframe(byte[] body, int frameSize) {
+            this.body = body;
+            this.frameSize = frameSize;
+        }
+    }
+
+    /**
+     * Creates a saver that writes a keyframe every DEFAULT_KEYFRAME_INTERVAL saves.
+     *
+     * @param store the store the saves are written to
+     */
+    public GameSaver(SaveStore store) {
+        this(store, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates a saver.
+     *
+     * @param store the store the saves are written to
+     * @param keyframeInterval the most deltas written against one keyframe; 0 writes only keyframes
+     */
+    public GameSaver(SaveStore store, int keyframeInterval) {
+        if (keyframeInterval < 0) {
+            throw new IllegalArgumentException("Keyframe interval must not be negative");
+        }
+        this.store = store;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Saves a game.
+     *
+     * @param id the game's id, of letters, digits, '-' and '_'
+     * @param game the game
+     * @return the number of bytes written
+     * @throws IOException if the store cannot be written
+     */
+    public int save(String id, GameStateManager game) throws IOException {
+        checkId(id);
+        byte[] body = SaveCodec.encodeBody(GameSnapshot.of(game));
+        Keyframe keyframe = keyframes.get(id);
+        if (keyframe != null && keyframe.deltas < keyframeInterval) {
+            byte[] delta = SaveCodec.compress(body, keyframe.body);
+            if (delta.length < keyframe.frameSize) {
+                store.write(id + DELTA_SUFFIX, delta);
+                keyframe.deltas++;
+                return delta.length;
+            }
+        }
+        byte[] frame = SaveCodec.compress(body, null);
+        store.write(id, frame);
+        store.delete(id + DELTA_SUFFIX);
+        keyframes.put(id, new Keyframe(body, frame.length));
+        return frame.length;
+    }
+
+    /**
+     * Loads a saved game into a game, which may be in any state.
+     *
+     * @param id the game's id
+     * @param game the game to restore the saved state into
+     * @return true if the game was restored, false if there is no save under the id
+     * @throws IOException if the store cannot be read or the save is corrupt
+     */
+    public boolean load(String id, GameStateManager game) throws IOException {
+        checkId(id);
+        byte[] frame = store.read(id);
+        if (frame == null) {
+            return false;
+        }
+        byte[] keyframeBody = SaveCodec.decompress(frame, null);
+        byte[] body = keyframeBody;
+        byte[] delta = store.read(id + DELTA_SUFFIX);
+        if (delta != null && SaveCodec.matchesBase(delta, keyframeBody)) {
+            body = SaveCodec.decompress(delta, keyframeBody);
+        }
+        SaveCodec.decodeBody(body).restore(game);
+        keyframes.put(id, new Keyframe(keyframeBody, frame.length));
+        return true;
+    }
+
+    /**
+     * Deletes a game's save.
+     *
+     * @param id the game's id
+     * @throws IOException if the store cannot delete it
+     */
+    public void delete(String id) throws IOException {
+        checkId(id);
+        keyframes.remove(id);
+        store.delete(id + DELTA_SUFFIX);
+        store.delete(id);
+    }
+
+    /**
+     * Drops the keyframe kept in memory for a game that is no longer played. Its save stays in the store,
+     * and its next save, if any, writes a keyframe.
+     *
+     * @param id the game's id
+     */
+    public void close(String id) {
+        keyframes.remove(id);
+    }
+
+    private static void checkId(String id) {
+        if (!ID.matcher(id).matches()) {
+            throw new IllegalArgumentException("Invalid game id " + id);
+        }
+    }
+}
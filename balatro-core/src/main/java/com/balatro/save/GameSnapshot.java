@@ -0,0 +1,219 @@
+package com.balatro.save;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Joker;
+import com.balatro.model.JokerType;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+
+/**
+ * The saved state of a game: the GameStateManager's stage, level, chips and limits and the GameService's
+ * score, deck order, hand, selection, discard pile and jokers.
+ *
+ * Cards are held as their CardMask indexes, one byte each. Display text and counts that follow from the
+ * saved state, such as the hand type of the selection and the cards left in the deck, are recomputed on restore.
+ * The random number generators are not saved: a restored game draws the saved deck in the saved order, but
+ * jokers and shuffles after the next new round differ from those the original game would have had.
+ */
+public final class GameSnapshot {
+    final GameStateManager.LevelStage stage;
+    final GameStateManager.GamePhase phase;
+    final String phaseText;
+    final int level;
+    final int round;
+    final int chips;
+    final int stageValue;
+    final int handsPlayed;
+    final int discardsUsed;
+    final int maxHands;
+    final int maxDiscards;
+    final boolean handLimitReached;
+    final boolean discardLimitReached;
+    final JokerType managerJoker;
+
+    final GameService.GameState gameState;
+    final int score;
+    final int serviceRound;
+    final int targetScore;
+    final boolean canDrawCards;
+    final int cardsToDraw;
+    final boolean roundCompleted;
+    final boolean deckNewRound;
+    final JokerType serviceJoker;
+    final byte[] deck;
+    final byte[] hand;
+    final byte[] selected;
+    final byte[] discards;
+
+    GameSnapshot(GameStateManager.LevelStage stage, GameStateManager.GamePhase phase, String phaseText, int level,
+            int round, int chips, int stageValue, int handsPlayed, int discardsUsed, int maxHands, int maxDiscards,
+            boolean handLimitReached, boolean discardLimitReached, JokerType managerJoker,
+            GameService.GameState gameState, int score, int serviceRound, int targetScore, boolean canDrawCards,
+            int cardsToDraw, boolean roundCompleted, boolean deckNewRound, JokerType serviceJoker, byte[] deck,
+            byte[] hand, byte[] selected, byte[] discards) {
+        this.stage = stage;
+        this.phase = phase;
+        this.phaseText = phaseText;
+        this.level = level;
+        this.round = round;
+        this.chips = chips;
+        this.stageValue = stageValue;
+        this.handsPlayed = handsPlayed;
+        this.discardsUsed = discardsUsed;
+        this.maxHands = maxHands;
+        this.maxDiscards = maxDiscards;
+        this.handLimitReached = handLimitReached;
+        this.discardLimitReached = discardLimitReached;
+        this.managerJoker = managerJoker;
+        this.gameState = gameState;
+        this.score = score;
+        this.serviceRound = serviceRound;
+        this.targetScore = targetScore;
+        this.canDrawCards = canDrawCards;
+        this.cardsToDraw = cardsToDraw;
+        this.roundCompleted = roundCompleted;
+        this.deckNewRound = deckNewRound;
+        this.serviceJoker = serviceJoker;
+        this.deck = deck;
+        this.hand = hand;
+        this.selected = selected;
+        this.discards = discards;
+    }
+
+    /**
+     * Captures the state of a game.
+     *
+     * @param game the game
+     * @return the snapshot
+     */
+    public static GameSnapshot of(GameStateManager game) {
+        GameService service = game.getGameService();
+        return new GameSnapshot(game.getCurrentStage(), game.getCurrentPhase(), game.getGamePhase(),
+                game.getCurrentLevel(), game.getCurrentRound(), game.getPlayerChips(), game.getStageValue(),
+                game.getHandsPlayedInStage(), game.getDiscardsUsedInStage(), game.getMaxHandsPerStage(),
+                game.getMaxDiscardsPerStage(), game.isHandLimitReached(), game.isDiscardLimitReached(),
+                typeOf(game.getCurrentJoker()), service.getGameState(), service.getScore(), service.getRound(),
+                service.getTargetScore(), service.getCanDrawCards(), service.getCardsToDrawCount(),
+                service.isRoundCompleted(), service.getDeck().isNewRound(), typeOf(service.getCurrentJoker()),
+                indexesOf(service.getDeck().getCardsView()), indexesOf(service.getPlayerHand().getCards()),
+                indexesOf(service.getSelectedCards()), indexesOf(service.getDiscardPile()));
+    }
+
+    /**
+     * Puts a game into the saved state. Listeners of the game's properties, lists and deck are notified
+     * as for any other change.
+     *
+     * @param game the game, which may be in any state
+     */
+    public void restore(GameStateManager game) {
+        GameService service = game.getGameService();
+        service.getDeck().restore(cardsOf(deck), deckNewRound);
+        service.getPlayerHand().getMutableCards().clear();
+        service.getPlayerHand().initializeHand(cardsOf(hand));
+        service.getDiscardPile().setAll(cardsOf(discards));
+        service.getSelectedCards().clear();
+        // Invalidates the score cache, which was keyed to the old hand
+        service.setCurrentJoker(jokerOf(serviceJoker));
+        for (Card card : cardsOf(selected)) {
+            service.selectCard(card);
+        }
+        service.gameStateProperty().set(gameState);
+        service.scoreProperty().set(score);
+        service.roundProperty().set(serviceRound);
+        service.targetScoreProperty().set(targetScore);
+        service.canDrawCardsProperty().set(canDrawCards);
+        service.cardsToDrawCountProperty().set(cardsToDraw);
+        service.roundCompletedProperty().set(roundCompleted);
+        service.remainingCardsProperty().set(deck.length);
+
+        game.currentStageProperty().set(stage);
+        game.currentPhaseProperty().set(phase);
+        game.gamePhaseProperty().set(phaseText);
+        game.currentLevelProperty().set(level);
+        game.currentRoundProperty().set(round);
+        game.playerChipsProperty().set(chips);
+        game.stageValueProperty().set(stageValue);
+        game.handsPlayedInStageProperty().set(handsPlayed);
+        game.discardsUsedInStageProperty().set(discardsUsed);
+        game.maxHandsPerStageProperty().set(maxHands);
+        game.maxDiscardsPerStageProperty().set(maxDiscards);
+        game.handLimitReachedProperty().set(handLimitReached);
+        game.discardLimitReachedProperty().set(discardLimitReached);
+        game.setCurrentJoker(jokerOf(managerJoker));
+    }
+
+    /**
+     * Gets the stage of the game.
+     *
+     * @return the stage
+     */
+    public GameStateManager.LevelStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Gets the score of the current round.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the cards left in the deck.
+     *
+     * @return the cards, top first
+     */
+    public List<Card> getDeck() {
+        return cardsOf(deck);
+    }
+
+    /**
+     * Gets the cards in the player's hand.
+     *
+     * @return the cards, in hand order
+     */
+    public List<Card> getHand() {
+        return cardsOf(hand);
+    }
+
+    /**
+     * Gets the played and discarded cards of the round.
+     *
+     * @return the cards, in the order they left the hand
+     */
+    public List<Card> getDiscardPile() {
+        return cardsOf(discards);
+    }
+
+    private static byte[] indexesOf(List<Card> cards) {
+        byte[] indexes = new byte[cards.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = (byte) CardMask.indexOf(cards.get(i));
+        }
+        return indexes;
+    }
+
+    private static List<Card> cardsOf(byte[] indexes) {
+        List<Card> cards = new ArrayList<>(indexes.length);
+        for (byte index : indexes) {
+            cards.add(CardMask.cardAt(index));
+        }
+        return cards;
+    }
+
+    private static JokerType typeOf(Joker joker) {
+        return joker != null ? joker.getType() : null;
+    }
+
+    private static Joker jokerOf(JokerType type) {
+        return type != null
+                ? new Joker(type, type.getMultiplier(), type.getActivationType(), type.getRarity())
+                : null;
+    }
+}
@@ -0,0 +1,401 @@
+package com.balatro.save;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.model.JokerType;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+
+/**
+ * Keeps the state of many games outside the Java heap, one fixed-size slot per game.
+ *
+ * A live GameStateManager is a graph of many small objects: properties, observable lists, the deck and hand
+ * lists and their listeners. With tens of thousands of games, the collector has to trace all of them on every
+ * full collection. This store instead writes each game's GameSnapshot into a slot of SLOT_SIZE bytes in direct
+ * buffers, with counters as ints, enums and flags as bytes and each card as its CardMask index, so the heap holds
+ * only the buffers themselves. A game is materialized on demand by restoring its slot into a GameStateManager,
+ * which can be reused for the next game, and written back after the action. The score, chips, level and stage
+ * can be read straight from a slot without materializing anything.
+ *
+ * Slots are addressed by the int returned from allocate. Buffers of SLAB_SLOTS slots are allocated as slots are
+ * first needed and are released when the store is garbage collected; they count against -XX:MaxDirectMemorySize.
+ * Phase texts, the only strings in a game, are interned in a small table and stored as their index.
+ *
+ * Allocating and freeing slots is synchronized. Reading and writing slots uses absolute buffer operations only,
+ * so different slots may be used by different threads at once, but one slot must not be written while another
+ * thread reads or writes it, just as the actions of one game are applied one at a time. A slot handed
+ * to another thread must be handed over safely, like any other object.
+ */
+public final class OffHeapSessionStore {
+    /** The bytes of one game's slot. */
+    public static final int SLOT_SIZE = 184;
+    /** The slots in each direct buffer. */
+    public static final int SLAB_SLOTS = 4096;
+
+    private static final int DECK_CARDS = CardMask.DECK_SIZE;
+    private static final int HAND_CARDS = Hand.getMaxCards();
+    private static final int SELECTED_CARDS = Hand.getMaxCardsToPlay();
+    private static final int DISCARD_CARDS = CardMask.DECK_SIZE;
+    private static final int MAX_TEXTS = Short.MAX_VALUE;
+
+    private static final int LEVEL = 0;
+    private static final int ROUND = 4;
+    private static final int CHIPS = 8;
+    private static final int STAGE_VALUE = 12;
+    private static final int HANDS_PLAYED = 16;
+    private static final int DISCARDS_USED = 20;
+    private static final int MAX_HANDS = 24;
+    private static final int MAX_DISCARDS = 28;
+    private static final int SCORE = 32;
+    private static final int SERVICE_ROUND = 36;
+    private static final int TARGET_SCORE = 40;
+    private static final int CARDS_TO_DRAW = 44;
+    private static final int STAGE = 48;
+    private static final int PHASE = 49;
+    private static final int GAME_STATE = 50;
+    private static final int FLAGS = 51;
+    private static final int MANAGER_JOKER = 52;
+    private static final int SERVICE_JOKER = 53;
+    private static final int PHASE_TEXT = 54;
+    private static final int DECK_COUNT = 56;
+    private static final int HAND_COUNT = 57;
+    private static final int SELECTED_COUNT = 58;
+    private static final int DISCARD_COUNT = 59;
+    private static final int DECK = 60;
+    private static final int HAND = DECK + DECK_CARDS;
+    private static final int SELECTED = HAND + HAND_CARDS;
+    private static final int DISCARDS = SELECTED + SELECTED_CARDS;
+
+    private static final int ALLOCATED = 1;
+    private static final int WRITTEN = 1 << 1;
+    private static final int HAND_LIMIT_REACHED = 1 << 2;
+    private static final int DISCARD_LIMIT_REACHED = 1 << 3;
+    private static final int CAN_DRAW_CARDS = 1 << 4;
+    private static final int ROUND_COMPLETED = 1 << 5;
+    private static final int DECK_NEW_ROUND = 1 << 6;
+
+    static {
+        if (DISCARDS + DISCARD_CARDS > SLOT_SIZE) {
+            throw new ExceptionInInitializerError("Slot layout exceeds " + SLOT_SIZE + " bytes");
+        }
+    }
+
+    private final int capacity;
+    private final ByteBuffer[] slabs;
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextSlot;
+    private int slabCount;
+    private int size;
+    private final Map<String, Integer> textIndexes = new ConcurrentHashMap<>();
+    private volatile String[] texts = new String[0];
+
+    /**
+     * Creates an empty store.
+     *
+     * @param capacity the most games the store holds at once
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public OffHeapSessionStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slabs = new ByteBuffer[(capacity + SLAB_SLOTS - 1) / SLAB_SLOTS];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * Reserves a slot for a game. The slot holds no state until it is first written.
+     *
+     * @return the slot
+     * @throws IllegalStateException if the store is full
+     */
+    public synchronized int allocate() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (nextSlot < capacity) {
+            slot = nextSlot++;
+            int slab = slot / SLAB_SLOTS;
+            if (slabs[slab] == null) {
+                slabs[slab] = ByteBuffer.allocateDirect(SLAB_SLOTS * SLOT_SIZE).order(ByteOrder.nativeOrder());
+                slabCount++;
+            }
+        } else {
+            throw new IllegalStateException("Session store is full: " + capacity + " games");
+        }
+        slabOf(slot).put(offsetOf(slot) + FLAGS, (byte) ALLOCATED);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Releases a slot so that it can hold another game.
+     *
+     * @param slot the slot
+     * @throws IllegalArgumentException if the slot was not allocated
+     */
+    public synchronized void free(int slot) {
+        ByteBuffer slab = slabOf(slot);
+        int at = offsetOf(slot);
+        checkFlags(slab, at, slot, ALLOCATED);
+        slab.put(at + FLAGS, (byte) 0);
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    /**
+     * Stores the state of a game in its slot.
+     *
+     * @param slot the game's slot
+     * @param game the game
+     * @throws IllegalArgumentException if the slot is not allocated or the game has more cards than a slot holds
+     */
+    public void save(int slot, GameStateManager game) {
+        write(slot, GameSnapshot.of(game));
+    }
+
+    /**
+     * Puts a game into the state stored in a slot. The game may be one used for other slots before.
+     *
+     * @param slot the game's slot
+     * @param game the game to restore into
+     * @throws IllegalArgumentException if the slot has not been written
+     */
+    public void load(int slot, GameStateManager game) {
+        read(slot).restore(game);
+    }
+
+    /**
+     * Stores a snapshot in a slot.
+     *
+     * @param slot the slot
+     * @param snapshot the snapshot
+     * @throws IllegalArgumentException if the slot is not allocated or the snapshot has more cards than a slot holds
+     */
+    public void write(int slot, GameSnapshot snapshot) {
+        ByteBuffer slab = slabOf(slot);
+        int at = offsetOf(slot);
+        checkFlags(slab, at, slot, ALLOCATED);
+        checkCards(snapshot.deck, DECK_CARDS, "deck");
+        checkCards(snapshot.hand, HAND_CARDS, "hand");
+        checkCards(snapshot.selected, SELECTED_CARDS, "selection");
+        checkCards(snapshot.discards, DISCARD_CARDS, "discard pile");
+        slab.putInt(at + LEVEL, snapshot.level);
+        slab.putInt(at + ROUND, snapshot.round);
+        slab.putInt(at + CHIPS, snapshot.chips);
+        slab.putInt(at + STAGE_VALUE, snapshot.stageValue);
+        slab.putInt(at + HANDS_PLAYED, snapshot.handsPlayed);
+        slab.putInt(at + DISCARDS_USED, snapshot.discardsUsed);
+        slab.putInt(at + MAX_HANDS, snapshot.maxHands);
+        slab.putInt(at + MAX_DISCARDS, snapshot.maxDiscards);
+        slab.putInt(at + SCORE, snapshot.score);
+        slab.putInt(at + SERVICE_ROUND, snapshot.serviceRound);
+        slab.putInt(at + TARGET_SCORE, snapshot.targetScore);
+        slab.putInt(at + CARDS_TO_DRAW, snapshot.cardsToDraw);
+        slab.put(at + STAGE, (byte) snapshot.stage.ordinal());
+        slab.put(at + PHASE, (byte) snapshot.phase.ordinal());
+        slab.put(at + GAME_STATE, (byte) snapshot.gameState.ordinal());
+        slab.put(at + MANAGER_JOKER, jokerCode(snapshot.managerJoker));
+        slab.put(at + SERVICE_JOKER, jokerCode(snapshot.serviceJoker));
+        slab.putShort(at + PHASE_TEXT, textIndex(snapshot.phaseText));
+        putCards(slab, at + DECK_COUNT, at + DECK, snapshot.deck);
+        putCards(slab, at + HAND_COUNT, at + HAND, snapshot.hand);
+        putCards(slab, at + SELECTED_COUNT, at + SELECTED, snapshot.selected);
+        putCards(slab, at + DISCARD_COUNT, at + DISCARDS, snapshot.discards);
+        int flags = ALLOCATED | WRITTEN
+                | (snapshot.handLimitReached ? HAND_LIMIT_REACHED : 0)
+                | (snapshot.discardLimitReached ? DISCARD_LIMIT_REACHED : 0)
+                | (snapshot.canDrawCards ? CAN_DRAW_CARDS : 0)
+                | (snapshot.roundCompleted ? ROUND_COMPLETED : 0)
+                | (snapshot.deckNewRound ? DECK_NEW_ROUND : 0);
+        slab.put(at + FLAGS, (byte) flags);
+    }
+
+    /**
+     * Reads the snapshot stored in a slot.
+     *
+     * @param slot the slot
+     * @return the snapshot
+     * @throws IllegalArgumentException if the slot has not been written
+     */
+    public GameSnapshot read(int slot) {
+        ByteBuffer slab = slabOf(slot);
+        int at = offsetOf(slot);
+        int flags = checkFlags(slab, at, slot, WRITTEN);
+        return new GameSnapshot(GameStateManager.LevelStage.values()[slab.get(at + STAGE)],
+                GameStateManager.GamePhase.values()[slab.get(at + PHASE)], texts[slab.getShort(at + PHASE_TEXT)],
+                slab.getInt(at + LEVEL), slab.getInt(at + ROUND), slab.getInt(at + CHIPS),
+                slab.getInt(at + STAGE_VALUE), slab.getInt(at + HANDS_PLAYED), slab.getInt(at + DISCARDS_USED),
+                slab.getInt(at + MAX_HANDS), slab.getInt(at + MAX_DISCARDS),
+                (flags & HAND_LIMIT_REACHED) != 0, (flags & DISCARD_LIMIT_REACHED) != 0,
+                jokerAt(slab.get(at + MANAGER_JOKER)), GameService.GameState.values()[slab.get(at + GAME_STATE)],
+                slab.getInt(at + SCORE), slab.getInt(at + SERVICE_ROUND), slab.getInt(at + TARGET_SCORE),
+                (flags & CAN_DRAW_CARDS) != 0, slab.getInt(at + CARDS_TO_DRAW), (flags & ROUND_COMPLETED) != 0,
+                (flags & DECK_NEW_ROUND) != 0, jokerAt(slab.get(at + SERVICE_JOKER)),
+                getCards(slab, at + DECK_COUNT, at + DECK), getCards(slab, at + HAND_COUNT, at + HAND),
+                getCards(slab, at + SELECTED_COUNT, at + SELECTED),
+                getCards(slab, at + DISCARD_COUNT, at + DISCARDS));
+    }
+
+    /**
+     * Gets the score of the current round of a stored game.
+     *
+     * @param slot the game's slot
+     * @return the score
+     * @throws IllegalArgumentException if the slot has not been written
+     */
+    public int getScore(int slot) {
+        return intAt(slot, SCORE);
+    }
+
+    /**
+     * Gets the chips of a stored game.
+     *
+     * @param slot the game's slot
+     * @return the chips
+     * @throws IllegalArgumentException if the slot has not been written
+     */
+    public int getChips(int slot) {
+        return intAt(slot, CHIPS);
+    }
+
+    /**
+     * Gets the level of a stored game.
+     *
+     * @param slot the game's slot
+     * @return the level
+     * @throws IllegalArgumentException if the slot has not been written
+     */
+    public int getLevel(int slot) {
+        return intAt(slot, LEVEL);
+    }
+
+    /**
+     * Gets the stage of a stored game.
+     *
+     * @param slot the game's slot
+     * @return the stage
+     * @throws IllegalArgumentException if the slot has not been written
+     */
+    public GameStateManager.LevelStage getStage(int slot) {
+        ByteBuffer slab = slabOf(slot);
+        int at = offsetOf(slot);
+        checkFlags(slab, at, slot, WRITTEN);
+        return GameStateManager.LevelStage.values()[slab.get(at + STAGE)];
+    }
+
+    /**
+     * Gets the number of allocated slots.
+     *
+     * @return the games in the store
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Gets the most games the store holds at once.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the memory allocated outside the heap so far.
+     *
+     * @return the bytes of the direct buffers
+     */
+    public synchronized long getOffHeapBytes() {
+        return (long) slabCount * SLAB_SLOTS * SLOT_SIZE;
+    }
+
+    private int intAt(int slot, int field) {
+        ByteBuffer slab = slabOf(slot);
+        int at = offsetOf(slot);
+        checkFlags(slab, at, slot, WRITTEN);
+        return slab.getInt(at + field);
+    }
+
+    private ByteBuffer slabOf(int slot) {
+        ByteBuffer slab = slot >= 0 && slot < capacity ? slabs[slot / SLAB_SLOTS] : null;
+        if (slab == null) {
+            throw new IllegalArgumentException("Slot not allocated: " + slot);
+        }
+        return slab;
+    }
+
+    private static int offsetOf(int slot) {
+        return (slot % SLAB_SLOTS) * SLOT_SIZE;
+    }
+
+    /**
+     * Checks that a slot is allocated, or also written, and returns its flags. Slots of a new buffer are zero,
+     * so slots never allocated fail the check like freed ones.
+     */
+    private static int checkFlags(ByteBuffer slab, int at, int slot, int required) {
+        int flags = slab.get(at + FLAGS);
+        if ((flags & required) == 0) {
+            throw new IllegalArgumentException(
+                    (required == WRITTEN ? "Slot holds no game: " : "Slot not allocated: ") + slot);
+        }
+        return flags;
+    }
+
+    private static void checkCards(byte[] cards, int max, String name) {
+        if (cards.length > max) {
+            throw new IllegalArgumentException("Too many cards in " + name + ": " + cards.length + " > " + max);
+        }
+    }
+
+    private static void putCards(ByteBuffer slab, int countAt, int cardsAt, byte[] cards) {
+        slab.put(countAt, (byte) cards.length);
+        slab.put(cardsAt, cards, 0, cards.length);
+    }
+
+    private static byte[] getCards(ByteBuffer slab, int countAt, int cardsAt) {
+        byte[] cards = new byte[slab.get(countAt)];
+        slab.get(cardsAt, cards, 0, cards.length);
+        return cards;
+    }
+
+    private static byte jokerCode(JokerType joker) {
+        return (byte) (joker != null ? joker.ordinal() + 1 : 0);
+    }
+
+    private static JokerType jokerAt(byte code) {
+        return code == 0 ? null : JokerType.values()[code - 1];
+    }
+
+    /**
+     * Gets the index of a phase text, adding it to the table the first time it is seen.
+     */
+    private short textIndex(String text) {
+        Integer index = textIndexes.get(text);
+        if (index == null) {
+            synchronized (textIndexes) {
+                index = textIndexes.get(text);
+                if (index == null) {
+                    if (texts.length >= MAX_TEXTS) {
+                        throw new IllegalStateException("Too many distinct phase texts");
+                    }
+                    String[] grown = Arrays.copyOf(texts, texts.length + 1);
+                    grown[texts.length] = text;
+                    texts = grown;
+                    index = texts.length - 1;
+                    textIndexes.put(text, index);
+                }
+            }
+        }
+        return index.shortValue();
+    }
+}
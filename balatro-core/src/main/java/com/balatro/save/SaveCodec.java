@@ -0,0 +1,356 @@
+package com.balatro.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.balatro.model.CardMask;
+import com.balatro.model.JokerType;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+
+/**
+ * Writes and reads GameSnapshots in the versioned save format. Every field is written and read by hand,
+ * without reflection.
+ *
+ * A snapshot is first written as a body of about 100 bytes: enum ordinals and flags as single bytes,
+ * numbers as variable-length integers, and each card list as a count followed by one byte per card.
+ * The body is then compressed with raw DEFLATE into a frame:
+ * <pre>
+ * magic "BS" (2) | version (1) | kind (1) | [base CRC-32 (4), delta frames only] | body length (varint) | DEFLATE data
+ * </pre>
+ * A full frame stands alone. A delta frame is compressed with the body of an earlier snapshot, its base, as the
+ * preset dictionary, so the unchanged parts of the game (most of the deck order, the settings, the discard pile
+ * so far) become short back-references and a save after one action takes a few dozen bytes.
+ * A delta frame records the CRC-32 of its base body, so it is never applied to the wrong base.
+ *
+ * Readers check the version, so a save written by a newer format is rejected rather than misread.
+ */
+public final class SaveCodec {
+    /** The version written by this codec and the newest it reads. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x4253; // "BS"
+    private static final int FULL = 0;
+    private static final int DELTA = 1;
+    private static final int HEADER_SIZE = 4;
+    private static final int MAX_CARDS = CardMask.DECK_SIZE;
+    private static final int MAX_TEXT = 1024;
+    private static final int MAX_BODY = 4096;
+
+    // Deflaters hold native buffers that are costly to set up, so each thread keeps one
+    private static final ThreadLocal<Deflater> DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_COMPRESSION, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private SaveCodec() {
+    }
+
+    /**
+     * Writes a snapshot as a full frame.
+     *
+     * @param snapshot the snapshot
+     * @return the frame
+     */
+    public static byte[] encode(GameSnapshot snapshot) {
+        return compress(encodeBody(snapshot), null);
+    }
+
+    /**
+     * Reads a full frame.
+     *
+     * @param frame the frame
+     * @return the snapshot
+     * @throws IOException if the frame is corrupt, of an unsupported version or a delta frame
+     */
+    public static GameSnapshot decode(byte[] frame) throws IOException {
+        return decodeBody(decompress(frame, null));
+    }
+
+    /**
+     * Writes the uncompressed body of a snapshot.
+     *
+     * @param snapshot the snapshot
+     * @return the body
+     */
+    public static byte[] encodeBody(GameSnapshot snapshot) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write(snapshot.stage.ordinal());
+        out.write(snapshot.phase.ordinal());
+        out.write(snapshot.gameState.ordinal());
+        out.write((snapshot.handLimitReached ? 1 : 0) | (snapshot.discardLimitReached ? 2 : 0)
+                | (snapshot.canDrawCards ? 4 : 0) | (snapshot.roundCompleted ? 8 : 0)
+                | (snapshot.deckNewRound ? 16 : 0));
+        out.write(snapshot.managerJoker != null ? snapshot.managerJoker.ordinal() + 1 : 0);
+        out.write(snapshot.serviceJoker != null ? snapshot.serviceJoker.ordinal() + 1 : 0);
+        writeVarint(out, snapshot.level);
+        writeVarint(out, snapshot.round);
+        writeSigned(out, snapshot.chips);
+        writeVarint(out, snapshot.stageValue);
+        writeVarint(out, snapshot.handsPlayed);
+        writeVarint(out, snapshot.discardsUsed);
+        writeVarint(out, snapshot.maxHands);
+        writeVarint(out, snapshot.maxDiscards);
+        writeSigned(out, snapshot.score);
+        writeVarint(out, snapshot.serviceRound);
+        writeVarint(out, snapshot.targetScore);
+        writeVarint(out, snapshot.cardsToDraw);
+        byte[] text = snapshot.phaseText != null ? snapshot.phaseText.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        writeVarint(out, text.length);
+        out.writeBytes(text);
+        writeCards(out, snapshot.deck);
+        writeCards(out, snapshot.hand);
+        writeCards(out, snapshot.selected);
+        writeCards(out, snapshot.discards);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads an uncompressed body.
+     *
+     * @param body the body
+     * @return the snapshot
+     * @throws IOException if the body is truncated, has trailing bytes or holds an invalid value
+     */
+    public static GameSnapshot decodeBody(byte[] body) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(body);
+        try {
+            GameStateManager.LevelStage stage = enumAt(GameStateManager.LevelStage.values(), in.get(), "stage");
+            GameStateManager.GamePhase phase = enumAt(GameStateManager.GamePhase.values(), in.get(), "phase");
+            GameService.GameState gameState = enumAt(GameService.GameState.values(), in.get(), "game state");
+            int flags = in.get();
+            JokerType managerJoker = jokerAt(in.get());
+            JokerType serviceJoker = jokerAt(in.get());
+            int level = readVarint(in);
+            int round = readVarint(in);
+            int chips = readSigned(in);
+            int stageValue = readVarint(in);
+            int handsPlayed = readVarint(in);
+            int discardsUsed = readVarint(in);
+            int maxHands = readVarint(in);
+            int maxDiscards = readVarint(in);
+            int score = readSigned(in);
+            int serviceRound = readVarint(in);
+            int targetScore = readVarint(in);
+            int cardsToDraw = readVarint(in);
+            int textLength = readVarint(in);
+            if (textLength < 0 || textLength > MAX_TEXT) {
+                throw new IOException("Phase text of " + textLength + " bytes is too long");
+            }
+            byte[] text = new byte[textLength];
+            in.get(text);
+            byte[] deck = readCards(in);
+            byte[] hand = readCards(in);
+            byte[] selected = readCards(in);
+            byte[] discards = readCards(in);
+            if (in.hasRemaining()) {
+                throw new IOException(in.remaining() + " unexpected bytes after the save body");
+            }
+            return new GameSnapshot(stage, phase, new String(text, StandardCharsets.UTF_8), level, round, chips,
+                    stageValue, handsPlayed, discardsUsed, maxHands, maxDiscards, (flags & 1) != 0,
+                    (flags & 2) != 0, managerJoker, gameState, score, serviceRound, targetScore, (flags & 4) != 0,
+                    cardsToDraw, (flags & 8) != 0, (flags & 16) != 0, serviceJoker, deck, hand, selected, discards);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated save body", e);
+        }
+    }
+
+    /**
+     * Compresses a body into a frame.
+     *
+     * @param body the body
+     * @param base the body the frame is a delta against, or null for a full frame
+     * @return the frame
+     */
+    public static byte[] compress(byte[] body, byte[] base) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 16);
+        out.write(MAGIC >>> 8);
+        out.write(MAGIC & 0xFF);
+        out.write(FORMAT_VERSION);
+        out.write(base != null ? DELTA : FULL);
+        if (base != null) {
+            int crc = checksum(base);
+            out.write(crc >>> 24);
+            out.write(crc >>> 16);
+            out.write(crc >>> 8);
+            out.write(crc);
+        }
+        writeVarint(out, body.length);
+
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        if (base != null) {
+            deflater.setDictionary(base);
+        }
+        deflater.setInput(body);
+        deflater.finish();
+        byte[] buffer = new byte[body.length + 64];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(buffer);
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decompresses a frame into its body.
+     *
+     * @param frame the frame
+     * @param base the base body if the frame is a delta frame; ignored for full frames
+     * @return the body
+     * @throws IOException if the frame is corrupt or of an unsupported version, or is a delta frame and the
+     *         base is missing or is not the body it was written against
+     */
+    public static byte[] decompress(byte[] frame, byte[] base) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(frame);
+        try {
+            if ((in.getShort() & 0xFFFF) != MAGIC) {
+                throw new IOException("Not a saved game");
+            }
+            int version = in.get() & 0xFF;
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new IOException("Unsupported save format version " + version);
+            }
+            int kind = in.get();
+            if (kind == DELTA) {
+                int crc = in.getInt();
+                if (base == null) {
+                    throw new IOException("Delta save needs its base");
+                }
+                if (crc != checksum(base)) {
+                    throw new IOException("Delta save was written against a different base");
+                }
+            } else if (kind != FULL) {
+                throw new IOException("Unknown save kind " + kind);
+            }
+            int length = readVarint(in);
+            if (length < 0 || length > MAX_BODY) {
+                throw new IOException("Save body of " + length + " bytes is too long");
+            }
+
+            Inflater inflater = INFLATER.get();
+            inflater.reset();
+            if (kind == DELTA) {
+                inflater.setDictionary(base);
+            }
+            inflater.setInput(frame, in.position(), in.remaining());
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int count = inflater.inflate(body, read, length - read);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += count;
+            }
+            if (read != length) {
+                throw new IOException("Save body is shorter than its recorded length");
+            }
+            return body;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated save header", e);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt save data", e);
+        }
+    }
+
+    /**
+     * Checks whether a frame is a delta frame.
+     *
+     * @param frame the frame
+     * @return true if it needs a base to be read
+     */
+    public static boolean isDelta(byte[] frame) {
+        return frame.length >= HEADER_SIZE && frame[3] == DELTA;
+    }
+
+    /**
+     * Checks whether a delta frame was written against a base.
+     *
+     * @param frame a delta frame
+     * @param base a body
+     * @return true if the frame records the checksum of the base
+     */
+    public static boolean matchesBase(byte[] frame, byte[] base) {
+        return isDelta(frame) && frame.length >= HEADER_SIZE + 4
+                && ByteBuffer.wrap(frame, HEADER_SIZE, 4).getInt() == checksum(base);
+    }
+
+    /**
+     * Computes the checksum delta frames record of their base.
+     *
+     * @param body a body
+     * @return the CRC-32 of the body
+     */
+    public static int checksum(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static void writeCards(ByteArrayOutputStream out, byte[] cards) {
+        out.write(cards.length);
+        out.writeBytes(cards);
+    }
+
+    private static byte[] readCards(ByteBuffer in) throws IOException {
+        int count = in.get() & 0xFF;
+        if (count > MAX_CARDS) {
+            throw new IOException("Card list of " + count + " cards is too long");
+        }
+        byte[] cards = new byte[count];
+        in.get(cards);
+        for (byte card : cards) {
+            if (card < 0 || card >= CardMask.DECK_SIZE) {
+                throw new IOException("Invalid card index " + card);
+            }
+        }
+        return cards;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out, int value) {
+        writeVarint(out, (value << 1) ^ (value >> 31));
+    }
+
+    private static int readVarint(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static int readSigned(ByteBuffer in) throws IOException {
+        int value = readVarint(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static <E extends Enum<E>> E enumAt(E[] values, byte ordinal, String name) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Invalid " + name + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static JokerType jokerAt(byte code) throws IOException {
+        return code == 0 ? null : enumAt(JokerType.values(), (byte) (code - 1), "joker");
+    }
+}
@@ -0,0 +1,39 @@
+package com.balatro.save;
+
+import java.io.IOException;
+
+/**
+ * Where saved games are kept, as blobs of bytes under string keys. GameSaver writes through a store, so saves
+ * can go to local files, a database or a cloud bucket without changing the save format.
+ *
+ * Keys are made of letters, digits, '-', '_' and '.'. A store must replace a blob atomically: a reader sees
+ * either the old blob or the new one, never a mix.
+ */
+public interface SaveStore {
+
+    /**
+     * Writes a blob, replacing any blob under the same key.
+     *
+     * @param key the key
+     * @param data the bytes
+     * @throws IOException if the blob cannot be written
+     */
+    void write(String key, byte[] data) throws IOException;
+
+    /**
+     * Reads a blob.
+     *
+     * @param key the key
+     * @return the bytes, or null if there is no blob under the key
+     * @throws IOException if the blob cannot be read
+     */
+    byte[] read(String key) throws IOException;
+
+    /**
+     * Deletes a blob if there is one.
+     *
+     * @param key the key
+     * @throws IOException if the blob cannot be deleted
+     */
+    void delete(String key) throws IOException;
+}
@@ -6,33 +6,28 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 import com.balatro.model.ActivationType;
 import com.balatro.model.Card;
+import com.balatro.model.CardList;
 import com.balatro.model.Deck;
 import com.balatro.model.Hand;
 import com.balatro.model.HandType;
 import com.balatro.model.Joker;
 import com.balatro.model.JokerType;
-
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import com.balatro.observable.BooleanProperty;
+import com.balatro.observable.IntegerProperty;
+import com.balatro.observable.ObjectProperty;
+import com.balatro.observable.ObservableList;
 
 /**
  * Service class to manage game state and logic.
  * This class acts as a bridge between the UI and the game model.
  */
 public class GameService {
-    private final Random random = new Random();
+    private final Random random;
     private Deck deck;
     private final Hand playerHand;
     private final ObservableList<Card> discardPile;
@@ -41,11 +36,12 @@ public class GameService {
     private final IntegerProperty score;
     private final IntegerProperty round;
     private final IntegerProperty targetScore;
-    private final StringProperty currentHandTypeDisplay;
+    private final ObjectProperty<String> currentHandTypeDisplay;
     private final BooleanProperty canDrawCards;
     private final IntegerProperty cardsToDrawCount;
     private final BooleanProperty roundCompleted;
     private final IntegerProperty remainingCards;
+    private final HandScoreCache scoreCache = new HandScoreCache();
     
     // Add joker-related fields
     private Joker currentJoker;
@@ -66,19 +62,51 @@ public class GameService {
      * Creates a new game service instance.
      */
     public GameService() {
-        this.deck = new Deck();
+        this(new Random(), new Deck());
+    }
+
+    /**
+     * Creates a game service whose deck shuffles and jokers are all derived from a seed.
+     * Two services created with the same seed and given the same moves play out identically,
+     * which lets simulations be split across threads or processes and still be reproduced.
+     *
+     * @param seed the seed
+     */
+    public GameService(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a game service whose joker random source and deck get two independent seeds from one generator,
+     * so that the jokers drawn do not follow the deck's shuffles.
+     *
+     * @param seeds the generator of the seeds
+     */
+    private GameService(SplittableRandom seeds) {
+        this(new Random(seeds.nextLong()), new Deck(seeds.split().nextLong()));
+    }
+
+    /**
+     * Creates a game service with the given joker random source and deck.
+     *
+     * @param random the random source for jokers
+     * @param deck the deck
+     */
+    private GameService(Random random, Deck deck) {
+        this.random = random;
+        this.deck = deck;
         this.playerHand = new Hand();
-        this.discardPile = FXCollections.observableArrayList();
-        this.selectedCards = FXCollections.observableArrayList();
-        this.gameState = new SimpleObjectProperty<>(GameState.WAITING_FOR_SELECTION);
-        this.score = new SimpleIntegerProperty(0);
-        this.round = new SimpleIntegerProperty(1);
-        this.targetScore = new SimpleIntegerProperty(1000); // Default target score to advance
-        this.currentHandTypeDisplay = new SimpleStringProperty("No cards selected");
-        this.canDrawCards = new SimpleBooleanProperty(false);
-        this.cardsToDrawCount = new SimpleIntegerProperty(0);
-        this.roundCompleted = new SimpleBooleanProperty(false);
-        this.remainingCards = new SimpleIntegerProperty(deck.getCardCount());
+        this.discardPile = new ObservableList<>(new CardList(52));
+        this.selectedCards = new ObservableList<>(new CardList(Hand.getMaxCardsToPlay()));
+        this.gameState = new ObjectProperty<>(GameState.WAITING_FOR_SELECTION);
+        this.score = new IntegerProperty(0);
+        this.round = new IntegerProperty(1);
+        this.targetScore = new IntegerProperty(1000); // Default target score to advance
+        this.currentHandTypeDisplay = new ObjectProperty<>("No cards selected");
+        this.canDrawCards = new BooleanProperty(false);
+        this.cardsToDrawCount = new IntegerProperty(0);
+        this.roundCompleted = new BooleanProperty(false);
+        this.remainingCards = new IntegerProperty(deck.getCardCount());
         
         // Initialize the game
         initializeGame();
@@ -132,6 +160,7 @@ public class GameService {
             selectedType.getActivationType(),
             selectedType.getRarity()
         );
+        scoreCache.invalidate();
     }
 
     /**
@@ -148,6 +177,28 @@ public class GameService {
      * @return the score after applying joker effects
      */
     public int applyJokerEffects(int baseScore) {
+        return applyJokerEffects(baseScore, selectedCards);
+    }
+
+    /**
+     * Applies joker effects to the score of a set of played cards.
+     * @param baseScore the base score before joker effects
+     * @param cards the played cards
+     * @return the score after applying joker effects
+     */
+    private int applyJokerEffects(int baseScore, List<Card> cards) {
+        return applyJokerEffects(currentJoker, baseScore, cards);
+    }
+
+    /**
+     * Applies the effects of a joker to the score of a set of played cards.
+     * This is the scoring used by every game, exposed for games that are not played through a GameService.
+     * @param currentJoker the joker, or null for none
+     * @param baseScore the base score before joker effects
+     * @param cards the played cards
+     * @return the score after applying joker effects
+     */
+    public static int applyJokerEffects(Joker currentJoker, int baseScore, List<Card> cards) {
         if (currentJoker == null) {
             return baseScore;
         }
@@ -159,7 +210,7 @@ public class GameService {
             // Special handling for Fibonacci Joker
             if (currentJoker.getType() == JokerType.FIBONACCI) {
                 // Get all card values and sort them
-                List<Integer> cardValues = selectedCards.stream()
+                List<Integer> cardValues = cards.stream()
                     .map(Card::getValue)
                     .sorted()
                     .collect(Collectors.toList());
@@ -177,11 +228,11 @@ public class GameService {
             String activeSuit = currentJoker.getType().getActiveSuit();
             if (activeSuit != null) {
                 // Check if ALL cards in the hand match the active suit
-                boolean allMatchingSuit = selectedCards.stream()
+                boolean allMatchingSuit = cards.stream()
                     .allMatch(card -> card.getSuit().equals(activeSuit));
                 
                 // Only apply multiplier if ALL cards are of the target suit
-                if (allMatchingSuit && selectedCards.size() >= 5) {
+                if (allMatchingSuit && cards.size() >= 5) {
                     finalScore *= currentJoker.getMultiplier();
                 }
             }
@@ -189,7 +240,7 @@ public class GameService {
             // Special handling for Scary Face Joker
             if (currentJoker.getType() == JokerType.SCARY_FACE) {
                 // Count face cards (J, Q, K)
-                long faceCardCount = selectedCards.stream()
+                long faceCardCount = cards.stream()
                     .filter(Card::isFaceCard)
                     .count();
                 
@@ -208,7 +259,7 @@ public class GameService {
      * @param requiredCount the minimum number of consecutive Fibonacci numbers required
      * @return true if the condition is met, false otherwise
      */
-    private boolean hasConsecutiveFibonacci(List<Integer> cardValues, int requiredCount) {
+    private static boolean hasConsecutiveFibonacci(List<Integer> cardValues, int requiredCount) {
         // Define the Fibonacci sequence up to 21 (as per the joker description)
         Set<Integer> fibonacciNumbers = new HashSet<>(Arrays.asList(1, 1, 2, 3, 5, 8, 13, 21));
         
@@ -239,11 +290,8 @@ public class GameService {
         deck.resetDeck();
         deck.shuffle();
         
-        // Get a copy of all the shuffled cards
-        List<Card> allCards = new ArrayList<>(deck.getCards());
-        
-        // Clear the deck
-        deck.getMutableCards().clear();
+        // Read the shuffled cards without copying them; the dealt cards are only removed after the loop
+        List<Card> allCards = deck.getCardsView();
         
         // Create a diverse hand with cards of different suits and ranks
         List<Card> initialCards = new ArrayList<>();
@@ -269,14 +317,13 @@ public class GameService {
             }
         }
         
-        // Put the remaining cards back in the deck
-        for (Card card : allCards) {
-            if (!initialCards.contains(card)) {
-                deck.getMutableCards().add(card);
-            }
+        // Take the dealt cards out of the deck, leaving the rest in shuffled order
+        for (Card card : initialCards) {
+            deck.removeCard(card);
         }
         
         // Initialize the player's hand with these cards
+        scoreCache.invalidate();
         if (!initialCards.isEmpty()) {
             playerHand.initializeHand(initialCards);
             updateCurrentHandTypeDisplay();
@@ -318,16 +365,33 @@ public class GameService {
 
     /**
      * Updates the display of the current hand type based on selected cards.
+     * The breakdown comes from the score cache, so selecting and deselecting only compute a subset once per hand.
      */
     private void updateCurrentHandTypeDisplay() {
         if (selectedCards.isEmpty()) {
             currentHandTypeDisplay.set("No cards selected");
             return;
         }
-        
-        // Create a temporary hand with the selected cards to evaluate
+        currentHandTypeDisplay.set(scoreSelectedCards().getDisplay());
+    }
+
+    /**
+     * Gets the score breakdown of the selected cards from the score cache.
+     * @return the breakdown
+     */
+    private HandScoreCache.ScoreBreakdown scoreSelectedCards() {
+        return scoreCache.lookup(playerHand.getCards(), currentJoker, selectedCards, this::computeScoreBreakdown);
+    }
+
+    /**
+     * Computes the hand type, score and breakdown text of a set of played cards.
+     * @param cards the played cards
+     * @return the breakdown
+     */
+    private HandScoreCache.ScoreBreakdown computeScoreBreakdown(List<Card> cards) {
+        // Create a temporary hand with the cards to evaluate
         Hand tempHand = new Hand();
-        for (Card card : selectedCards) {
+        for (Card card : cards) {
             tempHand.addCard(card);
         }
         
@@ -337,7 +401,7 @@ public class GameService {
         int multiplier = tempHand.getMultiplier();
         
         // Calculate the sum of card values separately
-        int cardValuesSum = selectedCards.stream()
+        int cardValuesSum = cards.stream()
                            .mapToInt(Card::getValue)
                            .sum();
         
@@ -348,14 +412,14 @@ public class GameService {
         int scoreBeforeJoker = combinedBaseScore * multiplier;
         
         // Apply joker effects
-        int finalScore = applyJokerEffects(scoreBeforeJoker);
+        int finalScore = applyJokerEffects(scoreBeforeJoker, cards);
         
         // Get joker info for display
         StringBuilder jokerInfo = new StringBuilder();
         if (currentJoker != null) {
             if (currentJoker.getType() == JokerType.SCARY_FACE) {
                 // Count face cards (J, Q, K)
-                long faceCardCount = selectedCards.stream()
+                long faceCardCount = cards.stream()
                     .filter(Card::isFaceCard)
                     .count();
                 if (faceCardCount > 0) {
@@ -366,14 +430,15 @@ public class GameService {
             }
         }
         
-        // Display the hand type and score breakdown
-        currentHandTypeDisplay.set(handType.getDisplayName() + 
-                                  " (Hand: " + baseScore + 
-                                  " + Cards: " + cardValuesSum +
-                                  " = " + combinedBaseScore +
-                                  ") × Mult: " + multiplier +
-                                  jokerInfo.toString() +
-                                  " = " + finalScore);
+        // The hand type and score breakdown
+        String display = handType.getDisplayName() + 
+                         " (Hand: " + baseScore + 
+                         " + Cards: " + cardValuesSum +
+                         " = " + combinedBaseScore +
+                         ") × Mult: " + multiplier +
+                         jokerInfo.toString() +
+                         " = " + finalScore;
+        return new HandScoreCache.ScoreBreakdown(handType, finalScore, display);
     }
 
     /**
@@ -395,6 +460,7 @@ public class GameService {
         
         // Discard the selected cards
         int discarded = playerHand.discardCards(cardsToDiscard);
+        scoreCache.invalidate();
         
         if (discarded > 0) {
             // Add discarded cards to the discard pile
@@ -439,10 +505,10 @@ public class GameService {
         
         // Draw cards directly from the deck
         for (int i = 0; i < cardsToDraw; i++) {
-            if (deck.getCards().isEmpty()) {
+            Card drawnCard = deck.drawTopCard();
+            if (drawnCard == null) {
                 break;
             }
-            Card drawnCard = deck.getMutableCards().remove(0);
             drawnCards.add(drawnCard);
         }
         
@@ -451,6 +517,7 @@ public class GameService {
             for (Card card : drawnCards) {
                 playerHand.addCard(card);
             }
+            scoreCache.invalidate();
         }
         
         // Reset the draw state
@@ -480,30 +547,8 @@ public class GameService {
         
         gameState.set(GameState.EVALUATING_HAND);
         
-        // Create a temporary hand with the selected cards to evaluate
-        Hand tempHand = new Hand();
-        for (Card card : selectedCards) {
-            tempHand.addCard(card);
-        }
-        
-        // Get the hand type and scores
-        HandType handType = tempHand.getHandType();
-        int baseScore = tempHand.getBaseScore();
-        int multiplier = tempHand.getMultiplier();
-        
-        // Calculate the sum of card values
-        int cardValuesSum = selectedCards.stream()
-                           .mapToInt(Card::getValue)
-                           .sum();
-        
-        // Calculate the combined base score
-        int combinedBaseScore = baseScore + cardValuesSum;
-        
-        // Calculate the score before joker effects
-        int scoreBeforeJoker = combinedBaseScore * multiplier;
-        
-        // Apply joker effects
-        int finalScore = applyJokerEffects(scoreBeforeJoker);
+        // The same breakdown that is shown while the cards are selected
+        int finalScore = scoreSelectedCards().getFinalScore();
         
         // Update the score
         score.set(score.get() + finalScore);
@@ -514,6 +559,7 @@ public class GameService {
         // Remove played cards from hand and add to discard pile
         List<Card> cardsToDiscard = new ArrayList<>(selectedCards);
         playerHand.discardCards(cardsToDiscard);
+        scoreCache.invalidate();
         discardPile.addAll(cardsToDiscard);
         
         // Clear the selection
@@ -669,7 +715,7 @@ public class GameService {
      * Gets the current hand type display property.
      * @return the current hand type display property
      */
-    public StringProperty currentHandTypeDisplayProperty() {
+    public ObjectProperty<String> currentHandTypeDisplayProperty() {
         return currentHandTypeDisplay;
     }
 
@@ -733,7 +779,7 @@ public class GameService {
      * Starts a new game.
      * This method:
      * 1. Resets the game state
-     * 2. Initializes a new deck
+     * 2. Resets and shuffles the deck
      * 3. Generates a random joker
      */
     public void startNewGame() {
@@ -751,8 +797,8 @@ public class GameService {
         discardPile.clear();
         selectedCards.clear();
         
-        // Initialize a new deck
-        deck = new Deck();
+        // Reset the existing deck rather than replacing it, so views listening to it stay attached
+        deck.startNewRound(0);
         deck.shuffle();
         
         // Generate a random joker
@@ -819,5 +865,14 @@ public class GameService {
      */
     public void setCurrentJoker(Joker joker) {
         this.currentJoker = joker;
+        scoreCache.invalidate();
+    }
+
+    /**
+     * Gets the cache of selection score breakdowns for the current hand.
+     * @return the score cache
+     */
+    HandScoreCache getScoreCache() {
+        return scoreCache;
     }
 }
@@ -7,15 +7,9 @@ import java.util.Random;
 import com.balatro.model.Joker;
 import com.balatro.model.JokerType;
 import com.balatro.model.Player;
-
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
+import com.balatro.observable.BooleanProperty;
+import com.balatro.observable.IntegerProperty;
+import com.balatro.observable.ObjectProperty;
 
 /**
  * GameStateManager coordinates the overall game flow, including round progression,
@@ -33,7 +27,7 @@ public class GameStateManager {
     private final ObjectProperty<LevelStage> currentStage;
     private final IntegerProperty playerChips;
     private final IntegerProperty stageValue;
-    private final StringProperty gamePhase;
+    private final ObjectProperty<String> gamePhase;
     private final ObjectProperty<GamePhase> currentPhase;
     
     // Hand and discard limits
@@ -53,7 +47,8 @@ public class GameStateManager {
     
     // Add joker-related fields
     private Joker currentJoker;
-    private final Random random = new Random();
+    private final Random random;
+    private boolean logging;
     
     /**
      * Enum representing the high-level phases of the game.
@@ -142,27 +137,51 @@ public class GameStateManager {
      * Creates a new game state manager instance.
      */
     public GameStateManager() {
-        this.gameService = new GameService();
+        this(new Random(), new GameService(), true);
+    }
+
+    /**
+     * Creates a game state manager whose jokers, deck shuffles and game service are all derived from a seed.
+     * Two managers created with the same seed and given the same moves play out identically.
+     *
+     * @param seed the seed
+     * @param logging whether to print stage transitions, bets and new jokers to the console
+     */
+    public GameStateManager(long seed, boolean logging) {
+        this(new Random(seed), new GameService(new Random(seed).nextLong() ^ seed), logging);
+    }
+
+    /**
+     * Creates a game state manager with the given joker random source and game service.
+     *
+     * @param random the random source for jokers
+     * @param gameService the game service
+     * @param logging whether to print to the console
+     */
+    private GameStateManager(Random random, GameService gameService, boolean logging) {
+        this.random = random;
+        this.gameService = gameService;
+        this.logging = logging;
         this.players = new ArrayList<>();
         this.currentPlayer = new Player("Player 1");
         this.players.add(currentPlayer);
         
         // Initialize properties
-        this.currentRound = new SimpleIntegerProperty(1);
-        this.currentLevel = new SimpleIntegerProperty(1);
-        this.currentStage = new SimpleObjectProperty<>(LevelStage.SMALL_BLIND);
-        this.playerChips = new SimpleIntegerProperty(STARTING_CHIPS);
-        this.stageValue = new SimpleIntegerProperty(INITIAL_STAGE_VALUE);
-        this.gamePhase = new SimpleStringProperty(GamePhase.GAME_START.toString());
-        this.currentPhase = new SimpleObjectProperty<>(GamePhase.GAME_START);
+        this.currentRound = new IntegerProperty(1);
+        this.currentLevel = new IntegerProperty(1);
+        this.currentStage = new ObjectProperty<>(LevelStage.SMALL_BLIND);
+        this.playerChips = new IntegerProperty(STARTING_CHIPS);
+        this.stageValue = new IntegerProperty(INITIAL_STAGE_VALUE);
+        this.gamePhase = new ObjectProperty<>(GamePhase.GAME_START.toString());
+        this.currentPhase = new ObjectProperty<>(GamePhase.GAME_START);
         
         // Initialize hand and discard limits
-        this.handsPlayedInStage = new SimpleIntegerProperty(0);
-        this.discardsUsedInStage = new SimpleIntegerProperty(0);
-        this.maxHandsPerStage = new SimpleIntegerProperty(DEFAULT_MAX_HANDS);
-        this.maxDiscardsPerStage = new SimpleIntegerProperty(DEFAULT_MAX_DISCARDS);
-        this.handLimitReached = new SimpleBooleanProperty(false);
-        this.discardLimitReached = new SimpleBooleanProperty(false);
+        this.handsPlayedInStage = new IntegerProperty(0);
+        this.discardsUsedInStage = new IntegerProperty(0);
+        this.maxHandsPerStage = new IntegerProperty(DEFAULT_MAX_HANDS);
+        this.maxDiscardsPerStage = new IntegerProperty(DEFAULT_MAX_DISCARDS);
+        this.handLimitReached = new BooleanProperty(false);
+        this.discardLimitReached = new BooleanProperty(false);
         
         // Initialize the game
         initializeGame();
@@ -245,9 +264,9 @@ public class GameStateManager {
             int currentStageValue = stageValue.get();
             int remainingChips = playerChips.get() - currentStageValue;
             playerChips.set(remainingChips);
-            System.out.println("Stage value deducted: " + currentStageValue + " chips");
+            log("Stage value deducted: " + currentStageValue + " chips");
         } else {
-            System.out.println("No stage value deducted - continuing to next stage");
+            log("No stage value deducted - continuing to next stage");
         }
         
         // Reset the deck first to clear any ongoing round state
@@ -317,7 +336,7 @@ public class GameStateManager {
             int remainingChips = STARTING_CHIPS - betAmount;
             playerChips.set(remainingChips);
             
-            System.out.println("Bet amount set to: " + betAmount + " chips, Stage value set to: 5 for Small Blind stage");
+            log("Bet amount set to: " + betAmount + " chips, Stage value set to: 5 for Small Blind stage");
         }
     }
     
@@ -355,7 +374,7 @@ public class GameStateManager {
             generateRandomJoker();
             
             // Log the transition
-            System.out.println("Advanced from " + currentStageCopy.getDisplayName() + 
+            log("Advanced from " + currentStageCopy.getDisplayName() + 
                               " to " + nextStage.getDisplayName() + 
                               " (Score: " + roundScore + "/" + targetScore + ")");
         } else {
@@ -384,7 +403,7 @@ public class GameStateManager {
             playerChips.set(playerChips.get() + reward);
             
             // Log the transition and reward
-            System.out.println("Advanced to Level " + newLevel + 
+            log("Advanced to Level " + newLevel + 
                               " (Score: " + roundScore + "/" + targetScore + ")" +
                               " - Awarded " + reward + " chips!");
         }
@@ -563,7 +582,7 @@ public class GameStateManager {
      * Getter for the game phase property.
      * @return the game phase property
      */
-    public StringProperty gamePhaseProperty() {
+    public ObjectProperty<String> gamePhaseProperty() {
         return gamePhase;
     }
     /**
@@ -706,7 +725,7 @@ public class GameStateManager {
         gameService.setCurrentJoker(currentJoker);
         
         // Log the joker effect
-        System.out.println("Generated new Joker: " + selectedType.getName() + 
+        log("Generated new Joker: " + selectedType.getName() + 
                          " - Effect: " + selectedType.getEffect() +
                          " - Multiplier: " + selectedType.getMultiplier() +
                          " - Activation: " + selectedType.getActivationType().getDisplayName());
@@ -719,4 +738,33 @@ public class GameStateManager {
     public Joker getCurrentJoker() {
         return currentJoker;
     }
+
+    /**
+     * Sets the current joker without changing the game service's joker, as when a saved game is loaded.
+     * @param joker the joker, or null for none
+     */
+    public void setCurrentJoker(Joker joker) {
+        currentJoker = joker;
+    }
+
+    /**
+     * Sets whether stage transitions, bets and new jokers are printed to the console.
+     * Simulations turn this off, since printing costs more than playing the game.
+     *
+     * @param logging true to print, false to stay quiet
+     */
+    public void setLogging(boolean logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Prints a message to the console if logging is on.
+     *
+     * @param message the message
+     */
+    private void log(String message) {
+        if (logging) {
+            System.out.println(message);
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.balatro.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import com.balatro.model.Card;
+import com.balatro.model.Hand;
+import com.balatro.model.HandType;
+import com.balatro.model.Joker;
+
+/**
+ * Caches the score breakdown of each subset of the current hand.
+ * A hand has at most 8 cards, so a selection is a bitmask of hand positions and indexes one of 256 entries.
+ * Entries are computed the first time a selection is scored and reused until the hand or joker changes.
+ */
+final class HandScoreCache {
+    private final Card[] hand = new Card[Hand.getMaxCards()];
+    private final ScoreBreakdown[] entries = new ScoreBreakdown[1 << Hand.getMaxCards()];
+    private int handSize = -1;  // -1 when there is no snapshot
+    private Joker joker;
+    private long hits;
+    private long misses;
+
+    /**
+     * Drops every cached entry. Called when cards are drawn, discarded or played, or the joker changes.
+     */
+    void invalidate() {
+        if (handSize >= 0) {
+            Arrays.fill(entries, null);
+            handSize = -1;
+        }
+    }
+
+    /**
+     * Gets the breakdown of a selection, computing it on first use.
+     * The hand and joker are also compared with the snapshot, because Hand.getMutableCards
+     * lets callers change the hand without going through GameService.
+     *
+     * @param handCards the cards currently in hand
+     * @param currentJoker the current joker, or null
+     * @param selected the selected cards
+     * @param compute computes the breakdown of a selection
+     * @return the breakdown
+     */
+    ScoreBreakdown lookup(List<Card> handCards, Joker currentJoker, List<Card> selected,
+            Function<List<Card>, ScoreBreakdown> compute) {
+        if (!matches(handCards, currentJoker)) {
+            snapshot(handCards, currentJoker);
+        }
+        int mask = 0;
+        for (Card card : selected) {
+            int position = positionOf(card);
+            if (position < 0) {
+                // Not part of the snapshot, so there is no entry to use
+                misses++;
+                return compute.apply(selected);
+            }
+            mask |= 1 << position;
+        }
+        ScoreBreakdown entry = entries[mask];
+        if (entry == null) {
+            misses++;
+            entry = compute.apply(selected);
+            entries[mask] = entry;
+        } else {
+            hits++;
+        }
+        return entry;
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that computed a breakdown.
+     *
+     * @return the miss count
+     */
+    long getMisses() {
+        return misses;
+    }
+
+    private boolean matches(List<Card> handCards, Joker currentJoker) {
+        if (handSize != handCards.size() || joker != currentJoker) {
+            return false;
+        }
+        for (int i = 0; i < handSize; i++) {
+            if (hand[i] != handCards.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void snapshot(List<Card> handCards, Joker currentJoker) {
+        Arrays.fill(entries, null);
+        if (handCards.size() > hand.length) {
+            handSize = 0;
+        } else {
+            handSize = handCards.size();
+            for (int i = 0; i < handSize; i++) {
+                hand[i] = handCards.get(i);
+            }
+        }
+        joker = currentJoker;
+    }
+
+    private int positionOf(Card card) {
+        for (int i = 0; i < handSize; i++) {
+            if (hand[i].equals(card)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Holds the score of a selection and the text shown for it.
+     */
+    static final class ScoreBreakdown {
+        private final HandType handType;
+        private final int finalScore;
+        private final String display;
+
+        /**
+         * Creates a new breakdown.
+         *
+         * @param handType the hand type of the selection
+         * @param finalScore the score after joker effects
+         * @param display the breakdown text
+         */
+        ScoreBreakdown(HandType handType, int finalScore, String display) {
+            this.handType = handType;
+            this.finalScore = finalScore;
+            this.display = display;
+        }
+
+        HandType getHandType() {
+            return handType;
+        }
+
+        int getFinalScore() {
+            return finalScore;
+        }
+
+        String getDisplay() {
+            return display;
+        }
+    }
+}
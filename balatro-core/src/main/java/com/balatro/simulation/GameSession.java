@@ -0,0 +1,270 @@
+package com.balatro.simulation;
+
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+
+/**
+ * Plays one seeded game without a user interface, following the same rules as the game view:
+ * a played hand that reaches the target score completes the stage and starts the next one, and the game
+ * ends when a stage's hand limit is used up below the target or the chips no longer cover the stage value.
+ * Played and discarded cards are replaced from the deck straight away.
+ */
+public final class GameSession {
+    /** The bet placed at the start of every simulated game. */
+    public static final int DEFAULT_BET = 10;
+
+    private final GameStateManager manager;
+    private final GameService service;
+    private final int maxStages;
+    private int stagesCleared;
+    private long totalScore;
+    private int handsPlayed;
+    private int discardsUsed;
+    private boolean over;
+
+    /**
+     * Creates a game from a seed and starts its first stage.
+     *
+     * @param seed the seed; the same seed and the same moves always give the same game
+     * @param maxStages the number of cleared stages after which the game stops, so that runs are bounded
+     */
+    public GameSession(long seed, int maxStages) {
+        if (maxStages <= 0) {
+            throw new IllegalArgumentException("Max stages must be positive");
+        }
+        this.manager = new GameStateManager(seed, false);
+        this.service = manager.getGameService();
+        this.maxStages = maxStages;
+        manager.setBetAmount(DEFAULT_BET);
+        manager.startNewRound();
+    }
+
+    /**
+     * Plays cards from the hand.
+     *
+     * @param cards the cards to play
+     * @return the points scored by the hand
+     * @throws IllegalStateException if the game is over
+     * @throws IllegalArgumentException if the cards are not in the hand or are too few or too many to play
+     */
+    public int playHand(List<Card> cards) {
+        checkNotOver();
+        select(cards, Hand.getMinCardsToPlay(), Hand.getMaxCardsToPlay());
+
+        manager.handsPlayedInStageProperty().set(manager.getHandsPlayedInStage() + 1);
+        int points = service.evaluateHand();
+        totalScore += points;
+        handsPlayed++;
+
+        if (service.getScore() >= service.getTargetScore()) {
+            service.roundCompletedProperty().set(true);
+            manager.completeRound();
+            stagesCleared++;
+            if (stagesCleared >= maxStages || manager.getPlayerChips() < manager.getStageValue()) {
+                over = true;
+            } else {
+                manager.startNewRound();
+            }
+        } else if (service.getGameState() != GameService.GameState.WAITING_FOR_DRAW
+                || manager.getHandsPlayedInStage() >= manager.getMaxHandsPerStage()) {
+            // Out of hands below the target, or out of cards
+            over = true;
+        } else {
+            service.drawCards();
+        }
+        return points;
+    }
+
+    /**
+     * Discards cards from the hand and draws their replacements.
+     *
+     * @param cards the cards to discard
+     * @return true if the cards were discarded, false if the stage's discard limit is reached
+     * @throws IllegalStateException if the game is over
+     * @throws IllegalArgumentException if the cards are not in the hand or are too few or too many to discard
+     */
+    public boolean discard(List<Card> cards) {
+        checkNotOver();
+        if (getDiscardsLeft() == 0) {
+            return false;
+        }
+        select(cards, Hand.getMinCardsToDiscard(), Hand.getMaxCardsToDiscard());
+        manager.recordDiscard();
+        service.discardSelectedCards();
+        service.drawCards();
+        discardsUsed++;
+        return true;
+    }
+
+    /**
+     * Gets the cards in the hand.
+     *
+     * @return a read-only view of the hand
+     */
+    public List<Card> getHand() {
+        return service.getPlayerHand().getCards();
+    }
+
+    /**
+     * Gets the score of the current stage.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return service.getScore();
+    }
+
+    /**
+     * Gets the target score of the current stage.
+     *
+     * @return the target score
+     */
+    public int getTargetScore() {
+        return service.getTargetScore();
+    }
+
+    /**
+     * Gets the number of hands that can still be played in the current stage.
+     *
+     * @return the hands left
+     */
+    public int getHandsLeft() {
+        return manager.getMaxHandsPerStage() - manager.getHandsPlayedInStage();
+    }
+
+    /**
+     * Gets the number of discards that can still be used in the current stage.
+     *
+     * @return the discards left
+     */
+    public int getDiscardsLeft() {
+        return Math.max(0, manager.getMaxDiscardsPerStage() - manager.getDiscardsUsedInStage());
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the remaining cards
+     */
+    public int getRemainingCards() {
+        return service.getRemainingCards();
+    }
+
+    /**
+     * Gets the joker of the current stage.
+     *
+     * @return the joker, or null if there is none
+     */
+    public Joker getCurrentJoker() {
+        return manager.getCurrentJoker();
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true if no more moves can be made
+     */
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * Gets the number of stages cleared so far.
+     *
+     * @return the stages cleared
+     */
+    public int getStagesCleared() {
+        return stagesCleared;
+    }
+
+    /**
+     * Gets the points scored over all stages.
+     *
+     * @return the total score
+     */
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Gets the player's chips.
+     *
+     * @return the chips
+     */
+    public int getChips() {
+        return manager.getPlayerChips();
+    }
+
+    /**
+     * Gets the number of hands played over all stages.
+     *
+     * @return the hands played
+     */
+    public int getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    /**
+     * Gets the number of discards used over all stages.
+     *
+     * @return the discards used
+     */
+    public int getDiscardsUsed() {
+        return discardsUsed;
+    }
+
+    /**
+     * Gets the maximum number of stages this game is played for.
+     *
+     * @return the stage cap
+     */
+    public int getMaxStages() {
+        return maxStages;
+    }
+
+    /**
+     * Gets the game service, for observing the game's state.
+     * Moves should be made through this session so that its counters stay correct.
+     *
+     * @return the game service
+     */
+    public GameService getGameService() {
+        return service;
+    }
+
+    /**
+     * Gets the game state manager, for observing the game's stage, chips and limits.
+     *
+     * @return the game state manager
+     */
+    public GameStateManager getGameStateManager() {
+        return manager;
+    }
+
+    private void checkNotOver() {
+        if (over) {
+            throw new IllegalStateException("The game is over");
+        }
+    }
+
+    /**
+     * Replaces the selection with the given cards, leaving it empty if any card cannot be selected.
+     */
+    private void select(List<Card> cards, int min, int max) {
+        if (cards.size() < min || cards.size() > max) {
+            throw new IllegalArgumentException("Expected " + min + " to " + max + " cards but got " + cards.size());
+        }
+        service.getSelectedCards().clear();
+        for (Card card : cards) {
+            if (!service.selectCard(card)) {
+                service.getSelectedCards().clear();
+                throw new IllegalArgumentException("Card cannot be selected: " + card);
+            }
+        }
+    }
+}
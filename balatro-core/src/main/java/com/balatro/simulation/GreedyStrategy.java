@@ -0,0 +1,77 @@
+package com.balatro.simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+
+/**
+ * Plays the highest scoring set of cards in the hand, ignoring the joker.
+ * When that score would not reach the target in the hands left, it discards the lowest value cards
+ * outside the best set instead, as long as discards and cards in the deck remain.
+ */
+public final class GreedyStrategy implements Strategy {
+
+    @Override
+    public void playTurn(GameSession session) {
+        List<Card> hand = session.getHand();
+        int[] indexes = new int[hand.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = CardMask.indexOf(hand.get(i));
+        }
+
+        int bestPositions = 0;
+        int bestScore = -1;
+        for (int positions = 1; positions < 1 << indexes.length; positions++) {
+            if (Integer.bitCount(positions) > Hand.getMaxCardsToPlay()) {
+                continue;
+            }
+            int score = CardMask.score(maskOf(indexes, positions));
+            if (score > bestScore) {
+                bestScore = score;
+                bestPositions = positions;
+            }
+        }
+
+        int needed = session.getTargetScore() - session.getScore();
+        if ((long) bestScore * session.getHandsLeft() < needed
+                && session.getDiscardsLeft() > 0 && session.getRemainingCards() > 0) {
+            List<Card> rest = new ArrayList<>();
+            for (int i = 0; i < indexes.length; i++) {
+                if ((bestPositions & (1 << i)) == 0) {
+                    rest.add(hand.get(i));
+                }
+            }
+            rest.sort(Comparator.comparingInt(Card::getValue));
+            int count = Math.min(Math.min(rest.size(), Hand.getMaxCardsToDiscard()), session.getRemainingCards());
+            if (count >= Hand.getMinCardsToDiscard()) {
+                session.discard(new ArrayList<>(rest.subList(0, count)));
+                return;
+            }
+        }
+
+        List<Card> play = new ArrayList<>();
+        for (int i = 0; i < indexes.length; i++) {
+            if ((bestPositions & (1 << i)) != 0) {
+                play.add(hand.get(i));
+            }
+        }
+        session.playHand(play);
+    }
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    private static long maskOf(int[] indexes, int positions) {
+        long mask = 0;
+        for (int rest = positions; rest != 0; rest &= rest - 1) {
+            mask |= 1L << indexes[Integer.numberOfTrailingZeros(rest)];
+        }
+        return mask;
+    }
+}
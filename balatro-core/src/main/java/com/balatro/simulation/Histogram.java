@@ -0,0 +1,204 @@
+package com.balatro.simulation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Counts values in fixed-width buckets starting at 0, with one extra bucket for everything above the last.
+ * Only integer counts and sums are kept, so merging is exact: any grouping or order of merges gives the
+ * same histogram, which is what makes sharded simulation results reproducible.
+ */
+public final class Histogram {
+    private final int bucketWidth;
+    private final long[] counts;  // the last entry counts values beyond the fixed buckets
+    private long total;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param bucketWidth the width of each bucket
+     * @param buckets the number of fixed buckets, covering 0 to bucketWidth * buckets - 1
+     * @throws IllegalArgumentException if the width or bucket count is not positive
+     */
+    public Histogram(int bucketWidth, int buckets) {
+        if (bucketWidth <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("Bucket width and count must be positive");
+        }
+        this.bucketWidth = bucketWidth;
+        this.counts = new long[buckets + 1];
+    }
+
+    /**
+     * Adds a value. Negative values are counted in the first bucket.
+     *
+     * @param value the value
+     */
+    public void add(long value) {
+        long bucket = Math.max(0, value) / bucketWidth;
+        counts[(int) Math.min(bucket, counts.length - 1)]++;
+        total++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the counts of another histogram with the same buckets to this one.
+     *
+     * @param other the histogram to merge
+     * @throws IllegalArgumentException if the buckets differ
+     */
+    public void merge(Histogram other) {
+        if (other.bucketWidth != bucketWidth || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Histograms have different buckets");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the count
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the count of a bucket.
+     *
+     * @param bucket the bucket, where getBuckets() is the overflow bucket
+     * @return the count
+     */
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Gets the number of fixed buckets, not counting the overflow bucket.
+     *
+     * @return the number of buckets
+     */
+    public int getBuckets() {
+        return counts.length - 1;
+    }
+
+    /**
+     * Gets the width of each bucket.
+     *
+     * @return the width
+     */
+    public int getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * Gets the mean of the values added.
+     *
+     * @return the mean, or 0 if empty
+     */
+    public double getMean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * Gets the smallest value added.
+     *
+     * @return the minimum, or 0 if empty
+     */
+    public long getMin() {
+        return total == 0 ? 0 : min;
+    }
+
+    /**
+     * Gets the largest value added.
+     *
+     * @return the maximum, or 0 if empty
+     */
+    public long getMax() {
+        return total == 0 ? 0 : max;
+    }
+
+    /**
+     * Estimates a percentile as the lower bound of the bucket it falls in.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the lower bound of the bucket, or 0 if empty
+     */
+    public long getPercentile(double percentile) {
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, rank)) {
+                return (long) i * bucketWidth;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Writes this histogram in binary form.
+     *
+     * @param data the stream to write to
+     * @throws IOException if writing fails
+     */
+    void write(DataOutputStream data) throws IOException {
+        data.writeInt(bucketWidth);
+        data.writeInt(counts.length);
+        for (long count : counts) {
+            data.writeLong(count);
+        }
+        data.writeLong(total);
+        data.writeLong(sum);
+        data.writeLong(min);
+        data.writeLong(max);
+    }
+
+    /**
+     * Reads a histogram written by write.
+     *
+     * @param data the stream to read from
+     * @return the histogram
+     * @throws IOException if reading fails
+     */
+    static Histogram read(DataInputStream data) throws IOException {
+        int bucketWidth = data.readInt();
+        int length = data.readInt();
+        Histogram histogram = new Histogram(bucketWidth, length - 1);
+        for (int i = 0; i < length; i++) {
+            histogram.counts[i] = data.readLong();
+        }
+        histogram.total = data.readLong();
+        histogram.sum = data.readLong();
+        histogram.min = data.readLong();
+        histogram.max = data.readLong();
+        return histogram;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        Histogram other = (Histogram) obj;
+        return bucketWidth == other.bucketWidth && total == other.total && sum == other.sum
+                && min == other.min && max == other.max && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(counts) + Long.hashCode(sum);
+    }
+}
@@ -0,0 +1,359 @@
+package com.balatro.simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulates many games and reports their score, stage and chip distributions.
+ *
+ * Game number g always uses the seed firstSeed + g, and games are split into contiguous seed ranges
+ * (shards). Shards run on a thread pool or in separate JVM processes on the same host, and their stats
+ * are merged with SimulationStats.merge. Since each game depends only on its seed and merging only adds
+ * counts, the result is identical for any number of shards, threads or processes.
+ */
+public final class SimulationRunner {
+    /** The stage cap used when none is given, high enough that few games reach it. */
+    public static final int DEFAULT_MAX_STAGES = 30;
+
+    private SimulationRunner() {
+    }
+
+    /**
+     * The merged stats of a run, with how long it took.
+     */
+    public static final class Result {
+        private final SimulationStats stats;
+        private final int workers;
+        private final long elapsedNanos;
+        private final long busyNanos;
+
+        Result(SimulationStats stats, int workers, long elapsedNanos, long busyNanos) {
+            this.stats = stats;
+            this.workers = workers;
+            this.elapsedNanos = elapsedNanos;
+            this.busyNanos = busyNanos;
+        }
+
+        /**
+         * Gets the merged stats.
+         *
+         * @return the stats
+         */
+        public SimulationStats getStats() {
+            return stats;
+        }
+
+        /**
+         * Gets the number of threads or processes that ran the shards.
+         *
+         * @return the workers
+         */
+        public int getWorkers() {
+            return workers;
+        }
+
+        /**
+         * Gets the wall-clock time of the run.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Gets the time spent running shards, summed over all shards.
+         *
+         * @return the busy time in nanoseconds
+         */
+        public long getBusyNanos() {
+            return busyNanos;
+        }
+
+        /**
+         * Gets the throughput of the run.
+         *
+         * @return games simulated per second of wall-clock time
+         */
+        public double getGamesPerSecond() {
+            return stats.getGames() * 1e9 / Math.max(1, elapsedNanos);
+        }
+
+        /**
+         * Gets how busy the workers were: 1.0 means every worker ran shards for the whole run.
+         *
+         * @return the busy time divided by elapsed time times workers
+         */
+        public double getUtilization() {
+            return (double) busyNanos / ((double) Math.max(1, elapsedNanos) * workers);
+        }
+    }
+
+    /**
+     * Plays a range of games and records them.
+     *
+     * @param firstSeed the seed of game 0
+     * @param from the first game
+     * @param to the end of the range, exclusive
+     * @param maxStages the stage cap of each game
+     * @param strategy the player
+     * @return the stats of the games in the range
+     */
+    public static SimulationStats runShard(long firstSeed, long from, long to, int maxStages, Strategy strategy) {
+        SimulationStats stats = new SimulationStats(maxStages);
+        for (long game = from; game < to; game++) {
+            GameSession session = new GameSession(firstSeed + game, maxStages);
+            while (!session.isOver()) {
+                strategy.playTurn(session);
+            }
+            stats.record(session);
+        }
+        return stats;
+    }
+
+    /**
+     * Runs games split into shards on a thread pool.
+     *
+     * @param firstSeed the seed of game 0
+     * @param games the number of games
+     * @param shards the number of shards
+     * @param threads the number of threads
+     * @param maxStages the stage cap of each game
+     * @param strategy the player, shared by all threads
+     * @return the merged result
+     * @throws InterruptedException if interrupted while waiting for the shards
+     * @throws ExecutionException if a shard fails
+     */
+    public static Result runThreads(long firstSeed, long games, int shards, int threads, int maxStages,
+            Strategy strategy) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "simulation-shard");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return run(firstSeed, games, shards, threads, maxStages, strategy, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs games split into shards on an executor.
+     *
+     * @param firstSeed the seed of game 0
+     * @param games the number of games
+     * @param shards the number of shards
+     * @param workers the number of threads of the executor, used to report utilization
+     * @param maxStages the stage cap of each game
+     * @param strategy the player, shared by all threads
+     * @param executor the executor; it is not shut down
+     * @return the merged result
+     * @throws InterruptedException if interrupted while waiting for the shards
+     * @throws ExecutionException if a shard fails
+     */
+    public static Result run(long firstSeed, long games, int shards, int workers, int maxStages,
+            Strategy strategy, ExecutorService executor) throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        AtomicLong busyNanos = new AtomicLong();
+        List<Future<SimulationStats>> futures = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            long from = shardStart(games, shards, shard);
+            long to = shardStart(games, shards, shard + 1);
+            futures.add(executor.submit(() -> {
+                long shardStart = System.nanoTime();
+                SimulationStats stats = runShard(firstSeed, from, to, maxStages, strategy);
+                busyNanos.addAndGet(System.nanoTime() - shardStart);
+                return stats;
+            }));
+        }
+        SimulationStats total = new SimulationStats(maxStages);
+        for (Future<SimulationStats> future : futures) {
+            total.merge(future.get());
+        }
+        return new Result(total, workers, System.nanoTime() - start, busyNanos.get());
+    }
+
+    /**
+     * Runs games split into one shard per JVM process, using the greedy strategy.
+     * Each process is started with the same Java runtime and class path as this one, and writes its
+     * simulation time and stats back on standard output.
+     *
+     * @param firstSeed the seed of game 0
+     * @param games the number of games
+     * @param processes the number of processes
+     * @param maxStages the stage cap of each game
+     * @return the merged result; busy time is the time each process spent simulating
+     * @throws IOException if a process cannot be started or fails
+     * @throws InterruptedException if interrupted while waiting for the processes
+     */
+    public static Result runProcesses(long firstSeed, long games, int processes, int maxStages)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> workers = new ArrayList<>(processes);
+        try {
+            for (int i = 0; i < processes; i++) {
+                ProcessBuilder builder = new ProcessBuilder(java,
+                        "-cp", System.getProperty("java.class.path"),
+                        SimulationRunner.class.getName(), "--worker",
+                        "--seed", Long.toString(firstSeed),
+                        "--from", Long.toString(shardStart(games, processes, i)),
+                        "--to", Long.toString(shardStart(games, processes, i + 1)),
+                        "--stages", Integer.toString(maxStages));
+                builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+                workers.add(builder.start());
+            }
+
+            SimulationStats total = new SimulationStats(maxStages);
+            long busyNanos = 0;
+            for (Process worker : workers) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(worker.getInputStream()))) {
+                    busyNanos += in.readLong();
+                    total.merge(SimulationStats.read(in));
+                }
+                int exit = worker.waitFor();
+                if (exit != 0) {
+                    throw new IOException("Simulation worker exited with " + exit);
+                }
+            }
+            return new Result(total, processes, System.nanoTime() - start, busyNanos);
+        } finally {
+            for (Process worker : workers) {
+                worker.destroy();
+            }
+        }
+    }
+
+    /**
+     * Gets the first game of a shard, so that shards differ in size by at most one game.
+     */
+    static long shardStart(long games, int shards, int shard) {
+        return games * shard / shards;
+    }
+
+    /**
+     * Runs a simulation from the command line.
+     *
+     * Options: --games N (default 10000), --seed S (default 1), --shards K (default 4 per thread),
+     * --threads T (default all processors) or --processes P, --stages M (default 30),
+     * --scaling to repeat the run with 1, 2, 4... up to T threads and report the scaling efficiency,
+     * and --out FILE to save the merged stats in binary form.
+     *
+     * @param args the options
+     * @throws Exception if the simulation fails
+     */
+    public static void main(String[] args) throws Exception {
+        long games = 10_000;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int shards = 0;
+        int processes = 0;
+        int maxStages = DEFAULT_MAX_STAGES;
+        boolean scaling = false;
+        boolean worker = false;
+        long from = 0;
+        long to = 0;
+        Path out = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--shards" -> shards = Integer.parseInt(args[++i]);
+                case "--processes" -> processes = Integer.parseInt(args[++i]);
+                case "--stages" -> maxStages = Integer.parseInt(args[++i]);
+                case "--scaling" -> scaling = true;
+                case "--out" -> out = Paths.get(args[++i]);
+                case "--worker" -> worker = true;
+                case "--from" -> from = Long.parseLong(args[++i]);
+                case "--to" -> to = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (worker) {
+            runWorker(seed, from, to, maxStages);
+            return;
+        }
+
+        Strategy strategy = new GreedyStrategy();
+        Result result;
+        if (processes > 0) {
+            result = runProcesses(seed, games, processes, maxStages);
+            report("processes", result);
+        } else if (scaling) {
+            List<Integer> counts = new ArrayList<>();
+            for (int workers = 1; workers < threads; workers *= 2) {
+                counts.add(workers);
+            }
+            counts.add(threads);
+
+            Result single = null;
+            result = null;
+            for (int workers : counts) {
+                result = runThreads(seed, games, shardsFor(shards, workers), workers, maxStages, strategy);
+                if (single == null) {
+                    single = result;
+                } else if (!result.getStats().equals(single.getStats())) {
+                    throw new IllegalStateException("Stats with " + workers + " threads differ from 1 thread");
+                }
+                report("threads", result);
+                System.out.printf("  speedup %.2fx, scaling efficiency %.0f%%%n",
+                        result.getGamesPerSecond() / single.getGamesPerSecond(),
+                        100 * result.getGamesPerSecond() / (single.getGamesPerSecond() * workers));
+            }
+            System.out.println("Stats are identical for every thread count");
+        } else {
+            result = runThreads(seed, games, shardsFor(shards, threads), threads, maxStages, strategy);
+            report("threads", result);
+        }
+
+        System.out.println();
+        System.out.print(result.getStats());
+        if (out != null) {
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(out))) {
+                result.getStats().write(stream);
+            }
+        }
+    }
+
+    private static int shardsFor(int shards, int workers) {
+        return shards > 0 ? shards : 4 * workers;
+    }
+
+    private static void report(String unit, Result result) {
+        System.out.printf("%d games with %d %s in %.2f s: %.0f games/s, utilization %.0f%%%n",
+                result.getStats().getGames(), result.getWorkers(), unit, result.getElapsedNanos() / 1e9,
+                result.getGamesPerSecond(), 100 * result.getUtilization());
+    }
+
+    /**
+     * Runs one shard for runProcesses and writes its simulation time and stats to standard output.
+     * Anything else printed while simulating goes to standard error so it cannot corrupt the stats.
+     */
+    private static void runWorker(long seed, long from, long to, int maxStages) throws IOException {
+        PrintStream stdout = System.out;
+        System.setOut(System.err);
+        long start = System.nanoTime();
+        SimulationStats stats = runShard(seed, from, to, maxStages, new GreedyStrategy());
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(stdout));
+        data.writeLong(System.nanoTime() - start);
+        stats.write(data);
+    }
+}
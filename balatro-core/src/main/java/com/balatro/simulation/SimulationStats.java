@@ -0,0 +1,218 @@
+package com.balatro.simulation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Histograms of the final score, stages cleared and chips of a set of simulated games.
+ * Stats of separate shards are combined with merge, which only adds integer counts, so the combined
+ * stats are the same however the games were split and in whatever order the shards finish.
+ */
+public final class SimulationStats {
+    private static final int MAGIC = 0x42534D53; // "BSMS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int SCORE_BUCKET_WIDTH = 250;
+    private static final int SCORE_BUCKETS = 200;
+    private static final int CHIPS_BUCKET_WIDTH = 10;
+    private static final int CHIPS_BUCKETS = 100;
+
+    private long games;
+    private long handsPlayed;
+    private long discardsUsed;
+    private final Histogram scores;
+    private final Histogram stages;
+    private final Histogram chips;
+
+    /**
+     * Creates empty stats for games capped at a number of stages.
+     *
+     * @param maxStages the stage cap of the games
+     */
+    public SimulationStats(int maxStages) {
+        this(new Histogram(SCORE_BUCKET_WIDTH, SCORE_BUCKETS),
+                new Histogram(1, maxStages + 1),
+                new Histogram(CHIPS_BUCKET_WIDTH, CHIPS_BUCKETS));
+    }
+
+    private SimulationStats(Histogram scores, Histogram stages, Histogram chips) {
+        this.scores = scores;
+        this.stages = stages;
+        this.chips = chips;
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param session the game
+     */
+    public void record(GameSession session) {
+        games++;
+        handsPlayed += session.getHandsPlayed();
+        discardsUsed += session.getDiscardsUsed();
+        scores.add(session.getTotalScore());
+        stages.add(session.getStagesCleared());
+        chips.add(session.getChips());
+    }
+
+    /**
+     * Adds the games recorded in other stats to these.
+     *
+     * @param other the stats to merge
+     * @return these stats
+     * @throws IllegalArgumentException if the stats were created for a different stage cap
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        handsPlayed += other.handsPlayed;
+        discardsUsed += other.discardsUsed;
+        scores.merge(other.scores);
+        stages.merge(other.stages);
+        chips.merge(other.chips);
+        return this;
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return the games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of hands played over all games.
+     *
+     * @return the hands played
+     */
+    public long getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    /**
+     * Gets the number of discards used over all games.
+     *
+     * @return the discards used
+     */
+    public long getDiscardsUsed() {
+        return discardsUsed;
+    }
+
+    /**
+     * Gets the histogram of total scores.
+     *
+     * @return the histogram
+     */
+    public Histogram getScores() {
+        return scores;
+    }
+
+    /**
+     * Gets the histogram of stages cleared, with one bucket per stage count.
+     *
+     * @return the histogram
+     */
+    public Histogram getStages() {
+        return stages;
+    }
+
+    /**
+     * Gets the histogram of chips at the end of each game.
+     *
+     * @return the histogram
+     */
+    public Histogram getChips() {
+        return chips;
+    }
+
+    /**
+     * Writes these stats in binary form, so that a worker process can hand them back to the runner.
+     *
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(games);
+        data.writeLong(handsPlayed);
+        data.writeLong(discardsUsed);
+        scores.write(data);
+        stages.write(data);
+        chips.write(data);
+        data.flush();
+    }
+
+    /**
+     * Reads stats written by write.
+     *
+     * @param in the stream to read from
+     * @return the stats
+     * @throws IOException if reading fails or the data is not simulation stats
+     */
+    public static SimulationStats read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not simulation stats");
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported simulation stats version: " + version);
+        }
+        long games = data.readLong();
+        long handsPlayed = data.readLong();
+        long discardsUsed = data.readLong();
+        SimulationStats stats = new SimulationStats(Histogram.read(data), Histogram.read(data), Histogram.read(data));
+        stats.games = games;
+        stats.handsPlayed = handsPlayed;
+        stats.discardsUsed = discardsUsed;
+        return stats;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        SimulationStats other = (SimulationStats) obj;
+        return games == other.games && handsPlayed == other.handsPlayed && discardsUsed == other.discardsUsed
+                && scores.equals(other.scores) && stages.equals(other.stages) && chips.equals(other.chips);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(games, handsPlayed, discardsUsed, scores, stages, chips);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Games: %d, hands per game: %.2f, discards per game: %.2f%n",
+                games, ratio(handsPlayed), ratio(discardsUsed)));
+        text.append(summary("Score", scores));
+        text.append(summary("Chips", chips));
+        text.append("Stages cleared:").append(System.lineSeparator());
+        for (int i = 0; i <= stages.getBuckets(); i++) {
+            if (stages.getCount(i) > 0) {
+                text.append(String.format("  %3d  %8d  %6.2f%%%n", i, stages.getCount(i),
+                        100.0 * stages.getCount(i) / games));
+            }
+        }
+        return text.toString();
+    }
+
+    private double ratio(long count) {
+        return games == 0 ? 0 : (double) count / games;
+    }
+
+    private static String summary(String name, Histogram histogram) {
+        return String.format("%s: mean %.1f, min %d, p50 %d, p90 %d, p99 %d, max %d%n", name,
+                histogram.getMean(), histogram.getMin(), histogram.getPercentile(50),
+                histogram.getPercentile(90), histogram.getPercentile(99), histogram.getMax());
+    }
+}
@@ -0,0 +1,23 @@
+package com.balatro.simulation;
+
+/**
+ * Decides the moves of a simulated player.
+ * A strategy may be shared by several threads running games at once, so it should not keep state
+ * between calls.
+ */
+public interface Strategy {
+
+    /**
+     * Makes one move in a game that is not over, by playing or discarding cards.
+     *
+     * @param session the game
+     */
+    void playTurn(GameSession session);
+
+    /**
+     * Gets the name of this strategy.
+     *
+     * @return the name
+     */
+    String getName();
+}
@@ -0,0 +1,91 @@
+package com.balatro.solver;
+
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.HandType;
+
+/**
+ * Represents one decision in a solved stage: playing or discarding a set of cards.
+ */
+public final class SolverMove {
+
+    /**
+     * Enum representing the kind of decision.
+     */
+    public enum Type {
+        PLAY,
+        DISCARD
+    }
+
+    private final Type type;
+    private final long mask;
+    private final int score;
+
+    /**
+     * Creates a new move.
+     *
+     * @param type whether the cards are played or discarded
+     * @param mask the cards as a CardMask mask
+     * @param score the score earned, 0 for a discard
+     */
+    SolverMove(Type type, long mask, int score) {
+        this.type = type;
+        this.mask = mask;
+        this.score = score;
+    }
+
+    /**
+     * Gets whether the cards are played or discarded.
+     *
+     * @return the move type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the cards of this move.
+     *
+     * @return the cards, in deck index order
+     */
+    public List<Card> getCards() {
+        return CardMask.cardsOf(mask);
+    }
+
+    /**
+     * Gets the cards of this move as a CardMask mask.
+     *
+     * @return the mask
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the score earned by this move.
+     *
+     * @return the score, 0 for a discard
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the hand type of a played move.
+     *
+     * @return the hand type, or null for a discard
+     */
+    public HandType getHandType() {
+        return type == Type.PLAY ? CardMask.handType(mask) : null;
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.DISCARD) {
+            return "Discard " + getCards();
+        }
+        return "Play " + getHandType().getDisplayName() + " " + getCards() + " for " + score;
+    }
+}
@@ -0,0 +1,110 @@
+package com.balatro.solver;
+
+import java.util.List;
+
+/**
+ * Holds the outcome of a stage search: the best score found, whether the target is reachable,
+ * and the line of play that achieves it.
+ */
+public final class SolverResult {
+    private final int score;
+    private final boolean cleared;
+    private final int discardsUsed;
+    private final boolean complete;
+    private final List<SolverMove> line;
+    private final long nodesSearched;
+    private final int tableSize;
+
+    /**
+     * Creates a new result.
+     *
+     * @param score the total score of the line
+     * @param cleared whether the line reaches the target score
+     * @param discardsUsed the discard allowance of the search iteration that produced the line
+     * @param complete false if the time limit stopped the search before the last iteration finished
+     * @param line the moves, in order
+     * @param nodesSearched the number of states searched
+     * @param tableSize the number of transposition table entries
+     */
+    SolverResult(int score, boolean cleared, int discardsUsed, boolean complete,
+            List<SolverMove> line, long nodesSearched, int tableSize) {
+        this.score = score;
+        this.cleared = cleared;
+        this.discardsUsed = discardsUsed;
+        this.complete = complete;
+        this.line = List.copyOf(line);
+        this.nodesSearched = nodesSearched;
+        this.tableSize = tableSize;
+    }
+
+    /**
+     * Gets the total score of the line.
+     * For a max score search this is the best achievable score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether the line reaches the stage target score.
+     *
+     * @return true if the stage can be cleared
+     */
+    public boolean isCleared() {
+        return cleared;
+    }
+
+    /**
+     * Gets the discard allowance of the search iteration that produced the line.
+     * For a clear search this is the fewest discards needed.
+     *
+     * @return the number of discards allowed
+     */
+    public int getDiscardsUsed() {
+        return discardsUsed;
+    }
+
+    /**
+     * Checks whether every search iteration finished within the time limit.
+     *
+     * @return true if the result is exact
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Gets the moves of the line, in order.
+     *
+     * @return an unmodifiable list of moves
+     */
+    public List<SolverMove> getLine() {
+        return line;
+    }
+
+    /**
+     * Gets the number of states searched.
+     *
+     * @return the node count
+     */
+    public long getNodesSearched() {
+        return nodesSearched;
+    }
+
+    /**
+     * Gets the number of transposition table entries after the search.
+     *
+     * @return the table size
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    @Override
+    public String toString() {
+        return "Score " + score + (cleared ? " (cleared)" : " (not cleared)")
+                + " with " + discardsUsed + " discards, " + nodesSearched + " nodes: " + line;
+    }
+}
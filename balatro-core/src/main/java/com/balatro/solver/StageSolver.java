@@ -0,0 +1,706 @@
+package com.balatro.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Deck;
+import com.balatro.model.Hand;
+import com.balatro.model.HandType;
+import com.balatro.service.GameStateManager;
+
+/**
+ * Searches the play and discard decisions of one stage for a known card order.
+ * The player starts with the first 8 cards and every play or discard draws replacements
+ * from the top, as in GameService. Scores are computed before joker effects.
+ *
+ * The search is a depth-first search with a transposition table keyed by
+ * (hand mask, deck mask, hands left, discards left), upper-bound pruning, iterative deepening
+ * over the discard allowance, and the root moves split across a ForkJoin pool.
+ */
+public class StageSolver {
+    // Stop adding table entries past this size to bound memory on long searches
+    private static final int MAX_TABLE_SIZE = 4_000_000;
+    private static final int HAND_SIZE = Hand.getMaxCards();
+    private static final int MAX_CARDS_PER_MOVE = Hand.getMaxCardsToPlay();
+    private static final byte KIND_EXACT = 0;
+    private static final byte KIND_LOWER = 1;
+    private static final byte KIND_UPPER = 2;
+
+    private final int[] order;
+    private final long[] suffixMasks;
+    private final int targetScore;
+    private final int maxHands;
+    private final int maxDiscards;
+    private final ConcurrentHashMap<StateKey, Entry> table = new ConcurrentHashMap<>();
+    private final LongAdder nodes = new LongAdder();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private long timeLimitMillis;
+
+    /**
+     * Creates a solver for a stage.
+     *
+     * @param drawOrder the deck from top to bottom; the first 8 cards are the starting hand
+     * @param targetScore the score needed to clear the stage
+     * @param maxHands the number of hands that can be played
+     * @param maxDiscards the number of discards that can be used
+     * @throws IllegalArgumentException if the order contains a joker or a repeated card
+     */
+    public StageSolver(List<Card> drawOrder, int targetScore, int maxHands, int maxDiscards) {
+        this.order = new int[drawOrder.size()];
+        long seen = 0;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = CardMask.indexOf(drawOrder.get(i));
+            if ((seen & (1L << order[i])) != 0) {
+                throw new IllegalArgumentException("Card appears twice in the draw order: " + drawOrder.get(i));
+            }
+            seen |= 1L << order[i];
+        }
+        this.suffixMasks = new long[order.length + 1];
+        for (int i = order.length - 1; i >= 0; i--) {
+            suffixMasks[i] = suffixMasks[i + 1] | (1L << order[i]);
+        }
+        this.targetScore = targetScore;
+        this.maxHands = maxHands;
+        this.maxDiscards = maxDiscards;
+    }
+
+    /**
+     * Creates a solver for a level stage dealt from a seeded deck.
+     *
+     * @param seed the deck seed
+     * @param stage the stage whose target score must be reached
+     * @param maxHands the number of hands that can be played
+     * @param maxDiscards the number of discards that can be used
+     * @return the solver
+     */
+    public static StageSolver forStage(long seed, GameStateManager.LevelStage stage, int maxHands, int maxDiscards) {
+        return new StageSolver(new Deck(seed).getCards(), stage.getTargetScore(), maxHands, maxDiscards);
+    }
+
+    /**
+     * Creates a solver for the current stage and limits of a game, dealt from a seeded deck.
+     *
+     * @param seed the deck seed
+     * @param manager the game whose stage and limits are used
+     * @return the solver
+     */
+    public static StageSolver forStage(long seed, GameStateManager manager) {
+        return forStage(seed, manager.getCurrentStage(), manager.getMaxHandsPerStage(), manager.getMaxDiscardsPerStage());
+    }
+
+    /**
+     * Estimates the probability of clearing a stage with perfect play
+     * as the fraction of consecutive seeds that can be cleared.
+     *
+     * @param firstSeed the first deck seed
+     * @param samples the number of seeds to solve
+     * @param stage the stage
+     * @param maxHands the number of hands that can be played
+     * @param maxDiscards the number of discards that can be used
+     * @return the fraction of seeds cleared, from 0 to 1
+     */
+    public static double estimateClearProbability(long firstSeed, int samples, GameStateManager.LevelStage stage,
+            int maxHands, int maxDiscards) {
+        int cleared = 0;
+        for (int i = 0; i < samples; i++) {
+            if (forStage(firstSeed + i, stage, maxHands, maxDiscards).solveClear().isCleared()) {
+                cleared++;
+            }
+        }
+        return samples == 0 ? 0 : (double) cleared / samples;
+    }
+
+    /**
+     * Sets the ForkJoin pool used to search the root moves in parallel.
+     *
+     * @param pool the pool
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Sets a time limit for each solve call.
+     * When it runs out, the result of the last finished iteration is returned and marked incomplete.
+     *
+     * @param millis the limit in milliseconds, or 0 for no limit
+     */
+    public void setTimeLimit(long millis) {
+        this.timeLimitMillis = millis;
+    }
+
+    /**
+     * Finds the maximum total score over all hands.
+     * Each iteration allows one more discard and repeats bounded searches until the best score cannot be beaten.
+     *
+     * @return the best line and its score
+     */
+    public SolverResult solveMaxScore() {
+        return solve(true);
+    }
+
+    /**
+     * Finds whether the stage target can be reached, using as few discards as possible.
+     * The search stops at the first iteration that reaches the target.
+     *
+     * @return a clearing line, or an empty line that is not cleared if the target cannot be reached
+     */
+    public SolverResult solveClear() {
+        return solve(false);
+    }
+
+    /**
+     * Gets the number of transposition table entries.
+     *
+     * @return the table size
+     */
+    public int getTableSize() {
+        return table.size();
+    }
+
+    /**
+     * Runs the iterative deepening over the discard allowance.
+     *
+     * @param maximize true to find the maximum score, false to stop once the target score is reached
+     * @return the result of the last finished iteration
+     */
+    private SolverResult solve(boolean maximize) {
+        long deadline = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1_000_000 : Long.MAX_VALUE;
+        int startDraw = Math.min(HAND_SIZE, order.length);
+        long startHand = suffixMasks[0] & ~suffixMasks[startDraw];
+        SolverResult result = new SolverResult(0, false, 0, false, List.of(), 0, 0);
+        int best = 0;
+
+        for (int discards = 0; discards <= maxDiscards; discards++) {
+            int value;
+            if (maximize) {
+                // Ask whether the best score so far can be beaten until it cannot; the searches share the table,
+                // and more discards never lower the maximum, so each iteration starts from the last one's score
+                value = best;
+                while (true) {
+                    Integer found = searchRoot(startHand, startDraw, discards, value + 1, deadline);
+                    if (found == null) {
+                        return incomplete(result);
+                    }
+                    if (found <= value) {
+                        break;
+                    }
+                    value = found;
+                }
+            } else {
+                Integer found = searchRoot(startHand, startDraw, discards, targetScore, deadline);
+                if (found == null) {
+                    return incomplete(result);
+                }
+                value = found;
+                if (value < targetScore) {
+                    // Not reachable with this many discards; try one more
+                    result = new SolverResult(0, false, discards, true, List.of(), nodes.sum(), table.size());
+                    continue;
+                }
+            }
+            List<SolverMove> line = principalLine(startHand, startDraw, maxHands, discards,
+                    maximize ? value : targetScore);
+            int score = line.stream().mapToInt(SolverMove::getScore).sum();
+            result = new SolverResult(score, score >= targetScore, discards, true, line, nodes.sum(), table.size());
+            if (!maximize) {
+                break;
+            }
+            best = value;
+        }
+        return result;
+    }
+
+    /**
+     * Marks the last finished iteration's result as stopped by the time limit.
+     */
+    private SolverResult incomplete(SolverResult result) {
+        return new SolverResult(result.getScore(), result.isCleared(), result.getDiscardsUsed(), false,
+                result.getLine(), nodes.sum(), table.size());
+    }
+
+    /**
+     * Searches the root moves in parallel, one ForkJoin task per move.
+     * The first task to reach the needed score stops the others.
+     *
+     * @return the root value as defined by search, or null if the time limit ran out
+     */
+    private Integer searchRoot(long hand, int draw, int discards, int need, long deadline) {
+        AtomicInteger best = new AtomicInteger(-1);
+        AtomicBoolean stop = new AtomicBoolean();
+        List<RootTask> tasks = new ArrayList<>();
+        for (long move : orderedMoves(hand, draw, maxHands, discards)) {
+            tasks.add(new RootTask(hand, draw, discards, need, move, best, stop, deadline));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        for (RootTask task : tasks) {
+            if (task.join() == null && !stop.get()) {
+                return null;
+            }
+        }
+        return best.get();
+    }
+
+    /**
+     * Walks the solved tree from the root, picking at each state the first move that still reaches the needed score.
+     *
+     * @param need the score the line must reach
+     */
+    private List<SolverMove> principalLine(long hand, int draw, int handsLeft, int discardsLeft, int need) {
+        List<SolverMove> line = new ArrayList<>();
+        SearchContext context = new SearchContext(new AtomicBoolean(), Long.MAX_VALUE);
+        while (handsLeft > 0 && need > 0) {
+            boolean found = false;
+            for (long move : orderedMoves(hand, draw, handsLeft, discardsLeft)) {
+                long cards = moveCards(move);
+                boolean play = isPlay(move);
+                int immediate = play ? CardMask.score(cards) : 0;
+                long nextHand = nextHand(hand, draw, cards);
+                int nextDraw = nextDraw(draw, cards);
+                int nextHands = play ? handsLeft - 1 : handsLeft;
+                int nextDiscards = play ? discardsLeft : discardsLeft - 1;
+                if (immediate + search(nextHand, nextDraw, nextHands, nextDiscards, need - immediate, context) >= need) {
+                    line.add(new SolverMove(play ? SolverMove.Type.PLAY : SolverMove.Type.DISCARD, cards, immediate));
+                    hand = nextHand;
+                    draw = nextDraw;
+                    handsLeft = nextHands;
+                    discardsLeft = nextDiscards;
+                    need -= immediate;
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                break;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Searches a state.
+     * Returns a value v with these guarantees: if v >= need, the state can score at least v;
+     * if v < need, the state cannot score more than v.
+     * context.exact reports whether v is the exact value of the state.
+     */
+    private int search(long hand, int draw, int handsLeft, int discardsLeft, int need, SearchContext context) {
+        if (handsLeft == 0 || hand == 0) {
+            context.exact = true;
+            return 0;
+        }
+        if (need <= 0) {
+            context.exact = false;
+            return 0;
+        }
+        context.tick();
+
+        StateKey key = new StateKey(hand, suffixMasks[draw], handsLeft, discardsLeft);
+        Entry entry = table.get(key);
+        if (entry != null) {
+            if (entry.kind == KIND_EXACT
+                    || (entry.kind == KIND_LOWER && entry.value >= need)
+                    || (entry.kind == KIND_UPPER && entry.value < need)) {
+                context.exact = entry.kind == KIND_EXACT;
+                return entry.value;
+            }
+        }
+
+        int best = 0;
+        int skippedBound = -1;
+        boolean allExact = true;
+        for (long move : orderedMoves(hand, draw, handsLeft, discardsLeft)) {
+            long cards = moveCards(move);
+            boolean play = isPlay(move);
+            int immediate = play ? CardMask.score(cards) : 0;
+            long nextHand = nextHand(hand, draw, cards);
+            int nextDraw = nextDraw(draw, cards);
+            int nextHands = play ? handsLeft - 1 : handsLeft;
+            int nextDiscards = play ? discardsLeft : discardsLeft - 1;
+
+            int bound = immediate + upperBound(nextHand, nextDraw, nextHands, nextDiscards);
+            if (bound <= best) {
+                // Cannot beat a move already found, so skipping it keeps the value exact
+                continue;
+            }
+            if (bound < need) {
+                skippedBound = Math.max(skippedBound, bound);
+                continue;
+            }
+
+            int total = immediate + search(nextHand, nextDraw, nextHands, nextDiscards, need - immediate, context);
+            allExact &= context.exact;
+            best = Math.max(best, total);
+            if (best >= need) {
+                // The remaining moves were not searched, so this is only a lower bound
+                store(key, best, KIND_LOWER);
+                context.exact = false;
+                return best;
+            }
+        }
+
+        if (skippedBound > best) {
+            store(key, skippedBound, KIND_UPPER);
+            context.exact = false;
+            return skippedBound;
+        }
+        boolean exact = allExact && skippedBound < 0;
+        store(key, best, exact ? KIND_EXACT : KIND_UPPER);
+        context.exact = exact;
+        return best;
+    }
+
+    /**
+     * Stores a table entry, keeping an exact entry over a bound.
+     */
+    private void store(StateKey key, int value, byte kind) {
+        if (table.size() >= MAX_TABLE_SIZE) {
+            return;
+        }
+        Entry entry = new Entry(value, kind);
+        if (kind == KIND_EXACT) {
+            table.put(key, entry);
+        } else {
+            table.merge(key, entry, (old, added) -> old.kind == KIND_EXACT ? old : added);
+        }
+    }
+
+    /**
+     * Bounds the score of the remaining hands: each hand scores at most the best hand type
+     * that can be formed from the cards that can still reach the hand, with the five highest card values.
+     */
+    private int upperBound(long hand, int draw, int handsLeft, int discardsLeft) {
+        if (handsLeft == 0) {
+            return 0;
+        }
+        // Every action before the last play draws at most five cards
+        int reachable = Math.min(order.length, draw + MAX_CARDS_PER_MOVE * (handsLeft + discardsLeft - 1));
+        long pool = hand | (suffixMasks[draw] & ~suffixMasks[reachable]);
+        return handsLeft * bestPossibleScore(pool);
+    }
+
+    /**
+     * Bounds the score of any play of at most five cards from a pool.
+     */
+    static int bestPossibleScore(long pool) {
+        int[] rankCounts = new int[CardMask.RANKS];
+        int[] suitCounts = new int[4];
+        int[] suitRuns = new int[4];
+        int allRuns = 0;
+        for (long rest = pool; rest != 0; rest &= rest - 1) {
+            int index = Long.numberOfTrailingZeros(rest);
+            int rank = index % CardMask.RANKS;
+            int suit = index / CardMask.RANKS;
+            rankCounts[rank]++;
+            suitCounts[suit]++;
+            // Bit n is set for straight order n (A=14 only, as in Hand)
+            int bit = 1 << (rank == 0 ? 14 : rank + 1);
+            suitRuns[suit] |= bit;
+            allRuns |= bit;
+        }
+
+        // The five highest card values in the pool, by rank: A, then 10/J/Q/K, then 9 down to 2
+        int topValues = 0;
+        int taken = 0;
+        int[] ranksByValue = {0, 9, 10, 11, 12, 8, 7, 6, 5, 4, 3, 2, 1};
+        for (int rank : ranksByValue) {
+            int count = Math.min(rankCounts[rank], MAX_CARDS_PER_MOVE - taken);
+            topValues += count * CardMask.valueAt(rank);
+            taken += count;
+        }
+
+        int pairs = 0;
+        int threes = 0;
+        boolean four = false;
+        for (int rankCount : rankCounts) {
+            pairs += rankCount >= 2 ? 1 : 0;
+            threes += rankCount >= 3 ? 1 : 0;
+            four |= rankCount >= 4;
+        }
+        boolean straightFlush = false;
+        boolean flush = false;
+        for (int suit = 0; suit < 4; suit++) {
+            straightFlush |= hasRun(suitRuns[suit]);
+            flush |= suitCounts[suit] >= 5;
+        }
+
+        HandType best;
+        if (straightFlush) {
+            best = HandType.STRAIGHT_FLUSH;
+        } else if (four) {
+            best = HandType.FOUR_OF_A_KIND;
+        } else if (threes > 0 && pairs > 1) {
+            best = HandType.FULL_HOUSE;
+        } else if (flush) {
+            best = HandType.FLUSH;
+        } else if (hasRun(allRuns)) {
+            best = HandType.STRAIGHT;
+        } else if (threes > 0) {
+            best = HandType.THREE_OF_A_KIND;
+        } else if (pairs > 1) {
+            best = HandType.TWO_PAIR;
+        } else if (pairs > 0) {
+            best = HandType.PAIR;
+        } else {
+            best = HandType.HIGH_CARD;
+        }
+        // Multipliers rise with the hand type order, so the highest feasible type gives the bound
+        return (best.getBaseScore() + topValues) * best.getMultiplier();
+    }
+
+    /**
+     * Checks whether a straight-order bitmap has five consecutive bits.
+     */
+    private static boolean hasRun(int bits) {
+        return (bits & (bits >> 1) & (bits >> 2) & (bits >> 3) & (bits >> 4)) != 0;
+    }
+
+    /**
+     * Lists the moves of a state, best first: plays by immediate score, then discards by the bound they leave.
+     * A move is encoded as the card mask shifted left by one, with the low bit set for a play.
+     */
+    private long[] orderedMoves(long hand, int draw, int handsLeft, int discardsLeft) {
+        int[] cards = new int[Long.bitCount(hand)];
+        int count = 0;
+        for (long rest = hand; rest != 0; rest &= rest - 1) {
+            cards[count++] = Long.numberOfTrailingZeros(rest);
+        }
+
+        boolean canDiscard = discardsLeft > 0 && draw < order.length;
+        int subsets = 1 << count;
+        long[] plays = new long[subsets];
+        long[] discards = new long[canDiscard ? subsets : 0];
+        int playCount = 0;
+        int discardCount = 0;
+        for (int subset = 1; subset < subsets; subset++) {
+            if (Integer.bitCount(subset) > MAX_CARDS_PER_MOVE) {
+                continue;
+            }
+            long mask = 0;
+            for (int i = 0; i < count; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    mask |= 1L << cards[i];
+                }
+            }
+            // Sort key in the high bits, subset in the low byte
+            plays[playCount++] = ((long) CardMask.score(mask) << 8) | subset;
+            if (canDiscard) {
+                long nextHand = nextHand(hand, draw, mask);
+                int bound = upperBound(nextHand, nextDraw(draw, mask), handsLeft, discardsLeft - 1);
+                discards[discardCount++] = ((long) bound << 8) | subset;
+            }
+        }
+        Arrays.sort(plays, 0, playCount);
+        Arrays.sort(discards, 0, discardCount);
+
+        long[] moves = new long[playCount + discardCount];
+        int next = 0;
+        for (int i = playCount - 1; i >= 0; i--) {
+            moves[next++] = (expand(cards, (int) (plays[i] & 0xFF)) << 1) | 1;
+        }
+        for (int i = discardCount - 1; i >= 0; i--) {
+            moves[next++] = expand(cards, (int) (discards[i] & 0xFF)) << 1;
+        }
+        return moves;
+    }
+
+    /**
+     * Maps a subset of hand positions to a card mask.
+     */
+    private static long expand(int[] cards, int subset) {
+        long mask = 0;
+        for (int i = 0; i < cards.length; i++) {
+            if ((subset & (1 << i)) != 0) {
+                mask |= 1L << cards[i];
+            }
+        }
+        return mask;
+    }
+
+    private static long moveCards(long move) {
+        return move >>> 1;
+    }
+
+    private static boolean isPlay(long move) {
+        return (move & 1) != 0;
+    }
+
+    /**
+     * Removes the moved cards from the hand and draws the same number from the top of the deck.
+     */
+    private long nextHand(long hand, int draw, long cards) {
+        int end = nextDraw(draw, cards);
+        return (hand & ~cards) | (suffixMasks[draw] & ~suffixMasks[end]);
+    }
+
+    private int nextDraw(int draw, long cards) {
+        return Math.min(order.length, draw + Long.bitCount(cards));
+    }
+
+    /**
+     * Searches one root move as a ForkJoin task.
+     * Returns null if the search was stopped before it finished.
+     */
+    private final class RootTask extends RecursiveTask<Integer> {
+        private final long hand;
+        private final int draw;
+        private final int discards;
+        private final int need;
+        private final long move;
+        private final AtomicInteger best;
+        private final AtomicBoolean stop;
+        private final long deadline;
+
+        RootTask(long hand, int draw, int discards, int need, long move,
+                AtomicInteger best, AtomicBoolean stop, long deadline) {
+            this.hand = hand;
+            this.draw = draw;
+            this.discards = discards;
+            this.need = need;
+            this.move = move;
+            this.best = best;
+            this.stop = stop;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (stop.get()) {
+                return null;
+            }
+            long cards = moveCards(move);
+            boolean play = isPlay(move);
+            int immediate = play ? CardMask.score(cards) : 0;
+            long nextHand = nextHand(hand, draw, cards);
+            int nextDraw = nextDraw(draw, cards);
+            int nextHands = play ? maxHands - 1 : maxHands;
+            int nextDiscards = play ? discards : discards - 1;
+
+            int bound = immediate + upperBound(nextHand, nextDraw, nextHands, nextDiscards);
+            if (bound < need) {
+                return bound;
+            }
+            SearchContext context = new SearchContext(stop, deadline);
+            try {
+                int total = immediate + search(nextHand, nextDraw, nextHands, nextDiscards, need - immediate, context);
+                best.accumulateAndGet(total, Math::max);
+                if (total >= need) {
+                    stop.set(true);
+                }
+                return total;
+            } catch (SearchStopped e) {
+                return null;
+            } finally {
+                context.flush();
+            }
+        }
+    }
+
+    /**
+     * Per-task search state: node counting, the stop flag and the deadline.
+     */
+    private final class SearchContext {
+        private final AtomicBoolean stop;
+        private final long deadline;
+        private int sinceCheck;
+        // Whether the last search call returned an exact value
+        private boolean exact;
+
+        SearchContext(AtomicBoolean stop, long deadline) {
+            this.stop = stop;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Counts a node and stops the search if another task cleared the stage or time ran out.
+         */
+        void tick() {
+            if (++sinceCheck < 64) {
+                return;
+            }
+            nodes.add(sinceCheck);
+            sinceCheck = 0;
+            if (stop.get() || System.nanoTime() > deadline) {
+                throw SearchStopped.INSTANCE;
+            }
+        }
+
+        /**
+         * Adds the nodes counted since the last check to the total.
+         */
+        void flush() {
+            nodes.add(sinceCheck);
+            sinceCheck = 0;
+        }
+    }
+
+    /**
+     * Thrown to unwind a search that was stopped.
+     */
+    private static final class SearchStopped extends RuntimeException {
+        private static final SearchStopped INSTANCE = new SearchStopped();
+
+        private SearchStopped() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Transposition table key.
+     */
+    private static final class StateKey {
+        private final long handMask;
+        private final long deckMask;
+        private final int handsLeft;
+        private final int discardsLeft;
+
+        StateKey(long handMask, long deckMask, int handsLeft, int discardsLeft) {
+            this.handMask = handMask;
+            this.deckMask = deckMask;
+            this.handsLeft = handsLeft;
+            this.discardsLeft = discardsLeft;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StateKey)) {
+                return false;
+            }
+            StateKey other = (StateKey) obj;
+            return handMask == other.handMask && deckMask == other.deckMask
+                    && handsLeft == other.handsLeft && discardsLeft == other.discardsLeft;
+        }
+
+        @Override
+        public int hashCode() {
+            long mixed = handMask * 0x9E3779B97F4A7C15L ^ deckMask * 0xC2B2AE3D27D4EB4FL;
+            return Long.hashCode(mixed) * 31 + handsLeft * 8 + discardsLeft;
+        }
+    }
+
+    /**
+     * Transposition table entry: a value and whether it is exact, a lower bound or an upper bound.
+     */
+    private static final class Entry {
+        private final int value;
+        private final byte kind;
+
+        Entry(int value, byte kind) {
+            this.value = value;
+            this.kind = kind;
+        }
+    }
+}
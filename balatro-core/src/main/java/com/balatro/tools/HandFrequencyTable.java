@@ -0,0 +1,509 @@
+package com.balatro.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import com.balatro.model.CardMask;
+import com.balatro.model.HandType;
+import com.balatro.model.JokerType;
+
+/**
+ * Counts hand type frequencies and score distributions over every combination of cards from a standard deck.
+ * Each combination is evaluated as one Hand with the current rules (A is high only in straights,
+ * straights and flushes need every card), scored as in GameService, and scored again under each JokerType.
+ *
+ * Run with: java -cp balatro-core/target/classes com.balatro.tools.HandFrequencyTable [cards...] [--out dir]
+ * The default is 5 and 8 cards. For each size a CSV of hand types, a CSV of score distributions
+ * and a binary table that read() can load are written.
+ */
+public final class HandFrequencyTable {
+    /** Scores at or above this value are counted in the last histogram bin. */
+    public static final int SCORE_BINS = 16384;
+    /** Number of joker columns: no joker, then each JokerType in declaration order. */
+    public static final int JOKER_COLUMNS = JokerType.values().length + 1;
+
+    private static final int MAGIC = 0x42484654; // "BHFT"
+    private static final int FORMAT_VERSION = 1;
+    private static final HandType[] TYPES = HandType.values();
+    private static final JokerType[] JOKERS = JokerType.values();
+    private static final int SUIT_BITS = 0x1FFF;
+    // Rank bits of J, Q and K in one suit
+    private static final int FACE_BITS = 0x1C00;
+    // Rank bits of 2, 3, 5 and 8, the ranks whose values are Fibonacci numbers
+    private static final int FIBONACCI_BITS = (1 << 1) | (1 << 2) | (1 << 4) | (1 << 7);
+    // Sum of the card values of each 13-bit rank set
+    private static final int[] SUIT_VALUE_SUMS = new int[1 << CardMask.RANKS];
+
+    static {
+        for (int bits = 1; bits < SUIT_VALUE_SUMS.length; bits++) {
+            int rank = Integer.numberOfTrailingZeros(bits);
+            SUIT_VALUE_SUMS[bits] = SUIT_VALUE_SUMS[bits & (bits - 1)] + CardMask.valueAt(rank);
+        }
+    }
+
+    private final int cardsPerHand;
+    private final long[] typeCounts = new long[TYPES.length];
+    private final long[][] scoreSums = new long[JOKER_COLUMNS][TYPES.length];
+    private final long[][] scoreHistogram = new long[JOKER_COLUMNS][SCORE_BINS];
+
+    /**
+     * Creates an empty table.
+     *
+     * @param cardsPerHand the number of cards in each combination
+     */
+    private HandFrequencyTable(int cardsPerHand) {
+        this.cardsPerHand = cardsPerHand;
+    }
+
+    /**
+     * Enumerates every combination of a number of cards from the standard deck in parallel.
+     * Work is split by the two lowest cards of each combination; each thread counts into its own table
+     * and the inner loop walks card masks without allocating.
+     *
+     * @param cardsPerHand the number of cards, from 2 to 8
+     * @return the counted table
+     * @throws IllegalArgumentException if the number of cards is out of range
+     */
+    public static HandFrequencyTable enumerate(int cardsPerHand) {
+        if (cardsPerHand < 2 || cardsPerHand > 8) {
+            throw new IllegalArgumentException("Cards per hand must be between 2 and 8");
+        }
+        int deckSize = CardMask.DECK_SIZE;
+        Queue<HandFrequencyTable> tables = new ConcurrentLinkedQueue<>();
+        ThreadLocal<HandFrequencyTable> local = ThreadLocal.withInitial(() -> {
+            HandFrequencyTable table = new HandFrequencyTable(cardsPerHand);
+            tables.add(table);
+            return table;
+        });
+
+        // Pair number p maps to the lowest two cards (first, second)
+        IntStream.range(0, deckSize * deckSize).parallel()
+                .filter(pair -> pair / deckSize < pair % deckSize)
+                .forEach(pair -> local.get().countFrom(pair / deckSize, pair % deckSize));
+
+        HandFrequencyTable total = new HandFrequencyTable(cardsPerHand);
+        for (HandFrequencyTable table : tables) {
+            total.merge(table);
+        }
+        return total;
+    }
+
+    /**
+     * Counts every combination whose two lowest cards are first and second.
+     */
+    private void countFrom(int first, int second) {
+        long base = (1L << first) | (1L << second);
+        int rest = cardsPerHand - 2;
+        int width = CardMask.DECK_SIZE - second - 1;
+        if (rest > width) {
+            return;
+        }
+        if (rest == 0) {
+            add(base);
+            return;
+        }
+        // Gosper's hack: visit every width-bit value with rest bits set, in increasing order
+        long limit = 1L << width;
+        for (long bits = (1L << rest) - 1; bits < limit; ) {
+            add(base | (bits << (second + 1)));
+            long lowest = bits & -bits;
+            long ripple = bits + lowest;
+            bits = (((ripple ^ bits) >>> 2) / lowest) | ripple;
+        }
+    }
+
+    /**
+     * Counts one combination.
+     */
+    private void add(long mask) {
+        int hearts = (int) mask & SUIT_BITS;
+        int diamonds = (int) (mask >>> 13) & SUIT_BITS;
+        int clubs = (int) (mask >>> 26) & SUIT_BITS;
+        int spades = (int) (mask >>> 39) & SUIT_BITS;
+
+        int type = handTypeOrdinal(hearts, diamonds, clubs, spades);
+        int cardValues = SUIT_VALUE_SUMS[hearts] + SUIT_VALUE_SUMS[diamonds]
+                + SUIT_VALUE_SUMS[clubs] + SUIT_VALUE_SUMS[spades];
+        int score = (TYPES[type].getBaseScore() + cardValues) * TYPES[type].getMultiplier();
+
+        typeCounts[type]++;
+        count(0, type, score);
+        for (int joker = 0; joker < JOKERS.length; joker++) {
+            count(joker + 1, type, jokerScore(JOKERS[joker], score, hearts, diamonds, clubs, spades));
+        }
+    }
+
+    private void count(int column, int type, int score) {
+        scoreSums[column][type] += score;
+        scoreHistogram[column][Math.min(score, SCORE_BINS - 1)]++;
+    }
+
+    /**
+     * Evaluates the hand type of a combination with the same rules as Hand.
+     * Rank counts are kept as bit planes: bit r of ones, twos and fours holds the count of rank r.
+     *
+     * @return the HandType ordinal
+     */
+    static int handTypeOrdinal(int hearts, int diamonds, int clubs, int spades) {
+        // Add the four suits into the bit planes, carrying from ones to twos to fours
+        int ones = hearts;
+        int carry = ones & diamonds;
+        ones ^= diamonds;
+        int twos = carry;
+        carry = ones & clubs;
+        ones ^= clubs;
+        int fours = twos & carry;
+        twos ^= carry;
+        carry = ones & spades;
+        ones ^= spades;
+        fours |= twos & carry;
+        twos ^= carry;
+        int count = Integer.bitCount(hearts) + Integer.bitCount(diamonds)
+                + Integer.bitCount(clubs) + Integer.bitCount(spades);
+        int pairRanks = Integer.bitCount(twos & ~ones & ~fours);
+        boolean three = (ones & twos) != 0;
+        boolean four = fours != 0;
+
+        boolean flush = count >= 5 && ((hearts == 0 ? 0 : 1) + (diamonds == 0 ? 0 : 1)
+                + (clubs == 0 ? 0 : 1) + (spades == 0 ? 0 : 1)) == 1;
+        boolean straight = false;
+        if (count >= 5 && (twos | fours) == 0) {
+            // Reorder the rank bits so bit 0 is the 2 and bit 12 is the A
+            int ranks = ones;
+            int order = (ranks >>> 1) | ((ranks & 1) << 12);
+            straight = (order >>> Integer.numberOfTrailingZeros(order)) == (1 << count) - 1;
+        }
+
+        HandType type;
+        if (flush && straight) {
+            type = HandType.STRAIGHT_FLUSH;
+        } else if (four) {
+            type = HandType.FOUR_OF_A_KIND;
+        } else if (count >= 5 && three && pairRanks > 0) {
+            type = HandType.FULL_HOUSE;
+        } else if (flush) {
+            type = HandType.FLUSH;
+        } else if (straight) {
+            type = HandType.STRAIGHT;
+        } else if (three) {
+            type = HandType.THREE_OF_A_KIND;
+        } else if (pairRanks >= 2) {
+            type = HandType.TWO_PAIR;
+        } else if (pairRanks == 1) {
+            type = HandType.PAIR;
+        } else {
+            type = HandType.HIGH_CARD;
+        }
+        return type.ordinal();
+    }
+
+    /**
+     * Applies a joker to a score the way GameService.applyJokerEffects does for the same played cards.
+     */
+    static int jokerScore(JokerType joker, int score, int hearts, int diamonds, int clubs, int spades) {
+        int count = Integer.bitCount(hearts) + Integer.bitCount(diamonds)
+                + Integer.bitCount(clubs) + Integer.bitCount(spades);
+        switch (joker) {
+            case STANDARD_JOKER:
+                return score * joker.getMultiplier();
+            case FIBONACCI:
+                return hasFibonacciRun(hearts, diamonds, clubs, spades) ? score * joker.getMultiplier() : score;
+            case SCARY_FACE:
+                int faces = Integer.bitCount(hearts & FACE_BITS) + Integer.bitCount(diamonds & FACE_BITS)
+                        + Integer.bitCount(clubs & FACE_BITS) + Integer.bitCount(spades & FACE_BITS);
+                return score + faces * 30;
+            default:
+                break;
+        }
+        String suit = joker.getActiveSuit();
+        if (suit == null || count < 5) {
+            // Lucky Joker has no scoring branch in GameService
+            return score;
+        }
+        int suitBits = switch (suit) {
+            case "Hearts" -> hearts;
+            case "Diamonds" -> diamonds;
+            case "Clubs" -> clubs;
+            default -> spades;
+        };
+        return Integer.bitCount(suitBits) == count ? score * joker.getMultiplier() : score;
+    }
+
+    /**
+     * Checks whether the sorted card values contain five Fibonacci values in a row.
+     * The values 2, 3, 5 and 8 are Fibonacci numbers; a card of any other value between them breaks the run.
+     */
+    private static boolean hasFibonacciRun(int hearts, int diamonds, int clubs, int spades) {
+        int fibonacciCards = Integer.bitCount(hearts & FIBONACCI_BITS) + Integer.bitCount(diamonds & FIBONACCI_BITS)
+                + Integer.bitCount(clubs & FIBONACCI_BITS) + Integer.bitCount(spades & FIBONACCI_BITS);
+        if (fibonacciCards < 5) {
+            return false;
+        }
+        int run = 0;
+        int longest = 0;
+        // Ranks in increasing value order: 2 to 10, then J, Q, K (value 10) and A (value 11)
+        for (int rank = 1; rank < CardMask.RANKS; rank++) {
+            longest = Math.max(longest, run = nextRun(run, rank, hearts, diamonds, clubs, spades));
+        }
+        return Math.max(longest, nextRun(run, 0, hearts, diamonds, clubs, spades)) >= 5;
+    }
+
+    private static int nextRun(int run, int rank, int hearts, int diamonds, int clubs, int spades) {
+        int bit = 1 << rank;
+        int cards = ((hearts & bit) != 0 ? 1 : 0) + ((diamonds & bit) != 0 ? 1 : 0)
+                + ((clubs & bit) != 0 ? 1 : 0) + ((spades & bit) != 0 ? 1 : 0);
+        if (cards == 0) {
+            return run;
+        }
+        return (FIBONACCI_BITS & bit) != 0 ? run + cards : 0;
+    }
+
+    /**
+     * Adds the counts of another table to this one.
+     */
+    private void merge(HandFrequencyTable other) {
+        for (int type = 0; type < TYPES.length; type++) {
+            typeCounts[type] += other.typeCounts[type];
+        }
+        for (int column = 0; column < JOKER_COLUMNS; column++) {
+            for (int type = 0; type < TYPES.length; type++) {
+                scoreSums[column][type] += other.scoreSums[column][type];
+            }
+            for (int score = 0; score < SCORE_BINS; score++) {
+                scoreHistogram[column][score] += other.scoreHistogram[column][score];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of cards in each combination.
+     *
+     * @return the cards per hand
+     */
+    public int getCardsPerHand() {
+        return cardsPerHand;
+    }
+
+    /**
+     * Gets the number of combinations counted.
+     *
+     * @return the total count
+     */
+    public long getTotal() {
+        long total = 0;
+        for (long count : typeCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of combinations of a hand type.
+     *
+     * @param type the hand type
+     * @return the count
+     */
+    public long getCount(HandType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * Gets the mean score of a hand type under a joker.
+     *
+     * @param joker the joker, or null for no joker
+     * @param type the hand type
+     * @return the mean score, or 0 if the type never occurs
+     */
+    public double getMeanScore(JokerType joker, HandType type) {
+        long count = typeCounts[type.ordinal()];
+        return count == 0 ? 0 : (double) scoreSums[column(joker)][type.ordinal()] / count;
+    }
+
+    /**
+     * Gets the number of combinations with a score under a joker.
+     *
+     * @param joker the joker, or null for no joker
+     * @param score the score; the last bin also counts every higher score
+     * @return the count
+     */
+    public long getScoreCount(JokerType joker, int score) {
+        return scoreHistogram[column(joker)][Math.min(score, SCORE_BINS - 1)];
+    }
+
+    private static int column(JokerType joker) {
+        return joker == null ? 0 : joker.ordinal() + 1;
+    }
+
+    private static String columnName(int column) {
+        return column == 0 ? "NONE" : JOKERS[column - 1].name();
+    }
+
+    /**
+     * Writes one row per joker and hand type: combinations, share of all combinations and mean score.
+     *
+     * @param writer the destination
+     * @throws IOException if writing fails
+     */
+    public void writeTypeCsv(Writer writer) throws IOException {
+        long total = getTotal();
+        writer.write("cards,joker,handType,combinations,share,meanScore\n");
+        for (int column = 0; column < JOKER_COLUMNS; column++) {
+            for (int type = 0; type < TYPES.length; type++) {
+                long count = typeCounts[type];
+                writer.write(String.format(Locale.ROOT, "%d,%s,%s,%d,%.9f,%.3f%n", cardsPerHand, columnName(column),
+                        TYPES[type].name(), count, (double) count / total,
+                        count == 0 ? 0.0 : (double) scoreSums[column][type] / count));
+            }
+        }
+    }
+
+    /**
+     * Writes one row per joker and score that occurs.
+     *
+     * @param writer the destination
+     * @throws IOException if writing fails
+     */
+    public void writeScoreCsv(Writer writer) throws IOException {
+        writer.write("cards,joker,score,combinations\n");
+        for (int column = 0; column < JOKER_COLUMNS; column++) {
+            for (int score = 0; score < SCORE_BINS; score++) {
+                if (scoreHistogram[column][score] != 0) {
+                    writer.write(cardsPerHand + "," + columnName(column) + "," + score + ","
+                            + scoreHistogram[column][score] + "\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the table in the binary format read by read().
+     * Layout (big-endian): magic, version, cards per hand, type count, joker column count, score bins;
+     * then the type counts, the score sums by joker and type, and for each joker
+     * the number of non-empty bins followed by (score, count) pairs.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(cardsPerHand);
+        data.writeInt(TYPES.length);
+        data.writeInt(JOKER_COLUMNS);
+        data.writeInt(SCORE_BINS);
+        for (long count : typeCounts) {
+            data.writeLong(count);
+        }
+        for (long[] sums : scoreSums) {
+            for (long sum : sums) {
+                data.writeLong(sum);
+            }
+        }
+        for (long[] histogram : scoreHistogram) {
+            int used = 0;
+            for (long count : histogram) {
+                used += count == 0 ? 0 : 1;
+            }
+            data.writeInt(used);
+            for (int score = 0; score < histogram.length; score++) {
+                if (histogram[score] != 0) {
+                    data.writeShort(score);
+                    data.writeLong(histogram[score]);
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a table written by write().
+     *
+     * @param in the source
+     * @return the table
+     * @throws IOException if reading fails or the data is not a table of this version
+     */
+    public static HandFrequencyTable read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not a hand frequency table of version " + FORMAT_VERSION);
+        }
+        HandFrequencyTable table = new HandFrequencyTable(data.readInt());
+        if (data.readInt() != TYPES.length || data.readInt() != JOKER_COLUMNS || data.readInt() != SCORE_BINS) {
+            throw new IOException("Hand frequency table was written for different hand or joker types");
+        }
+        for (int type = 0; type < TYPES.length; type++) {
+            table.typeCounts[type] = data.readLong();
+        }
+        for (long[] sums : table.scoreSums) {
+            for (int type = 0; type < sums.length; type++) {
+                sums[type] = data.readLong();
+            }
+        }
+        for (long[] histogram : table.scoreHistogram) {
+            int used = data.readInt();
+            for (int i = 0; i < used; i++) {
+                histogram[data.readUnsignedShort()] = data.readLong();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Enumerates the requested hand sizes and writes the CSV and binary tables.
+     *
+     * @param args hand sizes (default 5 and 8), optionally followed by --out and a directory
+     * @throws IOException if the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get(".");
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--out") && i + 1 < args.length) {
+                out = Paths.get(args[++i]);
+            } else {
+                sizes.add(Integer.parseInt(args[i]));
+            }
+        }
+        if (sizes.isEmpty()) {
+            sizes.add(5);
+            sizes.add(8);
+        }
+        Files.createDirectories(out);
+
+        for (int cards : sizes) {
+            long start = System.nanoTime();
+            HandFrequencyTable table = enumerate(cards);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(cards + " cards: " + table.getTotal() + " combinations in " + millis + " ms");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(out.resolve("hand-types-" + cards + ".csv"),
+                    StandardCharsets.UTF_8)) {
+                table.writeTypeCsv(writer);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(out.resolve("hand-scores-" + cards + ".csv"),
+                    StandardCharsets.UTF_8)) {
+                table.writeScoreCsv(writer);
+            }
+            try (OutputStream stream = Files.newOutputStream(out.resolve("hand-frequencies-" + cards + ".bin"))) {
+                table.write(stream);
+            }
+        }
+    }
+}
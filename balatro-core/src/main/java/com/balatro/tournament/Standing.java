@@ -0,0 +1,129 @@
+package com.balatro.tournament;
+
+import java.util.Objects;
+
+/**
+ * The result of a tournament entry at one point in time.
+ * Entries are ranked by stages cleared, then by total score, then by the order they joined.
+ */
+public final class Standing implements Comparable<Standing> {
+    private final int entryId;
+    private final String name;
+    private final int stagesCleared;
+    private final long totalScore;
+    private final int handsPlayed;
+    private final boolean over;
+
+    /**
+     * Creates a standing.
+     *
+     * @param entryId the id of the entry
+     * @param name the name of the player
+     * @param stagesCleared the stages cleared so far
+     * @param totalScore the points scored over all stages
+     * @param handsPlayed the hands played over all stages
+     * @param over whether the entry has finished
+     */
+    public Standing(int entryId, String name, int stagesCleared, long totalScore, int handsPlayed, boolean over) {
+        this.entryId = entryId;
+        this.name = name;
+        this.stagesCleared = stagesCleared;
+        this.totalScore = totalScore;
+        this.handsPlayed = handsPlayed;
+        this.over = over;
+    }
+
+    /**
+     * Gets the id of the entry.
+     *
+     * @return the entry id
+     */
+    public int getEntryId() {
+        return entryId;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of stages cleared.
+     *
+     * @return the stages cleared
+     */
+    public int getStagesCleared() {
+        return stagesCleared;
+    }
+
+    /**
+     * Gets the points scored over all stages.
+     *
+     * @return the total score
+     */
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Gets the number of hands played over all stages.
+     *
+     * @return the hands played
+     */
+    public int getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    /**
+     * Checks whether the entry has finished, so that this standing is final.
+     *
+     * @return true if the entry can make no more moves
+     */
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * Orders standings from first place to last.
+     *
+     * @param other the other standing
+     * @return a negative number if this standing ranks higher
+     */
+    @Override
+    public int compareTo(Standing other) {
+        if (stagesCleared != other.stagesCleared) {
+            return Integer.compare(other.stagesCleared, stagesCleared);
+        }
+        if (totalScore != other.totalScore) {
+            return Long.compare(other.totalScore, totalScore);
+        }
+        return Integer.compare(entryId, other.entryId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Standing)) {
+            return false;
+        }
+        Standing other = (Standing) o;
+        return entryId == other.entryId && stagesCleared == other.stagesCleared && totalScore == other.totalScore
+                && handsPlayed == other.handsPlayed && over == other.over && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entryId, stagesCleared, totalScore);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (#" + entryId + "): " + stagesCleared + " stages, " + totalScore + " points";
+    }
+}
@@ -0,0 +1,155 @@
+package com.balatro.tournament;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The live ranking of a tournament, updated after every move.
+ *
+ * Standings are kept in a concurrent skip list ordered by rank, so an update costs O(log n) and never
+ * blocks readers. Each entry's updates must come from one thread at a time (TournamentEntry holds its own
+ * lock while it updates); different entries update concurrently.
+ *
+ * Readers get an immutable StandingsSnapshot. A snapshot is rebuilt from the skip list only when it is
+ * read after an update and is older than the refresh interval, and is then shared by every reader until the
+ * next rebuild, so reads at a high rate cost a volatile read and an array copy of the page.
+ * Snapshots are built while updates go on, so an entry that moves during a build may be listed at its
+ * old place, or left out of that one snapshot; it is never listed twice.
+ */
+public final class Standings {
+    /** How long a snapshot is served after an update before it is rebuilt, unless set otherwise. */
+    public static final long DEFAULT_REFRESH_NANOS = 100_000_000L;
+
+    private final ConcurrentSkipListSet<Standing> ranked = new ConcurrentSkipListSet<>();
+    private final Map<Integer, Standing> latest = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Built> snapshot = new AtomicReference<>(new Built(new StandingsSnapshot(0,
+            new Standing[0]), 0));
+    private volatile long refreshNanos = DEFAULT_REFRESH_NANOS;
+
+    /**
+     * Sets how stale a snapshot may be after an update before a reader rebuilds it.
+     *
+     * @param nanos the refresh interval in nanoseconds, or 0 to rebuild on the first read after every update
+     */
+    public void setRefreshNanos(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Refresh interval must not be negative");
+        }
+        this.refreshNanos = nanos;
+    }
+
+    /**
+     * Replaces the standing of an entry.
+     *
+     * @param standing the new standing
+     */
+    void update(Standing standing) {
+        Standing previous = latest.get(standing.getEntryId());
+        // Insert the new place before publishing it and remove the old place after, so that a reader
+        // always finds the entry at one of them; readers skip places that are not the latest
+        ranked.add(standing);
+        latest.put(standing.getEntryId(), standing);
+        if (previous != null && previous.compareTo(standing) != 0) {
+            ranked.remove(previous);
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Gets the leading standings straight from the skip list, without building a snapshot.
+     *
+     * @param limit the maximum number of standings to return
+     * @return the standings from first place, in order
+     */
+    public List<Standing> top(int limit) {
+        List<Standing> top = new ArrayList<>(Math.min(Math.max(limit, 0), latest.size()));
+        collect(top, limit);
+        return top;
+    }
+
+    /**
+     * Gets the current standing of an entry.
+     *
+     * @param entryId the id of the entry
+     * @return the standing, or null if the entry is not ranked
+     */
+    public Standing get(int entryId) {
+        return latest.get(entryId);
+    }
+
+    /**
+     * Gets the number of updates made so far.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Gets a snapshot of the standings, rebuilding it if it is out of date and older than the refresh interval.
+     *
+     * @return the snapshot
+     */
+    public StandingsSnapshot snapshot() {
+        Built current = snapshot.get();
+        long target = version.get();
+        if (current.snapshot.getVersion() == target) {
+            return current.snapshot;
+        }
+        long now = System.nanoTime();
+        if (current.snapshot.getVersion() > 0 && now - current.builtAt < refreshNanos) {
+            return current.snapshot;
+        }
+        Built built = build(now);
+        // Only publish over an older snapshot; a concurrent reader may have built a newer one
+        return snapshot.accumulateAndGet(built,
+                (old, fresh) -> fresh.snapshot.getVersion() > old.snapshot.getVersion() ? fresh : old).snapshot;
+    }
+
+    private Built build(long now) {
+        // Read the version first, so the snapshot includes at least that many updates
+        long builtVersion = version.get();
+        List<Standing> standings = new ArrayList<>(latest.size());
+        collect(standings, Integer.MAX_VALUE);
+        return new Built(new StandingsSnapshot(builtVersion, standings.toArray(new Standing[0])), now);
+    }
+
+    /**
+     * Walks the skip list in rank order, keeping the latest standing of each entry once.
+     */
+    private void collect(List<Standing> standings, int limit) {
+        Set<Integer> seen = new HashSet<>();
+        for (Standing place : ranked) {
+            if (standings.size() >= limit) {
+                break;
+            }
+            Standing current = latest.get(place.getEntryId());
+            // A place left behind by a concurrent update no longer matches the latest standing
+            if (current != null && current.compareTo(place) == 0 && seen.add(place.getEntryId())) {
+                standings.add(current);
+            }
+        }
+    }
+
+    /**
+     * A snapshot and the time it was built.
+     */
+    private static final class Built {
+        private final StandingsSnapshot snapshot;
+        private final long builtAt;
+
+        private Built(StandingsSnapshot snapshot, long builtAt) {
+            this.snapshot = snapshot;
+            this.builtAt = builtAt;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.balatro.tournament;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The standings of a tournament at one version, ordered from first place to last.
+ * A snapshot never changes, so any number of threads can page through it and look up ranks without locking.
+ */
+public final class StandingsSnapshot {
+    private final long version;
+    private final Standing[] standings;
+    private final Map<Integer, Integer> rankById;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param version the number of updates the snapshot includes
+     * @param standings the standings from first place to last; the array is kept, not copied
+     */
+    StandingsSnapshot(long version, Standing[] standings) {
+        this.version = version;
+        this.standings = standings;
+        this.rankById = new HashMap<>(standings.length * 2);
+        for (int i = 0; i < standings.length; i++) {
+            rankById.put(standings[i].getEntryId(), i + 1);
+        }
+    }
+
+    /**
+     * Gets the number of updates included in the snapshot.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the number of ranked entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return standings.length;
+    }
+
+    /**
+     * Gets a page of the standings.
+     *
+     * @param offset the number of places to skip
+     * @param limit the maximum number of standings to return
+     * @return the standings from place offset + 1, in order
+     */
+    public List<Standing> page(int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), standings.length);
+        int to = (int) Math.min((long) from + Math.max(limit, 0), standings.length);
+        return Arrays.asList(Arrays.copyOfRange(standings, from, to));
+    }
+
+    /**
+     * Gets the place of an entry.
+     *
+     * @param entryId the id of the entry
+     * @return the place, from 1, or 0 if the entry is not ranked
+     */
+    public int rankOf(int entryId) {
+        return rankById.getOrDefault(entryId, 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.balatro.tournament;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A tournament in which every entry plays the same seeded deal, ranked by live standings.
+ * Entries can join and play from any number of threads.
+ */
+public final class Tournament {
+    private final String id;
+    private final TournamentDeal deal;
+    private final Standings standings = new Standings();
+    private final Map<Integer, TournamentEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger nextEntryId = new AtomicInteger(1);
+
+    /**
+     * Creates a tournament.
+     *
+     * @param id the id of the tournament
+     * @param deal the deal every entry plays
+     */
+    public Tournament(String id, TournamentDeal deal) {
+        this.id = id;
+        this.deal = Objects.requireNonNull(deal, "deal");
+    }
+
+    /**
+     * Gets the id of the tournament.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the deal every entry plays.
+     *
+     * @return the deal
+     */
+    public TournamentDeal getDeal() {
+        return deal;
+    }
+
+    /**
+     * Gets the live standings.
+     *
+     * @return the standings
+     */
+    public Standings getStandings() {
+        return standings;
+    }
+
+    /**
+     * Adds an entry, which is dealt its first hand and ranked straight away.
+     *
+     * @param name the name of the player
+     * @return the entry
+     */
+    public TournamentEntry join(String name) {
+        TournamentEntry entry = new TournamentEntry(deal, standings, nextEntryId.getAndIncrement(), name);
+        entries.put(entry.getId(), entry);
+        return entry;
+    }
+
+    /**
+     * Gets an entry by id.
+     *
+     * @param entryId the id of the entry
+     * @return the entry, or null if there is none
+     */
+    public TournamentEntry getEntry(int entryId) {
+        return entries.get(entryId);
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,180 @@
+package com.balatro.tournament;
+
+import java.util.List;
+import java.util.Random;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Deck;
+import com.balatro.model.Joker;
+import com.balatro.model.JokerType;
+import com.balatro.service.GameStateManager;
+
+/**
+ * The cards and jokers of a tournament, dealt once from a seed and shared by every entry.
+ *
+ * Each stage has its own card order, stored as one byte per card (its CardMask index), and its own joker.
+ * Entries only keep a position in the order and a mask of the cards they hold, so a tournament with
+ * thousands of entries holds one copy of the deal instead of a deck and a shuffle per player.
+ * A deal never changes after it is built and can be read from any thread.
+ */
+public final class TournamentDeal {
+    /** The number of hands that can be played in each stage, as in a regular game. */
+    public static final int DEFAULT_MAX_HANDS = 4;
+    /** The number of discards that can be used in each stage, as in a regular game. */
+    public static final int DEFAULT_MAX_DISCARDS = 4;
+
+    private static final GameStateManager.LevelStage[] LEVEL_STAGES = GameStateManager.LevelStage.values();
+    private static final JokerType[] JOKER_TYPES = JokerType.values();
+
+    private final long seed;
+    private final byte[][] orders;
+    private final Joker[] jokers;
+    private final int maxHands;
+    private final int maxDiscards;
+
+    /**
+     * Deals a tournament with the default hand and discard limits.
+     *
+     * @param seed the seed; the same seed always gives the same deal
+     * @param stages the number of stages, at most the number of level stages
+     * @throws IllegalArgumentException if the number of stages is out of range
+     */
+    public TournamentDeal(long seed, int stages) {
+        this(seed, stages, DEFAULT_MAX_HANDS, DEFAULT_MAX_DISCARDS);
+    }
+
+    /**
+     * Deals a tournament.
+     *
+     * @param seed the seed; the same seed always gives the same deal
+     * @param stages the number of stages, at most the number of level stages
+     * @param maxHands the number of hands that can be played in each stage
+     * @param maxDiscards the number of discards that can be used in each stage
+     * @throws IllegalArgumentException if a count is out of range
+     */
+    public TournamentDeal(long seed, int stages, int maxHands, int maxDiscards) {
+        if (stages <= 0 || stages > LEVEL_STAGES.length) {
+            throw new IllegalArgumentException("Stages must be between 1 and " + LEVEL_STAGES.length);
+        }
+        if (maxHands <= 0 || maxDiscards < 0) {
+            throw new IllegalArgumentException("Invalid limits: " + maxHands + " hands, " + maxDiscards + " discards");
+        }
+        this.seed = seed;
+        this.maxHands = maxHands;
+        this.maxDiscards = maxDiscards;
+        this.orders = new byte[stages][];
+        this.jokers = new Joker[stages];
+
+        Random random = new Random(seed);
+        for (int stage = 0; stage < stages; stage++) {
+            List<Card> cards = new Deck(random.nextLong()).getCards();
+            byte[] order = new byte[cards.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = (byte) CardMask.indexOf(cards.get(i));
+            }
+            orders[stage] = order;
+
+            JokerType type = JOKER_TYPES[random.nextInt(JOKER_TYPES.length)];
+            jokers[stage] = new Joker(type, type.getMultiplier(), type.getActivationType(), type.getRarity());
+        }
+    }
+
+    /**
+     * Gets the seed of the deal.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of stages.
+     *
+     * @return the stages
+     */
+    public int getStages() {
+        return orders.length;
+    }
+
+    /**
+     * Gets the number of cards in a stage's deck.
+     *
+     * @param stage the stage, from 0
+     * @return the number of cards
+     */
+    public int getDeckSize(int stage) {
+        return orders[stage].length;
+    }
+
+    /**
+     * Gets the CardMask index of a card in a stage's deck.
+     *
+     * @param stage the stage, from 0
+     * @param position the position from the top of the deck, from 0
+     * @return the card index
+     */
+    public int indexAt(int stage, int position) {
+        return orders[stage][position];
+    }
+
+    /**
+     * Gets a card in a stage's deck.
+     *
+     * @param stage the stage, from 0
+     * @param position the position from the top of the deck, from 0
+     * @return the card
+     */
+    public Card cardAt(int stage, int position) {
+        return CardMask.cardAt(orders[stage][position]);
+    }
+
+    /**
+     * Gets the joker of a stage.
+     *
+     * @param stage the stage, from 0
+     * @return the joker
+     */
+    public Joker getJoker(int stage) {
+        return jokers[stage];
+    }
+
+    /**
+     * Gets the level stage played as a tournament stage, which sets its target score and name.
+     *
+     * @param stage the stage, from 0
+     * @return the level stage
+     */
+    public GameStateManager.LevelStage getLevelStage(int stage) {
+        return LEVEL_STAGES[stage];
+    }
+
+    /**
+     * Gets the score needed to clear a stage.
+     *
+     * @param stage the stage, from 0
+     * @return the target score
+     */
+    public int getTargetScore(int stage) {
+        return LEVEL_STAGES[stage].getTargetScore();
+    }
+
+    /**
+     * Gets the number of hands that can be played in each stage.
+     *
+     * @return the hand limit
+     */
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    /**
+     * Gets the number of discards that can be used in each stage.
+     *
+     * @return the discard limit
+     */
+    public int getMaxDiscards() {
+        return maxDiscards;
+    }
+}
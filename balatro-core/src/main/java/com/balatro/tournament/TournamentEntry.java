@@ -0,0 +1,277 @@
+package com.balatro.tournament;
+
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+import com.balatro.service.GameService;
+
+/**
+ * One player's game in a tournament, played against the shared deal.
+ *
+ * The rules follow GameSession: each stage starts with the top 8 cards of its deck, played and discarded cards
+ * are replaced from the top straight away, and a played hand scores like GameService, joker included.
+ * Reaching the stage's target score clears it and starts the next stage; running out of hands first ends
+ * the entry. Instead of a deck and a hand of cards, an entry keeps its position in the deal and a mask of
+ * the cards it holds.
+ *
+ * Moves are synchronized, and every move that changes the entry's standing updates the tournament's
+ * standings before it returns.
+ */
+public final class TournamentEntry {
+    private static final int HAND_SIZE = Hand.getMaxCards();
+
+    private final TournamentDeal deal;
+    private final Standings standings;
+    private final int id;
+    private final String name;
+    private int stage;
+    private int drawn;
+    private long hand;
+    private int stageScore;
+    private int handsPlayedInStage;
+    private int discardsUsedInStage;
+    private int stagesCleared;
+    private long totalScore;
+    private int handsPlayed;
+    private boolean over;
+
+    /**
+     * Creates an entry, deals its first hand and ranks it.
+     *
+     * @param deal the shared deal
+     * @param standings the standings to update
+     * @param id the id of the entry
+     * @param name the name of the player
+     */
+    TournamentEntry(TournamentDeal deal, Standings standings, int id, String name) {
+        this.deal = deal;
+        this.standings = standings;
+        this.id = id;
+        this.name = name;
+        startStage(0);
+        standings.update(getStanding());
+    }
+
+    /**
+     * Gets the id of the entry.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Plays cards from the hand.
+     *
+     * @param cards the cards to play
+     * @return the points scored by the hand
+     * @throws IllegalStateException if the entry is over
+     * @throws IllegalArgumentException if the cards are not in the hand or are too few or too many to play
+     */
+    public synchronized int playHand(List<Card> cards) {
+        checkNotOver();
+        long played = maskInHand(cards, Hand.getMinCardsToPlay(), Hand.getMaxCardsToPlay());
+        Joker joker = deal.getJoker(stage);
+        int points = GameService.applyJokerEffects(joker, CardMask.score(played), cards);
+        hand &= ~played;
+        stageScore += points;
+        totalScore += points;
+        handsPlayed++;
+        handsPlayedInStage++;
+
+        if (stageScore >= deal.getTargetScore(stage)) {
+            stagesCleared++;
+            if (stagesCleared == deal.getStages()) {
+                over = true;
+            } else {
+                startStage(stage + 1);
+            }
+        } else if (handsPlayedInStage >= deal.getMaxHands()) {
+            over = true;
+        } else {
+            draw();
+            if (Long.bitCount(hand) < Hand.getMinCardsToPlay()) {
+                over = true;
+            }
+        }
+        standings.update(getStanding());
+        return points;
+    }
+
+    /**
+     * Discards cards from the hand and draws their replacements.
+     * A discard does not change the standing, so the standings are not updated.
+     *
+     * @param cards the cards to discard
+     * @return true if the cards were discarded, false if the stage's discard limit is reached
+     * @throws IllegalStateException if the entry is over
+     * @throws IllegalArgumentException if the cards are not in the hand or are too few or too many to discard
+     */
+    public synchronized boolean discard(List<Card> cards) {
+        checkNotOver();
+        if (discardsUsedInStage >= deal.getMaxDiscards()) {
+            return false;
+        }
+        long discarded = maskInHand(cards, Hand.getMinCardsToDiscard(), Hand.getMaxCardsToDiscard());
+        hand &= ~discarded;
+        discardsUsedInStage++;
+        draw();
+        return true;
+    }
+
+    /**
+     * Gets the cards in the hand.
+     *
+     * @return the cards, in suit and rank order
+     */
+    public synchronized List<Card> getHand() {
+        return CardMask.cardsOf(hand);
+    }
+
+    /**
+     * Gets the mask of the cards in the hand.
+     *
+     * @return the CardMask of the hand
+     */
+    public synchronized long getHandMask() {
+        return hand;
+    }
+
+    /**
+     * Gets the current stage.
+     *
+     * @return the stage, from 0
+     */
+    public synchronized int getStage() {
+        return stage;
+    }
+
+    /**
+     * Gets the score of the current stage.
+     *
+     * @return the score
+     */
+    public synchronized int getScore() {
+        return stageScore;
+    }
+
+    /**
+     * Gets the target score of the current stage.
+     *
+     * @return the target score
+     */
+    public synchronized int getTargetScore() {
+        return deal.getTargetScore(stage);
+    }
+
+    /**
+     * Gets the joker of the current stage.
+     *
+     * @return the joker
+     */
+    public synchronized Joker getCurrentJoker() {
+        return deal.getJoker(stage);
+    }
+
+    /**
+     * Gets the number of hands that can still be played in the current stage.
+     *
+     * @return the hands left
+     */
+    public synchronized int getHandsLeft() {
+        return deal.getMaxHands() - handsPlayedInStage;
+    }
+
+    /**
+     * Gets the number of discards that can still be used in the current stage.
+     *
+     * @return the discards left
+     */
+    public synchronized int getDiscardsLeft() {
+        return deal.getMaxDiscards() - discardsUsedInStage;
+    }
+
+    /**
+     * Gets the number of cards left in the current stage's deck.
+     *
+     * @return the remaining cards
+     */
+    public synchronized int getRemainingCards() {
+        return deal.getDeckSize(stage) - drawn;
+    }
+
+    /**
+     * Checks whether the entry has ended.
+     *
+     * @return true if no more moves can be made
+     */
+    public synchronized boolean isOver() {
+        return over;
+    }
+
+    /**
+     * Gets the current standing of the entry.
+     *
+     * @return the standing
+     */
+    public synchronized Standing getStanding() {
+        return new Standing(id, name, stagesCleared, totalScore, handsPlayed, over);
+    }
+
+    private void startStage(int next) {
+        stage = next;
+        drawn = 0;
+        hand = 0;
+        stageScore = 0;
+        handsPlayedInStage = 0;
+        discardsUsedInStage = 0;
+        draw();
+    }
+
+    /**
+     * Fills the hand from the top of the current stage's deck.
+     */
+    private void draw() {
+        int deckSize = deal.getDeckSize(stage);
+        while (Long.bitCount(hand) < HAND_SIZE && drawn < deckSize) {
+            hand |= 1L << deal.indexAt(stage, drawn++);
+        }
+    }
+
+    /**
+     * Builds the mask of cards to play or discard, checking that they are in the hand.
+     */
+    private long maskInHand(List<Card> cards, int min, int max) {
+        if (cards.size() < min || cards.size() > max) {
+            throw new IllegalArgumentException("Expected " + min + " to " + max + " cards but got " + cards.size());
+        }
+        long mask = 0;
+        for (Card card : cards) {
+            long bit = 1L << CardMask.indexOf(card);
+            if ((hand & bit) == 0 || (mask & bit) != 0) {
+                throw new IllegalArgumentException("Card cannot be selected: " + card);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    private void checkNotOver() {
+        if (over) {
+            throw new IllegalStateException("The entry is over");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.balatro.wire;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.balatro.model.Card;
+
+/**
+ * A request to evaluate a set of cards, as decoded from the binary wire format.
+ */
+public final class EvaluateRequest {
+    private final List<Card> cards;
+
+    /**
+     * Creates a request.
+     *
+     * @param cards the cards to evaluate
+     */
+    public EvaluateRequest(List<Card> cards) {
+        this.cards = List.copyOf(cards);
+    }
+
+    /**
+     * Gets the cards to evaluate.
+     *
+     * @return an unmodifiable list of the cards
+     */
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        return cards.equals(((EvaluateRequest) obj).cards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cards);
+    }
+}
@@ -0,0 +1,111 @@
+package com.balatro.wire;
+
+import java.util.Objects;
+
+import com.balatro.model.Hand;
+import com.balatro.model.HandType;
+
+/**
+ * The result of evaluating a played hand, as sent to clients.
+ */
+public final class HandEvaluation {
+    private final HandType handType;
+    private final int baseScore;
+    private final int multiplier;
+    private final int totalScore;
+    private final int cardsValue;
+
+    /**
+     * Creates an evaluation.
+     *
+     * @param handType the hand type
+     * @param baseScore the base score of the hand type
+     * @param multiplier the multiplier of the hand type
+     * @param totalScore the score of the hand
+     * @param cardsValue the summed value of the cards
+     */
+    public HandEvaluation(HandType handType, int baseScore, int multiplier, int totalScore, int cardsValue) {
+        this.handType = Objects.requireNonNull(handType, "handType");
+        this.baseScore = baseScore;
+        this.multiplier = multiplier;
+        this.totalScore = totalScore;
+        this.cardsValue = cardsValue;
+    }
+
+    /**
+     * Evaluates a hand.
+     *
+     * @param hand the hand
+     * @return the evaluation
+     */
+    public static HandEvaluation of(Hand hand) {
+        return new HandEvaluation(hand.getHandType(), hand.getBaseScore(), hand.getMultiplier(),
+                hand.getTotalScore(), hand.getTotalScore() / hand.getMultiplier() - hand.getBaseScore());
+    }
+
+    /**
+     * Gets the hand type.
+     *
+     * @return the hand type
+     */
+    public HandType getHandType() {
+        return handType;
+    }
+
+    /**
+     * Gets the base score of the hand type.
+     *
+     * @return the base score
+     */
+    public int getBaseScore() {
+        return baseScore;
+    }
+
+    /**
+     * Gets the multiplier of the hand type.
+     *
+     * @return the multiplier
+     */
+    public int getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Gets the score of the hand.
+     *
+     * @return the total score
+     */
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Gets the summed value of the cards.
+     *
+     * @return the cards value
+     */
+    public int getCardsValue() {
+        return cardsValue;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        HandEvaluation other = (HandEvaluation) obj;
+        return handType == other.handType && baseScore == other.baseScore && multiplier == other.multiplier
+                && totalScore == other.totalScore && cardsValue == other.cardsValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(handType, baseScore, multiplier, totalScore, cardsValue);
+    }
+
+    @Override
+    public String toString() {
+        return handType.getDisplayName() + ": (" + baseScore + " + " + cardsValue + ") x " + multiplier
+                + " = " + totalScore;
+    }
+}
@@ -0,0 +1,105 @@
+package com.balatro.wire;
+
+import java.util.Objects;
+
+import com.balatro.model.Card;
+
+/**
+ * A game action in the binary wire format: an opcode with an optional card or number.
+ */
+public final class WireAction {
+    private final int opcode;
+    private final Card card;
+    private final long argument;
+
+    private WireAction(int opcode, Card card, long argument) {
+        this.opcode = opcode;
+        this.card = card;
+        this.argument = argument;
+    }
+
+    /**
+     * Creates an action on a card.
+     *
+     * @param opcode WireCodec.OP_SELECT or WireCodec.OP_DESELECT
+     * @param card the card
+     * @return the action
+     * @throws IllegalArgumentException if the opcode does not take a card
+     */
+    public static WireAction ofCard(int opcode, Card card) {
+        if (opcode != WireCodec.OP_SELECT && opcode != WireCodec.OP_DESELECT) {
+            throw new IllegalArgumentException("Opcode does not take a card: " + opcode);
+        }
+        return new WireAction(opcode, Objects.requireNonNull(card, "card"), 0);
+    }
+
+    /**
+     * Creates an action with a number.
+     *
+     * @param opcode WireCodec.OP_RESTART with a seed or WireCodec.OP_RESYNC with a sequence number
+     * @param argument the number
+     * @return the action
+     * @throws IllegalArgumentException if the opcode does not take a number
+     */
+    public static WireAction ofNumber(int opcode, long argument) {
+        if (opcode != WireCodec.OP_RESTART && opcode != WireCodec.OP_RESYNC) {
+            throw new IllegalArgumentException("Opcode does not take a number: " + opcode);
+        }
+        return new WireAction(opcode, null, argument);
+    }
+
+    /**
+     * Creates an action without arguments.
+     *
+     * @param opcode WireCodec.OP_PLAY or WireCodec.OP_DISCARD
+     * @return the action
+     * @throws IllegalArgumentException if the opcode takes an argument
+     */
+    public static WireAction of(int opcode) {
+        if (opcode != WireCodec.OP_PLAY && opcode != WireCodec.OP_DISCARD) {
+            throw new IllegalArgumentException("Opcode takes an argument: " + opcode);
+        }
+        return new WireAction(opcode, null, 0);
+    }
+
+    /**
+     * Gets the opcode.
+     *
+     * @return the opcode
+     */
+    public int getOpcode() {
+        return opcode;
+    }
+
+    /**
+     * Gets the card of a select or deselect action.
+     *
+     * @return the card, or null for other actions
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Gets the seed of a restart or the sequence number of a resync.
+     *
+     * @return the number, or 0 for other actions
+     */
+    public long getArgument() {
+        return argument;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        WireAction other = (WireAction) obj;
+        return opcode == other.opcode && argument == other.argument && Objects.equals(card, other.card);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(opcode, card, argument);
+    }
+}
@@ -0,0 +1,257 @@
+package com.balatro.wire;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.HandType;
+
+/**
+ * Encodes hand evaluations and game actions in the compact binary format served as application/x-balatro.
+ *
+ * Every frame starts with a one-byte opcode. A card is one byte, its CardMask index (suit * 13 + rank),
+ * and numbers are big-endian. The frames are:
+ * <pre>
+ * evaluate request   01 count card...
+ * evaluation         81 handType baseScore:u16 multiplier:u16 totalScore:i32 cardsValue:u16
+ * select, deselect   10 card, 11 card
+ * play, discard      12, 13
+ * restart, resync    14 seed:i64, 15 seq:i64
+ * </pre>
+ * Decoding is written out by hand and allocates only the decoded objects.
+ */
+public final class WireCodec {
+    /** The content type of binary frames. */
+    public static final String MEDIA_TYPE = "application/x-balatro";
+
+    // Opcodes, the first byte of every frame
+    public static final int OP_EVALUATE = 0x01;
+    public static final int OP_SELECT = 0x10;
+    public static final int OP_DESELECT = 0x11;
+    public static final int OP_PLAY = 0x12;
+    public static final int OP_DISCARD = 0x13;
+    public static final int OP_RESTART = 0x14;
+    public static final int OP_RESYNC = 0x15;
+    public static final int OP_EVALUATION = 0x81;
+
+    /** The size of an encoded evaluation. */
+    public static final int EVALUATION_SIZE = 12;
+    /** The size of the largest encoded action. */
+    public static final int MAX_ACTION_SIZE = 9;
+
+    private static final HandType[] HAND_TYPES = HandType.values();
+
+    private WireCodec() {
+    }
+
+    /**
+     * Encodes a card as one byte.
+     *
+     * @param card a standard card
+     * @return the code, from 0 to 51
+     * @throws IllegalArgumentException if the card is a joker
+     */
+    public static int encodeCard(Card card) {
+        return CardMask.indexOf(card);
+    }
+
+    /**
+     * Decodes a card.
+     *
+     * @param code the code, from 0 to 51
+     * @return the card
+     * @throws IOException if the code is not a card
+     */
+    public static Card decodeCard(int code) throws IOException {
+        if (code < 0 || code >= CardMask.DECK_SIZE) {
+            throw new IOException("Not a card code: " + code);
+        }
+        return CardMask.cardAt(code);
+    }
+
+    /**
+     * Gets the size of an encoded evaluate request.
+     *
+     * @param cards the number of cards
+     * @return the size in bytes
+     */
+    public static int evaluateRequestSize(int cards) {
+        return 2 + cards;
+    }
+
+    /**
+     * Writes a request to evaluate cards.
+     *
+     * @param cards the cards, at most 52
+     * @param out the buffer to write to
+     * @throws IllegalArgumentException if there are too many cards or a card is a joker
+     */
+    public static void writeEvaluateRequest(List<Card> cards, ByteBuffer out) {
+        if (cards.size() > CardMask.DECK_SIZE) {
+            throw new IllegalArgumentException("Too many cards: " + cards.size());
+        }
+        out.put((byte) OP_EVALUATE);
+        out.put((byte) cards.size());
+        for (Card card : cards) {
+            out.put((byte) encodeCard(card));
+        }
+    }
+
+    /**
+     * Encodes a request to evaluate cards.
+     *
+     * @param cards the cards
+     * @return the frame
+     */
+    public static byte[] encodeEvaluateRequest(List<Card> cards) {
+        ByteBuffer out = ByteBuffer.allocate(evaluateRequestSize(cards.size()));
+        writeEvaluateRequest(cards, out);
+        return out.array();
+    }
+
+    /**
+     * Reads a request to evaluate cards.
+     *
+     * @param in the frame
+     * @return the cards
+     * @throws IOException if the frame is malformed
+     */
+    public static List<Card> readEvaluateRequest(ByteBuffer in) throws IOException {
+        try {
+            expectOpcode(in, OP_EVALUATE);
+            int count = Byte.toUnsignedInt(in.get());
+            if (count > CardMask.DECK_SIZE) {
+                throw new IOException("Too many cards: " + count);
+            }
+            List<Card> cards = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                cards.add(decodeCard(Byte.toUnsignedInt(in.get())));
+            }
+            expectEnd(in);
+            return cards;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated evaluate request");
+        }
+    }
+
+    /**
+     * Writes an evaluation.
+     *
+     * @param evaluation the evaluation
+     * @param out the buffer to write to
+     */
+    public static void writeEvaluation(HandEvaluation evaluation, ByteBuffer out) {
+        out.put((byte) OP_EVALUATION);
+        out.put((byte) evaluation.getHandType().ordinal());
+        out.putShort((short) evaluation.getBaseScore());
+        out.putShort((short) evaluation.getMultiplier());
+        out.putInt(evaluation.getTotalScore());
+        out.putShort((short) evaluation.getCardsValue());
+    }
+
+    /**
+     * Encodes an evaluation.
+     *
+     * @param evaluation the evaluation
+     * @return the frame
+     */
+    public static byte[] encodeEvaluation(HandEvaluation evaluation) {
+        ByteBuffer out = ByteBuffer.allocate(EVALUATION_SIZE);
+        writeEvaluation(evaluation, out);
+        return out.array();
+    }
+
+    /**
+     * Reads an evaluation.
+     *
+     * @param in the frame
+     * @return the evaluation
+     * @throws IOException if the frame is malformed
+     */
+    public static HandEvaluation readEvaluation(ByteBuffer in) throws IOException {
+        try {
+            expectOpcode(in, OP_EVALUATION);
+            int handType = Byte.toUnsignedInt(in.get());
+            if (handType >= HAND_TYPES.length) {
+                throw new IOException("Not a hand type: " + handType);
+            }
+            HandEvaluation evaluation = new HandEvaluation(HAND_TYPES[handType], Short.toUnsignedInt(in.getShort()),
+                    Short.toUnsignedInt(in.getShort()), in.getInt(), Short.toUnsignedInt(in.getShort()));
+            expectEnd(in);
+            return evaluation;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated evaluation");
+        }
+    }
+
+    /**
+     * Writes a game action.
+     *
+     * @param action the action
+     * @param out the buffer to write to
+     */
+    public static void writeAction(WireAction action, ByteBuffer out) {
+        out.put((byte) action.getOpcode());
+        switch (action.getOpcode()) {
+            case OP_SELECT, OP_DESELECT -> out.put((byte) encodeCard(action.getCard()));
+            case OP_RESTART, OP_RESYNC -> out.putLong(action.getArgument());
+            default -> {
+                // Play and discard have no arguments
+            }
+        }
+    }
+
+    /**
+     * Encodes a game action.
+     *
+     * @param action the action
+     * @return the frame
+     */
+    public static byte[] encodeAction(WireAction action) {
+        ByteBuffer out = ByteBuffer.allocate(MAX_ACTION_SIZE);
+        writeAction(action, out);
+        byte[] frame = new byte[out.position()];
+        out.flip().get(frame);
+        return frame;
+    }
+
+    /**
+     * Reads a game action.
+     *
+     * @param in the frame
+     * @return the action
+     * @throws IOException if the frame is malformed or the opcode is not an action
+     */
+    public static WireAction readAction(ByteBuffer in) throws IOException {
+        try {
+            int opcode = Byte.toUnsignedInt(in.get());
+            WireAction action = switch (opcode) {
+                case OP_SELECT, OP_DESELECT -> WireAction.ofCard(opcode, decodeCard(Byte.toUnsignedInt(in.get())));
+                case OP_RESTART, OP_RESYNC -> WireAction.ofNumber(opcode, in.getLong());
+                case OP_PLAY, OP_DISCARD -> WireAction.of(opcode);
+                default -> throw new IOException("Not an action opcode: " + opcode);
+            };
+            expectEnd(in);
+            return action;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated action");
+        }
+    }
+
+    private static void expectOpcode(ByteBuffer in, int opcode) throws IOException {
+        int actual = Byte.toUnsignedInt(in.get());
+        if (actual != opcode) {
+            throw new IOException("Expected opcode " + opcode + " but got " + actual);
+        }
+    }
+
+    private static void expectEnd(ByteBuffer in) throws IOException {
+        if (in.hasRemaining()) {
+            throw new IOException(in.remaining() + " unexpected bytes after frame");
+        }
+    }
+}
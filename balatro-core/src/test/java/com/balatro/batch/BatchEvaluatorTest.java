@@ -0,0 +1,118 @@
+package com.balatro.batch;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.model.HandType;
+
+/**
+ * Test class for the batch evaluators.
+ * Tests the scalar evaluator against CardMask and Hand on random hands of every size.
+ * The vector evaluator is tested against it in the balatro-vector module.
+ */
+class BatchEvaluatorTest {
+
+    /**
+     * Tests the scalar evaluator against CardMask.
+     */
+    @Test
+    void testScalarMatchesCardMask() {
+        assertMatchesCardMask(new ScalarBatchEvaluator());
+    }
+
+    /**
+     * Tests that every hand type is produced, including the rare ones, with the same results as Hand.
+     */
+    @Test
+    void testEveryHandTypeMatchesHand() {
+        List<List<Card>> hands = List.of(
+                List.of(card("Hearts", "9"), card("Hearts", "10"), card("Hearts", "J"), card("Hearts", "Q"), card("Hearts", "K")),
+                List.of(card("Hearts", "7"), card("Diamonds", "7"), card("Clubs", "7"), card("Spades", "7")),
+                List.of(card("Hearts", "3"), card("Diamonds", "3"), card("Clubs", "3"), card("Spades", "8"), card("Hearts", "8")),
+                List.of(card("Clubs", "2"), card("Clubs", "5"), card("Clubs", "9"), card("Clubs", "J"), card("Clubs", "A")),
+                List.of(card("Hearts", "10"), card("Clubs", "J"), card("Spades", "Q"), card("Hearts", "K"), card("Diamonds", "A")),
+                List.of(card("Hearts", "4"), card("Clubs", "4"), card("Spades", "4")),
+                List.of(card("Hearts", "6"), card("Clubs", "6"), card("Spades", "K"), card("Diamonds", "K")),
+                List.of(card("Hearts", "Q"), card("Clubs", "Q")),
+                List.of(card("Spades", "A")));
+        HandBatch batch = new HandBatch(hands.size());
+        for (List<Card> cards : hands) {
+            batch.add(cards);
+        }
+        BatchEvaluator.create().evaluate(batch);
+
+        for (int i = 0; i < hands.size(); i++) {
+            Hand hand = new Hand();
+            hand.initializeHand(hands.get(i));
+            assertEquals(hand.getHandType(), batch.getHandType(i), "Hand " + hands.get(i));
+            assertEquals(hand.getTotalScore(), batch.getScore(i), "Score of " + hands.get(i));
+        }
+        assertEquals(HandType.values().length, hands.size(), "Every hand type should be covered");
+    }
+
+    /**
+     * Tests that a batch can be cleared and reused, and that it rejects hands it cannot hold.
+     */
+    @Test
+    void testClearAndLimits() {
+        HandBatch batch = new HandBatch(1);
+        batch.add(CardMask.maskOf(List.of(card("Hearts", "Q"), card("Clubs", "Q"))));
+        assertThrows(IllegalStateException.class, () -> batch.add(0L));
+
+        batch.clear();
+        batch.add(0L);
+        new ScalarBatchEvaluator().evaluate(batch);
+        assertEquals(HandType.HIGH_CARD, batch.getHandType(0), "Empty hand should be high card");
+        assertEquals(0, batch.getScore(0), "Empty hand should score 0");
+        assertThrows(IllegalArgumentException.class, () -> batch.add(CardMask.FULL_DECK));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getScore(1));
+    }
+
+    /**
+     * Evaluates random hands of 0 to 8 cards in a batch whose size is not a multiple of any vector length.
+     */
+    private void assertMatchesCardMask(BatchEvaluator evaluator) {
+        Random random = new Random(11);
+        int size = 10_007;
+        long[] masks = new long[size];
+        HandBatch batch = new HandBatch(size);
+        for (int i = 0; i < size; i++) {
+            masks[i] = randomHand(random, random.nextInt(HandBatch.SLOTS + 1));
+            batch.add(masks[i]);
+        }
+        evaluator.evaluate(batch);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(CardMask.handType(masks[i]), batch.getHandType(i), "Hand " + CardMask.cardsOf(masks[i]));
+            assertEquals(CardMask.score(masks[i]), batch.getScore(i), "Score of " + CardMask.cardsOf(masks[i]));
+        }
+    }
+
+    /**
+     * Draws distinct cards, favouring few suits and ranks so that flushes, straights and sets come up often.
+     */
+    private long randomHand(Random random, int cards) {
+        int ranks = 5 + random.nextInt(CardMask.RANKS - 4);
+        // Enough suits to hold the cards, since one suit of 5 ranks cannot hold 8 distinct cards
+        int suits = Math.max(1 + random.nextInt(4), (cards + ranks - 1) / ranks);
+        int firstRank = random.nextInt(CardMask.RANKS);
+        long mask = 0;
+        while (Long.bitCount(mask) < cards) {
+            int suit = random.nextInt(suits);
+            int rank = (firstRank + random.nextInt(ranks)) % CardMask.RANKS;
+            mask |= 1L << (suit * CardMask.RANKS + rank);
+        }
+        return mask;
+    }
+
+    private static Card card(String suit, String rank) {
+        return CardMask.cardAt(CardMask.indexOf(new Card(suit, rank, 0)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.balatro.bot;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+import com.balatro.simulation.GameSession;
+
+/**
+ * Test class for the built-in policies, PolicyStrategy and League.
+ * Tests that policies make legal and repeatable decisions and that league results do not depend on threads.
+ */
+class PolicyTest {
+    private static final long ACES = 1L | 1L << 13 | 1L << 26 | 1L << 39;
+    // Four aces and 2 of Hearts, 3 of Diamonds, 4 of Clubs, 5 of Spades
+    private static final long HAND = ACES | 1L << 1 | 1L << 15 | 1L << 29 | 1L << 43;
+    private static final long DECK = CardMask.FULL_DECK & ~HAND;
+    private static final List<Policy> POLICIES = List.of(new GreedyPolicy(), new ExpectedValuePolicy(8),
+            new LookaheadPolicy(4));
+
+    /**
+     * Tests that every policy plays the best cards when they clear the stage.
+     */
+    @Test
+    void testPlaysClearingHand() {
+        TurnView view = new TurnView(HAND, DECK, null, 0, 100, 4, 3);
+        for (Policy policy : POLICIES) {
+            Decision decision = policy.decide(view);
+            assertEquals(Decision.Type.PLAY, decision.getType(), policy.getName() + " should play");
+            assertEquals(ACES, decision.getCards() & ACES, policy.getName() + " should play the four aces");
+        }
+    }
+
+    /**
+     * Tests that the greedy policy discards low cards when it is behind, and only when a discard is left.
+     */
+    @Test
+    void testGreedyDiscardsWhenBehind() {
+        Decision behind = new GreedyPolicy().decide(new TurnView(HAND, DECK, null, 0, 100_000, 1, 3));
+        assertEquals(Decision.Type.DISCARD, behind.getType(), "Greedy should discard when behind");
+        assertEquals(0, behind.getCards() & ACES, "Aces should be kept");
+
+        Decision noDiscards = new GreedyPolicy().decide(new TurnView(HAND, DECK, null, 0, 100_000, 1, 0));
+        assertEquals(Decision.Type.PLAY, noDiscards.getType(), "Greedy should play without discards left");
+    }
+
+    /**
+     * Tests that sampling policies decide the same way every time they see the same turn.
+     */
+    @Test
+    void testDecisionsAreRepeatable() {
+        TurnView view = new TurnView(HAND & ~ACES | 1L, DECK | ACES & ~1L, null, 0, 2000, 3, 3);
+        for (Policy policy : POLICIES) {
+            assertEquals(policy.decide(view), policy.decide(view), policy.getName() + " should be repeatable");
+        }
+    }
+
+    /**
+     * Tests that every policy only plays legal moves over whole games.
+     */
+    @Test
+    void testLegalMovesInGames() {
+        for (Policy policy : POLICIES) {
+            GameSession session = new GameSession(3, 3);
+            PolicyStrategy strategy = new PolicyStrategy(policy);
+            while (!session.isOver()) {
+                TurnView view = TurnView.of(session);
+                Decision decision = policy.decide(view);
+                int count = Long.bitCount(decision.getCards());
+                assertEquals(decision.getCards(), decision.getCards() & view.getHand(), "Cards should be in the hand");
+                if (decision.getType() == Decision.Type.PLAY) {
+                    assertTrue(count <= Hand.getMaxCardsToPlay(), "Too many cards played");
+                } else {
+                    assertTrue(view.canDiscard() && count <= Hand.getMaxCardsToDiscard(), "Illegal discard");
+                }
+                strategy.playTurn(session);
+            }
+            assertTrue(strategy.getDecisions() > 0, policy.getName() + " should have decided");
+        }
+    }
+
+    /**
+     * Tests that a league gives the same records on one and several threads, and that identical policies tie.
+     */
+    @Test
+    void testLeague() throws Exception {
+        List<Policy> policies = List.of(new GreedyPolicy(), new ExpectedValuePolicy(4));
+        List<League.Record> single = League.run(policies, 11, 6, 3, 1);
+        List<League.Record> threaded = League.run(policies, 11, 6, 3, 3);
+        for (int p = 0; p < policies.size(); p++) {
+            assertEquals(single.get(p).getWins(), threaded.get(p).getWins(), "Wins should not depend on threads");
+            assertEquals(single.get(p).getMeanScore(), threaded.get(p).getMeanScore(), "Scores should match");
+        }
+
+        List<League.Record> mirror = League.run(List.of(new GreedyPolicy(), new GreedyPolicy()), 11, 6, 3, 2);
+        assertEquals(0, mirror.get(0).getWins(), "Identical policies should never win outright");
+        assertEquals(6, mirror.get(1).getTies(), "Identical policies should tie every game");
+    }
+}
@@ -0,0 +1,120 @@
+package com.balatro.daily;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.solver.StageSolver;
+import com.balatro.tournament.TournamentDeal;
+
+/**
+ * Test class for DailyChallenge, DailyChallengeStore and DailyParCalculator.
+ * Tests that each day has a fixed seed, that challenges survive the disk cache, and that computed pars are
+ * consistent with the solver.
+ */
+class DailyChallengeTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 1);
+
+    private Path directory;
+
+    /**
+     * Creates an empty directory for the store.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("daily-test");
+    }
+
+    /**
+     * Deletes the store's directory.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Tests that a day always has the same seed and deal, and that days differ.
+     */
+    @Test
+    void testSeedPerDay() {
+        assertEquals(DailyChallenge.seedFor(DAY), DailyChallenge.seedFor(LocalDate.of(2026, 1, 1)),
+                "Same day should give the same seed");
+        assertNotEquals(DailyChallenge.seedFor(DAY), DailyChallenge.seedFor(DAY.plusDays(1)),
+                "Next day should give another seed");
+        TournamentDeal deal = DailyChallenge.dealFor(DAY, 4, 4);
+        assertEquals(DailyChallenge.seedFor(DAY), deal.getSeed(), "Deal should use the day's seed");
+        assertEquals(9, deal.getStages(), "Every level stage should be played");
+    }
+
+    /**
+     * Tests that a challenge round trips through its binary format and the store.
+     */
+    @Test
+    void testStoreRoundTrip() throws IOException {
+        DailyChallenge challenge = new DailyChallenge(DAY, 4, 4, new int[] {1, 2, 0}, new int[] {900, 1500, 200},
+                new boolean[] {true, false, true});
+        DailyChallengeStore store = new DailyChallengeStore(directory.resolve("daily"));
+
+        assertNull(store.load(DAY), "Nothing should be saved yet");
+        store.save(challenge);
+        assertTrue(store.contains(DAY), "Challenge should be saved");
+        assertEquals(challenge, store.load(DAY), "Saved challenge should load unchanged");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        challenge.write(out);
+        byte[] bytes = out.toByteArray();
+        bytes[0] ^= 1;
+        assertThrows(IOException.class, () -> DailyChallenge.read(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Tests that a file saved under the wrong day is rejected.
+     */
+    @Test
+    void testStoreRejectsWrongDay() throws IOException {
+        DailyChallengeStore store = new DailyChallengeStore(directory);
+        store.save(new DailyChallenge(DAY, 4, 4, new int[] {1}, new int[] {500}, new boolean[] {true}));
+        Files.move(store.pathOf(DAY), store.pathOf(DAY.plusDays(1)));
+
+        assertThrows(IOException.class, () -> store.load(DAY.plusDays(1)));
+    }
+
+    /**
+     * Tests that computed pars agree with the solver and are only computed once per day.
+     */
+    @Test
+    void testComputedPars() throws IOException {
+        DailyParCalculator calculator = new DailyParCalculator(ForkJoinPool.commonPool(), 100);
+        DailyChallengeStore store = new DailyChallengeStore(directory);
+        DailyChallenge challenge = calculator.loadOrCompute(store, DAY);
+
+        TournamentDeal deal = challenge.deal();
+        int parHands = challenge.getParHands(0);
+        assertTrue(parHands >= 1 && parHands <= 4, "The first stage should be clearable");
+        assertTrue(challenge.getBestScore(0) >= deal.getTargetScore(0), "Best score should reach the target");
+        assertTrue(new StageSolver(DailyParCalculator.drawOrder(deal, 0), deal.getTargetScore(0), parHands, 4)
+                .solveClear().isCleared(), "The par hands should clear the stage");
+        assertTrue(store.contains(DAY), "Computed challenge should be saved");
+        assertEquals(challenge, calculator.loadOrCompute(store, DAY), "Saved challenge should be reused");
+    }
+}
@@ -0,0 +1,123 @@
+package com.balatro.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class CardListTest {
+
+    @Test
+    void testContainsAndRemoveUseEquality() {
+        CardList cards = new CardList();
+        cards.add(new Card("Hearts", "A", 11));
+        cards.add(new Card("Spades", "K", 10));
+
+        assertTrue(cards.contains(new Card("Spades", "K", 10)));
+        assertFalse(cards.contains(new Card("Spades", "Q", 10)));
+        assertEquals(1, cards.indexOf(new Card("Spades", "K", 10)));
+        assertTrue(cards.remove(new Card("Hearts", "A", 11)));
+        assertFalse(cards.remove(new Card("Hearts", "A", 11)));
+        assertEquals(List.of(new Card("Spades", "K", 10)), cards);
+    }
+
+    @Test
+    void testNonStandardCards() {
+        CardList cards = new CardList();
+        Card lowAce = new Card("Hearts", "A", 1);
+        Card joker = new Card("Joker", "J", 0);
+        cards.add(lowAce);
+        cards.add(joker);
+
+        assertFalse(cards.contains(new Card("Hearts", "A", 11)));
+        assertTrue(cards.contains(new Card("Hearts", "A", 1)));
+        assertEquals(1, cards.indexOf(new Card("Joker", "J", 0)));
+        assertTrue(cards.remove(joker));
+        assertTrue(cards.remove(lowAce));
+        assertTrue(cards.isEmpty());
+    }
+
+    @Test
+    void testDuplicates() {
+        CardList cards = new CardList();
+        Card card = new Card("Clubs", "7", 7);
+        cards.add(card);
+        cards.add(card);
+
+        assertTrue(cards.remove(card));
+        assertTrue(cards.contains(card));
+        assertTrue(cards.remove(card));
+        assertFalse(cards.contains(card));
+    }
+
+    @Test
+    void testManyDuplicates() {
+        CardList cards = new CardList();
+        Card card = new Card("Hearts", "Q", 10);
+        for (int i = 0; i < 300; i++) {
+            cards.add(card);
+        }
+
+        for (int i = 0; i < 299; i++) {
+            assertTrue(cards.remove(card));
+        }
+        assertTrue(cards.contains(card));
+        assertEquals(0, cards.indexOf(card));
+        assertTrue(cards.remove(card));
+        assertFalse(cards.contains(card));
+    }
+
+    @Test
+    void testMatchesArrayList() {
+        Random random = new Random(3);
+        List<Card> deck = new Deck(3L).getCards();
+        CardList cards = new CardList();
+        List<Card> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Card card = deck.get(random.nextInt(deck.size()));
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    cards.add(index, card);
+                    expected.add(index, card);
+                }
+                case 1 -> assertEquals(expected.remove(card), cards.remove(card));
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.set(index, card), cards.set(index, card));
+                    }
+                }
+                default -> assertEquals(expected.indexOf(card), cards.indexOf(card));
+            }
+            assertEquals(expected.contains(card), cards.contains(card));
+        }
+        assertEquals(expected, cards);
+        cards.clear();
+        assertFalse(cards.contains(deck.get(0)));
+    }
+
+    @Test
+    void testReadOnlyView() {
+        CardList cards = new CardList();
+        List<Card> view = cards.readOnlyView();
+        cards.add(new Card("Diamonds", "10", 10));
+
+        assertSame(view, cards.readOnlyView());
+        assertEquals(1, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Card("Diamonds", "9", 9)));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        CardList cards = new CardList(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> cards.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> cards.add(1, new Card("Hearts", "2", 2)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.balatro.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class CardMaskTest {
+
+    @Test
+    void testIndexRoundTrip() {
+        List<Card> standard = new Deck(1L).getCards();
+        for (Card card : standard) {
+            assertEquals(card, CardMask.cardAt(CardMask.indexOf(card)));
+        }
+        assertEquals(CardMask.FULL_DECK, CardMask.maskOf(standard));
+        assertEquals(0, CardMask.indexOf(new Card("Hearts", "A", 11)));
+        assertEquals(51, CardMask.indexOf(new Card("Spades", "K", 10)));
+    }
+
+    @Test
+    void testJokerHasNoIndex() {
+        assertThrows(IllegalArgumentException.class, () -> CardMask.indexOf(new Card("Joker", "J", 0)));
+    }
+
+    @Test
+    void testScoreMatchesHand() {
+        Random random = new Random(7);
+        List<Card> cards = new ArrayList<>(new Deck(7L).getCards());
+        for (int i = 0; i < 20000; i++) {
+            Collections.shuffle(cards, random);
+            List<Card> played = cards.subList(0, 1 + random.nextInt(Hand.getMaxCardsToPlay()));
+            Hand hand = new Hand();
+            played.forEach(hand::addCard);
+
+            long mask = CardMask.maskOf(played);
+            assertEquals(hand.getHandType(), CardMask.handType(mask), played.toString());
+            assertEquals(hand.getTotalScore(), CardMask.score(mask), played.toString());
+            assertEquals(played.size(), CardMask.cardsOf(mask).size());
+        }
+    }
+}
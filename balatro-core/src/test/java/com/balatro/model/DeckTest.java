@@ -161,4 +161,70 @@ class DeckTest {
         deck.resetDeck();
         assertFalse(deck.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testListenerReceivesDrawAndAdd() {
+        List<String> events = new ArrayList<>();
+        deck.addListener(new DeckListener() {
+            @Override
+            public void cardAdded(Card card) {
+                events.add("added " + card);
+            }
+
+            @Override
+            public void cardRemoved(Card card) {
+                events.add("removed " + card);
+            }
+
+            @Override
+            public void deckReset() {
+                events.add("reset");
+            }
+        });
+
+        Card drawn = deck.drawTopCard();
+        assertNotNull(drawn);
+        assertEquals(51, deck.getCardCount());
+        deck.addCard(drawn);
+        assertEquals(52, deck.getCardCount());
+        deck.resetDeck();
+
+        assertEquals(List.of("removed " + drawn, "added " + drawn, "reset"), events);
+    }
+
+    @Test
+    void testRemoveCardAndListenerRemoval() {
+        int[] removed = new int[1];
+        DeckListener listener = new DeckListener() {
+            @Override
+            public void cardAdded(Card card) {
+            }
+
+            @Override
+            public void cardRemoved(Card card) {
+                removed[0]++;
+            }
+
+            @Override
+            public void deckReset() {
+            }
+        };
+        deck.addListener(listener);
+
+        Card card = deck.getCards().get(0);
+        assertTrue(deck.removeCard(card));
+        assertFalse(deck.removeCard(card));
+        assertEquals(1, removed[0]);
+
+        deck.removeListener(listener);
+        deck.drawTopCard();
+        assertEquals(1, removed[0]);
+    }
+
+    @Test
+    void testSeededDecksHaveTheSameOrder() {
+        assertEquals(new Deck(42L).getCards(), new Deck(42L).getCards());
+        assertNotEquals(new Deck(42L).getCards(), new Deck(43L).getCards());
+        assertEquals(52, new Deck(42L).getCardCount());
+    }
+}
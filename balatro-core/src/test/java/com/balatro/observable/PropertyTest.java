@@ -0,0 +1,74 @@
+package com.balatro.observable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardList;
+
+/**
+ * Test class for Property and ObservableList.
+ * Tests when listeners are notified and what they are given.
+ */
+class PropertyTest {
+
+    /**
+     * Tests that value listeners get the old and new values and that setting the current value is not a change.
+     */
+    @Test
+    void testValueListenersOnlySeeChanges() {
+        IntegerProperty score = new IntegerProperty(0);
+        List<String> changes = new ArrayList<>();
+        score.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        score.set(10);
+        score.set(10);
+        score.set(25);
+
+        assertEquals(List.of("0->10", "10->25"), changes, "Only actual changes should be reported");
+    }
+
+    /**
+     * Tests that object properties compare values with equals and that removed listeners are not called.
+     */
+    @Test
+    void testObjectPropertyUsesEquals() {
+        ObjectProperty<String> text = new ObjectProperty<>("a");
+        int[] calls = new int[1];
+        ObservableListener listener = observable -> calls[0]++;
+        text.addListener(listener);
+
+        text.set(new String("a"));
+        text.set("b");
+        text.removeListener(listener);
+        text.set("c");
+
+        assertEquals(1, calls[0], "An equal value should not count as a change");
+        assertEquals("c", text.get(), "The value should still be set without listeners");
+    }
+
+    /**
+     * Tests that bulk changes to an observable list are reported once and single changes once each.
+     */
+    @Test
+    void testListReportsBulkChangesOnce() {
+        ObservableList<Card> cards = new ObservableList<>(new CardList());
+        int[] calls = new int[1];
+        cards.addListener(observable -> calls[0]++);
+        Card ace = new Card("Spades", "A", 11);
+        Card king = new Card("Hearts", "K", 10);
+
+        cards.addAll(List.of(ace, king));
+        cards.remove(ace);
+        cards.remove(ace);
+        cards.setAll(List.of(ace));
+        cards.clear();
+        cards.clear();
+
+        assertEquals(4, calls[0], "Each effective change should be reported once");
+        assertTrue(cards.isEmpty(), "The list should be empty");
+    }
+}
@@ -0,0 +1,128 @@
+package com.balatro.save;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+
+/**
+ * Test class for OffHeapSessionStore.
+ * Tests that stored games restore exactly, that one game object can serve many slots, and how slots are
+ * allocated, freed and checked.
+ */
+class OffHeapSessionStoreTest {
+
+    /**
+     * Tests that a game saved to a slot loads into another game with the same state, and that the fields read
+     * straight from the slot match.
+     */
+    @Test
+    void testSaveAndLoad() {
+        OffHeapSessionStore store = new OffHeapSessionStore(10);
+        GameStateManager game = newGame(21);
+        play(game, 3);
+        game.getGameService().selectCard(game.getGameService().getPlayerHand().getCards().get(2));
+        int slot = store.allocate();
+        store.save(slot, game);
+
+        GameStateManager loaded = newGame(8);
+        store.load(slot, loaded);
+        assertArrayEquals(bodyOf(game), bodyOf(loaded), "Loaded state should match");
+        assertEquals(game.getGameService().getScore(), store.getScore(slot), "Score should be read from the slot");
+        assertEquals(game.getPlayerChips(), store.getChips(slot), "Chips should be read from the slot");
+        assertEquals(game.getCurrentLevel(), store.getLevel(slot), "Level should be read from the slot");
+        assertEquals(game.getCurrentStage(), store.getStage(slot), "Stage should be read from the slot");
+    }
+
+    /**
+     * Tests that games kept in slots and played through one shared game object end up like games kept on the heap.
+     */
+    @Test
+    void testSharedGameMatchesHeapGames() {
+        OffHeapSessionStore store = new OffHeapSessionStore(3);
+        GameStateManager[] heapGames = new GameStateManager[3];
+        int[] slots = new int[3];
+        for (int i = 0; i < 3; i++) {
+            heapGames[i] = newGame(100 + i);
+            slots[i] = store.allocate();
+            store.save(slots[i], heapGames[i]);
+        }
+        GameStateManager shared = newGame(0);
+        for (int action = 0; action < 6; action++) {
+            for (int i = 0; i < 3; i++) {
+                play(heapGames[i], 1);
+                store.load(slots[i], shared);
+                play(shared, 1);
+                store.save(slots[i], shared);
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            store.load(slots[i], shared);
+            assertArrayEquals(bodyOf(heapGames[i]), bodyOf(shared), "Game " + i + " should match its heap copy");
+        }
+    }
+
+    /**
+     * Tests that freed slots are reused, that unwritten, freed and unknown slots are rejected, and that
+     * buffers are added as the slots grow.
+     */
+    @Test
+    void testAllocateAndFree() {
+        OffHeapSessionStore store = new OffHeapSessionStore(OffHeapSessionStore.SLAB_SLOTS + 1);
+        int first = store.allocate();
+        assertThrows(IllegalArgumentException.class, () -> store.read(first), "An unwritten slot holds no game");
+        store.save(first, newGame(1));
+        store.free(first);
+        assertThrows(IllegalArgumentException.class, () -> store.getScore(first), "A freed slot holds no game");
+        assertThrows(IllegalArgumentException.class, () -> store.free(first), "A slot is freed once");
+        assertEquals(first, store.allocate(), "A freed slot should be reused");
+        assertThrows(IllegalArgumentException.class, () -> store.free(first + 1), "Slot was never allocated");
+        assertThrows(IllegalArgumentException.class, () -> store.free(-1), "Slot is out of range");
+
+        assertEquals((long) OffHeapSessionStore.SLAB_SLOTS * OffHeapSessionStore.SLOT_SIZE,
+                store.getOffHeapBytes(), "One buffer expected");
+        for (int i = 1; i <= OffHeapSessionStore.SLAB_SLOTS; i++) {
+            store.allocate();
+        }
+        assertEquals(2L * OffHeapSessionStore.SLAB_SLOTS * OffHeapSessionStore.SLOT_SIZE,
+                store.getOffHeapBytes(), "A second buffer expected");
+        assertEquals(store.getCapacity(), store.size(), "Store should be full");
+        assertThrows(IllegalStateException.class, store::allocate, "A full store has no slots");
+    }
+
+    private static GameStateManager newGame(long seed) {
+        GameStateManager game = new GameStateManager(seed, false);
+        game.setBetAmount(10);
+        game.startNewRound();
+        return game;
+    }
+
+    private static byte[] bodyOf(GameStateManager game) {
+        return SaveCodec.encodeBody(GameSnapshot.of(game));
+    }
+
+    /**
+     * Alternates discarding and playing the first two cards of the hand, drawing replacements each time.
+     */
+    private static void play(GameStateManager game, int actions) {
+        GameService service = game.getGameService();
+        for (int i = 0; i < actions; i++) {
+            List<Card> hand = service.getPlayerHand().getCards();
+            service.getSelectedCards().clear();
+            service.selectCard(hand.get(0));
+            service.selectCard(hand.get(1));
+            if (service.getDiscardPile().size() % 4 == 0) {
+                service.discardSelectedCards();
+            } else {
+                service.evaluateHand();
+            }
+            service.drawCards();
+        }
+    }
+}
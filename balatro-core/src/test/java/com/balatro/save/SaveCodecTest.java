@@ -0,0 +1,197 @@
+package com.balatro.save;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+
+/**
+ * Test class for GameSnapshot, SaveCodec, GameSaver and FileSaveStore.
+ * Tests that a restored game is in the same state and plays on identically, that saves stay small,
+ * and that corrupt, foreign and stale saves are rejected or ignored.
+ */
+class SaveCodecTest {
+
+    private Path directory;
+
+    /**
+     * Creates an empty directory for the store.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("save-test");
+    }
+
+    /**
+     * Deletes the store's directory.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Tests that a game restored into another game has the same state and draws the same cards next.
+     */
+    @Test
+    void testRoundTripRestoresState() throws IOException {
+        GameStateManager original = newGame(42);
+        play(original, 5);
+        original.getGameService().selectCard(original.getGameService().getPlayerHand().getCards().get(0));
+        byte[] frame = SaveCodec.encode(GameSnapshot.of(original));
+
+        GameStateManager restored = newGame(7);
+        SaveCodec.decode(frame).restore(restored);
+
+        assertArrayEquals(SaveCodec.encodeBody(GameSnapshot.of(original)),
+                SaveCodec.encodeBody(GameSnapshot.of(restored)), "Restored state should match");
+        GameService service = restored.getGameService();
+        assertEquals(original.getGameService().getCurrentHandTypeDisplay(), service.getCurrentHandTypeDisplay(),
+                "The selection's hand type should be recomputed");
+        assertEquals(original.getGameService().getRemainingCards(), service.getRemainingCards(),
+                "Remaining cards should be recomputed");
+
+        play(original, 4);
+        play(restored, 4);
+        assertArrayEquals(SaveCodec.encodeBody(GameSnapshot.of(original)),
+                SaveCodec.encodeBody(GameSnapshot.of(restored)), "Both games should play on identically");
+    }
+
+    /**
+     * Tests that a full save is a few dozen bytes and a delta after one action is smaller still.
+     */
+    @Test
+    void testSavesAreSmall() throws IOException {
+        GameStateManager game = newGame(3);
+        byte[] base = SaveCodec.encodeBody(GameSnapshot.of(game));
+        byte[] full = SaveCodec.compress(base, null);
+        play(game, 1);
+        byte[] body = SaveCodec.encodeBody(GameSnapshot.of(game));
+        byte[] delta = SaveCodec.compress(body, base);
+
+        assertTrue(full.length < 200, "Full save should be under 200 bytes, was " + full.length);
+        assertTrue(delta.length < full.length, "Delta of " + delta.length + " bytes should beat " + full.length);
+        assertArrayEquals(body, SaveCodec.decompress(delta, base), "Delta should decompress against its base");
+    }
+
+    /**
+     * Tests that corrupt frames, newer versions and deltas without their base are rejected.
+     */
+    @Test
+    void testRejectsBadFrames() throws IOException {
+        GameStateManager game = newGame(5);
+        byte[] base = SaveCodec.encodeBody(GameSnapshot.of(game));
+        byte[] frame = SaveCodec.compress(base, null);
+        byte[] delta = SaveCodec.compress(base, base);
+
+        byte[] newer = frame.clone();
+        newer[2] = (byte) (SaveCodec.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, () -> SaveCodec.decode(newer));
+        byte[] foreign = frame.clone();
+        foreign[0] = 'X';
+        assertThrows(IOException.class, () -> SaveCodec.decode(foreign));
+        assertThrows(IOException.class, () -> SaveCodec.decode(Arrays.copyOf(frame, frame.length - 3)));
+        assertThrows(IOException.class, () -> SaveCodec.decompress(delta, null));
+        assertThrows(IOException.class, () -> SaveCodec.decompress(delta, new byte[] {1, 2, 3}));
+        assertThrows(IOException.class, () -> SaveCodec.decodeBody(Arrays.copyOf(base, base.length - 1)));
+    }
+
+    /**
+     * Tests saving after every action, keyframes and deltas in the file store, loading and deleting.
+     */
+    @Test
+    void testSaverWritesDeltasAndLoads() throws IOException {
+        FileSaveStore store = new FileSaveStore(directory);
+        GameSaver saver = new GameSaver(store, 4);
+        GameStateManager game = newGame(11);
+        int keyframes = 0;
+        for (int i = 0; i < 12; i++) {
+            play(game, 1);
+            saver.save("game-1", game);
+            if (store.read("game-1.delta") == null) {
+                keyframes++;
+            }
+        }
+        assertEquals(3, keyframes, "A keyframe should be written every fifth save");
+
+        GameStateManager loaded = newGame(99);
+        assertTrue(new GameSaver(store).load("game-1", loaded), "Save should load");
+        assertArrayEquals(SaveCodec.encodeBody(GameSnapshot.of(game)),
+                SaveCodec.encodeBody(GameSnapshot.of(loaded)), "Loaded state should be the last saved");
+
+        saver.delete("game-1");
+        assertNull(store.read("game-1"), "Keyframe should be deleted");
+        assertFalse(saver.load("game-1", loaded), "A deleted save should not load");
+        assertThrows(IllegalArgumentException.class, () -> saver.save("../escape", game));
+    }
+
+    /**
+     * Tests that a delta left over from an older keyframe is ignored.
+     */
+    @Test
+    void testStaleDeltaIgnored() throws IOException {
+        FileSaveStore store = new FileSaveStore(directory);
+        GameStateManager game = newGame(13);
+        GameSaver saver = new GameSaver(store);
+        saver.save("g", game);
+        play(game, 1);
+        saver.save("g", game);
+        byte[] staleDelta = store.read("g.delta");
+
+        play(game, 1);
+        new GameSaver(store, 0).save("g", game);
+        store.write("g.delta", staleDelta);
+
+        GameStateManager loaded = newGame(1);
+        assertTrue(saver.load("g", loaded), "Save should load");
+        assertArrayEquals(SaveCodec.encodeBody(GameSnapshot.of(game)),
+                SaveCodec.encodeBody(GameSnapshot.of(loaded)), "The newer keyframe should win");
+    }
+
+    private static GameStateManager newGame(long seed) {
+        GameStateManager game = new GameStateManager(seed, false);
+        game.setBetAmount(10);
+        game.startNewRound();
+        return game;
+    }
+
+    /**
+     * Alternates discarding and playing the first two cards of the hand, drawing replacements each time.
+     */
+    private static void play(GameStateManager game, int actions) {
+        GameService service = game.getGameService();
+        for (int i = 0; i < actions; i++) {
+            List<Card> hand = service.getPlayerHand().getCards();
+            service.getSelectedCards().clear();
+            service.selectCard(hand.get(0));
+            service.selectCard(hand.get(1));
+            if (i % 2 == 0) {
+                service.discardSelectedCards();
+            } else {
+                service.evaluateHand();
+            }
+            service.drawCards();
+        }
+    }
+}
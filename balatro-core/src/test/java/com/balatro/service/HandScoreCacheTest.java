@@ -0,0 +1,127 @@
+package com.balatro.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.Hand;
+import com.balatro.model.Joker;
+import com.balatro.model.JokerType;
+
+/**
+ * Test class for the HandScoreCache.
+ * Tests that GameService reuses cached breakdowns and drops them when the hand or joker changes.
+ */
+class HandScoreCacheTest {
+
+    private GameService gameService;
+    private HandScoreCache cache;
+
+    /**
+     * Sets up the test fixtures before each test method.
+     * Creates a new GameService instance and deals a hand.
+     */
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService();
+        gameService.startNewRound();
+        cache = gameService.getScoreCache();
+    }
+
+    /**
+     * Tests that selecting and deselecting the same cards again is answered from the cache.
+     */
+    @Test
+    void testReselectingHitsCache() {
+        List<Card> cards = gameService.getPlayerHand().getCards();
+        gameService.selectCard(cards.get(0));
+        gameService.selectCard(cards.get(1));
+        String display = gameService.getCurrentHandTypeDisplay();
+        long misses = cache.getMisses();
+
+        gameService.deselectCard(cards.get(1));
+        gameService.selectCard(cards.get(1));
+
+        assertEquals(misses, cache.getMisses(), "Both selections were already scored");
+        assertEquals(2, cache.getHits(), "Deselecting and reselecting should both hit");
+        assertEquals(display, gameService.getCurrentHandTypeDisplay(), "Display should be unchanged");
+    }
+
+    /**
+     * Tests that the selection order does not matter.
+     */
+    @Test
+    void testSelectionOrderSharesEntry() {
+        List<Card> cards = gameService.getPlayerHand().getCards();
+        gameService.selectCard(cards.get(0));
+        gameService.selectCard(cards.get(1));
+        gameService.deselectCard(cards.get(0));
+        gameService.deselectCard(cards.get(1));
+        long misses = cache.getMisses();
+
+        gameService.selectCard(cards.get(1));
+        gameService.selectCard(cards.get(0));
+
+        assertEquals(misses, cache.getMisses(), "Same cards in another order should use the same entry");
+    }
+
+    /**
+     * Tests that changing the joker drops the cached breakdowns.
+     */
+    @Test
+    void testJokerChangeInvalidates() {
+        List<Card> cards = gameService.getPlayerHand().getCards();
+        gameService.selectCard(cards.get(0));
+        gameService.deselectCard(cards.get(0));
+        long misses = cache.getMisses();
+
+        JokerType type = JokerType.STANDARD_JOKER;
+        gameService.setCurrentJoker(new Joker(type, type.getMultiplier(), type.getActivationType(), type.getRarity()));
+        gameService.selectCard(cards.get(0));
+
+        assertEquals(misses + 1, cache.getMisses(), "A new joker should recompute the breakdown");
+        assertTrue(gameService.getCurrentHandTypeDisplay().contains("Joker: ×2"),
+                "Display should show the new joker");
+    }
+
+    /**
+     * Tests that discarding and drawing give a fresh cache for the new hand.
+     */
+    @Test
+    void testDiscardAndDrawInvalidate() {
+        List<Card> cards = gameService.getPlayerHand().getCards();
+        Card kept = cards.get(7);
+        gameService.selectCard(kept);
+        gameService.deselectCard(kept);
+        gameService.selectCard(cards.get(0));
+        gameService.discardSelectedCards();
+        gameService.drawCards();
+        long misses = cache.getMisses();
+
+        gameService.selectCard(kept);
+
+        assertEquals(misses + 1, cache.getMisses(), "A changed hand should recompute the breakdown");
+    }
+
+    /**
+     * Tests that the played score matches the breakdown shown for the selection.
+     */
+    @Test
+    void testEvaluateHandUsesBreakdown() {
+        List<Card> cards = gameService.getPlayerHand().getCards();
+        for (int i = 0; i < Hand.getMaxCardsToPlay(); i++) {
+            gameService.selectCard(cards.get(i));
+        }
+        String display = gameService.getCurrentHandTypeDisplay();
+        long misses = cache.getMisses();
+
+        int score = gameService.evaluateHand();
+
+        assertEquals(misses, cache.getMisses(), "Playing should reuse the displayed breakdown");
+        assertTrue(display.endsWith("= " + score), "Played score should match the display: " + display);
+    }
+}
@@ -0,0 +1,115 @@
+package com.balatro.simulation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for SimulationRunner, GameSession and SimulationStats.
+ * Tests that simulated games are reproducible from their seed and that stats merge to the same result
+ * however the games are sharded.
+ */
+class SimulationRunnerTest {
+    private static final long SEED = 7;
+    private static final int GAMES = 60;
+    private static final int MAX_STAGES = 6;
+
+    /**
+     * Tests that two games with the same seed and strategy play out identically.
+     */
+    @Test
+    void testSameSeedSameGame() {
+        GameSession first = play(SEED);
+        GameSession second = play(SEED);
+
+        assertEquals(first.getTotalScore(), second.getTotalScore(), "Total score should match");
+        assertEquals(first.getStagesCleared(), second.getStagesCleared(), "Stages cleared should match");
+        assertEquals(first.getChips(), second.getChips(), "Chips should match");
+        assertEquals(first.getHandsPlayed(), second.getHandsPlayed(), "Hands played should match");
+        assertTrue(first.getHandsPlayed() > 0, "At least one hand should be played");
+    }
+
+    /**
+     * Tests that a game ends within the stage cap and rejects further moves.
+     */
+    @Test
+    void testGameEnds() {
+        GameSession session = play(SEED);
+
+        assertTrue(session.isOver(), "Game should be over");
+        assertTrue(session.getStagesCleared() <= MAX_STAGES, "Stages cleared should not exceed the cap");
+        assertThrows(IllegalStateException.class, () -> session.playHand(session.getHand()));
+    }
+
+    /**
+     * Tests that one shard, many shards and several threads give the same stats.
+     */
+    @Test
+    void testShardingDoesNotChangeResults() throws Exception {
+        SimulationStats single = SimulationRunner.runShard(SEED, 0, GAMES, MAX_STAGES, new GreedyStrategy());
+        SimulationStats sharded = SimulationRunner.runThreads(SEED, GAMES, 7, 1, MAX_STAGES, new GreedyStrategy())
+                .getStats();
+        SimulationStats threaded = SimulationRunner.runThreads(SEED, GAMES, 5, 3, MAX_STAGES, new GreedyStrategy())
+                .getStats();
+
+        assertEquals(GAMES, single.getGames(), "Every game should be recorded");
+        assertEquals(single, sharded, "Seven shards should match one shard");
+        assertEquals(single, threaded, "Three threads should match one thread");
+    }
+
+    /**
+     * Tests that merging is associative and commutative.
+     */
+    @Test
+    void testMergeIsAssociative() {
+        SimulationStats a = SimulationRunner.runShard(SEED, 0, 10, MAX_STAGES, new GreedyStrategy());
+        SimulationStats b = SimulationRunner.runShard(SEED, 10, 25, MAX_STAGES, new GreedyStrategy());
+        SimulationStats c = SimulationRunner.runShard(SEED, 25, 30, MAX_STAGES, new GreedyStrategy());
+
+        SimulationStats left = new SimulationStats(MAX_STAGES).merge(a).merge(b).merge(c);
+        SimulationStats right = new SimulationStats(MAX_STAGES).merge(c)
+                .merge(new SimulationStats(MAX_STAGES).merge(b).merge(a));
+
+        assertEquals(left, right, "Merge order should not matter");
+        assertEquals(SimulationRunner.runShard(SEED, 0, 30, MAX_STAGES, new GreedyStrategy()), left,
+                "Merged shards should match one shard");
+    }
+
+    /**
+     * Tests that stats survive a binary round trip.
+     */
+    @Test
+    void testWriteAndRead() throws IOException {
+        SimulationStats stats = SimulationRunner.runShard(SEED, 0, 10, MAX_STAGES, new GreedyStrategy());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stats.write(out);
+
+        assertEquals(stats, SimulationStats.read(new ByteArrayInputStream(out.toByteArray())),
+                "Stats should round trip");
+        assertThrows(IOException.class, () -> SimulationStats.read(new ByteArrayInputStream(new byte[16])));
+    }
+
+    /**
+     * Tests that shards cover every game exactly once.
+     */
+    @Test
+    void testShardBounds() {
+        assertEquals(0, SimulationRunner.shardStart(10, 3, 0), "First shard should start at 0");
+        assertEquals(3, SimulationRunner.shardStart(10, 3, 1), "Second shard should start at 3");
+        assertEquals(10, SimulationRunner.shardStart(10, 3, 3), "Last shard should end at the game count");
+    }
+
+    private static GameSession play(long seed) {
+        GameSession session = new GameSession(seed, MAX_STAGES);
+        Strategy strategy = new GreedyStrategy();
+        while (!session.isOver()) {
+            strategy.playTurn(session);
+        }
+        return session;
+    }
+}
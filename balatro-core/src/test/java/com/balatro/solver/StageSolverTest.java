@@ -0,0 +1,135 @@
+package com.balatro.solver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Deck;
+import com.balatro.service.GameStateManager.LevelStage;
+
+/**
+ * Test class for the StageSolver.
+ * Tests the search results against an exhaustive search and checks that solved lines are legal.
+ */
+class StageSolverTest {
+
+    /**
+     * Tests that the maximum score equals an exhaustive search over every play and discard for small limits.
+     */
+    @Test
+    void testMaxScoreMatchesExhaustiveSearch() {
+        for (long seed = 1; seed <= 3; seed++) {
+            List<Card> order = new Deck(seed).getCards();
+            long hand = CardMask.maskOf(order.subList(0, 8));
+            int[][] limits = {{2, 0}, {1, 1}};
+            for (int[] limit : limits) {
+                SolverResult result = new StageSolver(order, 300, limit[0], limit[1]).solveMaxScore();
+
+                assertEquals(exhaustive(order, hand, 8, limit[0], limit[1]), result.getScore(),
+                        "Seed " + seed + " with " + limit[0] + " hands and " + limit[1] + " discards");
+                assertTrue(result.isComplete(), "Search without a time limit should finish");
+                assertEquals(result.getScore(), replay(order, result.getLine()), "Line should score the maximum");
+            }
+        }
+    }
+
+    /**
+     * Tests that a clearing line for a full stage is legal and reaches the target.
+     */
+    @Test
+    void testClearLineReachesTarget() {
+        StageSolver solver = StageSolver.forStage(1L, LevelStage.SMALL_BLIND, 4, 4);
+        SolverResult result = solver.solveClear();
+
+        assertTrue(result.isCleared(), "Small Blind should be clearable for this seed");
+        int score = replay(new Deck(1L).getCards(), result.getLine());
+        assertEquals(result.getScore(), score, "Result score should match the replayed line");
+        assertTrue(score >= LevelStage.SMALL_BLIND.getTargetScore(), "Line should reach the target score");
+        assertTrue(solver.getTableSize() > 0, "Searched states should be stored in the table");
+    }
+
+    /**
+     * Tests that an unreachable target is reported as not cleared.
+     */
+    @Test
+    void testUnreachableTargetIsNotCleared() {
+        SolverResult result = new StageSolver(new Deck(2L).getCards(), 100_000, 2, 1).solveClear();
+
+        assertFalse(result.isCleared(), "Target above any possible score should not be cleared");
+        assertTrue(result.getLine().isEmpty(), "No line should be returned");
+        assertTrue(result.isComplete(), "Search should finish");
+    }
+
+    /**
+     * Tests that a seed always produces the same result.
+     */
+    @Test
+    void testSameSeedSameResult() {
+        SolverResult first = StageSolver.forStage(5L, LevelStage.BIG_BLIND, 2, 1).solveMaxScore();
+        SolverResult second = StageSolver.forStage(5L, LevelStage.BIG_BLIND, 2, 1).solveMaxScore();
+
+        assertEquals(first.getScore(), second.getScore(), "Scores should match");
+        assertEquals(first.getLine().size(), second.getLine().size(), "Lines should have the same length");
+    }
+
+    /**
+     * Plays a line from the top of the deck, checking each move only uses cards in hand,
+     * and returns the total score.
+     */
+    private int replay(List<Card> order, List<SolverMove> line) {
+        long hand = CardMask.maskOf(order.subList(0, 8));
+        int draw = 8;
+        int total = 0;
+        for (SolverMove move : line) {
+            long cards = move.getMask();
+            assertEquals(cards, hand & cards, "Move should only use cards in hand: " + move);
+            assertTrue(Long.bitCount(cards) >= 1 && Long.bitCount(cards) <= 5, "Move should use 1 to 5 cards");
+            if (move.getType() == SolverMove.Type.PLAY) {
+                assertEquals(CardMask.score(cards), move.getScore(), "Play score should match its cards");
+                total += move.getScore();
+            }
+            hand &= ~cards;
+            for (int i = 0; i < Long.bitCount(cards) && draw < order.size(); i++) {
+                hand |= 1L << CardMask.indexOf(order.get(draw++));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Finds the maximum score by trying every play and discard without pruning or memoization.
+     */
+    private int exhaustive(List<Card> order, long hand, int draw, int handsLeft, int discardsLeft) {
+        if (handsLeft == 0 || hand == 0) {
+            return 0;
+        }
+        List<Card> cards = CardMask.cardsOf(hand);
+        int best = 0;
+        for (int subset = 1; subset < (1 << cards.size()); subset++) {
+            if (Integer.bitCount(subset) > 5) {
+                continue;
+            }
+            long mask = 0;
+            for (int i = 0; i < cards.size(); i++) {
+                if ((subset & (1 << i)) != 0) {
+                    mask |= 1L << CardMask.indexOf(cards.get(i));
+                }
+            }
+            int nextDraw = Math.min(order.size(), draw + Long.bitCount(mask));
+            long nextHand = hand & ~mask;
+            for (int i = draw; i < nextDraw; i++) {
+                nextHand |= 1L << CardMask.indexOf(order.get(i));
+            }
+            best = Math.max(best, CardMask.score(mask) + exhaustive(order, nextHand, nextDraw, handsLeft - 1, discardsLeft));
+            if (discardsLeft > 0 && draw < order.size()) {
+                best = Math.max(best, exhaustive(order, nextHand, nextDraw, handsLeft, discardsLeft - 1));
+            }
+        }
+        return best;
+    }
+}
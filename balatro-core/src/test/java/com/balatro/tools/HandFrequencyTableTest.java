@@ -0,0 +1,144 @@
+package com.balatro.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Deck;
+import com.balatro.model.HandType;
+import com.balatro.model.Joker;
+import com.balatro.model.JokerType;
+import com.balatro.service.GameService;
+
+/**
+ * Test class for the HandFrequencyTable tool.
+ * Tests the enumerated counts and checks the fast evaluator against Hand and GameService scoring.
+ */
+class HandFrequencyTableTest {
+
+    private static HandFrequencyTable fiveCards;
+
+    /**
+     * Enumerates all 5-card combinations once for the tests that read the table.
+     */
+    @BeforeAll
+    static void enumerateFiveCards() {
+        fiveCards = HandFrequencyTable.enumerate(5);
+    }
+
+    /**
+     * Tests the 5-card counts. They differ from standard poker because A is only high in straights,
+     * so A-2-3-4-5 is a high card, or a flush when suited.
+     */
+    @Test
+    void testFiveCardCounts() {
+        assertEquals(2_598_960, fiveCards.getTotal(), "Every combination should be counted once");
+        assertEquals(36, fiveCards.getCount(HandType.STRAIGHT_FLUSH), "Straight flushes");
+        assertEquals(624, fiveCards.getCount(HandType.FOUR_OF_A_KIND), "Four of a kind");
+        assertEquals(3_744, fiveCards.getCount(HandType.FULL_HOUSE), "Full houses");
+        assertEquals(5_112, fiveCards.getCount(HandType.FLUSH), "Flushes");
+        assertEquals(9_180, fiveCards.getCount(HandType.STRAIGHT), "Straights");
+        assertEquals(54_912, fiveCards.getCount(HandType.THREE_OF_A_KIND), "Three of a kind");
+        assertEquals(123_552, fiveCards.getCount(HandType.TWO_PAIR), "Two pairs");
+        assertEquals(1_098_240, fiveCards.getCount(HandType.PAIR), "Pairs");
+        assertEquals(1_303_560, fiveCards.getCount(HandType.HIGH_CARD), "High cards");
+    }
+
+    /**
+     * Tests that the bit-plane evaluator matches CardMask, and so Hand, for every hand size up to 8.
+     */
+    @Test
+    void testHandTypeMatchesCardMask() {
+        Random random = new Random(11);
+        List<Card> cards = new ArrayList<>(new Deck(11L).getCards());
+        for (int i = 0; i < 50_000; i++) {
+            Collections.shuffle(cards, random);
+            long mask = CardMask.maskOf(cards.subList(0, 1 + random.nextInt(8)));
+            int[] suits = suits(mask);
+
+            assertEquals(CardMask.handType(mask).ordinal(),
+                    HandFrequencyTable.handTypeOrdinal(suits[0], suits[1], suits[2], suits[3]),
+                    CardMask.cardsOf(mask).toString());
+        }
+    }
+
+    /**
+     * Tests that joker scores match GameService for random plays and for plays that trigger each joker.
+     */
+    @Test
+    void testJokerScoresMatchGameService() {
+        GameService gameService = new GameService();
+        Random random = new Random(3);
+        List<Card> cards = new ArrayList<>(new Deck(3L).getCards());
+        List<List<Card>> plays = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Collections.shuffle(cards, random);
+            plays.add(new ArrayList<>(cards.subList(0, 1 + random.nextInt(5))));
+        }
+        plays.add(List.of(new Card("Hearts", "2", 2), new Card("Clubs", "3", 3), new Card("Hearts", "5", 5),
+                new Card("Spades", "8", 8), new Card("Diamonds", "8", 8)));
+        plays.add(List.of(new Card("Diamonds", "2", 2), new Card("Diamonds", "7", 7), new Card("Diamonds", "9", 9),
+                new Card("Diamonds", "J", 10), new Card("Diamonds", "K", 10)));
+
+        for (JokerType type : JokerType.values()) {
+            gameService.setCurrentJoker(new Joker(type, type.getMultiplier(), type.getActivationType(), type.getRarity()));
+            for (List<Card> play : plays) {
+                gameService.getSelectedCards().clear();
+                gameService.getPlayerHand().getMutableCards().clear();
+                gameService.getPlayerHand().getMutableCards().addAll(play);
+                play.forEach(gameService::selectCard);
+
+                long mask = CardMask.maskOf(play);
+                int score = CardMask.score(mask);
+                int[] suits = suits(mask);
+                assertEquals(gameService.applyJokerEffects(score),
+                        HandFrequencyTable.jokerScore(type, score, suits[0], suits[1], suits[2], suits[3]),
+                        type + " " + play);
+            }
+        }
+    }
+
+    /**
+     * Tests that the binary table reads back with the same counts and that the CSV has a row per joker and type.
+     */
+    @Test
+    void testBinaryRoundTripAndCsv() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        fiveCards.write(bytes);
+        HandFrequencyTable loaded = HandFrequencyTable.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(5, loaded.getCardsPerHand(), "Hand size should be kept");
+        for (HandType type : HandType.values()) {
+            assertEquals(fiveCards.getCount(type), loaded.getCount(type), "Count of " + type);
+            assertEquals(fiveCards.getMeanScore(JokerType.SCARY_FACE, type),
+                    loaded.getMeanScore(JokerType.SCARY_FACE, type), "Mean score of " + type);
+        }
+        assertEquals(fiveCards.getScoreCount(null, 66), loaded.getScoreCount(null, 66), "Histogram bin");
+        assertTrue(bytes.size() < 64 * 1024, "Binary table should be compact");
+
+        StringWriter csv = new StringWriter();
+        fiveCards.writeTypeCsv(csv);
+        long rows = csv.toString().lines().count();
+        assertEquals(1 + HandFrequencyTable.JOKER_COLUMNS * HandType.values().length, rows, "Header plus one row each");
+    }
+
+    /**
+     * Splits a mask into its four 13-bit suits.
+     */
+    private static int[] suits(long mask) {
+        return new int[] {(int) mask & 0x1FFF, (int) (mask >>> 13) & 0x1FFF,
+                (int) (mask >>> 26) & 0x1FFF, (int) (mask >>> 39) & 0x1FFF};
+    }
+}
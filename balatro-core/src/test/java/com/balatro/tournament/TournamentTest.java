@@ -0,0 +1,193 @@
+package com.balatro.tournament;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+
+/**
+ * Test class for Tournament, TournamentDeal, TournamentEntry and Standings.
+ * Tests that every entry plays the same deal and that the standings stay ordered under concurrent play.
+ */
+class TournamentTest {
+    private static final long SEED = 11;
+    private static final int STAGES = 3;
+
+    /**
+     * Tests that a deal is reproducible and that every stage deals each card once.
+     */
+    @Test
+    void testDealIsSharedAndReproducible() {
+        TournamentDeal first = new TournamentDeal(SEED, STAGES);
+        TournamentDeal second = new TournamentDeal(SEED, STAGES);
+
+        for (int stage = 0; stage < STAGES; stage++) {
+            long seen = 0;
+            for (int i = 0; i < first.getDeckSize(stage); i++) {
+                assertEquals(first.indexAt(stage, i), second.indexAt(stage, i), "Card order should match");
+                seen |= 1L << first.indexAt(stage, i);
+            }
+            assertEquals(CardMask.FULL_DECK, seen, "Stage " + stage + " should deal every card once");
+            assertEquals(first.getJoker(stage).getType(), second.getJoker(stage).getType(), "Jokers should match");
+        }
+        assertThrows(IllegalArgumentException.class, () -> new TournamentDeal(SEED, 0));
+    }
+
+    /**
+     * Tests that entries start with the top of the deck and that the same moves give the same results.
+     */
+    @Test
+    void testEntriesPlayTheSameDeal() {
+        Tournament tournament = new Tournament("t", new TournamentDeal(SEED, STAGES));
+        TournamentEntry first = tournament.join("first");
+        TournamentEntry second = tournament.join("second");
+
+        long top = 0;
+        for (int i = 0; i < 8; i++) {
+            top |= 1L << tournament.getDeal().indexAt(0, i);
+        }
+        assertEquals(top, first.getHandMask(), "The first hand should be the top 8 cards");
+
+        playOut(first, 5);
+        playOut(second, 5);
+        assertTrue(first.isOver(), "Entry should finish");
+        assertEquals(first.getStanding().getTotalScore(), second.getStanding().getTotalScore(), "Scores should match");
+        assertEquals(first.getStanding().getStagesCleared(), second.getStanding().getStagesCleared(),
+                "Stages cleared should match");
+        assertThrows(IllegalStateException.class, () -> first.playHand(first.getHand().subList(0, 1)));
+    }
+
+    /**
+     * Tests that cards outside the hand and wrong card counts are rejected without changing the entry.
+     */
+    @Test
+    void testRejectedMoves() {
+        Tournament tournament = new Tournament("t", new TournamentDeal(SEED, STAGES));
+        TournamentEntry entry = tournament.join("player");
+        Card outside = CardMask.cardsOf(CardMask.FULL_DECK & ~entry.getHandMask()).get(0);
+
+        assertThrows(IllegalArgumentException.class, () -> entry.playHand(List.of(outside)));
+        assertThrows(IllegalArgumentException.class, () -> entry.playHand(entry.getHand().subList(0, 6)));
+        assertThrows(IllegalArgumentException.class, () -> entry.discard(List.of()));
+        assertEquals(4, entry.getHandsLeft(), "No hand should be used");
+        assertEquals(0, tournament.getStandings().get(entry.getId()).getHandsPlayed(), "Standing should not change");
+    }
+
+    /**
+     * Tests that snapshots rank entries by stages cleared, then score, then joining order.
+     */
+    @Test
+    void testStandingsOrder() {
+        Tournament tournament = new Tournament("t", new TournamentDeal(SEED, STAGES));
+        tournament.getStandings().setRefreshNanos(0);
+        TournamentEntry idle = tournament.join("idle");
+        TournamentEntry low = tournament.join("low");
+        TournamentEntry high = tournament.join("high");
+
+        low.playHand(low.getHand().subList(0, 1));
+        playOut(high, 5);
+
+        StandingsSnapshot snapshot = tournament.getStandings().snapshot();
+        assertEquals(3, snapshot.size(), "Every entry should be ranked");
+        assertEquals(1, snapshot.rankOf(high.getId()), "The entry that played most should lead");
+        assertEquals(2, snapshot.rankOf(low.getId()), "The entry with one hand should be second");
+        assertEquals(3, snapshot.rankOf(idle.getId()), "The idle entry should be last");
+        assertEquals(List.of(low.getStanding(), idle.getStanding()), snapshot.page(1, 5), "Page should skip first");
+        assertEquals(snapshot.page(0, 2), tournament.getStandings().top(2), "Top should match the snapshot");
+    }
+
+    /**
+     * Tests that a snapshot is reused until the refresh interval passes.
+     */
+    @Test
+    void testSnapshotRefresh() {
+        Tournament tournament = new Tournament("t", new TournamentDeal(SEED, STAGES));
+        tournament.getStandings().setRefreshNanos(Long.MAX_VALUE);
+        TournamentEntry entry = tournament.join("player");
+        StandingsSnapshot first = tournament.getStandings().snapshot();
+
+        entry.playHand(entry.getHand().subList(0, 1));
+        assertEquals(first, tournament.getStandings().snapshot(), "A fresh snapshot should be reused");
+
+        tournament.getStandings().setRefreshNanos(0);
+        StandingsSnapshot second = tournament.getStandings().snapshot();
+        assertEquals(tournament.getStandings().getVersion(), second.getVersion(), "Snapshot should be rebuilt");
+        assertEquals(entry.getStanding(), second.page(0, 1).get(0), "Snapshot should hold the new standing");
+    }
+
+    /**
+     * Tests that standings read during concurrent play never list an entry twice
+     * and end up ordered like the entries' own standings.
+     */
+    @Test
+    void testConcurrentPlay() throws Exception {
+        Tournament tournament = new Tournament("t", new TournamentDeal(SEED, STAGES));
+        tournament.getStandings().setRefreshNanos(0);
+        int players = 200;
+        List<TournamentEntry> entries = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            entries.add(tournament.join("p" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < players; i += 3) {
+                        // Vary the moves so that the standings differ
+                        playOut(entries.get(i), 1 + i % 5);
+                    }
+                }));
+            }
+            Future<?> reader = executor.submit(() -> {
+                while (!futures.stream().allMatch(Future::isDone)) {
+                    StandingsSnapshot snapshot = tournament.getStandings().snapshot();
+                    Set<Integer> ids = new HashSet<>();
+                    for (Standing standing : snapshot.page(0, players)) {
+                        assertTrue(ids.add(standing.getEntryId()), "An entry should be listed once");
+                    }
+                }
+            });
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            reader.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Standing> expected = new ArrayList<>();
+        for (TournamentEntry entry : entries) {
+            assertTrue(entry.isOver(), "Every entry should finish");
+            expected.add(entry.getStanding());
+        }
+        expected.sort(null);
+        StandingsSnapshot snapshot = tournament.getStandings().snapshot();
+        assertEquals(expected, snapshot.page(0, players), "Final standings should be fully ordered");
+        assertFalse(expected.get(0).compareTo(expected.get(players - 1)) == 0, "Entries should not all tie");
+    }
+
+    /**
+     * Plays the first cards of the hand until the entry ends.
+     */
+    private static void playOut(TournamentEntry entry, int cardsPerHand) {
+        while (!entry.isOver()) {
+            List<Card> hand = entry.getHand();
+            entry.playHand(hand.subList(0, Math.min(cardsPerHand, hand.size())));
+        }
+    }
+}
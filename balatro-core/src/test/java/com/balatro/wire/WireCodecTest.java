@@ -0,0 +1,97 @@
+package com.balatro.wire;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.Hand;
+
+/**
+ * Test class for WireCodec.
+ * Tests round trips of every frame, the exact layout of a request and the rejection of malformed frames.
+ */
+class WireCodecTest {
+
+    /**
+     * Tests that every card encodes to its own byte and back.
+     */
+    @Test
+    void testCardRoundTrip() throws IOException {
+        for (int code = 0; code < CardMask.DECK_SIZE; code++) {
+            Card card = WireCodec.decodeCard(code);
+            assertEquals(code, WireCodec.encodeCard(card), "Card " + card + " should keep its code");
+        }
+        assertThrows(IOException.class, () -> WireCodec.decodeCard(CardMask.DECK_SIZE));
+    }
+
+    /**
+     * Tests the exact bytes of an evaluate request.
+     */
+    @Test
+    void testEvaluateRequestLayout() throws IOException {
+        List<Card> cards = List.of(card("Hearts", "A"), card("Spades", "K"));
+        byte[] frame = WireCodec.encodeEvaluateRequest(cards);
+
+        assertArrayEquals(new byte[] {0x01, 2, 0, 51}, frame, "Opcode, count and card indexes expected");
+        assertEquals(cards, WireCodec.readEvaluateRequest(ByteBuffer.wrap(frame)), "Cards should round trip");
+    }
+
+    /**
+     * Tests that an evaluation round trips in twelve bytes.
+     */
+    @Test
+    void testEvaluationRoundTrip() throws IOException {
+        Hand hand = new Hand();
+        hand.initializeHand(List.of(card("Hearts", "K"), card("Spades", "K"), card("Clubs", "K")));
+        HandEvaluation evaluation = HandEvaluation.of(hand);
+        byte[] frame = WireCodec.encodeEvaluation(evaluation);
+
+        assertEquals(WireCodec.EVALUATION_SIZE, frame.length, "Evaluation should be twelve bytes");
+        assertEquals(evaluation, WireCodec.readEvaluation(ByteBuffer.wrap(frame)), "Evaluation should round trip");
+        assertEquals(hand.getTotalScore(), evaluation.getTotalScore(), "Score should match the hand");
+    }
+
+    /**
+     * Tests that every kind of action round trips.
+     */
+    @Test
+    void testActionRoundTrip() throws IOException {
+        List<WireAction> actions = List.of(
+                WireAction.ofCard(WireCodec.OP_SELECT, card("Diamonds", "10")),
+                WireAction.ofCard(WireCodec.OP_DESELECT, card("Clubs", "2")),
+                WireAction.of(WireCodec.OP_PLAY),
+                WireAction.of(WireCodec.OP_DISCARD),
+                WireAction.ofNumber(WireCodec.OP_RESTART, -42),
+                WireAction.ofNumber(WireCodec.OP_RESYNC, 1234567890123L));
+        for (WireAction action : actions) {
+            assertEquals(action, WireCodec.readAction(ByteBuffer.wrap(WireCodec.encodeAction(action))),
+                    "Action " + action.getOpcode() + " should round trip");
+        }
+        assertEquals(1, WireCodec.encodeAction(WireAction.of(WireCodec.OP_PLAY)).length, "Play should be one byte");
+    }
+
+    /**
+     * Tests that truncated, oversized and unknown frames are rejected.
+     */
+    @Test
+    void testMalformedFrames() {
+        assertThrows(IOException.class, () -> WireCodec.readEvaluateRequest(ByteBuffer.wrap(new byte[] {0x01, 3, 0})));
+        assertThrows(IOException.class, () -> WireCodec.readEvaluateRequest(ByteBuffer.wrap(new byte[] {0x01, 1, 0, 0})));
+        assertThrows(IOException.class, () -> WireCodec.readEvaluateRequest(ByteBuffer.wrap(new byte[] {0x02, 0})));
+        assertThrows(IOException.class, () -> WireCodec.readEvaluation(ByteBuffer.wrap(new byte[] {(byte) 0x81})));
+        assertThrows(IOException.class, () -> WireCodec.readAction(ByteBuffer.wrap(new byte[] {0x7F})));
+        assertThrows(IOException.class, () -> WireCodec.readAction(ByteBuffer.wrap(new byte[] {0x10, 60})));
+        assertThrows(IllegalArgumentException.class, () -> WireAction.of(WireCodec.OP_SELECT));
+    }
+
+    private static Card card(String suit, String rank) {
+        return CardMask.cardAt(CardMask.indexOf(new Card(suit, rank, 0)));
+    }
+}
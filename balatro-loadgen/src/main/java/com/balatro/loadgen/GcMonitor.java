@@ -0,0 +1,119 @@
+package com.balatro.loadgen;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Reads the total garbage collection pause time of a JVM, either this one or a server reached over JMX.
+ *
+ * The time is the sum of the collection times of the JVM's stop-the-world collectors, as reported by their
+ * GarbageCollectorMXBeans. Collectors that run alongside the application (their names contain "Concurrent"
+ * or "Cycles", such as G1's concurrent cycle and ZGC's cycles) are left out, since their time is not a pause.
+ * The load generator samples it every interval, so latency spikes can be lined up with pauses on either side.
+ */
+public final class GcMonitor implements Closeable {
+    private final List<GarbageCollectorMXBean> collectors;
+    private final JMXConnector connector;
+
+    private GcMonitor(List<GarbageCollectorMXBean> collectors, JMXConnector connector) {
+        this.collectors = collectors;
+        this.connector = connector;
+    }
+
+    /**
+     * Monitors this JVM.
+     *
+     * @return the monitor
+     */
+    public static GcMonitor local() {
+        List<GarbageCollectorMXBean> collectors = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (isPausing(collector.getName())) {
+                collectors.add(collector);
+            }
+        }
+        return new GcMonitor(collectors, null);
+    }
+
+    /**
+     * Monitors a JVM over JMX, such as a server started with
+     * -Dcom.sun.management.jmxremote.port=9010 -Dcom.sun.management.jmxremote.authenticate=false
+     * -Dcom.sun.management.jmxremote.ssl=false.
+     *
+     * @param hostAndPort the JMX address, such as localhost:9010
+     * @return the monitor
+     * @throws IOException if the JVM cannot be reached
+     */
+    public static GcMonitor remote(String hostAndPort) throws IOException {
+        JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://" + hostAndPort + "/jmxrmi");
+        JMXConnector connector = JMXConnectorFactory.connect(url);
+        try {
+            MBeanServerConnection connection = connector.getMBeanServerConnection();
+            List<GarbageCollectorMXBean> collectors = new ArrayList<>();
+            for (ObjectName name : connection.queryNames(
+                    new ObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null)) {
+                if (isPausing(name.getKeyProperty("name"))) {
+                    collectors.add(ManagementFactory.newPlatformMXBeanProxy(connection, name.toString(),
+                            GarbageCollectorMXBean.class));
+                }
+            }
+            return new GcMonitor(collectors, connector);
+        } catch (MalformedObjectNameException | IOException | RuntimeException e) {
+            connector.close();
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    /**
+     * Gets the total pause time since the JVM started.
+     *
+     * @return the time in milliseconds, or -1 if a remote JVM could not be read
+     */
+    public long getPauseMillis() {
+        long total = 0;
+        try {
+            for (GarbageCollectorMXBean collector : collectors) {
+                total += Math.max(0, collector.getCollectionTime());
+            }
+        } catch (RuntimeException e) {
+            // A remote JVM that went away; the report shows the interval as unknown
+            return -1;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the names of the collectors whose time is counted.
+     *
+     * @return the names
+     */
+    public List<String> getCollectorNames() {
+        List<String> names = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : collectors) {
+            names.add(collector.getName());
+        }
+        return names;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (connector != null) {
+            connector.close();
+        }
+    }
+
+    private static boolean isPausing(String name) {
+        return name != null && !name.contains("Concurrent") && !name.contains("Cycles");
+    }
+}
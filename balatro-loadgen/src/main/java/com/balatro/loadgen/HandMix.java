@@ -0,0 +1,197 @@
+package com.balatro.loadgen;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.HandType;
+
+/**
+ * Generates the hands sent to the evaluation endpoint, in a weighted mix of hand types.
+ *
+ * A mix is written as comma-separated name:weight pairs, for example "random:60,pair:20,flush:10,four:10".
+ * "random" is one to five cards dealt at random; every other name is a HandType (in lower case, with dashes,
+ * or shortened to three, four, full-house) and gives five cards that evaluate to exactly that type.
+ * Typed hands are built from the type's rank pattern and checked with CardMask.handType, so rare types such as
+ * four of a kind cost no more to generate than pairs.
+ */
+public final class HandMix {
+    /** The mix used when none is given: mostly random hands, as players send them. */
+    public static final String DEFAULT = "random:70,pair:15,two-pair:5,three:3,straight:3,flush:2,full-house:2";
+
+    private static final String RANDOM = "random";
+
+    private final Map<String, Integer> weights;
+    private final String[] names;
+    private final int[] cumulative;
+
+    private HandMix(Map<String, Integer> weights) {
+        this.weights = weights;
+        this.names = weights.keySet().toArray(new String[0]);
+        this.cumulative = new int[names.length];
+        int total = 0;
+        for (int i = 0; i < names.length; i++) {
+            total += weights.get(names[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    /**
+     * Parses a mix.
+     *
+     * @param spec comma-separated name:weight pairs
+     * @return the mix
+     * @throws IllegalArgumentException if a name is unknown, a weight is not positive, or the mix is empty
+     */
+    public static HandMix parse(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected name:weight but got " + part);
+            }
+            String name = pair[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals(RANDOM)) {
+                typeOf(name);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight of " + name + " must be positive");
+            }
+            weights.merge(name, weight, Integer::sum);
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("A hand mix needs at least one entry");
+        }
+        return new HandMix(weights);
+    }
+
+    /**
+     * Gets the weight of each entry.
+     *
+     * @return the weights by name, in the order given
+     */
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Generates the next hand of the mix.
+     *
+     * @param random the source of randomness; each sending thread should use its own
+     * @return the cards
+     */
+    public List<Card> next(SplittableRandom random) {
+        int pick = random.nextInt(cumulative[cumulative.length - 1]);
+        int i = 0;
+        while (pick >= cumulative[i]) {
+            i++;
+        }
+        if (names[i].equals(RANDOM)) {
+            return CardMask.cardsOf(randomCards(1 + random.nextInt(5), random));
+        }
+        return CardMask.cardsOf(handOf(typeOf(names[i]), random));
+    }
+
+    /**
+     * Builds five cards that evaluate to a hand type.
+     *
+     * @param type the type
+     * @param random the source of randomness
+     * @return the cards, as a CardMask
+     */
+    static long handOf(HandType type, SplittableRandom random) {
+        while (true) {
+            long cards = switch (type) {
+                case HIGH_CARD -> ranksOf(new int[] {1, 1, 1, 1, 1}, random);
+                case PAIR -> ranksOf(new int[] {2, 1, 1, 1}, random);
+                case TWO_PAIR -> ranksOf(new int[] {2, 2, 1}, random);
+                case THREE_OF_A_KIND -> ranksOf(new int[] {3, 1, 1}, random);
+                case FULL_HOUSE -> ranksOf(new int[] {3, 2}, random);
+                case FOUR_OF_A_KIND -> ranksOf(new int[] {4, 1}, random);
+                case STRAIGHT -> run(random, -1);
+                case FLUSH -> suited(random.nextInt(4), random);
+                case STRAIGHT_FLUSH -> run(random, random.nextInt(4));
+            };
+            // A rank pattern can come out as a flush or straight by chance; draw again rather than mislabel it
+            if (CardMask.handType(cards) == type) {
+                return cards;
+            }
+        }
+    }
+
+    private static HandType typeOf(String name) {
+        String normalized = switch (name) {
+            case "three" -> "three-of-a-kind";
+            case "four" -> "four-of-a-kind";
+            default -> name;
+        };
+        try {
+            return HandType.valueOf(normalized.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown hand type " + name);
+        }
+    }
+
+    /**
+     * Deals groups of cards of distinct ranks, for example {2, 1, 1, 1} for a pair and three other ranks.
+     */
+    private static long ranksOf(int[] groups, SplittableRandom random) {
+        List<Integer> ranks = new ArrayList<>();
+        long cards = 0;
+        for (int group : groups) {
+            int rank;
+            do {
+                rank = random.nextInt(CardMask.RANKS);
+            } while (ranks.contains(rank));
+            ranks.add(rank);
+            int suits = 0;
+            while (Integer.bitCount(suits) < group) {
+                suits |= 1 << random.nextInt(4);
+            }
+            for (int suit = 0; suit < 4; suit++) {
+                if ((suits & 1 << suit) != 0) {
+                    cards |= 1L << (suit * CardMask.RANKS + rank);
+                }
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Deals five consecutive ranks, all in one suit if a suit is given, else in random suits.
+     * Rank indexes run A, 2..K and the ace counts high only, so runs start from 2 (index 1) up to 10 (index 9),
+     * with 10-J-Q-K-A as the highest.
+     */
+    private static long run(SplittableRandom random, int suit) {
+        int start = 1 + random.nextInt(9);
+        long cards = 0;
+        for (int i = 0; i < 5; i++) {
+            int rank = (start + i) % CardMask.RANKS;
+            int cardSuit = suit >= 0 ? suit : random.nextInt(4);
+            cards |= 1L << (cardSuit * CardMask.RANKS + rank);
+        }
+        return cards;
+    }
+
+    private static long suited(int suit, SplittableRandom random) {
+        long cards = 0;
+        while (Long.bitCount(cards) < 5) {
+            cards |= 1L << (suit * CardMask.RANKS + random.nextInt(CardMask.RANKS));
+        }
+        return cards;
+    }
+
+    private static long randomCards(int count, SplittableRandom random) {
+        long cards = 0;
+        while (Long.bitCount(cards) < count) {
+            cards |= 1L << random.nextInt(CardMask.DECK_SIZE);
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,257 @@
+package com.balatro.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Sends requests to a running server at a fixed arrival rate and records their latencies.
+ *
+ * The generator is open-loop: request i is due at start + i / rate (or at Poisson arrival times) whether or not
+ * earlier requests have completed, and is sent asynchronously. Its response time is measured from when it was
+ * due, so a server that stalls is charged for every request that should have been sent during the stall,
+ * not just the one it was stuck on. At most maxOutstanding requests are in flight; beyond that the generator
+ * waits, which delays sending but not the due times, so latencies stay correct.
+ * <pre>
+ * java -jar balatro-loadgen/target/loadgen.jar --rate 2000 --duration 60 --warmup 10 --jmx localhost:9010
+ * </pre>
+ */
+public final class LoadGenerator {
+    /** How long to wait at the end for requests in flight, as long as a request can take. */
+    private static final long DRAIN_SECONDS = 30;
+
+    /**
+     * How due times are spaced.
+     */
+    public enum Arrivals {
+        /** Evenly spaced, exactly rate requests per second. */
+        CONSTANT,
+        /** Exponentially distributed gaps with the same mean, as independent users arrive. */
+        POISSON
+    }
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final double rate;
+    private final Arrivals arrivals;
+    private final Semaphore outstanding;
+    private final int maxOutstanding;
+    private final long seed;
+    private final Recorder responseTimes = new Recorder(3);
+    private final Recorder serviceTimes = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private volatile long measureStart = Long.MAX_VALUE;
+
+    /**
+     * Creates a generator.
+     *
+     * @param workload the requests to send
+     * @param rate the requests per second
+     * @param arrivals how due times are spaced
+     * @param maxOutstanding the most requests in flight at once
+     * @param seed the seed of the request mix and arrival times
+     */
+    public LoadGenerator(Workload workload, double rate, Arrivals arrivals, int maxOutstanding, long seed) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+        this.workload = workload;
+        this.rate = rate;
+        this.arrivals = arrivals;
+        this.outstanding = new Semaphore(maxOutstanding);
+        this.maxOutstanding = maxOutstanding;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs a load test. Requests due during the warmup are sent but not recorded.
+     *
+     * @param warmupSeconds how long to send before measuring
+     * @param seconds how long to measure
+     * @param intervalMillis the length of each interval of the timeline
+     * @param serverGc the server's GC monitor, or null if it is not monitored
+     * @return the report
+     * @throws InterruptedException if interrupted while running
+     */
+    public LoadReport run(long warmupSeconds, long seconds, long intervalMillis, GcMonitor serverGc)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+        measureStart = measureFrom;
+
+        Thread sender = new Thread(() -> send(start, end), "load-sender");
+        sender.setDaemon(true);
+        sender.start();
+
+        LoadReport report = new LoadReport();
+        try (GcMonitor clientGc = GcMonitor.local()) {
+            sleepUntil(measureFrom);
+            responseTimes.reset();
+            serviceTimes.reset();
+            errors.reset();
+            long clientPause = clientGc.getPauseMillis();
+            long serverPause = serverGc != null ? serverGc.getPauseMillis() : -1;
+            Histogram responses = null;
+            Histogram services = null;
+            for (long tick = measureFrom + TimeUnit.MILLISECONDS.toNanos(intervalMillis); ;
+                    tick += TimeUnit.MILLISECONDS.toNanos(intervalMillis)) {
+                boolean last = tick >= end;
+                if (last) {
+                    sender.join();
+                    // Requests still in flight were due before the end, so wait for them to count
+                    if (outstanding.tryAcquire(maxOutstanding, DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                        outstanding.release(maxOutstanding);
+                    }
+                } else {
+                    sleepUntil(tick);
+                }
+                responses = responseTimes.getIntervalHistogram(responses);
+                services = serviceTimes.getIntervalHistogram(services);
+                long clientNow = clientGc.getPauseMillis();
+                long serverNow = serverGc != null ? serverGc.getPauseMillis() : -1;
+                report.add(new LoadReport.Interval((Math.min(tick, end) - measureFrom) / 1e9,
+                        responses.getTotalCount(), errors.sumThenReset(), responses.getValueAtPercentile(50),
+                        responses.getValueAtPercentile(99), responses.getMaxValue(), clientNow - clientPause,
+                        serverNow < 0 || serverPause < 0 ? -1 : serverNow - serverPause), responses, services);
+                clientPause = clientNow;
+                serverPause = serverNow;
+                if (last) {
+                    return report;
+                }
+            }
+        } catch (IOException e) {
+            // Closing the local monitor does nothing
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sends requests at their due times until the end of the run.
+     */
+    private void send(long start, long end) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double gap = 1e9 / rate;
+        double offset = 0;
+        while (true) {
+            long due = start + (long) offset;
+            if (due >= end) {
+                return;
+            }
+            sleepUntil(due);
+            try {
+                outstanding.acquire();
+            } catch (InterruptedException e) {
+                return;
+            }
+            HttpRequest request = workload.request(workload.nextEndpoint(random), random);
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                long done = System.nanoTime();
+                if (due >= measureStart) {
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.increment();
+                    } else {
+                        responseTimes.recordValue((done - due) / 1000);
+                        serviceTimes.recordValue((done - sent) / 1000);
+                    }
+                }
+                // Released after recording, so the end of the run sees every completed request
+                outstanding.release();
+            });
+            offset += arrivals == Arrivals.POISSON ? -Math.log(1 - random.nextDouble()) * gap : gap;
+        }
+    }
+
+    private static void sleepUntil(long deadline) {
+        long wait;
+        while ((wait = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    /**
+     * Runs a load test from the command line against a server that is already running.
+     *
+     * Options: --url URL (default http://localhost:8080), --rate R requests/s (default 500),
+     * --duration S (default 60), --warmup S (default 10), --interval MS (default 1000),
+     * --arrivals constant|poisson, --endpoints evaluate=90,stages=10, --hands HandMix spec,
+     * --format json|binary, --max-outstanding N (default 1000), --seed S,
+     * --jmx host:port to correlate with the server's GC pauses, --hgrm FILE to save the full percentile distribution.
+     *
+     * @param args the options
+     * @throws Exception if the test cannot run
+     */
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080";
+        double rate = 500;
+        long duration = 60;
+        long warmup = 10;
+        long interval = 1000;
+        Arrivals arrivals = Arrivals.CONSTANT;
+        String endpoints = Workload.DEFAULT_ENDPOINTS;
+        String hands = HandMix.DEFAULT;
+        Workload.Format format = Workload.Format.JSON;
+        int maxOutstanding = 1000;
+        long seed = 1;
+        String jmx = null;
+        String hgrm = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = args[++i];
+                case "--rate" -> rate = Double.parseDouble(args[++i]);
+                case "--duration" -> duration = Long.parseLong(args[++i]);
+                case "--warmup" -> warmup = Long.parseLong(args[++i]);
+                case "--interval" -> interval = Long.parseLong(args[++i]);
+                case "--arrivals" -> arrivals = Arrivals.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                case "--endpoints" -> endpoints = args[++i];
+                case "--hands" -> hands = args[++i];
+                case "--format" -> format = Workload.Format.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                case "--max-outstanding" -> maxOutstanding = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--jmx" -> jmx = args[++i];
+                case "--hgrm" -> hgrm = args[++i];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Workload workload = new Workload(url, endpoints, HandMix.parse(hands), format);
+        LoadGenerator generator = new LoadGenerator(workload, rate, arrivals, maxOutstanding, seed);
+        System.out.printf("%s arrivals at %.0f requests/s to %s for %d s after %d s warmup (%s, hands %s)%n",
+                arrivals.name().toLowerCase(Locale.ROOT), rate, url, duration, warmup, endpoints, hands);
+        GcMonitor serverGc = jmx != null ? GcMonitor.remote(jmx) : null;
+        try {
+            if (serverGc != null) {
+                System.out.println("Server collectors: " + serverGc.getCollectorNames());
+            }
+            LoadReport report = generator.run(warmup, duration, interval, serverGc);
+            report.print(System.out, duration, rate);
+            if (hgrm != null) {
+                try (PrintStream out = new PrintStream(Files.newOutputStream(Paths.get(hgrm)))) {
+                    // Values are recorded in microseconds; scale to milliseconds
+                    report.getResponseTimes().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        } finally {
+            if (serverGc != null) {
+                serverGc.close();
+            }
+        }
+    }
+}
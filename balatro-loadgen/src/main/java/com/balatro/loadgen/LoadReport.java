@@ -0,0 +1,239 @@
+package com.balatro.loadgen;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * The results of a load test: latency histograms over the whole run and a timeline of intervals with the
+ * garbage collection pause time of the load generator and of the server in each.
+ *
+ * Latencies are in microseconds. Response time is measured from when a request was due to be sent, so time a
+ * request spent waiting behind a stalled server counts against the server (no coordinated omission). Service
+ * time is measured from when it was actually sent, and only differs from response time when the generator
+ * itself fell behind.
+ */
+public final class LoadReport {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final List<Interval> intervals = new ArrayList<>();
+    private final Histogram responseTimes = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTimes = new Histogram(SIGNIFICANT_DIGITS);
+    private long errors;
+
+    /**
+     * One interval of the timeline.
+     */
+    public static final class Interval {
+        private final double endSeconds;
+        private final long requests;
+        private final long errors;
+        private final long p50Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+        private final long clientGcMillis;
+        private final long serverGcMillis;
+
+        /**
+         * Creates an interval.
+         *
+         * @param endSeconds the time the interval ended, from the start of measurement
+         * @param requests the requests that completed
+         * @param errors the requests that failed
+         * @param p50Micros the median response time
+         * @param p99Micros the 99th percentile response time
+         * @param maxMicros the highest response time
+         * @param clientGcMillis the load generator's pause time in the interval
+         * @param serverGcMillis the server's pause time in the interval, or -1 if it is not monitored
+         */
+        public Interval(double endSeconds, long requests, long errors, long p50Micros, long p99Micros,
+                long maxMicros, long clientGcMillis, long serverGcMillis) {
+            this.endSeconds = endSeconds;
+            this.requests = requests;
+            this.errors = errors;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+            this.clientGcMillis = clientGcMillis;
+            this.serverGcMillis = serverGcMillis;
+        }
+
+        /**
+         * Gets the 99th percentile response time of the interval.
+         *
+         * @return the time in microseconds
+         */
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        /**
+         * Gets the load generator's pause time in the interval.
+         *
+         * @return the time in milliseconds
+         */
+        public long getClientGcMillis() {
+            return clientGcMillis;
+        }
+
+        /**
+         * Gets the server's pause time in the interval.
+         *
+         * @return the time in milliseconds, or -1 if the server is not monitored
+         */
+        public long getServerGcMillis() {
+            return serverGcMillis;
+        }
+    }
+
+    /**
+     * Adds an interval.
+     *
+     * @param interval the interval's row of the timeline
+     * @param responses the response times of the interval
+     * @param services the service times of the interval
+     */
+    public void add(Interval interval, Histogram responses, Histogram services) {
+        intervals.add(interval);
+        responseTimes.add(responses);
+        serviceTimes.add(services);
+        errors += interval.errors;
+    }
+
+    /**
+     * Gets the timeline.
+     *
+     * @return the intervals in order
+     */
+    public List<Interval> getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Gets the response times of the whole run.
+     *
+     * @return the histogram, in microseconds
+     */
+    public Histogram getResponseTimes() {
+        return responseTimes;
+    }
+
+    /**
+     * Gets the service times of the whole run.
+     *
+     * @return the histogram, in microseconds
+     */
+    public Histogram getServiceTimes() {
+        return serviceTimes;
+    }
+
+    /**
+     * Gets the number of failed requests.
+     *
+     * @return the errors
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Computes the Pearson correlation of two series.
+     *
+     * @param x the first series
+     * @param y the second series, as long as the first
+     * @return the correlation from -1 to 1, or NaN if either series is constant
+     */
+    public static double correlation(double[] x, double[] y) {
+        int n = x.length;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += x[i] / n;
+            meanY += y[i] / n;
+        }
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (int i = 0; i < n; i++) {
+            covariance += (x[i] - meanX) * (y[i] - meanY);
+            varianceX += (x[i] - meanX) * (x[i] - meanX);
+            varianceY += (y[i] - meanY) * (y[i] - meanY);
+        }
+        return varianceX == 0 || varianceY == 0 ? Double.NaN : covariance / Math.sqrt(varianceX * varianceY);
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param out the destination
+     * @param seconds the length of the measured run
+     * @param targetRate the requested rate, in requests per second
+     */
+    public void print(PrintStream out, double seconds, double targetRate) {
+        out.printf("Throughput: %.1f requests/s completed of %.1f/s requested, %d errors%n",
+                responseTimes.getTotalCount() / seconds, targetRate, errors);
+        printPercentiles(out, "Response time (from intended send)", responseTimes);
+        printPercentiles(out, "Service time (from actual send)   ", serviceTimes);
+
+        out.println();
+        out.println("  time(s)   req/s   p50(ms)   p99(ms)   max(ms)  client-gc(ms)  server-gc(ms)");
+        double previous = 0;
+        for (Interval interval : intervals) {
+            out.printf("%9.1f %7.0f %9.2f %9.2f %9.2f %14d %14s%n", interval.endSeconds,
+                    interval.requests / Math.max(1e-9, interval.endSeconds - previous), interval.p50Micros / 1e3,
+                    interval.p99Micros / 1e3, interval.maxMicros / 1e3, interval.clientGcMillis,
+                    interval.serverGcMillis < 0 ? "-" : Long.toString(interval.serverGcMillis));
+            previous = interval.endSeconds;
+        }
+
+        out.println();
+        printCorrelation(out, "server", true);
+        printCorrelation(out, "load generator", false);
+    }
+
+    private static void printPercentiles(PrintStream out, String label, Histogram histogram) {
+        out.printf("%s: p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n", label,
+                histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(90) / 1e3,
+                histogram.getValueAtPercentile(99) / 1e3, histogram.getValueAtPercentile(99.9) / 1e3,
+                histogram.getMaxValue() / 1e3);
+    }
+
+    /**
+     * Prints how the p99 of each interval moves with the GC pause time of the server or of the generator.
+     */
+    private void printCorrelation(PrintStream out, String side, boolean server) {
+        List<double[]> rows = new ArrayList<>();
+        for (Interval interval : intervals) {
+            long gc = server ? interval.serverGcMillis : interval.clientGcMillis;
+            if (gc >= 0) {
+                rows.add(new double[] {interval.p99Micros / 1e3, gc});
+            }
+        }
+        if (rows.isEmpty()) {
+            out.printf("GC pauses of the %s: not monitored (use --jmx host:port)%n", side);
+            return;
+        }
+        double[] p99 = new double[rows.size()];
+        double[] gc = new double[rows.size()];
+        double withSum = 0;
+        double withoutSum = 0;
+        int with = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            p99[i] = rows.get(i)[0];
+            gc[i] = rows.get(i)[1];
+            if (gc[i] > 0) {
+                withSum += p99[i];
+                with++;
+            } else {
+                withoutSum += p99[i];
+            }
+        }
+        int without = rows.size() - with;
+        out.printf("GC pauses of the %s: correlation with interval p99 %.2f; mean p99 %s ms in %d intervals "
+                + "with pauses, %s ms in %d without%n", side, correlation(p99, gc),
+                with == 0 ? "-" : String.format("%.2f", withSum / with), with,
+                without == 0 ? "-" : String.format("%.2f", withoutSum / without), without);
+    }
+}
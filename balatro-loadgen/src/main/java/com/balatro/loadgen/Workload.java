@@ -0,0 +1,148 @@
+package com.balatro.loadgen;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.balatro.model.Card;
+import com.balatro.wire.WireCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The requests a load test sends: a weighted mix of endpoints, the hands sent to the evaluation endpoint,
+ * and the body format of evaluation requests.
+ *
+ * Endpoints are written as name=weight pairs, for example "evaluate=90,stages=10".
+ */
+public final class Workload {
+    /** The endpoint mix used when none is given. */
+    public static final String DEFAULT_ENDPOINTS = "evaluate=90,stages=10";
+
+    /**
+     * The endpoints a load test can call.
+     */
+    public enum Endpoint {
+        /** POST /api/hand/evaluate with a hand from the hand mix. */
+        EVALUATE,
+        /** GET /api/game/stages. */
+        STAGES
+    }
+
+    /**
+     * The body format of evaluation requests.
+     */
+    public enum Format {
+        /** JSON, as the web frontend sends it. */
+        JSON,
+        /** The application/x-balatro binary format. */
+        BINARY
+    }
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI evaluateUri;
+    private final URI stagesUri;
+    private final Endpoint[] endpoints;
+    private final int[] cumulative;
+    private final HandMix hands;
+    private final Format format;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Creates a workload.
+     *
+     * @param baseUrl the server, such as http://localhost:8080
+     * @param endpoints comma-separated endpoint=weight pairs
+     * @param hands the hands sent to the evaluation endpoint
+     * @param format the body format of evaluation requests
+     * @throws IllegalArgumentException if an endpoint is unknown or a weight is not positive
+     */
+    public Workload(String baseUrl, String endpoints, HandMix hands, Format format) {
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.evaluateUri = URI.create(base + "/api/hand/evaluate");
+        this.stagesUri = URI.create(base + "/api/game/stages");
+        this.hands = hands;
+        this.format = format;
+
+        List<Endpoint> names = new ArrayList<>();
+        List<Integer> totals = new ArrayList<>();
+        int total = 0;
+        for (String part : endpoints.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint=weight but got " + part);
+            }
+            Endpoint endpoint = Endpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight of " + endpoint + " must be positive");
+            }
+            total += weight;
+            names.add(endpoint);
+            totals.add(total);
+        }
+        this.endpoints = names.toArray(new Endpoint[0]);
+        this.cumulative = totals.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Picks the endpoint of the next request.
+     *
+     * @param random the source of randomness
+     * @return the endpoint
+     */
+    public Endpoint nextEndpoint(SplittableRandom random) {
+        int pick = random.nextInt(cumulative[cumulative.length - 1]);
+        int i = 0;
+        while (pick >= cumulative[i]) {
+            i++;
+        }
+        return endpoints[i];
+    }
+
+    /**
+     * Builds a request to an endpoint.
+     *
+     * @param endpoint the endpoint
+     * @param random the source of randomness for the hand
+     * @return the request
+     */
+    public HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        if (endpoint == Endpoint.STAGES) {
+            return HttpRequest.newBuilder(stagesUri).timeout(TIMEOUT).GET().build();
+        }
+        List<Card> cards = hands.next(random);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(evaluateUri).timeout(TIMEOUT);
+        if (format == Format.BINARY) {
+            return builder.header("Content-Type", WireCodec.MEDIA_TYPE).header("Accept", WireCodec.MEDIA_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(WireCodec.encodeEvaluateRequest(cards))).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody(cards))).build();
+    }
+
+    /**
+     * Writes a hand as the JSON body HandEvaluationController expects.
+     *
+     * @param cards the hand
+     * @return the body
+     */
+    byte[] jsonBody(List<Card> cards) {
+        List<Map<String, String>> dtos = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            dtos.add(Map.of("rank", card.getRank(), "suit", card.getSuit()));
+        }
+        try {
+            return mapper.writeValueAsBytes(Map.of("cards", dtos));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.balatro.loadgen;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.Card;
+import com.balatro.model.CardMask;
+import com.balatro.model.HandType;
+import com.balatro.wire.WireCodec;
+
+/**
+ * Test class for the load generator's workload.
+ * Tests that typed hands evaluate to their type, that request bodies match what the server parses,
+ * that bad specs are rejected and the correlation used by the report.
+ */
+class WorkloadTest {
+
+    /**
+     * Tests that every hand type is generated as exactly that type.
+     */
+    @Test
+    void testHandOfEveryType() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (HandType type : HandType.values()) {
+            for (int i = 0; i < 200; i++) {
+                long cards = HandMix.handOf(type, random);
+                assertEquals(5, Long.bitCount(cards), "Typed hands should have five cards");
+                assertEquals(type, CardMask.handType(cards), "Hand should evaluate to " + type);
+            }
+        }
+    }
+
+    /**
+     * Tests that a mix only produces the types it names, in roughly the given proportions.
+     */
+    @Test
+    void testMixProportions() {
+        HandMix mix = HandMix.parse("pair:3,four:1");
+        SplittableRandom random = new SplittableRandom(11);
+        int fours = 0;
+        for (int i = 0; i < 4000; i++) {
+            HandType type = CardMask.handType(CardMask.maskOf(mix.next(random)));
+            assertTrue(type == HandType.PAIR || type == HandType.FOUR_OF_A_KIND, "Unexpected type " + type);
+            if (type == HandType.FOUR_OF_A_KIND) {
+                fours++;
+            }
+        }
+        assertTrue(fours > 850 && fours < 1150, "About a quarter should be four of a kind, got " + fours);
+    }
+
+    /**
+     * Tests that bad hand mixes and endpoint mixes are rejected.
+     */
+    @Test
+    void testBadSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> HandMix.parse("royal:1"));
+        assertThrows(IllegalArgumentException.class, () -> HandMix.parse("pair:0"));
+        assertThrows(IllegalArgumentException.class, () -> HandMix.parse("pair"));
+        HandMix mix = HandMix.parse(HandMix.DEFAULT);
+        assertThrows(IllegalArgumentException.class,
+                () -> new Workload("http://localhost:8080", "shop=1", mix, Workload.Format.JSON));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Workload("http://localhost:8080", "evaluate=-1", mix, Workload.Format.JSON));
+    }
+
+    /**
+     * Tests the JSON body of an evaluation request and the binary frame that replaces it.
+     */
+    @Test
+    void testRequestBodies() throws IOException {
+        Workload workload = new Workload("http://localhost:8080/", Workload.DEFAULT_ENDPOINTS,
+                HandMix.parse("pair:1"), Workload.Format.JSON);
+        // The ace and two of hearts
+        List<Card> cards = CardMask.cardsOf(0b11L);
+        String json = new String(workload.jsonBody(cards), StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("{\"cards\":["), "Body should hold a cards array: " + json);
+        assertTrue(json.contains("\"rank\":\"A\"") && json.contains("\"suit\":\"Hearts\""), "Ace of hearts expected");
+
+        byte[] frame = WireCodec.encodeEvaluateRequest(cards);
+        assertEquals(cards, WireCodec.readEvaluateRequest(ByteBuffer.wrap(frame)), "Binary body should decode");
+        assertEquals("http://localhost:8080/api/hand/evaluate",
+                workload.request(Workload.Endpoint.EVALUATE, new SplittableRandom(1)).uri().toString());
+    }
+
+    /**
+     * Tests the correlation of perfectly related, opposite and constant series.
+     */
+    @Test
+    void testCorrelation() {
+        double[] x = {1, 2, 3, 4};
+        assertEquals(1.0, LoadReport.correlation(x, new double[] {10, 20, 30, 40}), 1e-9, "Rising together");
+        assertEquals(-1.0, LoadReport.correlation(x, new double[] {4, 3, 2, 1}), 1e-9, "Moving oppositely");
+        assertTrue(Double.isNaN(LoadReport.correlation(x, new double[] {0, 0, 0, 0})), "Constant series has none");
+    }
+}
@@ -0,0 +1,25 @@
+package com.balatro;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.balatro.aot.ServerRuntimeHints;
+
+/**
+ * Entry point for the Balatro REST API server.
+ * The server only depends on the core module, so it has no JavaFX on its classpath.
+ */
+@SpringBootApplication
+@ImportRuntimeHints(ServerRuntimeHints.class)
+public class BalatroServerApplication {
+
+    /**
+     * Starts the server.
+     * 
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(BalatroServerApplication.class, args);
+    }
+}
@@ -0,0 +1,41 @@
+package com.balatro.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts admission control in front of the game and hand evaluation endpoints, unless
+ * balatro.admission.enabled is false.
+ */
+@Configuration
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionInterceptor interceptor;
+    private final boolean enabled;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param interceptor the admission interceptor
+     * @param enabled whether admission control is on
+     */
+    public AdmissionConfig(AdmissionInterceptor interceptor,
+            @Value("${balatro.admission.enabled:true}") boolean enabled) {
+        this.interceptor = interceptor;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Adds the interceptor to /api/hand/** and /api/game/**.
+     *
+     * @param registry the interceptor registry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (enabled) {
+            registry.addInterceptor(interceptor).addPathPatterns("/api/hand/**", "/api/game/**");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.balatro.admission;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a request to the game and evaluation endpoints is served or turned away.
+ *
+ * Each request takes a token from its client's bucket and from one global bucket shared by all clients, so one
+ * client cannot use more than its own rate and all clients together cannot overload the server.
+ * Requests come in two lanes. Interactive requests, from players, may empty the buckets. Batch requests, from
+ * analytics jobs, are only admitted while each bucket holds more than a reserved fraction of it, so they use the
+ * capacity players leave spare and stop before players would be turned away.
+ *
+ * Buckets are updated with compare-and-set and clients are kept in a ConcurrentHashMap, so admission takes no
+ * locks. Clients whose buckets have refilled completely are dropped once there are many of them.
+ */
+@Component
+public class AdmissionGate {
+
+    /**
+     * The priority of a request.
+     */
+    public enum Lane {
+        /** A player's request; may use all of the capacity. */
+        INTERACTIVE,
+        /** A bulk request; only uses capacity beyond the interactive reserve. */
+        BATCH;
+
+        /**
+         * Reads a lane from the X-Balatro-Lane header.
+         *
+         * @param header the header value, or null if it is missing
+         * @return BATCH if the value is "batch", else INTERACTIVE
+         */
+        public static Lane of(String header) {
+            return header != null && header.trim().equalsIgnoreCase("batch") ? BATCH : INTERACTIVE;
+        }
+    }
+
+    /**
+     * The outcome of admission.
+     */
+    public enum Result {
+        /** The request is served. */
+        ADMITTED,
+        /** The request is turned away because its client is over its rate. */
+        CLIENT_LIMITED,
+        /** The request is turned away because the server is over its total rate. */
+        GLOBAL_LIMITED
+    }
+
+    /** The number of clients above which idle clients are dropped. */
+    static final int SWEEP_THRESHOLD = 10_000;
+
+    private final TokenBucket global;
+    private final double clientRate;
+    private final int clientBurst;
+    private final int globalReserve;
+    private final int clientReserve;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> clients = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final LongAdder[][] counts = new LongAdder[Lane.values().length][Result.values().length];
+
+    /**
+     * Creates the gate from the balatro.admission properties.
+     *
+     * @param globalRate the requests per second all clients together are served
+     * @param globalBurst the largest burst all clients together are served
+     * @param clientRate the requests per second one client is served
+     * @param clientBurst the largest burst one client is served
+     * @param interactiveReserve the fraction of each bucket batch requests may not use
+     */
+    @Autowired
+    public AdmissionGate(@Value("${balatro.admission.global-rate:20000}") double globalRate,
+            @Value("${balatro.admission.global-burst:2000}") int globalBurst,
+            @Value("${balatro.admission.client-rate:200}") double clientRate,
+            @Value("${balatro.admission.client-burst:100}") int clientBurst,
+            @Value("${balatro.admission.interactive-reserve:0.5}") double interactiveReserve) {
+        this(globalRate, globalBurst, clientRate, clientBurst, interactiveReserve, System::nanoTime);
+    }
+
+    /**
+     * Creates the gate.
+     *
+     * @param globalRate the requests per second all clients together are served
+     * @param globalBurst the largest burst all clients together are served
+     * @param clientRate the requests per second one client is served
+     * @param clientBurst the largest burst one client is served
+     * @param interactiveReserve the fraction of each bucket batch requests may not use, from 0 to 1
+     * @param clock the current time in nanoseconds
+     * @throws IllegalArgumentException if a rate or burst is not positive or the reserve is out of range
+     */
+    public AdmissionGate(double globalRate, int globalBurst, double clientRate, int clientBurst,
+            double interactiveReserve, LongSupplier clock) {
+        if (interactiveReserve < 0 || interactiveReserve >= 1) {
+            throw new IllegalArgumentException("Interactive reserve must be at least 0 and below 1");
+        }
+        if (clientRate <= 0 || clientBurst <= 0) {
+            throw new IllegalArgumentException("Client rate and burst must be positive");
+        }
+        this.global = new TokenBucket(globalRate, globalBurst, clock.getAsLong());
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.globalReserve = (int) Math.ceil(globalBurst * interactiveReserve);
+        this.clientReserve = (int) Math.ceil(clientBurst * interactiveReserve);
+        this.clock = clock;
+        for (LongAdder[] lane : counts) {
+            for (int i = 0; i < lane.length; i++) {
+                lane[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Admits a request or turns it away, taking a token from the client's bucket and the global bucket.
+     *
+     * @param client the client, such as its address
+     * @param lane the request's lane
+     * @return the outcome
+     */
+    public Result admit(String client, Lane lane) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = clients.get(client);
+        if (bucket == null) {
+            sweepIfCrowded(now);
+            bucket = clients.computeIfAbsent(client, c -> new TokenBucket(clientRate, clientBurst, now));
+        }
+        boolean batch = lane == Lane.BATCH;
+        Result result;
+        if (!bucket.tryAcquire(now, batch ? clientReserve : 0)) {
+            result = Result.CLIENT_LIMITED;
+        } else if (!global.tryAcquire(now, batch ? globalReserve : 0)) {
+            // The request is not served, so it should not count against its client
+            bucket.release();
+            result = Result.GLOBAL_LIMITED;
+        } else {
+            result = Result.ADMITTED;
+        }
+        counts[lane.ordinal()][result.ordinal()].increment();
+        return result;
+    }
+
+    /**
+     * Gets the admissions and rejections of each lane since the server started.
+     *
+     * @param lane the lane
+     * @param result the outcome
+     * @return the number of requests
+     */
+    public long getCount(Lane lane, Result result) {
+        return counts[lane.ordinal()][result.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of clients with a bucket.
+     *
+     * @return the clients
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Gets the metrics of the gate.
+     *
+     * @return the counts of each outcome by lane, the tracked clients and the tokens left in the global bucket
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Lane lane : Lane.values()) {
+            Map<String, Long> results = new LinkedHashMap<>();
+            for (Result result : Result.values()) {
+                results.put(camelCase(result.name()), getCount(lane, result));
+            }
+            stats.put(camelCase(lane.name()), results);
+        }
+        stats.put("clients", clients.size());
+        stats.put("globalTokens", global.getAvailable(clock.getAsLong()));
+        return stats;
+    }
+
+    /**
+     * Drops clients whose buckets are full once there are many clients. One thread sweeps at a time;
+     * the others carry on without waiting.
+     */
+    private void sweepIfCrowded(long now) {
+        if (clients.size() > SWEEP_THRESHOLD && sweeping.compareAndSet(false, true)) {
+            try {
+                clients.values().removeIf(bucket -> bucket.isFull(now));
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    private static String camelCase(String name) {
+        String[] words = name.toLowerCase(Locale.ROOT).split("_");
+        StringBuilder result = new StringBuilder(words[0]);
+        for (int i = 1; i < words.length; i++) {
+            result.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+        }
+        return result.toString();
+    }
+}
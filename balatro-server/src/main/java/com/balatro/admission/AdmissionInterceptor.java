@@ -0,0 +1,57 @@
+package com.balatro.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Runs admission control before the game and evaluation controllers, answering 429 Too Many Requests with
+ * Retry-After when a request is turned away.
+ *
+ * Clients are told apart by address; behind a proxy, set server.forward-headers-strategy so that the address
+ * is the client's. Requests with the header "X-Balatro-Lane: batch" go in the batch lane, all others in the
+ * interactive lane.
+ */
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+    /** The header that puts a request in the batch lane. */
+    public static final String LANE_HEADER = "X-Balatro-Lane";
+
+    private final AdmissionGate gate;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param gate the admission decisions
+     */
+    public AdmissionInterceptor(AdmissionGate gate) {
+        this.gate = gate;
+    }
+
+    /**
+     * Admits the request or answers it with 429.
+     *
+     * @param request the request
+     * @param response the response
+     * @param handler the controller method
+     * @return true if the request is served
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // CORS preflights cost nothing and must not use up the request they precede
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        AdmissionGate.Result result = gate.admit(request.getRemoteAddr(),
+                AdmissionGate.Lane.of(request.getHeader(LANE_HEADER)));
+        if (result == AdmissionGate.Result.ADMITTED) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", "1");
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.balatro.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket that refills at a fixed rate up to a fixed capacity.
+ *
+ * The whole state is one long, the time at which the bucket will be full again if nothing more is taken
+ * (the generic cell rate algorithm). Taking a token moves that time a token's worth of nanoseconds later, and
+ * it is only allowed while the time stays within the capacity of now. Threads take tokens with a
+ * compare-and-set on that long, so admission never blocks and needs no lock.
+ *
+ * A reserve keeps the last tokens for callers that do not pass it: a caller asking with a reserve of r is only
+ * admitted while the bucket holds more than r tokens, so that at least r are left once it has taken one. With
+ * exactly r tokens in the bucket it is turned away.
+ */
+public final class TokenBucket {
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param tokensPerSecond the refill rate
+     * @param capacity the most tokens the bucket holds, which is the largest burst it admits
+     * @param now the current time in nanoseconds
+     * @throws IllegalArgumentException if the rate or capacity is not positive
+     */
+    public TokenBucket(double tokensPerSecond, int capacity, long now) {
+        if (tokensPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.nanosPerToken = Math.max(1, Math.round(1e9 / tokensPerSecond));
+        this.capacityNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param now the current time in nanoseconds
+     * @return true if a token was taken
+     */
+    public boolean tryAcquire(long now) {
+        return tryAcquire(now, 0);
+    }
+
+    /**
+     * Takes a token if at least a reserve of tokens would be left, that is if the bucket holds more than the reserve.
+     *
+     * @param now the current time in nanoseconds
+     * @param reserve the tokens that must stay in the bucket
+     * @return true if a token was taken
+     */
+    public boolean tryAcquire(long now, int reserve) {
+        long limit = capacityNanos - reserve * nanosPerToken;
+        while (true) {
+            long full = fullAt.get();
+            long next = (full - now > 0 ? full : now) + nanosPerToken;
+            // next - now is the time to refill every token in use once this one is taken; staying within
+            // limit means at least reserve tokens are left
+            if (next - now > limit) {
+                return false;
+            }
+            if (fullAt.compareAndSet(full, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Puts back a token taken by tryAcquire, when the request it was taken for was turned away elsewhere.
+     */
+    public void release() {
+        fullAt.addAndGet(-nanosPerToken);
+    }
+
+    /**
+     * Gets the tokens in the bucket.
+     *
+     * @param now the current time in nanoseconds
+     * @return the whole tokens that can be taken
+     */
+    public int getAvailable(long now) {
+        long used = Math.max(0, fullAt.get() - now);
+        return (int) ((capacityNanos - used) / nanosPerToken);
+    }
+
+    /**
+     * Checks whether the bucket is full, so dropping it and later creating a new one changes nothing.
+     *
+     * @param now the current time in nanoseconds
+     * @return true if the bucket is full
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
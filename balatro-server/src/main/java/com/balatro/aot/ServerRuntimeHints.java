@@ -0,0 +1,33 @@
+package com.balatro.aot;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.balatro.controller.HandEvaluationController.CardDto;
+import com.balatro.controller.HandEvaluationController.EvaluateHandRequest;
+import com.balatro.service.GameStateManager;
+import com.balatro.websocket.GameWebSocketHandler.GameAction;
+
+/**
+ * Registers the reflection and resource metadata the server needs in a GraalVM native image.
+ * Spring AOT already infers most of this from the controller signatures; registering it here
+ * keeps the native build working if a DTO is only reached through a generic or Object type.
+ */
+public class ServerRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Registers binding hints for the request and WebSocket message DTOs and the game stage enum,
+     * and keeps the application properties in the image.
+     * 
+     * @param hints the hints to contribute to
+     * @param classLoader the class loader used by the build
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                EvaluateHandRequest.class, CardDto.class, GameAction.class, GameStateManager.LevelStage.class);
+        hints.resources().registerPattern("application.properties");
+    }
+}
@@ -0,0 +1,41 @@
+package com.balatro.controller;
+
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.balatro.admission.AdmissionGate;
+
+/**
+ * REST Controller for the metrics of admission control.
+ */
+@RestController
+@RequestMapping("/api/admission")
+@CrossOrigin(origins = "*") // For development - restrict in production
+public class AdmissionController {
+
+    private final AdmissionGate gate;
+
+    /**
+     * Creates the controller.
+     *
+     * @param gate the admission gate
+     */
+    public AdmissionController(AdmissionGate gate) {
+        this.gate = gate;
+    }
+
+    /**
+     * Returns the admissions and rejections of each lane since the server started.
+     *
+     * @return the admitted, clientLimited and globalLimited counts of the interactive and batch lanes,
+     *         the number of tracked clients and the tokens left in the global bucket
+     */
+    @GetMapping
+    public Map<String, Object> getStats() {
+        return gate.getStats();
+    }
+}
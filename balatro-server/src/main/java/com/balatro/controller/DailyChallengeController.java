@@ -0,0 +1,115 @@
+package com.balatro.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.balatro.daily.DailyChallenge;
+import com.balatro.session.DailyChallengeCache;
+import com.balatro.session.TournamentRegistry;
+import com.balatro.tournament.Tournament;
+import com.balatro.tournament.TournamentDeal;
+
+/**
+ * REST Controller for daily challenges, in which everyone plays the same seeded deal of the day.
+ * Each day is played as a tournament with the id "daily-YYYY-MM-DD", joined through the tournament endpoints.
+ */
+@RestController
+@RequestMapping("/api/daily")
+@CrossOrigin(origins = "*") // For development - restrict in production
+public class DailyChallengeController {
+    private static final String TOURNAMENT_PREFIX = "daily-";
+
+    private final DailyChallengeCache challenges;
+    private final TournamentRegistry tournaments;
+
+    /**
+     * Creates the controller.
+     *
+     * @param challenges the daily challenges
+     * @param tournaments the tournaments the challenges are played in
+     */
+    public DailyChallengeController(DailyChallengeCache challenges, TournamentRegistry tournaments) {
+        this.challenges = challenges;
+        this.tournaments = tournaments;
+    }
+
+    /**
+     * Returns today's challenge.
+     *
+     * @return the challenge, as returned by getChallenge
+     */
+    @GetMapping
+    public Map<String, Object> getToday() {
+        return toMap(find(challenges.today()));
+    }
+
+    /**
+     * Returns the challenge of a day.
+     *
+     * @param date the day, as YYYY-MM-DD
+     * @return the date, seed and tournament id of the challenge, and the target and pars of each stage
+     */
+    @GetMapping("/{date}")
+    public Map<String, Object> getChallenge(@PathVariable String date) {
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid date " + date);
+        }
+        LocalDate today = challenges.today();
+        if (day.isAfter(today.plusDays(DailyChallengeCache.DAYS_AHEAD))) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No challenge for " + date + " yet");
+        }
+        if (day.isBefore(today)) {
+            // Only today's and the next days' challenges are kept in memory
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "The challenge for " + date + " has ended");
+        }
+        return toMap(find(day));
+    }
+
+    private DailyChallenge find(LocalDate date) {
+        DailyChallenge challenge = challenges.get(date);
+        if (challenge == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "The challenge for " + date + " is still being computed");
+        }
+        return challenge;
+    }
+
+    private Map<String, Object> toMap(DailyChallenge challenge) {
+        TournamentDeal deal = challenge.deal();
+        Tournament tournament = tournaments.getOrCreate(TOURNAMENT_PREFIX + challenge.getDate(), deal);
+        List<Map<String, Object>> stages = new ArrayList<>();
+        for (int stage = 0; stage < challenge.getStages(); stage++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("stage", deal.getLevelStage(stage).name());
+            row.put("targetScore", deal.getTargetScore(stage));
+            row.put("joker", deal.getJoker(stage).getType().name());
+            row.put("parHands", challenge.getParHands(stage));
+            row.put("bestScore", challenge.getBestScore(stage));
+            row.put("exact", challenge.isExact(stage));
+            stages.add(row);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("date", challenge.getDate().toString());
+        response.put("seed", challenge.getSeed());
+        response.put("tournamentId", tournament.getId());
+        response.put("maxHands", challenge.getMaxHands());
+        response.put("maxDiscards", challenge.getMaxDiscards());
+        response.put("stages", stages);
+        return response;
+    }
+}
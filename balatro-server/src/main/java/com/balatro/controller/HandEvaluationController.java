@@ -3,14 +3,19 @@ package com.balatro.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.balatro.model.Card;
 import com.balatro.model.Hand;
+import com.balatro.wire.EvaluateRequest;
+import com.balatro.wire.HandEvaluation;
+import com.balatro.wire.WireCodec;
 
 /**
  * This controller is responsible for evaluating the hand and returning the hand type, score, and other details.    
@@ -42,14 +47,33 @@ public class HandEvaluationController {
         }
         
         // Return evaluation results
+        HandEvaluation evaluation = HandEvaluation.of(hand);
         return Map.of(
-            "handType", hand.getHandType().getDisplayName(),
-            "baseScore", hand.getBaseScore(),
-            "multiplier", hand.getMultiplier(),
-            "totalScore", hand.getTotalScore(),
-            "cardsValue", hand.getTotalScore() / hand.getMultiplier() - hand.getBaseScore()
+            "handType", evaluation.getHandType().getDisplayName(),
+            "baseScore", evaluation.getBaseScore(),
+            "multiplier", evaluation.getMultiplier(),
+            "totalScore", evaluation.getTotalScore(),
+            "cardsValue", evaluation.getCardsValue()
         );
     }
+
+    /**
+     * Evaluates cards sent in the binary wire format and returns the evaluation in the same format.
+     * Selected instead of the JSON endpoint when the request's content type is application/x-balatro.
+     * 
+     * @param request The cards to evaluate, one byte each
+     * @return Hand evaluation result, encoded in twelve bytes
+     */
+    @PostMapping(value = "/evaluate", consumes = WireCodec.MEDIA_TYPE, produces = WireCodec.MEDIA_TYPE)
+    public HandEvaluation evaluateHandBinary(@RequestBody EvaluateRequest request) {
+        Hand hand = new Hand();
+        try {
+            hand.initializeHand(request.getCards());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return HandEvaluation.of(hand);
+    }
     
     /**
      * Calculates the value of a card based on its rank
@@ -0,0 +1,86 @@
+package com.balatro.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.balatro.session.GameSessionRegistry;
+import com.balatro.session.LiveGame;
+
+/**
+ * REST Controller for creating live games.
+ * Once created, a game is followed and played over the WebSocket at /ws/game/{id}.
+ */
+@RestController
+@RequestMapping("/api/sessions")
+@CrossOrigin(origins = "*") // For development - restrict in production
+public class SessionController {
+
+    private final GameSessionRegistry registry;
+
+    /**
+     * Creates the controller.
+     *
+     * @param registry the live games
+     */
+    public SessionController(GameSessionRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Creates a game.
+     *
+     * @param seed the seed of the game, random if omitted
+     * @return the id of the game, its WebSocket path and a snapshot of its state
+     */
+    @PostMapping
+    public Map<String, Object> createSession(@RequestParam(required = false) Long seed) {
+        LiveGame game = registry.create(seed);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", game.getId());
+        response.put("socket", "/ws/game/" + game.getId());
+        response.put("snapshot", game.snapshot());
+        return response;
+    }
+
+    /**
+     * Returns the full state of a game, for clients that cannot use the WebSocket.
+     *
+     * @param id the id of the game
+     * @return the snapshot message
+     */
+    @GetMapping("/{id}")
+    public Map<String, Object> getSession(@PathVariable String id) {
+        return find(id).snapshot();
+    }
+
+    /**
+     * Ends a game.
+     *
+     * @param id the id of the game
+     */
+    @DeleteMapping("/{id}")
+    public void deleteSession(@PathVariable String id) {
+        if (!registry.remove(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No game " + id);
+        }
+    }
+
+    private LiveGame find(String id) {
+        LiveGame game = registry.get(id);
+        if (game == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No game " + id);
+        }
+        return game;
+    }
+}
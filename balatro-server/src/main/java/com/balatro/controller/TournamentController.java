@@ -0,0 +1,252 @@
+package com.balatro.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.balatro.model.Card;
+import com.balatro.session.LiveGame;
+import com.balatro.session.TournamentRegistry;
+import com.balatro.tournament.Standing;
+import com.balatro.tournament.StandingsSnapshot;
+import com.balatro.tournament.Tournament;
+import com.balatro.tournament.TournamentEntry;
+
+/**
+ * REST Controller for tournaments, in which every entry plays the same seeded deal.
+ * Cards are sent and returned as codes such as "10H"; moves take a JSON array of codes.
+ */
+@RestController
+@RequestMapping("/api/tournaments")
+@CrossOrigin(origins = "*") // For development - restrict in production
+public class TournamentController {
+    private static final int DEFAULT_STAGES = 3;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TournamentRegistry registry;
+
+    /**
+     * Creates the controller.
+     *
+     * @param registry the tournaments
+     */
+    public TournamentController(TournamentRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param seed the seed of the deal, random if omitted
+     * @param stages the number of stages to play
+     * @return the id, seed and number of stages of the tournament
+     */
+    @PostMapping
+    public Map<String, Object> createTournament(@RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "" + DEFAULT_STAGES) int stages) {
+        Tournament tournament;
+        try {
+            tournament = registry.create(seed, stages);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", tournament.getId());
+        response.put("seed", tournament.getDeal().getSeed());
+        response.put("stages", tournament.getDeal().getStages());
+        return response;
+    }
+
+    /**
+     * Ends a tournament.
+     *
+     * @param id the id of the tournament
+     */
+    @DeleteMapping("/{id}")
+    public void deleteTournament(@PathVariable String id) {
+        if (!registry.remove(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No tournament " + id);
+        }
+    }
+
+    /**
+     * Adds an entry to a tournament.
+     *
+     * @param id the id of the tournament
+     * @param name the name of the player
+     * @return the state of the new entry
+     */
+    @PostMapping("/{id}/entries")
+    public Map<String, Object> join(@PathVariable String id, @RequestParam String name) {
+        return stateOf(find(id).join(name));
+    }
+
+    /**
+     * Returns the state of an entry.
+     *
+     * @param id the id of the tournament
+     * @param entryId the id of the entry
+     * @return the state of the entry
+     */
+    @GetMapping("/{id}/entries/{entryId}")
+    public Map<String, Object> getEntry(@PathVariable String id, @PathVariable int entryId) {
+        return stateOf(findEntry(id, entryId));
+    }
+
+    /**
+     * Plays cards for an entry.
+     *
+     * @param id the id of the tournament
+     * @param entryId the id of the entry
+     * @param cards the codes of the cards to play
+     * @return the points scored and the new state of the entry
+     */
+    @PostMapping("/{id}/entries/{entryId}/play")
+    public Map<String, Object> play(@PathVariable String id, @PathVariable int entryId,
+            @RequestBody List<String> cards) {
+        TournamentEntry entry = findEntry(id, entryId);
+        synchronized (entry) {
+            int points;
+            try {
+                points = entry.playHand(cardsInHand(entry, cards));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+            Map<String, Object> response = stateOf(entry);
+            response.put("points", points);
+            return response;
+        }
+    }
+
+    /**
+     * Discards cards for an entry.
+     *
+     * @param id the id of the tournament
+     * @param entryId the id of the entry
+     * @param cards the codes of the cards to discard
+     * @return the new state of the entry
+     */
+    @PostMapping("/{id}/entries/{entryId}/discard")
+    public Map<String, Object> discard(@PathVariable String id, @PathVariable int entryId,
+            @RequestBody List<String> cards) {
+        TournamentEntry entry = findEntry(id, entryId);
+        synchronized (entry) {
+            try {
+                if (!entry.discard(cardsInHand(entry, cards))) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Discard limit reached");
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+            return stateOf(entry);
+        }
+    }
+
+    /**
+     * Returns a page of the standings. Every request reads the same shared snapshot, which is rebuilt
+     * at most every 100 milliseconds while moves are made, so it may trail the latest moves slightly.
+     *
+     * @param id the id of the tournament
+     * @param offset the number of places to skip
+     * @param limit the number of places to return, at most 100
+     * @return the version, the number of entries and the page of standings
+     */
+    @GetMapping("/{id}/standings")
+    public Map<String, Object> getStandings(@PathVariable String id, @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        StandingsSnapshot snapshot = find(id).getStandings().snapshot();
+        List<Map<String, Object>> places = new ArrayList<>();
+        int place = Math.max(offset, 0);
+        for (Standing standing : snapshot.page(offset, Math.min(limit, MAX_PAGE_SIZE))) {
+            Map<String, Object> row = toMap(standing);
+            row.put("rank", ++place);
+            places.add(row);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("version", snapshot.getVersion());
+        response.put("entries", snapshot.size());
+        response.put("standings", places);
+        return response;
+    }
+
+    private Map<String, Object> stateOf(TournamentEntry entry) {
+        synchronized (entry) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("entryId", entry.getId());
+            state.put("name", entry.getName());
+            state.put("stage", entry.getStage());
+            List<String> hand = new ArrayList<>();
+            for (Card card : entry.getHand()) {
+                hand.add(LiveGame.codeOf(card));
+            }
+            state.put("hand", hand);
+            state.put("score", entry.getScore());
+            state.put("targetScore", entry.getTargetScore());
+            state.put("handsLeft", entry.getHandsLeft());
+            state.put("discardsLeft", entry.getDiscardsLeft());
+            state.put("remainingCards", entry.getRemainingCards());
+            state.put("joker", entry.getCurrentJoker().getType().name());
+            state.put("standing", toMap(entry.getStanding()));
+            return state;
+        }
+    }
+
+    private static Map<String, Object> toMap(Standing standing) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("entryId", standing.getEntryId());
+        row.put("name", standing.getName());
+        row.put("stagesCleared", standing.getStagesCleared());
+        row.put("totalScore", standing.getTotalScore());
+        row.put("handsPlayed", standing.getHandsPlayed());
+        row.put("over", standing.isOver());
+        return row;
+    }
+
+    private static List<Card> cardsInHand(TournamentEntry entry, List<String> codes) {
+        List<Card> hand = entry.getHand();
+        List<Card> cards = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            Card match = null;
+            for (Card card : hand) {
+                if (LiveGame.codeOf(card).equals(code)) {
+                    match = card;
+                    break;
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("Card not in hand: " + code);
+            }
+            cards.add(match);
+        }
+        return cards;
+    }
+
+    private Tournament find(String id) {
+        Tournament tournament = registry.get(id);
+        if (tournament == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No tournament " + id);
+        }
+        return tournament;
+    }
+
+    private TournamentEntry findEntry(String id, int entryId) {
+        TournamentEntry entry = find(id).getEntry(entryId);
+        if (entry == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No entry " + entryId);
+        }
+        return entry;
+    }
+}
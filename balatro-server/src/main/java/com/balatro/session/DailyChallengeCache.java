@@ -0,0 +1,185 @@
+package com.balatro.session;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.balatro.daily.DailyChallenge;
+import com.balatro.daily.DailyChallengeStore;
+import com.balatro.daily.DailyParCalculator;
+
+/**
+ * Holds the daily challenges of the server by date.
+ *
+ * Pars take minutes to compute, so requests never compute them, and requests never read the disk either:
+ * they are served from memory only. Once the server is ready, a background thread computes today's challenge
+ * and the next days' ahead of time, saves them to disk and checks again every hour.
+ * Challenges already on disk, from an earlier run or from the daily-pars script, are loaded instead.
+ * Setting balatro.daily.enabled to false turns the computation off, as in the tests; the background thread then
+ * only loads the challenges already on disk. The files are kept in balatro.daily.dir, by default
+ * {@link DailyChallengeStore#defaultDirectory()}.
+ * Days follow UTC so that every server serves the same challenge at the same time.
+ */
+@Component
+public class DailyChallengeCache implements DisposableBean {
+    /** The number of days after today whose challenges are computed ahead of time. */
+    public static final int DAYS_AHEAD = 2;
+
+    private final Map<LocalDate, DailyChallenge> challenges = new ConcurrentHashMap<>();
+    private final DailyChallengeStore store;
+    private final DailyParCalculator calculator;
+    private final ForkJoinPool pool;
+    private final Clock clock;
+    private final boolean enabled;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "daily-pars");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates the cache, computing pars on all cores but one.
+     *
+     * @param directory the directory the challenges are saved in, or empty for the default directory
+     * @param enabled whether pars are computed in the background once the server is ready
+     */
+    @Autowired
+    public DailyChallengeCache(@Value("${balatro.daily.dir:}") String directory,
+            @Value("${balatro.daily.enabled:true}") boolean enabled) {
+        this(new DailyChallengeStore(
+                directory.isEmpty() ? DailyChallengeStore.defaultDirectory() : Paths.get(directory)),
+                new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)), Clock.systemUTC(),
+                enabled);
+    }
+
+    /**
+     * Creates the cache.
+     *
+     * @param store the store the challenges are saved in
+     * @param pool the pool the pars are computed on; it is shut down with the cache
+     * @param clock the clock that gives today's date
+     * @param enabled whether pars are computed in the background once the server is ready
+     */
+    public DailyChallengeCache(DailyChallengeStore store, ForkJoinPool pool, Clock clock, boolean enabled) {
+        this.store = store;
+        this.pool = pool;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.calculator = new DailyParCalculator(pool, DailyParCalculator.DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    /**
+     * Starts computing challenges in the background once the server is ready, or only loading the saved ones
+     * if computing is disabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(enabled ? this::precomputeQuietly : this::loadSavedQuietly,
+                0, 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * Gets today's date.
+     *
+     * @return the date in UTC
+     */
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Gets a day's challenge from memory, without reading the disk or computing it.
+     *
+     * @param date the day
+     * @return the challenge, or null if it has not been loaded or computed yet
+     */
+    public DailyChallenge get(LocalDate date) {
+        return challenges.get(date);
+    }
+
+    /**
+     * Loads the saved challenges of today and the next days that are not in memory yet, without computing the
+     * missing ones, and forgets the ones of past days.
+     *
+     * @throws IOException if a saved file cannot be read
+     */
+    public void loadSaved() throws IOException {
+        LocalDate today = today();
+        challenges.keySet().removeIf(date -> date.isBefore(today));
+        for (int day = 0; day <= DAYS_AHEAD; day++) {
+            LocalDate date = today.plusDays(day);
+            if (!challenges.containsKey(date)) {
+                DailyChallenge challenge = store.load(date);
+                if (challenge != null) {
+                    challenges.put(date, challenge);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes and saves the challenges of today and the next days that are not available yet,
+     * and forgets the ones of past days.
+     *
+     * @throws IOException if the store cannot be read or written
+     */
+    public void precompute() throws IOException {
+        LocalDate today = today();
+        challenges.keySet().removeIf(date -> date.isBefore(today));
+        for (int day = 0; day <= DAYS_AHEAD; day++) {
+            LocalDate date = today.plusDays(day);
+            if (!challenges.containsKey(date)) {
+                challenges.put(date, calculator.loadOrCompute(store, date));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of challenges in memory.
+     *
+     * @return the number of challenges
+     */
+    public int size() {
+        return challenges.size();
+    }
+
+    /**
+     * Stops the background computation.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private void precomputeQuietly() {
+        try {
+            precompute();
+        } catch (IOException | RuntimeException e) {
+            // Keep the schedule alive; the next run retries the missing days
+            System.err.println("Could not compute daily challenges: " + e.getMessage());
+        }
+    }
+
+    private void loadSavedQuietly() {
+        try {
+            loadSaved();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not load daily challenges: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.balatro.session;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the live games of the server by id.
+ */
+@Component
+public class GameSessionRegistry {
+    private final Map<String, LiveGame> games = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a game with a new id.
+     *
+     * @param seed the seed of the game, or null for a random one
+     * @return the game
+     */
+    public LiveGame create(Long seed) {
+        String id = UUID.randomUUID().toString();
+        LiveGame game = new LiveGame(id, seed != null ? seed : ThreadLocalRandom.current().nextLong());
+        games.put(id, game);
+        return game;
+    }
+
+    /**
+     * Gets a game by id.
+     *
+     * @param id the id
+     * @return the game, or null if there is none
+     */
+    public LiveGame get(String id) {
+        return games.get(id);
+    }
+
+    /**
+     * Removes a game.
+     *
+     * @param id the id
+     * @return true if the game existed
+     */
+    public boolean remove(String id) {
+        return games.remove(id) != null;
+    }
+
+    /**
+     * Gets the number of live games.
+     *
+     * @return the number of games
+     */
+    public int size() {
+        return games.size();
+    }
+}
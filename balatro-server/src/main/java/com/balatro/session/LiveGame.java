@@ -0,0 +1,220 @@
+package com.balatro.session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.balatro.model.Card;
+import com.balatro.simulation.GameSession;
+
+/**
+ * A game played by remote clients, which publishes its state as numbered messages.
+ * Clients get a full snapshot when they connect; after that every action that changes the state produces
+ * one delta message holding only the changed fields, numbered one higher than the previous message.
+ * A client that missed messages asks for a resync with the last number it saw, and gets either the
+ * missed deltas from a short history or a new snapshot.
+ *
+ * All methods are synchronized, so actions from several connections to the same game are applied
+ * and numbered one at a time.
+ */
+public final class LiveGame {
+    /** The number of recent deltas kept for resync. */
+    static final int HISTORY_SIZE = 64;
+    /** Games played over the network are not capped at a number of stages in practice. */
+    private static final int MAX_STAGES = Integer.MAX_VALUE;
+
+    private final String id;
+    private final Deque<Map<String, Object>> history = new ArrayDeque<>();
+    private GameSession game;
+    private StateTracker tracker;
+    private long seq;
+
+    /**
+     * Creates a game.
+     *
+     * @param id the id clients use to connect
+     * @param seed the seed of the game
+     */
+    public LiveGame(String id, long seed) {
+        this.id = id;
+        start(seed);
+    }
+
+    /**
+     * Gets the id of this game.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of the last message published.
+     *
+     * @return the sequence number
+     */
+    public synchronized long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Builds a message holding the full state, numbered like the last delta.
+     *
+     * @return the snapshot message
+     */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "snapshot");
+        message.put("seq", seq);
+        message.put("state", tracker.snapshot());
+        return message;
+    }
+
+    /**
+     * Selects a card in the hand.
+     *
+     * @param code the code of the card, such as "10H"
+     * @return the delta message, or null if nothing changed
+     * @throws IllegalArgumentException if the card is not in the hand or cannot be selected
+     * @throws IllegalStateException if the game is over
+     */
+    public synchronized Map<String, Object> select(String code) {
+        checkNotOver();
+        if (!game.getGameService().selectCard(cardInHand(code))) {
+            throw new IllegalArgumentException("Card cannot be selected: " + code);
+        }
+        return publish();
+    }
+
+    /**
+     * Deselects a selected card.
+     *
+     * @param code the code of the card
+     * @return the delta message, or null if nothing changed
+     * @throws IllegalArgumentException if the card is not in the hand
+     * @throws IllegalStateException if the game is over
+     */
+    public synchronized Map<String, Object> deselect(String code) {
+        checkNotOver();
+        game.getGameService().deselectCard(cardInHand(code));
+        return publish();
+    }
+
+    /**
+     * Plays the selected cards and draws their replacements.
+     *
+     * @return the delta message, or null if nothing changed
+     * @throws IllegalArgumentException if too few or too many cards are selected
+     * @throws IllegalStateException if the game is over
+     */
+    public synchronized Map<String, Object> play() {
+        checkNotOver();
+        game.playHand(new ArrayList<>(game.getGameService().getSelectedCards()));
+        return publish();
+    }
+
+    /**
+     * Discards the selected cards and draws their replacements.
+     *
+     * @return the delta message, or null if nothing changed
+     * @throws IllegalArgumentException if too few or too many cards are selected
+     * @throws IllegalStateException if the game is over or the discard limit is reached
+     */
+    public synchronized Map<String, Object> discard() {
+        checkNotOver();
+        if (!game.discard(new ArrayList<>(game.getGameService().getSelectedCards()))) {
+            throw new IllegalStateException("Discard limit reached");
+        }
+        return publish();
+    }
+
+    /**
+     * Replaces the game with a new one. Since every field may change, clients get a snapshot, numbered
+     * one higher than the last message so that older deltas are not applied on top of it.
+     *
+     * @param seed the seed of the new game
+     * @return the snapshot message
+     */
+    public synchronized Map<String, Object> restart(long seed) {
+        start(seed);
+        seq++;
+        history.clear();
+        return snapshot();
+    }
+
+    /**
+     * Gets the messages a client needs to catch up from a sequence number.
+     *
+     * @param lastSeq the number of the last message the client applied
+     * @return the missed deltas in order, or a single snapshot if they are no longer all in the history
+     */
+    public synchronized List<Map<String, Object>> resync(long lastSeq) {
+        List<Map<String, Object>> messages = new ArrayList<>();
+        if (lastSeq == seq) {
+            return messages;
+        }
+        if (lastSeq < seq && lastSeq >= seq - history.size()) {
+            for (Map<String, Object> delta : history) {
+                if ((long) delta.get("seq") > lastSeq) {
+                    messages.add(delta);
+                }
+            }
+            return messages;
+        }
+        messages.add(snapshot());
+        return messages;
+    }
+
+    /**
+     * Gets the code clients use for a card, such as "10H" or "AS".
+     *
+     * @param card the card
+     * @return the code
+     */
+    public static String codeOf(Card card) {
+        return StateTracker.codeOf(card);
+    }
+
+    private void start(long seed) {
+        game = new GameSession(seed, MAX_STAGES);
+        tracker = new StateTracker(game);
+    }
+
+    /**
+     * Numbers and records the changes made by an action.
+     */
+    private Map<String, Object> publish() {
+        Map<String, Object> changes = tracker.collectChanges();
+        if (changes.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "delta");
+        message.put("seq", ++seq);
+        message.put("changes", changes);
+        history.addLast(message);
+        if (history.size() > HISTORY_SIZE) {
+            history.removeFirst();
+        }
+        return message;
+    }
+
+    private Card cardInHand(String code) {
+        for (Card card : game.getHand()) {
+            if (StateTracker.codeOf(card).equals(code)) {
+                return card;
+            }
+        }
+        throw new IllegalArgumentException("Card not in hand: " + code);
+    }
+
+    private void checkNotOver() {
+        if (game.isOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.balatro.session;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.balatro.model.Card;
+import com.balatro.observable.Observable;
+import com.balatro.observable.ObservableListener;
+import com.balatro.service.GameService;
+import com.balatro.service.GameStateManager;
+import com.balatro.simulation.GameSession;
+
+/**
+ * Tracks which fields of a game's state changed since they were last sent to clients.
+ * Fields backed by the observable properties of GameService and GameStateManager are only read after a
+ * property reports a change. The hand and the session counters are not observable, so they are
+ * compared after every action. A field is only reported when its value actually differs from the last
+ * value sent.
+ */
+final class StateTracker {
+    private final List<String> names = new ArrayList<>();
+    private final List<Supplier<Object>> readers = new ArrayList<>();
+    private final List<Boolean> polled = new ArrayList<>();
+    private final boolean[] dirty;
+    private final Object[] sent;
+
+    /**
+     * Starts tracking a game. Every field counts as sent with its current value.
+     *
+     * @param game the game
+     */
+    StateTracker(GameSession game) {
+        GameService service = game.getGameService();
+        GameStateManager manager = game.getGameStateManager();
+
+        watch("score", service::getScore, service.scoreProperty());
+        watch("target", service::getTargetScore, service.targetScoreProperty());
+        watch("state", () -> service.getGameState().name(), service.gameStateProperty());
+        watch("deck", service::getRemainingCards, service.remainingCardsProperty());
+        watch("selected", () -> codesOf(service.getSelectedCards()), service.getSelectedCards());
+        watch("handType", service::getCurrentHandTypeDisplay, service.currentHandTypeDisplayProperty());
+        watch("stage", () -> manager.getCurrentStage().name(), manager.currentStageProperty());
+        watch("chips", manager::getPlayerChips, manager.playerChipsProperty());
+        watch("handsLeft", game::getHandsLeft,
+                manager.handsPlayedInStageProperty(), manager.maxHandsPerStageProperty());
+        watch("discardsLeft", game::getDiscardsLeft,
+                manager.discardsUsedInStageProperty(), manager.maxDiscardsPerStageProperty());
+        poll("hand", () -> codesOf(game.getHand()));
+        poll("joker", () -> game.getCurrentJoker() == null ? null : game.getCurrentJoker().getType().name());
+        poll("stagesCleared", game::getStagesCleared);
+        poll("over", game::isOver);
+
+        this.dirty = new boolean[names.size()];
+        this.sent = new Object[names.size()];
+        for (int i = 0; i < sent.length; i++) {
+            sent[i] = readers.get(i).get();
+        }
+    }
+
+    /**
+     * Reads every field, without changing what counts as sent.
+     *
+     * @return the field values by name
+     */
+    Map<String, Object> snapshot() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            state.put(names.get(i), readers.get(i).get());
+        }
+        return state;
+    }
+
+    /**
+     * Collects the fields that changed since the last call and marks them as sent.
+     *
+     * @return the changed field values by name, empty if nothing changed
+     */
+    Map<String, Object> collectChanges() {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (!dirty[i] && !polled.get(i)) {
+                continue;
+            }
+            dirty[i] = false;
+            Object value = readers.get(i).get();
+            if (!Objects.equals(value, sent[i])) {
+                sent[i] = value;
+                changes.put(names.get(i), value);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Gets the compact code of a card: its rank followed by the initial of its suit, such as "10H" or "AS".
+     *
+     * @param card the card
+     * @return the code
+     */
+    static String codeOf(Card card) {
+        return card.getRank() + card.getSuit().charAt(0);
+    }
+
+    private static List<String> codesOf(List<Card> cards) {
+        List<String> codes = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            codes.add(codeOf(card));
+        }
+        return codes;
+    }
+
+    private void watch(String name, Supplier<Object> reader, Observable... observables) {
+        int field = add(name, reader, false);
+        ObservableListener listener = observable -> dirty[field] = true;
+        for (Observable observable : observables) {
+            observable.addListener(listener);
+        }
+    }
+
+    private void poll(String name, Supplier<Object> reader) {
+        add(name, reader, true);
+    }
+
+    private int add(String name, Supplier<Object> reader, boolean alwaysCompare) {
+        names.add(name);
+        readers.add(reader);
+        polled.add(alwaysCompare);
+        return names.size() - 1;
+    }
+}
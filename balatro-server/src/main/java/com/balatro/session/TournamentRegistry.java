@@ -0,0 +1,76 @@
+package com.balatro.session;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+import com.balatro.tournament.Tournament;
+import com.balatro.tournament.TournamentDeal;
+
+/**
+ * Holds the tournaments of the server by id.
+ */
+@Component
+public class TournamentRegistry {
+    private final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tournament with a new id.
+     *
+     * @param seed the seed of the deal, or null for a random one
+     * @param stages the number of stages
+     * @return the tournament
+     * @throws IllegalArgumentException if the number of stages is out of range
+     */
+    public Tournament create(Long seed, int stages) {
+        String id = UUID.randomUUID().toString();
+        TournamentDeal deal = new TournamentDeal(seed != null ? seed : ThreadLocalRandom.current().nextLong(), stages);
+        Tournament tournament = new Tournament(id, deal);
+        tournaments.put(id, tournament);
+        return tournament;
+    }
+
+    /**
+     * Gets a tournament with a fixed id, creating it from a deal if there is none.
+     * Used for tournaments every player can find without being told the id, such as the daily challenge.
+     *
+     * @param id the id
+     * @param deal the deal to create the tournament with
+     * @return the tournament
+     */
+    public Tournament getOrCreate(String id, TournamentDeal deal) {
+        return tournaments.computeIfAbsent(id, key -> new Tournament(key, deal));
+    }
+
+    /**
+     * Gets a tournament by id.
+     *
+     * @param id the id
+     * @return the tournament, or null if there is none
+     */
+    public Tournament get(String id) {
+        return tournaments.get(id);
+    }
+
+    /**
+     * Removes a tournament.
+     *
+     * @param id the id
+     * @return true if the tournament existed
+     */
+    public boolean remove(String id) {
+        return tournaments.remove(id) != null;
+    }
+
+    /**
+     * Gets the number of tournaments.
+     *
+     * @return the number of tournaments
+     */
+    public int size() {
+        return tournaments.size();
+    }
+}
@@ -0,0 +1,271 @@
+package com.balatro.websocket;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import com.balatro.session.GameSessionRegistry;
+import com.balatro.session.LiveGame;
+import com.balatro.wire.WireAction;
+import com.balatro.wire.WireCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pushes the state of a live game to every connection at /ws/game/{id} and applies their actions.
+ * A new connection gets a snapshot; each action that changes the game is broadcast once, as a delta
+ * holding only the changed fields. Errors are only sent to the connection that caused them.
+ *
+ * Messages from clients are JSON objects with an "action" of select or deselect (with a "card" code
+ * such as "10H"), play, discard, restart (with an optional "seed") or resync (with the last "seq" seen).
+ * The same actions can be sent as binary frames in the WireCodec format; replies are always JSON.
+ * Every broadcast message is also published, with the same serialized bytes, to the game's spectators.
+ */
+@Component
+public class GameWebSocketHandler extends AbstractWebSocketHandler {
+    private static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+    private static final int BUFFER_SIZE_LIMIT = 64 * 1024;
+    private static final String OUTBOUND = "outbound";
+
+    private final GameSessionRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final SpectatorHub spectators;
+    private final Map<String, Set<WebSocketSession>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the handler.
+     *
+     * @param registry the live games
+     * @param objectMapper the mapper for messages
+     * @param spectators the spectators of every game
+     */
+    public GameWebSocketHandler(GameSessionRegistry registry, ObjectMapper objectMapper, SpectatorHub spectators) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.spectators = spectators;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String id = gameIdOf(session);
+        LiveGame game = registry.get(id);
+        if (game == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("No game " + id));
+            return;
+        }
+        // Several actions may broadcast to this connection at once, so sends go through a decorator
+        // that serializes them and drops connections that stop reading
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MILLIS,
+                BUFFER_SIZE_LIMIT);
+        session.getAttributes().put(OUTBOUND, outbound);
+        synchronized (game) {
+            // No delta can be broadcast between the snapshot and the subscription
+            send(outbound, game.snapshot());
+            subscribers.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(outbound);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        String id = gameIdOf(session);
+        WebSocketSession outbound = (WebSocketSession) session.getAttributes().get(OUTBOUND);
+        LiveGame game = registry.get(id);
+        if (game == null) {
+            session.close(CloseStatus.GOING_AWAY.withReason("Game ended"));
+            return;
+        }
+
+        GameAction action;
+        try {
+            action = objectMapper.readValue(message.getPayload(), GameAction.class);
+        } catch (JsonProcessingException e) {
+            sendError(outbound, "Invalid message");
+            return;
+        }
+        apply(id, game, outbound, action);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        String id = gameIdOf(session);
+        WebSocketSession outbound = (WebSocketSession) session.getAttributes().get(OUTBOUND);
+        LiveGame game = registry.get(id);
+        if (game == null) {
+            session.close(CloseStatus.GOING_AWAY.withReason("Game ended"));
+            return;
+        }
+
+        GameAction action;
+        try {
+            action = GameAction.of(WireCodec.readAction(message.getPayload()));
+        } catch (IOException | IllegalArgumentException e) {
+            sendError(outbound, "Invalid message");
+            return;
+        }
+        apply(id, game, outbound, action);
+    }
+
+    /**
+     * Applies an action to a game and broadcasts the resulting delta, or answers a resync.
+     */
+    private void apply(String id, LiveGame game, WebSocketSession outbound, GameAction action) throws IOException {
+        if (action.getAction() == null) {
+            sendError(outbound, "Missing action");
+            return;
+        }
+
+        synchronized (game) {
+            try {
+                switch (action.getAction()) {
+                    case "select" -> broadcast(id, game.select(action.getCard()));
+                    case "deselect" -> broadcast(id, game.deselect(action.getCard()));
+                    case "play" -> broadcast(id, game.play());
+                    case "discard" -> broadcast(id, game.discard());
+                    case "restart" -> broadcast(id, game.restart(action.getSeed() != null
+                            ? action.getSeed() : ThreadLocalRandom.current().nextLong()));
+                    case "resync" -> {
+                        List<Map<String, Object>> messages = game.resync(action.getSeq() != null ? action.getSeq() : -1);
+                        for (Map<String, Object> missed : messages) {
+                            send(outbound, missed);
+                        }
+                    }
+                    default -> sendError(outbound, "Unknown action: " + action.getAction());
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                sendError(outbound, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object outbound = session.getAttributes().get(OUTBOUND);
+        if (outbound != null) {
+            subscribers.computeIfPresent(gameIdOf(session), (id, sessions) -> {
+                sessions.remove(outbound);
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+    }
+
+    /**
+     * Sends a message to every connection and spectator of a game, serializing it once.
+     */
+    private void broadcast(String id, Map<String, Object> message) throws IOException {
+        if (message == null) {
+            return;
+        }
+        byte[] json = objectMapper.writeValueAsBytes(message);
+        if (spectators.isWatched(id)) {
+            // Only queued here; spectators are written to asynchronously
+            spectators.publish(id, new Spectator.Frame((long) message.get("seq"), json));
+        }
+        Set<WebSocketSession> sessions = subscribers.get(id);
+        if (sessions == null) {
+            return;
+        }
+        TextMessage text = new TextMessage(json);
+        for (WebSocketSession subscriber : sessions) {
+            try {
+                subscriber.sendMessage(text);
+            } catch (IOException | RuntimeException e) {
+                // The decorator closes slow connections; the client resyncs when it reconnects
+                sessions.remove(subscriber);
+            }
+        }
+    }
+
+    private void send(WebSocketSession session, Map<String, Object> message) throws IOException {
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    private void sendError(WebSocketSession session, String error) throws IOException {
+        send(session, Map.of("type", "error", "message", error));
+    }
+
+    private static String gameIdOf(WebSocketSession session) {
+        String path = session.getUri().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Message DTO for client actions
+     */
+    public static class GameAction {
+        private String action;
+        private String card;
+        private Long seq;
+        private Long seed;
+
+        /**
+         * Converts an action decoded from the binary wire format.
+         *
+         * @param wireAction the decoded action
+         * @return the same action
+         */
+        public static GameAction of(WireAction wireAction) {
+            GameAction action = new GameAction();
+            switch (wireAction.getOpcode()) {
+                case WireCodec.OP_SELECT -> action.setAction("select");
+                case WireCodec.OP_DESELECT -> action.setAction("deselect");
+                case WireCodec.OP_PLAY -> action.setAction("play");
+                case WireCodec.OP_DISCARD -> action.setAction("discard");
+                case WireCodec.OP_RESTART -> action.setAction("restart");
+                case WireCodec.OP_RESYNC -> action.setAction("resync");
+                default -> throw new IllegalArgumentException("Not an action opcode: " + wireAction.getOpcode());
+            }
+            if (wireAction.getCard() != null) {
+                action.setCard(LiveGame.codeOf(wireAction.getCard()));
+            }
+            if (wireAction.getOpcode() == WireCodec.OP_RESTART) {
+                action.setSeed(wireAction.getArgument());
+            } else if (wireAction.getOpcode() == WireCodec.OP_RESYNC) {
+                action.setSeq(wireAction.getArgument());
+            }
+            return action;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public void setAction(String action) {
+            this.action = action;
+        }
+
+        public String getCard() {
+            return card;
+        }
+
+        public void setCard(String card) {
+            this.card = card;
+        }
+
+        public Long getSeq() {
+            return seq;
+        }
+
+        public void setSeq(Long seq) {
+            this.seq = seq;
+        }
+
+        public Long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(Long seed) {
+            this.seed = seed;
+        }
+    }
+}
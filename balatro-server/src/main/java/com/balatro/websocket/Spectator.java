@@ -0,0 +1,220 @@
+package com.balatro.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * One spectator of a live game, with a bounded queue of frames waiting to be written to it.
+ *
+ * Frames are offered from the thread that changed the game and only queued there; writes are asynchronous,
+ * at most one at a time, and the next queued frame is written when the previous write completes. When a
+ * spectator falls so far behind that its queue is full, the queued deltas are dropped and it is sent a fresh
+ * snapshot once its current write completes, followed by the deltas after that snapshot. A slow spectator
+ * therefore costs at most one queue of shared frames and never blocks the game.
+ */
+public final class Spectator {
+    /** The number of frames a spectator may fall behind before it is moved to a snapshot. */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Sink sink;
+    private final Supplier<Frame> snapshots;
+    private final int capacity;
+    private final Deque<Frame> queue = new ArrayDeque<>();
+    private long lastSeq;
+    private boolean writing;
+    private boolean lagging;
+    private boolean closed;
+    private long snapshotsSent;
+
+    /**
+     * Creates a spectator. Frames numbered at or below lastSeq are skipped, as the spectator already has them.
+     *
+     * @param sink where frames are written
+     * @param snapshots supplies a frame holding the current snapshot of the game
+     * @param capacity the number of frames that may be queued
+     * @param lastSeq the number of the last message the spectator has
+     */
+    public Spectator(Sink sink, Supplier<Frame> snapshots, int capacity, long lastSeq) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.sink = sink;
+        this.snapshots = snapshots;
+        this.capacity = capacity;
+        this.lastSeq = lastSeq;
+    }
+
+    /**
+     * Queues a frame and starts writing it if no write is in progress. Never blocks on the connection.
+     *
+     * @param frame the frame, shared with every other spectator
+     */
+    public void offer(Frame frame) {
+        Frame next;
+        synchronized (this) {
+            if (closed || lagging || frame.getSeq() <= lastSeq) {
+                // A lagging spectator gets everything up to now in its next snapshot
+                return;
+            }
+            if (queue.size() >= capacity) {
+                queue.clear();
+                lagging = true;
+            } else {
+                queue.addLast(frame);
+                lastSeq = frame.getSeq();
+            }
+            next = writing ? null : poll();
+        }
+        if (next != null) {
+            write(next);
+        }
+    }
+
+    /**
+     * Stops writing to the spectator and drops its queue.
+     */
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    /**
+     * Checks whether the spectator has been closed, either explicitly or after a failed write.
+     *
+     * @return true if no more frames will be written
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets the number of frames waiting to be written.
+     *
+     * @return the queue length
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of snapshots sent because the spectator fell behind.
+     *
+     * @return the number of catch-up snapshots
+     */
+    public synchronized long getSnapshotsSent() {
+        return snapshotsSent;
+    }
+
+    /**
+     * Takes the next frame to write, or marks the spectator idle. Must hold the lock.
+     * A lagging spectator's next frame is a snapshot, taken when it is written so that it is current.
+     */
+    private Frame poll() {
+        if (closed) {
+            writing = false;
+            return null;
+        }
+        if (lagging) {
+            lagging = false;
+            writing = true;
+            return Frame.SNAPSHOT;
+        }
+        Frame next = queue.pollFirst();
+        writing = next != null;
+        return next;
+    }
+
+    private void write(Frame frame) {
+        if (frame == Frame.SNAPSHOT) {
+            frame = snapshots.get();
+            synchronized (this) {
+                snapshotsSent++;
+                // Deltas queued since the spectator stopped lagging may already be in the snapshot
+                while (!queue.isEmpty() && queue.peekFirst().getSeq() <= frame.getSeq()) {
+                    queue.pollFirst();
+                }
+                lastSeq = Math.max(lastSeq, frame.getSeq());
+            }
+        }
+        sink.write(frame.getPayload(), this::written);
+    }
+
+    private void written(Throwable error) {
+        Frame next;
+        synchronized (this) {
+            if (error != null) {
+                closed = true;
+                queue.clear();
+            }
+            next = poll();
+        }
+        if (next != null) {
+            write(next);
+        }
+    }
+
+    /**
+     * Writes frames to a connection without blocking.
+     */
+    public interface Sink {
+        /**
+         * Starts writing a frame.
+         *
+         * @param payload the bytes of the frame, read-only and owned by this write
+         * @param done called once the write completes, with null on success or the error that ended it
+         */
+        void write(ByteBuffer payload, Consumer<Throwable> done);
+    }
+
+    /**
+     * A serialized message, shared read-only by every spectator of a game.
+     */
+    public static final class Frame {
+        /** Marks the place of a catch-up snapshot in a spectator's queue. */
+        private static final Frame SNAPSHOT = new Frame(Long.MAX_VALUE, new byte[0]);
+
+        private final long seq;
+        private final ByteBuffer payload;
+
+        /**
+         * Creates a frame.
+         *
+         * @param seq the number of the message
+         * @param bytes the serialized message; it must not be changed afterwards
+         */
+        public Frame(long seq, byte[] bytes) {
+            this.seq = seq;
+            this.payload = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        }
+
+        /**
+         * Gets the number of the message.
+         *
+         * @return the sequence number
+         */
+        public long getSeq() {
+            return seq;
+        }
+
+        /**
+         * Gets the bytes of the frame, as a new read-only view so that concurrent writes do not share a position.
+         *
+         * @return the payload
+         */
+        public ByteBuffer getPayload() {
+            return payload.duplicate();
+        }
+
+        /**
+         * Gets the size of the frame.
+         *
+         * @return the size in bytes
+         */
+        public int size() {
+            return payload.capacity();
+        }
+    }
+}
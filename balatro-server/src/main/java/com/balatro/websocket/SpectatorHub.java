@@ -0,0 +1,82 @@
+package com.balatro.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the spectators of every live game and fans each published frame out to them.
+ * Publishing only queues the frame on each spectator, so it is safe to call while holding the game's lock.
+ */
+@Component
+public class SpectatorHub {
+    private final Map<String, Set<Spectator>> spectators = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a spectator to a game.
+     *
+     * @param gameId the id of the game
+     * @param spectator the spectator
+     */
+    public void subscribe(String gameId, Spectator spectator) {
+        spectators.computeIfAbsent(gameId, key -> ConcurrentHashMap.newKeySet()).add(spectator);
+    }
+
+    /**
+     * Removes a spectator from a game and stops writing to it.
+     *
+     * @param gameId the id of the game
+     * @param spectator the spectator
+     */
+    public void unsubscribe(String gameId, Spectator spectator) {
+        spectator.close();
+        spectators.computeIfPresent(gameId, (id, watching) -> {
+            watching.remove(spectator);
+            return watching.isEmpty() ? null : watching;
+        });
+    }
+
+    /**
+     * Checks whether a game has spectators, so that callers can skip building frames nobody reads.
+     *
+     * @param gameId the id of the game
+     * @return true if at least one spectator is subscribed
+     */
+    public boolean isWatched(String gameId) {
+        return spectators.containsKey(gameId);
+    }
+
+    /**
+     * Queues a frame for every spectator of a game.
+     * Spectators whose connection failed are removed.
+     *
+     * @param gameId the id of the game
+     * @param frame the frame, serialized once and shared by all spectators
+     */
+    public void publish(String gameId, Spectator.Frame frame) {
+        Set<Spectator> watching = spectators.get(gameId);
+        if (watching == null) {
+            return;
+        }
+        for (Spectator spectator : watching) {
+            if (spectator.isClosed()) {
+                unsubscribe(gameId, spectator);
+            } else {
+                spectator.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of spectators of a game.
+     *
+     * @param gameId the id of the game
+     * @return the number of spectators
+     */
+    public int count(String gameId) {
+        Set<Spectator> watching = spectators.get(gameId);
+        return watching == null ? 0 : watching.size();
+    }
+}
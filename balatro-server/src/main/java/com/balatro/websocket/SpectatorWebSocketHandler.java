@@ -0,0 +1,127 @@
+package com.balatro.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.NativeWebSocketSession;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import com.balatro.session.GameSessionRegistry;
+import com.balatro.session.LiveGame;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streams a live game to read-only spectators at /ws/watch/{id}.
+ * A spectator gets a snapshot when it connects and then the same snapshot and delta messages as the players.
+ * Each message is serialized once for all players and spectators and sent to spectators as a binary frame
+ * holding its UTF-8 JSON, written asynchronously from a bounded queue (see Spectator).
+ * Messages from spectators are ignored.
+ */
+@Component
+public class SpectatorWebSocketHandler extends AbstractWebSocketHandler {
+    private static final String SPECTATOR = "spectator";
+
+    private final GameSessionRegistry registry;
+    private final SpectatorHub hub;
+    private final ObjectMapper objectMapper;
+    // The last snapshot frame of each watched game, shared by spectators catching up at the same sequence number
+    private final Map<String, Spectator.Frame> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the handler.
+     *
+     * @param registry the live games
+     * @param hub the spectators of every game
+     * @param objectMapper the mapper for messages
+     */
+    public SpectatorWebSocketHandler(GameSessionRegistry registry, SpectatorHub hub, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.hub = hub;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String id = gameIdOf(session);
+        LiveGame game = registry.get(id);
+        if (game == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("No game " + id));
+            return;
+        }
+        synchronized (game) {
+            // No delta can be published between the snapshot and the subscription
+            Spectator.Frame snapshot = snapshotFrame(id, game);
+            Spectator spectator = new Spectator(sinkFor(session), () -> snapshotFrame(id, game),
+                    Spectator.DEFAULT_CAPACITY, snapshot.getSeq() - 1);
+            session.getAttributes().put(SPECTATOR, spectator);
+            spectator.offer(snapshot);
+            hub.subscribe(id, spectator);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Spectator spectator = (Spectator) session.getAttributes().get(SPECTATOR);
+        if (spectator != null) {
+            String id = gameIdOf(session);
+            hub.unsubscribe(id, spectator);
+            if (!hub.isWatched(id)) {
+                snapshots.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Serializes the current snapshot of a game, or reuses the last one if no message was published since.
+     */
+    private Spectator.Frame snapshotFrame(String id, LiveGame game) {
+        synchronized (game) {
+            Spectator.Frame cached = snapshots.get(id);
+            if (cached != null && cached.getSeq() == game.getSeq()) {
+                return cached;
+            }
+            Spectator.Frame frame;
+            try {
+                frame = new Spectator.Frame(game.getSeq(), objectMapper.writeValueAsBytes(game.snapshot()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Snapshot cannot be serialized", e);
+            }
+            snapshots.put(id, frame);
+            return frame;
+        }
+    }
+
+    /**
+     * Writes through the container's asynchronous endpoint when there is one, so that writes never block.
+     */
+    private static Spectator.Sink sinkFor(WebSocketSession session) {
+        if (session instanceof NativeWebSocketSession) {
+            jakarta.websocket.Session endpoint = ((NativeWebSocketSession) session)
+                    .getNativeSession(jakarta.websocket.Session.class);
+            if (endpoint != null) {
+                return (payload, done) -> endpoint.getAsyncRemote().sendBinary(payload,
+                        result -> done.accept(result.isOK() ? null : result.getException()));
+            }
+        }
+        // Containers without a JSR-356 endpoint fall back to blocking writes
+        return (payload, done) -> {
+            try {
+                session.sendMessage(new BinaryMessage(payload));
+                done.accept(null);
+            } catch (IOException | RuntimeException e) {
+                done.accept(e);
+            }
+        };
+    }
+
+    private static String gameIdOf(WebSocketSession session) {
+        String path = session.getUri().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.balatro.websocket;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Registers the game and spectator WebSocket endpoints.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final GameWebSocketHandler gameHandler;
+    private final SpectatorWebSocketHandler spectatorHandler;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param gameHandler the handler for game connections
+     * @param spectatorHandler the handler for spectator connections
+     */
+    public WebSocketConfig(GameWebSocketHandler gameHandler, SpectatorWebSocketHandler spectatorHandler) {
+        this.gameHandler = gameHandler;
+        this.spectatorHandler = spectatorHandler;
+    }
+
+    /**
+     * Maps /ws/game/{id} to the game handler and /ws/watch/{id} to the spectator handler.
+     *
+     * @param registry the handler registry
+     */
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(gameHandler, "/ws/game/*")
+                .setAllowedOrigins("*"); // For development - restrict in production
+        registry.addHandler(spectatorHandler, "/ws/watch/*")
+                .setAllowedOrigins("*"); // For development - restrict in production
+    }
+}
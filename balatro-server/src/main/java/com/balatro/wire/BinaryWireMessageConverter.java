@@ -0,0 +1,68 @@
+package com.balatro.wire;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Reads and writes evaluate requests and hand evaluations as application/x-balatro, using WireCodec.
+ * Registered next to the JSON converter, so each request is bound by whichever matches its content type.
+ */
+public class BinaryWireMessageConverter extends AbstractHttpMessageConverter<Object> {
+    /** The binary content type. */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(WireCodec.MEDIA_TYPE);
+
+    // The largest valid frame is an evaluate request with every card in the deck
+    private static final int MAX_FRAME_SIZE = WireCodec.evaluateRequestSize(52);
+
+    /**
+     * Creates the converter for the binary content type.
+     */
+    public BinaryWireMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == EvaluateRequest.class || clazz == HandEvaluation.class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] frame = inputMessage.getBody().readNBytes(MAX_FRAME_SIZE + 1);
+        if (frame.length > MAX_FRAME_SIZE) {
+            throw new HttpMessageNotReadableException("Frame larger than " + MAX_FRAME_SIZE + " bytes", inputMessage);
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(frame);
+            if (clazz == HandEvaluation.class) {
+                return WireCodec.readEvaluation(in);
+            }
+            return new EvaluateRequest(WireCodec.readEvaluateRequest(in));
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        if (object instanceof HandEvaluation evaluation) {
+            outputMessage.getBody().write(WireCodec.encodeEvaluation(evaluation));
+        } else {
+            outputMessage.getBody().write(WireCodec.encodeEvaluateRequest(((EvaluateRequest) object).getCards()));
+        }
+    }
+
+    @Override
+    protected Long getContentLength(Object object, MediaType contentType) {
+        if (object instanceof HandEvaluation) {
+            return (long) WireCodec.EVALUATION_SIZE;
+        }
+        return (long) WireCodec.evaluateRequestSize(((EvaluateRequest) object).getCards().size());
+    }
+}
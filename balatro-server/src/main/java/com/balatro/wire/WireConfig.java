@@ -0,0 +1,22 @@
+package com.balatro.wire;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the binary wire format. Spring Boot adds converter beans to the MVC converters,
+ * so endpoints can consume and produce application/x-balatro next to JSON.
+ */
+@Configuration
+public class WireConfig {
+
+    /**
+     * Creates the converter for application/x-balatro.
+     *
+     * @return the converter
+     */
+    @Bean
+    public BinaryWireMessageConverter binaryWireMessageConverter() {
+        return new BinaryWireMessageConverter();
+    }
+}
@@ -0,0 +1,82 @@
+package com.balatro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.balatro.model.HandType;
+import com.balatro.wire.BinaryWireMessageConverter;
+import com.balatro.wire.HandEvaluation;
+import com.balatro.wire.WireCodec;
+
+/**
+ * Integration test class for the REST API server.
+ * Starts the full application on a random port, so under the nativeTest profile
+ * it also checks JSON binding against the native image metadata.
+ * Daily pars are not computed, as they would keep the cores busy for minutes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "balatro.daily.enabled=false")
+class BalatroServerApplicationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    /**
+     * Tests that a hand posted as JSON is bound and evaluated.
+     */
+    @Test
+    void testEvaluateHandOverHttp() {
+        Map<String, Object> request = Map.of("cards", List.of(
+                Map.of("rank", "K", "suit", "Hearts"),
+                Map.of("rank", "K", "suit", "Spades")));
+
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/hand/evaluate", request, Map.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Evaluation should succeed");
+        assertNotNull(response.getBody(), "Response should have a body");
+        assertEquals("Pair", response.getBody().get("handType"), "Two kings should be a pair");
+    }
+
+    /**
+     * Tests that a hand posted as application/x-balatro is evaluated and answered in the same format.
+     */
+    @Test
+    void testEvaluateHandOverHttpBinary() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(BinaryWireMessageConverter.MEDIA_TYPE);
+        headers.setAccept(List.of(BinaryWireMessageConverter.MEDIA_TYPE));
+        // King of Hearts and King of Spades
+        byte[] request = {WireCodec.OP_EVALUATE, 2, 12, 51};
+
+        ResponseEntity<byte[]> response = restTemplate.postForEntity("/api/hand/evaluate",
+                new HttpEntity<>(request, headers), byte[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Evaluation should succeed");
+        HandEvaluation evaluation = WireCodec.readEvaluation(ByteBuffer.wrap(response.getBody()));
+        assertEquals(HandType.PAIR, evaluation.getHandType(), "Two kings should be a pair");
+    }
+
+    /**
+     * Tests that the game stages endpoint serializes the stage list.
+     */
+    @Test
+    void testGameStagesOverHttp() {
+        ResponseEntity<List> response = restTemplate.getForEntity("/api/game/stages", List.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Stages request should succeed");
+        assertEquals(9, response.getBody().size(), "There should be nine game stages");
+    }
+}
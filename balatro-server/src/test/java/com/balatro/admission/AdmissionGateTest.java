@@ -0,0 +1,145 @@
+package com.balatro.admission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.admission.AdmissionGate.Lane;
+import com.balatro.admission.AdmissionGate.Result;
+
+/**
+ * Test class for AdmissionGate and TokenBucket.
+ * Tests bursts and refills, per-client and global limits, the interactive reserve and concurrent admission.
+ */
+class AdmissionGateTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    /**
+     * Tests that a bucket admits its capacity at once and then refills at its rate.
+     */
+    @Test
+    void testBucketBurstAndRefill() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(0), "Token " + i + " of the burst should be admitted");
+        }
+        assertFalse(bucket.tryAcquire(0), "An empty bucket should turn requests away");
+        assertFalse(bucket.tryAcquire(SECOND / 20), "Half a token should not be enough");
+        assertTrue(bucket.tryAcquire(SECOND / 10), "One token should refill in a tenth of a second");
+        assertEquals(5, bucket.getAvailable(10 * SECOND), "The bucket should not fill beyond its capacity");
+        assertTrue(bucket.isFull(10 * SECOND), "The bucket should be full after a long wait");
+    }
+
+    /**
+     * Tests that a reserve keeps the last tokens back.
+     */
+    @Test
+    void testBucketReserve() {
+        TokenBucket bucket = new TokenBucket(10, 4, 0);
+        assertTrue(bucket.tryAcquire(0, 2), "First reserved request should be admitted");
+        assertTrue(bucket.tryAcquire(0, 2), "Second reserved request should be admitted");
+        assertFalse(bucket.tryAcquire(0, 2), "Reserved requests should stop with two tokens left");
+        assertTrue(bucket.tryAcquire(0), "Unreserved requests should use the reserve");
+        assertTrue(bucket.tryAcquire(0), "Unreserved requests should use the whole reserve");
+        assertFalse(bucket.tryAcquire(0), "The bucket should then be empty");
+    }
+
+    /**
+     * Tests the reserve at its boundary: a bucket holding exactly the reserve turns reserved requests away, and
+     * one holding a token more admits one, leaving exactly the reserve.
+     */
+    @Test
+    void testBucketReserveBoundary() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        assertTrue(bucket.tryAcquire(0), "First unreserved request should be admitted");
+        assertTrue(bucket.tryAcquire(0), "Second unreserved request should be admitted");
+        assertEquals(3, bucket.getAvailable(0), "Three tokens should be left");
+        assertFalse(bucket.tryAcquire(0, 3), "A bucket holding exactly the reserve should turn requests away");
+        assertEquals(3, bucket.getAvailable(0), "A rejected request should take no token");
+        assertTrue(bucket.tryAcquire(0, 2), "A bucket holding one token more than the reserve should admit");
+        assertEquals(2, bucket.getAvailable(0), "Exactly the reserve should be left");
+        assertFalse(bucket.tryAcquire(SECOND / 20, 2), "Half a token beyond the reserve should not be enough");
+        assertTrue(bucket.tryAcquire(SECOND / 10, 2), "A refilled token beyond the reserve should be admitted");
+    }
+
+    /**
+     * Tests that one client over its rate does not affect another client.
+     */
+    @Test
+    void testClientLimit() {
+        AdmissionGate gate = new AdmissionGate(1000, 1000, 10, 3, 0.5, () -> 0);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Result.ADMITTED, gate.admit("a", Lane.INTERACTIVE));
+        }
+        assertEquals(Result.CLIENT_LIMITED, gate.admit("a", Lane.INTERACTIVE), "Client a is over its burst");
+        assertEquals(Result.ADMITTED, gate.admit("b", Lane.INTERACTIVE), "Client b has its own bucket");
+        assertEquals(1, gate.getCount(Lane.INTERACTIVE, Result.CLIENT_LIMITED), "One rejection expected");
+        assertEquals(2, gate.getClientCount(), "Two clients expected");
+    }
+
+    /**
+     * Tests that batch traffic stops at the interactive reserve of the global bucket while players are still
+     * served, and that a request turned away globally does not use up its client's tokens.
+     */
+    @Test
+    void testBatchLeavesReserveForPlayers() {
+        long[] now = {0};
+        AdmissionGate gate = new AdmissionGate(10, 10, 100, 100, 0.5, () -> now[0]);
+        int batch = 0;
+        while (gate.admit("analytics", Lane.BATCH) == Result.ADMITTED) {
+            batch++;
+        }
+        assertEquals(5, batch, "Batch should only use the half of the global bucket beyond the reserve");
+        assertEquals(1, gate.getCount(Lane.BATCH, Result.GLOBAL_LIMITED), "Batch should be limited globally");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Result.ADMITTED, gate.admit("player" + i, Lane.INTERACTIVE), "Players use the reserve");
+        }
+        assertEquals(Result.GLOBAL_LIMITED, gate.admit("player", Lane.INTERACTIVE), "The server is full");
+
+        now[0] = 10 * SECOND;
+        Map<String, Object> stats = gate.getStats();
+        assertEquals(10, stats.get("globalTokens"), "Global bucket should refill");
+        assertEquals(Map.of("admitted", 5L, "clientLimited", 0L, "globalLimited", 1L), stats.get("batch"));
+    }
+
+    /**
+     * Tests that threads racing for one bucket are admitted exactly its capacity.
+     */
+    @Test
+    void testConcurrentAdmission() throws InterruptedException {
+        AdmissionGate gate = new AdmissionGate(1, 1000, 1, 1000, 0, () -> 0);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (gate.admit("client", Lane.INTERACTIVE) == Result.ADMITTED) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1000, admitted.get(), "Exactly the capacity should be admitted");
+        assertEquals(3000, gate.getCount(Lane.INTERACTIVE, Result.CLIENT_LIMITED), "The rest should be rejected");
+    }
+}
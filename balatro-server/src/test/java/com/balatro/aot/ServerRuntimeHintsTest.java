@@ -0,0 +1,54 @@
+package com.balatro.aot;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.balatro.controller.HandEvaluationController.CardDto;
+import com.balatro.controller.HandEvaluationController.EvaluateHandRequest;
+import com.balatro.websocket.GameWebSocketHandler.GameAction;
+
+/**
+ * Test class for ServerRuntimeHints.
+ * Tests that the native image metadata covers the request DTOs and configuration.
+ */
+class ServerRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    /**
+     * Sets up the test fixtures before each test method.
+     * Registers the server hints into an empty RuntimeHints instance.
+     */
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new ServerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    /**
+     * Tests that the JSON binding methods of the request DTOs are registered for reflection.
+     */
+    @Test
+    void testRegistersDtoBindingHints() {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(EvaluateHandRequest.class, "setCards").test(hints),
+                "EvaluateHandRequest setter should be reachable by reflection");
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CardDto.class, "setRank").test(hints),
+                "CardDto setter should be reachable by reflection");
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CardDto.class, "getSuit").test(hints),
+                "CardDto getter should be reachable by reflection");
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(GameAction.class, "setAction").test(hints),
+                "GameAction setter should be reachable by reflection");
+    }
+
+    /**
+     * Tests that the application properties are included as a resource.
+     */
+    @Test
+    void testRegistersApplicationProperties() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("application.properties").test(hints),
+                "application.properties should be included in the native image");
+    }
+}
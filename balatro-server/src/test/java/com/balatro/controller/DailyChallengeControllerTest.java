@@ -0,0 +1,133 @@
+package com.balatro.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.balatro.daily.DailyChallenge;
+import com.balatro.daily.DailyChallengeStore;
+import com.balatro.session.DailyChallengeCache;
+import com.balatro.session.TournamentRegistry;
+
+/**
+ * Test class for the DailyChallengeController.
+ * Tests that saved challenges are served with their pars and tournament, and that missing days are rejected.
+ */
+class DailyChallengeControllerTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private Path directory;
+    private DailyChallengeStore store;
+    private DailyChallengeCache cache;
+    private TournamentRegistry tournaments;
+    private DailyChallengeController controller;
+
+    /**
+     * Sets up the test fixtures before each test method.
+     * Saves today's challenge with made-up pars, so that nothing has to be computed, and loads it.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("daily-test");
+        store = new DailyChallengeStore(directory);
+        store.save(challengeFor(TODAY));
+        cache = new DailyChallengeCache(store, new ForkJoinPool(1),
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC), false);
+        cache.loadSaved();
+        tournaments = new TournamentRegistry();
+        controller = new DailyChallengeController(cache, tournaments);
+    }
+
+    /**
+     * Stops the cache and deletes the saved challenges.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        cache.destroy();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Tests that today's challenge is served with its seed, pars and a tournament to join.
+     */
+    @Test
+    void testToday() {
+        Map<String, Object> today = controller.getToday();
+
+        assertEquals("2026-01-01", today.get("date"), "Today's date should be served");
+        assertEquals(DailyChallenge.seedFor(TODAY), today.get("seed"), "Seed should follow the date");
+        List<?> stages = (List<?>) today.get("stages");
+        assertEquals(9, stages.size(), "Every level stage should be listed");
+        assertEquals(2, ((Map<?, ?>) stages.get(2)).get("parHands"), "Par hands should be served");
+        assertEquals(900, ((Map<?, ?>) stages.get(0)).get("bestScore"), "Best score should be served");
+
+        String tournamentId = (String) today.get("tournamentId");
+        assertEquals(today, controller.getChallenge("2026-01-01"), "Both endpoints should agree");
+        assertEquals(1, tournaments.size(), "The day should have a single tournament");
+        assertEquals(DailyChallenge.seedFor(TODAY), tournaments.get(tournamentId).getDeal().getSeed(),
+                "The tournament should play the day's deal");
+    }
+
+    /**
+     * Tests that requests are served from memory: a challenge saved after loading is only served once loaded.
+     */
+    @Test
+    void testServedFromMemory() throws IOException {
+        LocalDate tomorrow = TODAY.plusDays(1);
+        store.save(challengeFor(tomorrow));
+
+        ResponseStatusException pending = assertThrows(ResponseStatusException.class,
+                () -> controller.getChallenge("2026-01-02"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, pending.getStatusCode(), "Requests should not read the disk");
+        cache.loadSaved();
+        assertEquals("2026-01-02", controller.getChallenge("2026-01-02").get("date"),
+                "Loaded challenge should be served");
+        assertSame(cache.get(tomorrow).deal(), cache.get(tomorrow).deal(), "The deal should be dealt once");
+    }
+
+    /**
+     * Tests that days that are not computed, past, too far ahead or malformed are rejected with the right status.
+     */
+    @Test
+    void testRejectedRequests() {
+        ResponseStatusException pending = assertThrows(ResponseStatusException.class,
+                () -> controller.getChallenge("2026-01-02"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, pending.getStatusCode(), "Uncomputed day should be unavailable");
+        ResponseStatusException future = assertThrows(ResponseStatusException.class,
+                () -> controller.getChallenge("2026-02-01"));
+        assertEquals(HttpStatus.NOT_FOUND, future.getStatusCode(), "Day too far ahead should not be found");
+        ResponseStatusException past = assertThrows(ResponseStatusException.class,
+                () -> controller.getChallenge("2025-12-31"));
+        assertEquals(HttpStatus.NOT_FOUND, past.getStatusCode(), "Past day should not be found");
+        ResponseStatusException invalid = assertThrows(ResponseStatusException.class,
+                () -> controller.getChallenge("tomorrow"));
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatusCode(), "Malformed date should be a bad request");
+    }
+
+    private static DailyChallenge challengeFor(LocalDate date) {
+        int[] parHands = {1, 1, 2, 2, 3, 3, 4, 4, 0};
+        int[] bestScores = {900, 1000, 1100, 1200, 1300, 1400, 1500, 1600, 1200};
+        return new DailyChallenge(date, 4, 4, parHands, bestScores, new boolean[9]);
+    }
+}
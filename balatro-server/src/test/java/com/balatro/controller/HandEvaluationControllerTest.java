@@ -6,11 +6,16 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.balatro.controller.HandEvaluationController.CardDto;
 import com.balatro.controller.HandEvaluationController.EvaluateHandRequest;
+import com.balatro.model.CardMask;
+import com.balatro.wire.EvaluateRequest;
+import com.balatro.wire.HandEvaluation;
 
 /**
  * Test class for the HandEvaluationController.
@@ -252,4 +257,37 @@ class HandEvaluationControllerTest {
         // Total score should be (baseScore + cardsValue) * multiplier = (100 + 49) * 8 = 1192
         assertEquals(1192, result.get("totalScore"), "Total score should be correctly calculated");
     }
+
+    /**
+     * Tests that the binary endpoint gives the same evaluation as the JSON endpoint.
+     */
+    @Test
+    void testEvaluateBinaryMatchesJson() {
+        List<CardDto> cards = new ArrayList<>();
+        for (String rank : new String[] {"7", "7", "Q"}) {
+            CardDto card = new CardDto();
+            card.setRank(rank);
+            card.setSuit(cards.isEmpty() ? "Hearts" : "Spades");
+            cards.add(card);
+        }
+        request.setCards(cards);
+        Map<String, Object> json = controller.evaluateHand(request);
+
+        HandEvaluation binary = controller.evaluateHandBinary(new EvaluateRequest(List.of(
+                CardMask.cardAt(6), CardMask.cardAt(3 * CardMask.RANKS + 6), CardMask.cardAt(3 * CardMask.RANKS + 11))));
+
+        assertEquals(json.get("handType"), binary.getHandType().getDisplayName(), "Hand types should match");
+        assertEquals(json.get("totalScore"), binary.getTotalScore(), "Scores should match");
+        assertEquals(json.get("cardsValue"), binary.getCardsValue(), "Card values should match");
+    }
+
+    /**
+     * Tests that the binary endpoint rejects more cards than a hand can hold.
+     */
+    @Test
+    void testEvaluateBinaryRejectsTooManyCards() {
+        EvaluateRequest tooMany = new EvaluateRequest(CardMask.cardsOf((1L << 9) - 1));
+
+        assertThrows(ResponseStatusException.class, () -> controller.evaluateHandBinary(tooMany));
+    }
 } 
\ No newline at end of file
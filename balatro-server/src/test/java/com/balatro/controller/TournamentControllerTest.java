@@ -0,0 +1,84 @@
+package com.balatro.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.balatro.session.TournamentRegistry;
+
+/**
+ * Test class for the TournamentController.
+ * Tests joining, playing and reading the standings of a tournament.
+ */
+class TournamentControllerTest {
+
+    private TournamentController controller;
+    private String id;
+
+    /**
+     * Sets up the test fixtures before each test method.
+     * Creates a controller and a tournament with a fixed seed.
+     */
+    @BeforeEach
+    void setUp() {
+        controller = new TournamentController(new TournamentRegistry());
+        id = (String) controller.createTournament(42L, 2).get("id");
+    }
+
+    /**
+     * Tests that every entry is dealt the same first hand.
+     */
+    @Test
+    void testEntriesGetTheSameHand() {
+        Map<String, Object> first = controller.join(id, "first");
+        Map<String, Object> second = controller.join(id, "second");
+
+        assertEquals(first.get("hand"), second.get("hand"), "Entries should share the deal");
+        assertEquals(8, ((List<?>) first.get("hand")).size(), "Hand should hold 8 cards");
+        assertEquals(4, first.get("handsLeft"), "No hands should be used");
+    }
+
+    /**
+     * Tests that a played hand scores and moves the entry to the top of the standings.
+     */
+    @Test
+    void testPlayUpdatesStandings() {
+        controller.join(id, "idle");
+        Map<String, Object> player = controller.join(id, "player");
+        int entryId = (int) player.get("entryId");
+        String card = (String) ((List<?>) player.get("hand")).get(0);
+
+        Map<String, Object> played = controller.play(id, entryId, List.of(card));
+        assertEquals(3, played.get("handsLeft"), "A hand should be used");
+
+        Map<String, Object> standings = controller.getStandings(id, 0, 10);
+        List<?> places = (List<?>) standings.get("standings");
+        assertEquals(2, standings.get("entries"), "Both entries should be ranked");
+        assertEquals(entryId, ((Map<?, ?>) places.get(0)).get("entryId"), "The entry that scored should lead");
+        assertEquals(1, ((Map<?, ?>) places.get(0)).get("rank"), "Ranks should start at 1");
+    }
+
+    /**
+     * Tests that invalid moves and unknown ids are rejected with the right status.
+     */
+    @Test
+    void testRejectedRequests() {
+        int entryId = (int) controller.join(id, "player").get("entryId");
+
+        ResponseStatusException notInHand = assertThrows(ResponseStatusException.class,
+                () -> controller.play(id, entryId, List.of("XX")));
+        assertEquals(HttpStatus.BAD_REQUEST, notInHand.getStatusCode(), "Unknown card should be a bad request");
+        ResponseStatusException noEntry = assertThrows(ResponseStatusException.class,
+                () -> controller.getEntry(id, 99));
+        assertEquals(HttpStatus.NOT_FOUND, noEntry.getStatusCode(), "Unknown entry should not be found");
+        ResponseStatusException badStages = assertThrows(ResponseStatusException.class,
+                () -> controller.createTournament(1L, 100));
+        assertEquals(HttpStatus.BAD_REQUEST, badStages.getStatusCode(), "Too many stages should be a bad request");
+    }
+}
@@ -0,0 +1,160 @@
+package com.balatro.session;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for LiveGame.
+ * Tests the snapshot and delta messages, their sequence numbers and resync.
+ */
+class LiveGameTest {
+
+    private LiveGame game;
+
+    /**
+     * Sets up the test fixtures before each test method.
+     * Creates a game with a fixed seed.
+     */
+    @BeforeEach
+    void setUp() {
+        game = new LiveGame("test", 42);
+    }
+
+    /**
+     * Tests that the snapshot holds every field and starts at sequence 0.
+     */
+    @Test
+    void testSnapshot() {
+        Map<String, Object> snapshot = game.snapshot();
+
+        assertEquals("snapshot", snapshot.get("type"), "Type should be snapshot");
+        assertEquals(0L, snapshot.get("seq"), "Sequence should start at 0");
+        Map<String, Object> state = state(snapshot);
+        assertEquals(8, ((List<?>) state.get("hand")).size(), "Hand should hold 8 cards");
+        assertEquals(0, state.get("score"), "Score should start at 0");
+        assertEquals(List.of(), state.get("selected"), "Nothing should be selected");
+    }
+
+    /**
+     * Tests that selecting a card sends only the fields that changed.
+     */
+    @Test
+    void testSelectSendsOnlyChanges() {
+        String card = firstCard();
+        Map<String, Object> delta = game.select(card);
+
+        assertEquals("delta", delta.get("type"), "Type should be delta");
+        assertEquals(1L, delta.get("seq"), "First delta should be numbered 1");
+        Map<String, Object> changes = changes(delta);
+        assertEquals(List.of(card), changes.get("selected"), "Selection should be sent");
+        assertFalse(changes.containsKey("hand"), "Unchanged hand should not be sent");
+        assertFalse(changes.containsKey("score"), "Unchanged score should not be sent");
+    }
+
+    /**
+     * Tests that an action that changes nothing publishes nothing.
+     */
+    @Test
+    void testNoChangeNoDelta() {
+        String card = firstCard();
+        game.select(card);
+        game.deselect(card);
+
+        assertNull(game.deselect(card), "Deselecting an unselected card should publish nothing");
+        assertEquals(2, game.getSeq(), "Sequence should not advance without changes");
+    }
+
+    /**
+     * Tests that playing a card updates the score, hand and remaining hands.
+     */
+    @Test
+    void testPlay() {
+        game.select(firstCard());
+        Map<String, Object> changes = changes(game.play());
+
+        assertTrue(changes.containsKey("score"), "Score should be sent");
+        assertTrue(changes.containsKey("hand"), "Hand should be sent");
+        assertEquals(3, changes.get("handsLeft"), "Hands left should be sent");
+        assertEquals(List.of(), changes.get("selected"), "Selection should be cleared");
+    }
+
+    /**
+     * Tests that actions the rules reject throw without publishing.
+     */
+    @Test
+    void testRejectedActions() {
+        assertThrows(IllegalArgumentException.class, () -> game.select("XX"));
+        assertThrows(IllegalArgumentException.class, () -> game.play());
+        assertEquals(0, game.getSeq(), "Rejected actions should not publish");
+    }
+
+    /**
+     * Tests that resync replays missed deltas and falls back to a snapshot.
+     */
+    @Test
+    void testResync() {
+        List<?> hand = (List<?>) state(game.snapshot()).get("hand");
+        for (int i = 0; i < 3; i++) {
+            game.select((String) hand.get(i));
+        }
+
+        List<Map<String, Object>> missed = game.resync(1);
+        assertEquals(2, missed.size(), "Two deltas should be replayed");
+        assertEquals(2L, missed.get(0).get("seq"), "Replay should start after the last seen delta");
+        assertEquals(3L, missed.get(1).get("seq"), "Replay should end at the last delta");
+        assertTrue(game.resync(3).isEmpty(), "An up to date client should get nothing");
+        assertEquals("snapshot", game.resync(99).get(0).get("type"), "Unknown sequence should get a snapshot");
+    }
+
+    /**
+     * Tests that resync sends a snapshot once the missed deltas are no longer in the history.
+     */
+    @Test
+    void testResyncAfterHistory() {
+        String card = firstCard();
+        for (int i = 0; i < LiveGame.HISTORY_SIZE; i++) {
+            game.select(card);
+            game.deselect(card);
+        }
+
+        List<Map<String, Object>> messages = game.resync(0);
+        assertEquals(1, messages.size(), "Only a snapshot should be sent");
+        assertEquals("snapshot", messages.get(0).get("type"), "Old sequence should get a snapshot");
+        assertEquals(game.getSeq(), messages.get(0).get("seq"), "Snapshot should carry the current sequence");
+    }
+
+    /**
+     * Tests that a restart is sent as a snapshot with a new sequence number.
+     */
+    @Test
+    void testRestart() {
+        game.select(firstCard());
+        Map<String, Object> snapshot = game.restart(7);
+
+        assertEquals("snapshot", snapshot.get("type"), "Restart should send a snapshot");
+        assertEquals(2L, snapshot.get("seq"), "Restart should advance the sequence");
+        assertEquals("snapshot", game.resync(1).get(0).get("type"), "Deltas before a restart should not be replayed");
+    }
+
+    private String firstCard() {
+        return (String) ((List<?>) state(game.snapshot()).get("hand")).get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> state(Map<String, Object> snapshot) {
+        return (Map<String, Object>) snapshot.get("state");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> changes(Map<String, Object> delta) {
+        return (Map<String, Object>) delta.get("changes");
+    }
+}
@@ -0,0 +1,128 @@
+package com.balatro.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for Spectator and SpectatorHub.
+ * Tests that frames are written in order one at a time, that a slow spectator is moved to a snapshot
+ * instead of queueing without bound, and that failed spectators are dropped.
+ */
+class SpectatorTest {
+    private static final String GAME = "game";
+
+    /**
+     * Tests that a spectator that keeps up gets every frame in order.
+     */
+    @Test
+    void testFramesInOrder() {
+        ManualSink sink = new ManualSink();
+        Spectator spectator = new Spectator(sink, () -> frame(0, "snapshot"), 4, 0);
+        for (int seq = 1; seq <= 3; seq++) {
+            spectator.offer(frame(seq, "delta " + seq));
+        }
+
+        assertEquals(1, sink.pending.size(), "Only one write should be in progress");
+        sink.completeAll();
+        assertEquals(List.of("delta 1", "delta 2", "delta 3"), sink.written, "Frames should be written in order");
+        assertEquals(0, spectator.getQueued(), "Queue should be empty");
+    }
+
+    /**
+     * Tests that a spectator whose queue fills is sent a snapshot and then only newer deltas.
+     */
+    @Test
+    void testSlowSpectatorGetsSnapshot() {
+        ManualSink sink = new ManualSink();
+        long[] seq = {0};
+        Spectator spectator = new Spectator(sink, () -> frame(seq[0], "snapshot " + seq[0]), 2, 0);
+
+        for (seq[0] = 1; seq[0] <= 10; seq[0]++) {
+            spectator.offer(frame(seq[0], "delta " + seq[0]));
+        }
+        seq[0] = 10;
+        assertTrue(spectator.getQueued() <= 2, "Queue should stay bounded");
+
+        sink.completeAll();
+        spectator.offer(frame(11, "delta 11"));
+        sink.completeAll();
+
+        assertEquals(List.of("delta 1", "snapshot 10", "delta 11"), sink.written,
+                "The spectator should skip to a snapshot and continue from it");
+        assertEquals(1, spectator.getSnapshotsSent(), "One catch-up snapshot should be sent");
+    }
+
+    /**
+     * Tests that the hub shares one frame between spectators and drops a spectator whose write failed.
+     */
+    @Test
+    void testHubFanOut() {
+        SpectatorHub hub = new SpectatorHub();
+        ManualSink healthy = new ManualSink();
+        ManualSink failing = new ManualSink();
+        Spectator first = new Spectator(healthy, () -> frame(0, "snapshot"), 4, 0);
+        Spectator second = new Spectator(failing, () -> frame(0, "snapshot"), 4, 0);
+        hub.subscribe(GAME, first);
+        hub.subscribe(GAME, second);
+
+        Spectator.Frame shared = frame(1, "delta 1");
+        hub.publish(GAME, shared);
+        healthy.completeAll();
+        failing.fail();
+
+        assertEquals(List.of("delta 1"), healthy.written, "Healthy spectator should get the frame");
+        assertEquals(shared.size(), (int) failing.sizes.get(0), "Both spectators should be sent the same bytes");
+        assertTrue(second.isClosed(), "Failed spectator should be closed");
+        hub.publish(GAME, frame(2, "delta 2"));
+        assertEquals(1, hub.count(GAME), "Failed spectator should be removed");
+
+        hub.unsubscribe(GAME, first);
+        assertFalse(hub.isWatched(GAME), "Game should no longer be watched");
+    }
+
+    private static Spectator.Frame frame(long seq, String text) {
+        return new Spectator.Frame(seq, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A sink whose writes complete only when the test says so.
+     */
+    private static final class ManualSink implements Spectator.Sink {
+        private final Deque<Consumer<Throwable>> pending = new ArrayDeque<>();
+        private final Deque<String> inFlight = new ArrayDeque<>();
+        private final List<String> written = new ArrayList<>();
+        private final List<Integer> sizes = new ArrayList<>();
+
+        @Override
+        public void write(ByteBuffer payload, Consumer<Throwable> done) {
+            sizes.add(payload.remaining());
+            inFlight.add(StandardCharsets.UTF_8.decode(payload).toString());
+            pending.add(done);
+        }
+
+        void completeAll() {
+            while (!pending.isEmpty()) {
+                written.add(inFlight.poll());
+                pending.poll().accept(null);
+            }
+        }
+
+        void fail() {
+            while (!pending.isEmpty()) {
+                inFlight.poll();
+                pending.poll().accept(new IOException("Connection reset"));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.balatro.wire;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.balatro.model.CardMask;
+import com.balatro.model.HandType;
+
+/**
+ * Test class for BinaryWireMessageConverter.
+ * Tests which types and content types it handles and that it reads and writes WireCodec frames.
+ */
+class BinaryWireMessageConverterTest {
+
+    private final BinaryWireMessageConverter converter = new BinaryWireMessageConverter();
+
+    /**
+     * Tests that only the wire types are handled, and only as application/x-balatro.
+     */
+    @Test
+    void testSupportedTypes() {
+        assertTrue(converter.canRead(EvaluateRequest.class, BinaryWireMessageConverter.MEDIA_TYPE),
+                "Evaluate requests should be readable");
+        assertTrue(converter.canWrite(HandEvaluation.class, BinaryWireMessageConverter.MEDIA_TYPE),
+                "Evaluations should be writable");
+        assertFalse(converter.canRead(EvaluateRequest.class, MediaType.APPLICATION_JSON),
+                "JSON should be left to the JSON converter");
+        assertFalse(converter.canRead(String.class, BinaryWireMessageConverter.MEDIA_TYPE),
+                "Other types should not be handled");
+    }
+
+    /**
+     * Tests that a request frame is read into cards.
+     */
+    @Test
+    void testReadRequest() throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(new byte[] {0x01, 2, 12, 25});
+
+        EvaluateRequest request = (EvaluateRequest) converter.read(EvaluateRequest.class, input);
+
+        assertEquals(List.of(CardMask.cardAt(12), CardMask.cardAt(25)), request.getCards(),
+                "King of Hearts and King of Diamonds expected");
+    }
+
+    /**
+     * Tests that an evaluation is written as a twelve byte frame with its length.
+     */
+    @Test
+    void testWriteEvaluation() throws IOException {
+        HandEvaluation evaluation = new HandEvaluation(HandType.PAIR, 10, 2, 60, 20);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(evaluation, BinaryWireMessageConverter.MEDIA_TYPE, output);
+
+        assertArrayEquals(WireCodec.encodeEvaluation(evaluation), output.getBodyAsBytes(), "Frame expected");
+        assertEquals(WireCodec.EVALUATION_SIZE, output.getHeaders().getContentLength(), "Length expected");
+        assertEquals(evaluation, WireCodec.readEvaluation(ByteBuffer.wrap(output.getBodyAsBytes())),
+                "Frame should decode to the evaluation");
+    }
+
+    /**
+     * Tests that malformed and oversized frames are rejected as unreadable.
+     */
+    @Test
+    void testRejectsBadFrames() {
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(EvaluateRequest.class, new MockHttpInputMessage(new byte[] {0x01, 5, 0})));
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(EvaluateRequest.class, new MockHttpInputMessage(new byte[100])));
+    }
+}
@@ -0,0 +1,102 @@
+package com.balatro.batch;
+
+import com.balatro.model.HandType;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Evaluates a batch with the incubating Vector API, one lane per hand.
+ * Each slot of consecutive hands is loaded as one vector, and the rank planes, suit masks, card counts
+ * and card values of all lanes are built with lane-wise operations. The hand type is then picked with
+ * masked blends in increasing order of precedence, so a stronger hand overwrites a weaker one.
+ * Hands that do not fill a whole vector are evaluated by ScalarBatchEvaluator.
+ *
+ * Requires {@code --add-modules jdk.incubator.vector}; BatchEvaluator.create only loads this class when
+ * the module is present. It is built in the balatro-vector module, so balatro-core and its users compile
+ * without the incubator module.
+ */
+public final class VectorBatchEvaluator implements BatchEvaluator {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void evaluate(HandBatch batch) {
+        int[] cards = batch.cards();
+        int[] handTypes = batch.handTypes();
+        int[] scores = batch.scores();
+        int capacity = batch.capacity();
+        int bound = SPECIES.loopBound(batch.size());
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+
+        for (int hand = 0; hand < bound; hand += SPECIES.length()) {
+            IntVector atLeast1 = zero;
+            IntVector atLeast2 = zero;
+            IntVector atLeast3 = zero;
+            IntVector atLeast4 = zero;
+            IntVector suits = zero;
+            IntVector count = zero;
+            IntVector values = zero;
+            for (int slot = 0; slot < HandBatch.SLOTS; slot++) {
+                IntVector card = IntVector.fromArray(SPECIES, cards, slot * capacity + hand);
+                VectorMask<Integer> absent = card.compare(VectorOperators.LT, 0);
+                // Suit and rank without integer division: suit is the number of suit boundaries passed
+                IntVector suit = zero
+                        .add(1, card.compare(VectorOperators.GE, ScalarBatchEvaluator.RANKS))
+                        .add(1, card.compare(VectorOperators.GE, 2 * ScalarBatchEvaluator.RANKS))
+                        .add(1, card.compare(VectorOperators.GE, 3 * ScalarBatchEvaluator.RANKS));
+                IntVector rank = card.sub(suit.mul(ScalarBatchEvaluator.RANKS));
+                VectorMask<Integer> ace = rank.compare(VectorOperators.EQ, 0);
+                IntVector bit = one.lanewise(VectorOperators.LSHL, rank.blend(ScalarBatchEvaluator.ACE_BIT, ace))
+                        .blend(0, absent);
+                atLeast4 = atLeast4.or(atLeast3.and(bit));
+                atLeast3 = atLeast3.or(atLeast2.and(bit));
+                atLeast2 = atLeast2.or(atLeast1.and(bit));
+                atLeast1 = atLeast1.or(bit);
+                suits = suits.or(one.lanewise(VectorOperators.LSHL, suit).blend(0, absent));
+                count = count.add(1, absent.not());
+                values = values.add(rank.add(1)
+                        .min(ScalarBatchEvaluator.FACE_VALUE)
+                        .blend(ScalarBatchEvaluator.ACE_VALUE, ace)
+                        .blend(0, absent));
+            }
+
+            IntVector pairs = atLeast2.and(atLeast3.lanewise(VectorOperators.NOT));
+            IntVector trips = atLeast3.and(atLeast4.lanewise(VectorOperators.NOT));
+            VectorMask<Integer> five = count.compare(VectorOperators.GE, 5);
+            VectorMask<Integer> anyPair = pairs.compare(VectorOperators.NE, 0);
+            VectorMask<Integer> anyTrips = trips.compare(VectorOperators.NE, 0);
+            VectorMask<Integer> flush = five.and(suits.and(suits.sub(1)).compare(VectorOperators.EQ, 0));
+            VectorMask<Integer> straight = five
+                    .and(atLeast2.compare(VectorOperators.EQ, 0))
+                    .and(atLeast1.add(atLeast1.and(atLeast1.neg())).and(atLeast1).compare(VectorOperators.EQ, 0));
+
+            IntVector handType = IntVector.broadcast(SPECIES, HandType.HIGH_CARD.ordinal())
+                    .blend(HandType.PAIR.ordinal(), anyPair)
+                    .blend(HandType.TWO_PAIR.ordinal(), pairs.and(pairs.sub(1)).compare(VectorOperators.NE, 0))
+                    .blend(HandType.THREE_OF_A_KIND.ordinal(), anyTrips)
+                    .blend(HandType.STRAIGHT.ordinal(), straight)
+                    .blend(HandType.FLUSH.ordinal(), flush)
+                    .blend(HandType.FULL_HOUSE.ordinal(), five.and(anyTrips).and(anyPair))
+                    .blend(HandType.FOUR_OF_A_KIND.ordinal(), atLeast4.compare(VectorOperators.NE, 0))
+                    .blend(HandType.STRAIGHT_FLUSH.ordinal(), flush.and(straight));
+            handType.intoArray(handTypes, hand);
+
+            // Look up base score and multiplier by hand type, using the stored types as gather indexes
+            IntVector base = IntVector.fromArray(SPECIES, ScalarBatchEvaluator.BASE_SCORES, 0, handTypes, hand);
+            IntVector multiplier = IntVector.fromArray(SPECIES, ScalarBatchEvaluator.MULTIPLIERS, 0, handTypes, hand);
+            base.add(values)
+                    .mul(multiplier)
+                    .blend(0, count.compare(VectorOperators.EQ, 0))
+                    .intoArray(scores, hand);
+        }
+        ScalarBatchEvaluator.evaluateRange(batch, bound, batch.size());
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+}
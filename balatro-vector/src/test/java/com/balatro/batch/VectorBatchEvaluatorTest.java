@@ -0,0 +1,63 @@
+package com.balatro.batch;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.balatro.model.CardMask;
+
+/**
+ * Test class for VectorBatchEvaluator.
+ * Tests that BatchEvaluator.create picks it up from this module and that it matches CardMask on random hands.
+ */
+class VectorBatchEvaluatorTest {
+
+    /**
+     * Tests that the evaluator is found by name when this module and the Vector API are present.
+     */
+    @Test
+    void testCreateLoadsVectorEvaluator() {
+        assertTrue(BatchEvaluator.create() instanceof VectorBatchEvaluator,
+                "BatchEvaluator.create should load the vector evaluator");
+    }
+
+    /**
+     * Evaluates random hands of 0 to 8 cards in a batch whose size is not a multiple of any vector length,
+     * so the scalar tail is covered too.
+     */
+    @Test
+    void testMatchesCardMask() {
+        Random random = new Random(11);
+        int size = 10_007;
+        long[] masks = new long[size];
+        HandBatch batch = new HandBatch(size);
+        for (int i = 0; i < size; i++) {
+            masks[i] = randomHand(random, random.nextInt(HandBatch.SLOTS + 1));
+            batch.add(masks[i]);
+        }
+        new VectorBatchEvaluator().evaluate(batch);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(CardMask.handType(masks[i]), batch.getHandType(i), "Hand " + CardMask.cardsOf(masks[i]));
+            assertEquals(CardMask.score(masks[i]), batch.getScore(i), "Score of " + CardMask.cardsOf(masks[i]));
+        }
+    }
+
+    /**
+     * Draws distinct cards, favouring few suits and ranks so that flushes, straights and sets come up often.
+     */
+    private long randomHand(Random random, int cards) {
+        int ranks = 5 + random.nextInt(CardMask.RANKS - 4);
+        int suits = Math.max(1 + random.nextInt(4), (cards + ranks - 1) / ranks);
+        int firstRank = random.nextInt(CardMask.RANKS);
+        long mask = 0;
+        while (Long.bitCount(mask) < cards) {
+            int suit = random.nextInt(suits);
+            int rank = (firstRank + random.nextInt(ranks)) % CardMask.RANKS;
+            mask |= 1L << (suit * CardMask.RANKS + rank);
+        }
+        return mask;
+    }
+}
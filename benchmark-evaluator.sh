@@ -0,0 +1,9 @@
+#!/bin/bash
+
+# Measures hands evaluated per second: Hand.evaluateHand vs the scalar and vector batch evaluators.
+# Usage: ./benchmark-evaluator.sh [JMH options...]   (e.g. -f 1 -wi 3 -i 3 for a quick run)
+# Needs a JDK with the jdk.incubator.vector module (17+). Results go to balatro-bench/target/jmh-evaluator.txt
+
+./mvnw -q -pl balatro-bench -am package -DskipTests
+
+java -jar balatro-bench/target/benchmarks.jar HandEvaluationBenchmark "$@" | tee balatro-bench/target/jmh-evaluator.txt
@@ -0,0 +1,73 @@
+#!/bin/bash
+
+# Compares the JVM and native builds of the REST server: startup time, first-request latency and RSS.
+# Build first with:
+#   ./mvnw -pl balatro-server -am package -DskipTests
+#   ./mvnw -pl balatro-server -am -Pnative native:compile -DskipTests   (needs GraalVM)
+# Usage: ./benchmark-server.sh [runs]
+# Writes a markdown report to balatro-server/target/server-startup-report.md
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAR=./balatro-server/target/balatro-server-0.0.1-SNAPSHOT.jar
+NATIVE=./balatro-server/target/balatro-server
+REPORT=./balatro-server/target/server-startup-report.md
+LOG=$(mktemp)
+BODY='{"cards":[{"rank":"K","suit":"Hearts"},{"rank":"K","suit":"Spades"}]}'
+
+# Prints the median of the numbers on standard input
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+# Starts the server once and prints "startupMs firstRequestMs rssKb"
+measure() {
+    "$@" --server.port="$PORT" > "$LOG" 2>&1 &
+    PID=$!
+    until grep -q "Started BalatroServerApplication" "$LOG"; do
+        if ! kill -0 "$PID" 2>/dev/null; then
+            echo "server exited during startup, see $LOG" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+    # Spring logs e.g. "Started BalatroServerApplication in 0.041 seconds"
+    STARTUP=$(sed -n 's/.*Started BalatroServerApplication in \([0-9.]*\) seconds.*/\1/p' "$LOG" | awk '{ printf "%.0f", $1 * 1000 }')
+    FIRST=$(curl -s -o /dev/null -w '%{time_total}' -H 'Content-Type: application/json' \
+                 -d "$BODY" "http://localhost:$PORT/api/hand/evaluate" | awk '{ printf "%.1f", $1 * 1000 }')
+    RSS=$(ps -o rss= -p "$PID" | tr -d ' ')
+    kill "$PID"
+    wait "$PID" 2>/dev/null
+    echo "$STARTUP $FIRST $RSS"
+}
+
+{
+    echo "| Build | Startup (ms) | First request (ms) | RSS after first request (MB) |"
+    echo "|-------|--------------|--------------------|------------------------------|"
+} > "$REPORT"
+
+for MODE in jvm native; do
+    if [ "$MODE" = "jvm" ]; then
+        CMD=(java -jar "$JAR")
+        ARTIFACT=$JAR
+    else
+        CMD=("$NATIVE")
+        ARTIFACT=$NATIVE
+    fi
+    if [ ! -e "$ARTIFACT" ]; then
+        echo "$MODE: $ARTIFACT not found, skipping"
+        continue
+    fi
+    RESULTS=""
+    for i in $(seq 1 "$RUNS"); do
+        RESULTS="$RESULTS$(measure "${CMD[@]}")"$'\n'
+    done
+    STARTUP=$(echo -n "$RESULTS" | grep . | awk '{ print $1 }' | median)
+    FIRST=$(echo -n "$RESULTS" | grep . | awk '{ print $2 }' | median)
+    RSS=$(echo -n "$RESULTS" | grep . | awk '{ print $3 }' | median | awk '{ printf "%.1f", $1 / 1024 }')
+    echo "| $MODE | $STARTUP | $FIRST | $RSS |" >> "$REPORT"
+    echo "$MODE: median startup $STARTUP ms, first request $FIRST ms, RSS $RSS MB over $RUNS runs"
+done
+
+rm -f "$LOG"
+echo "Report written to $REPORT"
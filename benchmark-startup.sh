@@ -0,0 +1,39 @@
+#!/bin/bash
+
+# Measures launch-to-first-frame of the client with and without the AppCDS archive.
+# Build first with: ./mvnw clean package -DskipTests -Pcds
+# Usage: ./benchmark-startup.sh [runs]
+
+RUNS=${1:-10}
+# The archive is only used when the class path matches the training run exactly
+CLASSPATH="$(pwd)/balatro-client/target/balatro-client-0.0.1-SNAPSHOT.jar:$(cat ./balatro-client/target/cds-classpath.txt)"
+ARCHIVE=./balatro-client/target/balatro-client.jsa
+
+# Launches the client once and prints its launch-to-first-frame time in milliseconds
+measure() {
+    java "$@" \
+         -Dbalatro.exitAfterFirstFrame=true \
+         --add-opens=java.base/java.lang=ALL-UNNAMED \
+         --add-opens=java.base/java.util=ALL-UNNAMED \
+         -classpath "$CLASSPATH" \
+         com.balatro.BalatroGame 2>/dev/null \
+        | sed -n 's/.*launch to first frame \([0-9]*\) ms.*/\1/p'
+}
+
+# Prints the median of the numbers on standard input
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+for MODE in default cds; do
+    if [ "$MODE" = "cds" ]; then
+        FLAGS="-XX:SharedArchiveFile=$ARCHIVE"
+    else
+        FLAGS="-Xshare:auto"
+    fi
+    RESULTS=""
+    for i in $(seq 1 "$RUNS"); do
+        RESULTS="$RESULTS$(measure $FLAGS)"$'\n'
+    done
+    echo "$MODE: median launch to first frame $(echo -n "$RESULTS" | grep . | median) ms over $RUNS runs"
+done
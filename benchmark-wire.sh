@@ -0,0 +1,10 @@
+#!/bin/bash
+
+# Compares JSON and application/x-balatro for hand evaluation requests: body sizes and
+# server-side decode + evaluate + encode time per request.
+# Usage: ./benchmark-wire.sh [JMH options...]   (e.g. -f 1 -wi 3 -i 3 for a quick run)
+# Results go to balatro-bench/target/jmh-wire.txt
+
+./mvnw -q -pl balatro-bench -am package -DskipTests
+
+java -jar balatro-bench/target/benchmarks.jar WireProtocolBenchmark "$@" | tee balatro-bench/target/jmh-wire.txt
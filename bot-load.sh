@@ -0,0 +1,9 @@
+#!/bin/bash
+
+# Drives a running server (./run-server.sh) with bot players through the tournament API.
+# Usage: ./bot-load.sh [--url URL] [--bots N] [--rate R] [--duration S] [--policy NAME] [--standings F]
+#                      [--tournament ID | --seed S --stages N]
+
+./mvnw -q -pl balatro-bench -am package -DskipTests
+
+java -cp balatro-bench/target/benchmarks.jar com.balatro.bench.BotLoadGenerator "$@"
@@ -0,0 +1,10 @@
+#!/bin/bash
+
+# Computes the pars of upcoming daily challenges ahead of time.
+# Usage: ./daily-pars.sh [--from YYYY-MM-DD] [--days 7] [--out DIR] [--time-limit 10000] [--threads N]
+# Writes one daily-YYYY-MM-DD.bin per day; days already saved are skipped.
+# The default directory is ~/.balatro/daily, which the server also reads (balatro.daily.dir).
+
+./mvnw -q -pl balatro-core compile
+
+java -cp balatro-core/target/classes com.balatro.daily.DailyParCalculator "$@"
@@ -0,0 +1,9 @@
+#!/bin/bash
+
+# Counts hand types and score distributions over every 5-card and 8-card combination.
+# Usage: ./hand-frequencies.sh [cards...]   (default: 5 8)
+# Writes CSV and binary tables to balatro-core/target/hand-frequencies
+
+./mvnw -q -pl balatro-core compile
+
+java -cp balatro-core/target/classes com.balatro.tools.HandFrequencyTable "$@" --out balatro-core/target/hand-frequencies
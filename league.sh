@@ -0,0 +1,9 @@
+#!/bin/bash
+
+# Plays bot policies against each other on the same seeds and prints win rate, stages, score and decisions/s.
+# Usage: ./league.sh [--games N] [--seed S] [--stages M] [--threads T] [--policies greedy,expected-value,lookahead]
+
+./mvnw -q -pl balatro-core compile dependency:build-classpath -Dmdep.outputFile=target/simulation.classpath
+
+java -cp "balatro-core/target/classes:$(cat balatro-core/target/simulation.classpath)" \
+    com.balatro.bot.League "$@"
@@ -0,0 +1,10 @@
+#!/bin/bash
+
+# Load tests a running server (./run-server.sh) at a fixed request rate and reports latency percentiles.
+# Usage: ./loadgen.sh [--url URL] [--rate R] [--duration S] [--warmup S] [--arrivals constant|poisson]
+#                     [--endpoints evaluate=90,stages=10] [--hands SPEC] [--format json|binary]
+#                     [--max-outstanding N] [--jmx HOST:PORT] [--interval MS] [--hgrm FILE]
+
+./mvnw -q -pl balatro-loadgen -am package -DskipTests
+
+java -jar balatro-loadgen/target/loadgen.jar "$@"
@@ -0,0 +1,15 @@
+#!/bin/bash
+
+# Build the client jar and the AppCDS archive (runs the client once; needs a display)
+./mvnw clean package -DskipTests -Pcds
+
+# The archive is only used when the class path matches the training run exactly
+CLASSPATH="$(pwd)/balatro-client/target/balatro-client-0.0.1-SNAPSHOT.jar:$(cat ./balatro-client/target/cds-classpath.txt)"
+
+# Run the application with the shared archive
+java -XX:SharedArchiveFile=./balatro-client/target/balatro-client.jsa \
+     -Dbalatro.startupTiming=true \
+     --add-opens=java.base/java.lang=ALL-UNNAMED \
+     --add-opens=java.base/java.util=ALL-UNNAMED \
+     -classpath "$CLASSPATH" \
+     com.balatro.BalatroGame
@@ -1,15 +1,12 @@
 #!/bin/bash
 
-# Build without Spring Boot repackaging
-./mvnw clean compile -DskipTests
-
-# Copy dependencies
-./mvnw dependency:copy-dependencies
+# Build all modules; the client copies its dependencies to balatro-client/target/dependency
+./mvnw clean package -DskipTests
 
 # Run the application directly with Java
-java --module-path="./target/dependency" \
+java --module-path="./balatro-client/target/dependency" \
      --add-modules=javafx.controls,javafx.fxml,javafx.graphics \
      --add-opens=java.base/java.lang=ALL-UNNAMED \
      --add-opens=java.base/java.util=ALL-UNNAMED \
-     -classpath "./target/classes:./target/dependency/*" \
+     -classpath "./balatro-client/target/classes:./balatro-client/target/dependency/*" \
      com.balatro.BalatroGame 
\ No newline at end of file
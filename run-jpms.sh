@@ -1,16 +1,13 @@
 #!/bin/bash
 
-# Build without Spring Boot repackaging
-./mvnw clean compile -DskipTests
-
-# Copy dependencies
-./mvnw dependency:copy-dependencies
+# Build all modules; the client copies its dependencies to balatro-client/target/dependency
+./mvnw clean package -DskipTests
 
 # Set up specific JavaFX jar files for the platform
-MAC_JAVAFX_DEPS="./target/dependency/javafx-graphics-21.0.2-mac-aarch64.jar:./target/dependency/javafx-base-21.0.2-mac-aarch64.jar:./target/dependency/javafx-controls-21.0.2-mac-aarch64.jar:./target/dependency/javafx-fxml-21.0.2-mac-aarch64.jar"
+MAC_JAVAFX_DEPS="./balatro-client/target/dependency/javafx-graphics-21.0.2-mac-aarch64.jar:./balatro-client/target/dependency/javafx-base-21.0.2-mac-aarch64.jar:./balatro-client/target/dependency/javafx-controls-21.0.2-mac-aarch64.jar:./balatro-client/target/dependency/javafx-fxml-21.0.2-mac-aarch64.jar"
 
 # Run the application with specific JavaFX path
-java -classpath "./target/classes:$MAC_JAVAFX_DEPS:./target/dependency/*" \
+java -classpath "./balatro-client/target/classes:$MAC_JAVAFX_DEPS:./balatro-client/target/dependency/*" \
      --add-exports javafx.graphics/com.sun.javafx.application=ALL-UNNAMED \
      --add-exports javafx.graphics/com.sun.javafx.scene=ALL-UNNAMED \
      --add-exports javafx.graphics/com.sun.javafx.stage=ALL-UNNAMED \
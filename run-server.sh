@@ -0,0 +1,7 @@
+#!/bin/bash
+
+# Build the core and server modules only (skip tests for faster startup)
+./mvnw clean package -DskipTests -pl balatro-server -am
+
+# Run the REST API server; no JavaFX is needed
+java -jar balatro-server/target/balatro-server-0.0.1-SNAPSHOT.jar
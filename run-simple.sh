@@ -1,13 +1,10 @@
 #!/bin/bash
 
-# Build without Spring Boot repackaging
-./mvnw clean compile -DskipTests
-
-# Copy dependencies
-./mvnw dependency:copy-dependencies
+# Build all modules; the client copies its dependencies to balatro-client/target/dependency
+./mvnw clean package -DskipTests
 
 # Run the application using classpath only (avoiding module path issues)
-java -classpath "./target/classes:./target/dependency/*" \
+java -classpath "./balatro-client/target/classes:./balatro-client/target/dependency/*" \
      --add-opens=java.base/java.lang=ALL-UNNAMED \
      --add-opens=java.base/java.util=ALL-UNNAMED \
      com.balatro.BalatroGame 
\ No newline at end of file
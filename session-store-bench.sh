@@ -0,0 +1,14 @@
+#!/bin/bash
+
+# Compares heap size and GC pauses of many games kept on the heap with the same games in the off-heap store.
+# Each store runs in its own JVM with the same heap settings.
+# Usage: ./session-store-bench.sh [--sessions N] [--actions N] [--seed S]
+# Set JAVA_OPTS to change the heap or collector, e.g. JAVA_OPTS="-Xmx4g -XX:+UseZGC"
+
+./mvnw -q -pl balatro-bench -am package -DskipTests
+
+for store in heap off-heap; do
+    java ${JAVA_OPTS:--Xmx2g} -cp balatro-bench/target/benchmarks.jar com.balatro.bench.SessionStoreBenchmark \
+        --store "$store" "$@"
+    echo
+done
@@ -0,0 +1,9 @@
+#!/bin/bash
+
+# Simulates many seeded games in parallel and prints throughput and score/stage/chip histograms.
+# Usage: ./simulate.sh [--games N] [--seed S] [--shards K] [--threads T | --processes P] [--stages M] [--scaling] [--out FILE]
+
+./mvnw -q -pl balatro-core compile dependency:build-classpath -Dmdep.outputFile=target/simulation.classpath
+
+java -cp "balatro-core/target/classes:$(cat balatro-core/target/simulation.classpath)" \
+    com.balatro.simulation.SimulationRunner "$@"
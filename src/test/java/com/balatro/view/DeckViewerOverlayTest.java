@@ -1,139 +0,0 @@
-package com.balatro.view;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assumptions.assumeTrue;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-
-import com.balatro.model.Deck;
-
-/**
- * Test class for the DeckViewerOverlay.
- * Tests the overlay functionality and card distribution display.
- */
-class DeckViewerOverlayTest {
-
-    private Deck deck;
-    private static boolean jfxIsSetup = false;
-
-    /**
-     * Try to initialize JavaFX toolkit once before all tests.
-     */
-    @BeforeAll
-    static void initJavaFX() {
-        try {
-            // Try to load JavaFX classes
-            Class.forName("javafx.application.Platform");
-            Class.forName("javafx.scene.Node");
-            System.out.println("JavaFX classes available for testing");
-            
-            // We won't actually initialize the toolkit here, as it's challenging in a headless env
-            // But we'll mark that JavaFX should be available
-            jfxIsSetup = true;
-        } catch (ClassNotFoundException e) {
-            System.out.println("JavaFX is not available in the test environment: " + e.getMessage());
-            jfxIsSetup = false;
-        }
-    }
-
-    /**
-     * Sets up the test fixtures before each test method.
-     * Creates a deck for testing.
-     */
-    @BeforeEach
-    void setUp() {
-        // Create a real deck
-        deck = new Deck();
-        // We don't create the overlay here to avoid JavaFX initialization issues
-    }
-
-    /**
-     * Tests the initial state of the overlay.
-     */
-    @Test
-    void testInitialState() {
-        // Skip if JavaFX isn't available
-        assumeTrue(jfxIsSetup, "Skipping test because JavaFX is not available");
-        
-        // The following test would check the initial state of the overlay
-        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
-    }
-
-    /**
-     * Tests that the overlay contains the expected elements.
-     */
-    @Test
-    void testOverlayContainsElements() {
-        // Skip if JavaFX isn't available
-        assumeTrue(jfxIsSetup, "Skipping test because JavaFX is not available");
-        
-        // The following test would check the elements in the overlay
-        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
-    }
-
-    /**
-     * Tests the show and hide methods.
-     */
-    @Test
-    void testShowAndHide() {
-        // Skip if JavaFX isn't available
-        assumeTrue(jfxIsSetup, "Skipping test because JavaFX is not available");
-        
-        // The following test would check the show/hide functionality
-        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
-    }
-
-    /**
-     * Tests that the card distribution is updated correctly.
-     */
-    @Test
-    void testUpdateCardDistribution() {
-        // This part tests the model (deck), which doesn't require JavaFX
-        // Initial deck should have 52 cards
-        assertEquals(52, deck.getCardCount(), "Initial deck should have 52 cards");
-        
-        // Skip the UI part if JavaFX isn't available
-        assumeTrue(jfxIsSetup, "Skipping UI verification because JavaFX is not available");
-        
-        // The following would test the UI update
-        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
-    }
-
-    /**
-     * Tests the functionality with an empty or modified deck.
-     */
-    @Test
-    void testWithModifiedDeck() {
-        // This part tests the model (deck), which doesn't require JavaFX
-        // Remove some cards from the deck
-        while (deck.getCardCount() > 40) {
-            deck.getMutableCards().remove(0);
-        }
-        assertEquals(40, deck.getCardCount(), "Modified deck should have 40 cards");
-        
-        // Skip the UI part if JavaFX isn't available
-        assumeTrue(jfxIsSetup, "Skipping UI verification because JavaFX is not available");
-        
-        // The following would test the UI update with a modified deck
-        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
-    }
-
-    /**
-     * Tests behavior when the deck is completely empty.
-     */
-    @Test
-    void testWithEmptyDeck() {
-        // This part tests the model (deck), which doesn't require JavaFX
-        // Create a new empty deck
-        Deck emptyDeck = new Deck();
-        emptyDeck.getMutableCards().clear();
-        assertEquals(0, emptyDeck.getCardCount(), "Empty deck should have 0 cards");
-        
-        // Skip the UI part if JavaFX isn't available
-        assumeTrue(jfxIsSetup, "Skipping UI verification because JavaFX is not available");
-        
-        // The following would test the UI update with an empty deck
-        System.out.println("Note: DeckViewerOverlay UI tests require proper JavaFX initialization");
-    }
-} 
\ No newline at end of file